@@ -1,6 +1,7 @@
 package org.infinispan.commons.configuration;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.infinispan.commons.CacheConfigurationException;
@@ -22,6 +23,14 @@ public String toJSON(ConfigurationInfo configurationInfo) {
       return json.toString();
    }
 
+   /**
+    * @return The JSON object with the entries of {@code map}, in iteration order. The values can be strings, numbers,
+    *       booleans, collections or other maps.
+    */
+   public String toJSON(Map<String, ?> map) {
+      return Json.make(Objects.requireNonNull(map, "expect a non-null map")).toString();
+   }
+
    void writeElement(Json parent, ConfigurationInfo element, boolean renderName) {
       ElementDefinition configurationElement = element.getElementDefinition();
       if (configurationElement == null) {
@@ -207,6 +207,8 @@ public interface Ids {
    int PUBLISHER_REDUCERS = 141;
 
    int MARSHALLED_VALUE = 142;
+   int BATCH_OPERATION = 143;
+   int BATCH_WRITE_FUNCTION = 144;
 
    int COUNTER_CONFIGURATION = 2000; //from counter
    int COUNTER_STATE = 2001; //from counter
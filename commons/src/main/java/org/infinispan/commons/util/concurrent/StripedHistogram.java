@@ -0,0 +1,181 @@
+package org.infinispan.commons.util.concurrent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.infinispan.commons.util.ProcessorInfo;
+
+/**
+ * A histogram of non-negative values, e.g. latencies in nanoseconds, that multiple threads can update without locking.
+ * <p>
+ * Like HdrHistogram, every power of 2 is split in linear sub-buckets, so the values are reported with a relative error
+ * of at most 1/32. Values larger than 2<sup>40</sup> (about 18 minutes in nanoseconds) are recorded as
+ * 2<sup>40</sup>.
+ * <p>
+ * Like {@link StripedCounters}, the counts are duplicated in stripes to reduce contention. Stripes are only allocated
+ * when a thread mapped to them records its first value.
+ *
+ * @since 10.0
+ */
+public class StripedHistogram {
+   private static final int STRIPE_COUNT = (int) (Long.highestOneBit(ProcessorInfo.availableProcessors()) << 1);
+   private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+   private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+   private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+   private static final int SUB_BUCKET_BITS = 6;
+   private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+   private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+   private static final long MAX_VALUE = 1L << 40;
+   private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+   // The maximum value is kept after the counts
+   private static final int MAX_INDEX = BUCKET_COUNT;
+
+   private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+   public void record(long value) {
+      if (value < 0) {
+         value = 0;
+      } else if (value > MAX_VALUE) {
+         value = MAX_VALUE;
+      }
+      AtomicLongArray stripe = stripeForCurrentThread();
+      stripe.incrementAndGet(bucketIndex(value));
+      long max = stripe.get(MAX_INDEX);
+      while (value > max && !stripe.compareAndSet(MAX_INDEX, max, value)) {
+         max = stripe.get(MAX_INDEX);
+      }
+   }
+
+   public long getCount() {
+      long[] counts = snapshot();
+      long count = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         count += counts[i];
+      }
+      return count;
+   }
+
+   public long getMax() {
+      long max = 0;
+      for (int i = 0; i < STRIPE_COUNT; i++) {
+         AtomicLongArray stripe = stripes.get(i);
+         if (stripe != null) {
+            max = Math.max(max, stripe.get(MAX_INDEX));
+         }
+      }
+      return max;
+   }
+
+   /**
+    * @param percentile A percentile between 0 and 100, e.g. 99.9
+    * @return The value below or equal to which {@code percentile}% of the recorded values fall, or 0 if no values were
+    *       recorded.
+    */
+   public long getValueAtPercentile(double percentile) {
+      return getValuesAtPercentiles(percentile)[0];
+   }
+
+   /**
+    * Same as {@link #getValueAtPercentile(double)}, but computes all the percentiles from the same snapshot of the
+    * counts.
+    *
+    * @param percentiles Percentiles between 0 and 100, in ascending order
+    */
+   public long[] getValuesAtPercentiles(double... percentiles) {
+      long[] counts = snapshot();
+      long max = counts[MAX_INDEX];
+      long total = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         total += counts[i];
+      }
+
+      long[] values = new long[percentiles.length];
+      if (total == 0)
+         return values;
+
+      int bucket = 0;
+      long cumulativeCount = counts[0];
+      for (int p = 0; p < percentiles.length; p++) {
+         long targetCount = Math.max(1, (long) Math.ceil(percentiles[p] / 100 * total));
+         while (cumulativeCount < targetCount && bucket < BUCKET_COUNT - 1) {
+            bucket++;
+            cumulativeCount += counts[bucket];
+         }
+         values[p] = Math.min(highestEquivalentValue(bucket), max);
+      }
+      return values;
+   }
+
+   /**
+    * @return The p50, p90, p99 and p99.9 percentiles and the maximum of the recorded values, in this order, e.g. to
+    *       expose them as a single JMX attribute.
+    */
+   public Map<String, Long> getPercentiles() {
+      long[] values = getValuesAtPercentiles(PERCENTILES);
+      Map<String, Long> percentiles = new LinkedHashMap<>();
+      for (int i = 0; i < PERCENTILES.length; i++) {
+         percentiles.put(PERCENTILE_NAMES[i], values[i]);
+      }
+      percentiles.put("max", getMax());
+      return percentiles;
+   }
+
+   public void reset() {
+      for (int i = 0; i < STRIPE_COUNT; i++) {
+         AtomicLongArray stripe = stripes.get(i);
+         if (stripe != null) {
+            for (int j = 0; j < stripe.length(); j++) {
+               stripe.set(j, 0);
+            }
+         }
+      }
+   }
+
+   private long[] snapshot() {
+      long[] counts = new long[BUCKET_COUNT + 1];
+      for (int i = 0; i < STRIPE_COUNT; i++) {
+         AtomicLongArray stripe = stripes.get(i);
+         if (stripe != null) {
+            for (int j = 0; j < BUCKET_COUNT; j++) {
+               counts[j] += stripe.get(j);
+            }
+            counts[MAX_INDEX] = Math.max(counts[MAX_INDEX], stripe.get(MAX_INDEX));
+         }
+      }
+      return counts;
+   }
+
+   private AtomicLongArray stripeForCurrentThread() {
+      // Spread the thread id a bit, in case it's always a multiple of 16
+      long id = Thread.currentThread().getId();
+      id ^= id >>> 7 ^ id >>> 4;
+      int index = (int) (id & STRIPE_MASK);
+      AtomicLongArray stripe = stripes.get(index);
+      if (stripe == null) {
+         stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT + 1));
+         stripe = stripes.get(index);
+      }
+      return stripe;
+   }
+
+   static int bucketIndex(long value) {
+      if (value < SUB_BUCKET_COUNT)
+         return (int) value;
+
+      // Keep the SUB_BUCKET_BITS most significant bits, the first one is always 1
+      int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+      return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+   }
+
+   static long highestEquivalentValue(int bucketIndex) {
+      if (bucketIndex < SUB_BUCKET_COUNT)
+         return bucketIndex;
+
+      int shift = bucketIndex / SUB_BUCKET_HALF_COUNT - 1;
+      long subBucket = bucketIndex % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+      return ((subBucket + 1) << shift) - 1;
+   }
+}
@@ -0,0 +1,94 @@
+package org.infinispan.commons.util.concurrent;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @since 10.0
+ */
+public class StripedHistogramTest {
+   @Test
+   public void testEmpty() {
+      StripedHistogram histogram = new StripedHistogram();
+      assertEquals(0, histogram.getCount());
+      assertEquals(0, histogram.getMax());
+      assertEquals(0, histogram.getValueAtPercentile(99));
+   }
+
+   @Test
+   public void testSmallValuesAreExact() {
+      StripedHistogram histogram = new StripedHistogram();
+      for (int i = 1; i <= 50; i++) {
+         histogram.record(i);
+      }
+      assertEquals(50, histogram.getCount());
+      assertArrayEquals(new long[]{1, 25, 45, 50, 50}, histogram.getValuesAtPercentiles(0, 50, 90, 99, 100));
+      assertEquals(50, histogram.getMax());
+   }
+
+   @Test
+   public void testPercentilesMap() {
+      StripedHistogram histogram = new StripedHistogram();
+      for (int i = 1; i <= 50; i++) {
+         histogram.record(i);
+      }
+      assertEquals("{p50=25, p90=45, p99=50, p99.9=50, max=50}", histogram.getPercentiles().toString());
+   }
+
+   @Test
+   public void testRelativeError() {
+      for (long value = 1; value < 1L << 40; value = value * 3 / 2 + 1) {
+         int bucket = StripedHistogram.bucketIndex(value);
+         long highestValue = StripedHistogram.highestEquivalentValue(bucket);
+         assertTrue(value + " -> " + highestValue, highestValue >= value);
+         assertTrue(value + " -> " + highestValue, highestValue - value <= value / 32);
+         // Buckets are contiguous
+         assertEquals(bucket + 1, StripedHistogram.bucketIndex(highestValue + 1));
+      }
+   }
+
+   @Test
+   public void testPercentiles() {
+      StripedHistogram histogram = new StripedHistogram();
+      for (int i = 0; i < 1000; i++) {
+         histogram.record(1_000);
+      }
+      for (int i = 0; i < 9; i++) {
+         histogram.record(1_000_000);
+      }
+      histogram.record(1_000_000_000);
+
+      assertEquals(1010, histogram.getCount());
+      long[] values = histogram.getValuesAtPercentiles(50, 99, 99.9, 100);
+      assertEquals(1_000, values[0], 1_000 / 32);
+      assertEquals(1_000, values[1], 1_000 / 32);
+      assertEquals(1_000_000, values[2], 1_000_000 / 32);
+      assertEquals(1_000_000_000, values[3]);
+   }
+
+   @Test
+   public void testOutOfRangeValues() {
+      StripedHistogram histogram = new StripedHistogram();
+      histogram.record(-1);
+      histogram.record(Long.MAX_VALUE);
+      assertEquals(2, histogram.getCount());
+      assertEquals(0, histogram.getValueAtPercentile(50));
+      assertEquals(1L << 40, histogram.getMax());
+      assertEquals(1L << 40, histogram.getValueAtPercentile(100));
+   }
+
+   @Test
+   public void testReset() {
+      StripedHistogram histogram = new StripedHistogram();
+      histogram.record(100);
+      histogram.reset();
+      assertEquals(0, histogram.getCount());
+      assertEquals(0, histogram.getMax());
+
+      histogram.record(10);
+      assertEquals(10, histogram.getValueAtPercentile(50));
+   }
+}
@@ -36,6 +36,7 @@
 import org.infinispan.partitionhandling.AvailabilityMode;
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
 import org.infinispan.persistence.spi.CacheLoader;
+import org.infinispan.reactive.RxJavaInterop;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -43,6 +44,7 @@
 import org.infinispan.util.concurrent.locks.LockManager;
 import org.infinispan.util.function.SerializableBiFunction;
 import org.infinispan.util.function.SerializableFunction;
+import org.reactivestreams.Publisher;
 
 /**
  * An advanced interface that exposes additional methods not available on {@link Cache}.
@@ -408,6 +410,30 @@ default CompletableFuture<Void> putAllAsync(Map<? extends K, ? extends V> map, M
       return putAllAsync(map, metadata.lifespan(), TimeUnit.MILLISECONDS, metadata.maxIdle(), TimeUnit.MILLISECONDS);
    }
 
+   /**
+    * Executes the put, replace and remove operations of a {@link WriteBatch}. In a clustered cache the operations are
+    * grouped by primary owner, and each owner receives a single command with all its operations.
+    * <p>
+    * The operations are not atomic as a whole: if the batch fails, some of the operations may still be applied.
+    * With {@link Flag#IGNORE_RETURN_VALUES} the returned map may be empty.
+    *
+    * @param batch the operations to execute
+    * @return the result of each operation, in the order the operations were added to the batch
+    * @since 10.0
+    */
+   default Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      return batch.executeSequentially(this);
+   }
+
+   /**
+    * Asynchronous version of {@link #executeBatch(WriteBatch)}.
+    *
+    * @since 10.0
+    */
+   default CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      return CompletableFuture.completedFuture(executeBatch(batch));
+   }
+
    /**
     * An overloaded form of {@link #replace(K, V)}, which takes in an instance of {@link Metadata} which can be used to
     * provide metadata information for the entry being stored, such as lifespan, version of value...etc. The {@link
@@ -739,6 +765,25 @@ default CompletableFuture<V> mergeAsync(K key, V value, SerializableBiFunction<?
     */
    Map<K, V> getAll(Set<?> keys);
 
+   /**
+    * Same as {@link #getAll(Set)}, but the entries are published as soon as the owner of their key replies, instead of
+    * waiting for all the owners.
+    * <p>
+    * The keys are split in batches of keys with the same owner, and very large batches are split further to bound the
+    * size of the messages. All the batches are requested when this method is invoked. In transactional caches all the
+    * keys are requested with a single command instead, as the batches would update the same transaction concurrently,
+    * so the entries are only published once all the owners replied. Keys without a value are not published.
+    *
+    * @param keys The keys whose associated values are to be returned.
+    * @return A publisher of the entries that were found for the given keys, in no particular order.
+    * @throws NullPointerException if keys is null or if keys contains a null
+    * @since 10.0
+    */
+   default Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      return RxJavaInterop.<Map<K, V>>completionStageToPublisher().apply(getAllAsync(keys))
+            .flatMapIterable(Map::entrySet);
+   }
+
    /**
     * Retrieves a CacheEntry corresponding to a specific key.
     *
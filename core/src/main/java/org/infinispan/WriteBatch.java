@@ -0,0 +1,226 @@
+package org.infinispan;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.infinispan.commands.functional.functions.BatchOperation;
+import org.infinispan.metadata.Metadata;
+
+/**
+ * A set of write operations on different keys, executed together by {@link AdvancedCache#executeBatch(WriteBatch)}.
+ * <p>
+ * Each key can only have one operation in a batch, and each operation can have its own {@link Metadata}. The batch
+ * is split by primary owner, and each owner applies all its operations after a single RPC, so a batch is much cheaper
+ * than the same operations invoked one by one. The batch is not atomic, though: in a non-transactional cache some
+ * operations may be applied even if others fail.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since 10.0
+ */
+public final class WriteBatch<K, V> {
+   private final Map<K, BatchOperation<V>> operations = new LinkedHashMap<>();
+
+   /**
+    * Same as {@link java.util.Map#put(Object, Object)}, always successful.
+    */
+   public WriteBatch<K, V> put(K key, V value) {
+      return put(key, value, null);
+   }
+
+   public WriteBatch<K, V> put(K key, V value, Metadata metadata) {
+      return add(key, BatchOperation.Type.PUT, requireValue(value), null, metadata);
+   }
+
+   /**
+    * Same as {@link java.util.Map#putIfAbsent(Object, Object)}, successful if there was no value.
+    */
+   public WriteBatch<K, V> putIfAbsent(K key, V value) {
+      return putIfAbsent(key, value, null);
+   }
+
+   public WriteBatch<K, V> putIfAbsent(K key, V value, Metadata metadata) {
+      return add(key, BatchOperation.Type.PUT_IF_ABSENT, requireValue(value), null, metadata);
+   }
+
+   /**
+    * Same as {@link java.util.Map#replace(Object, Object)}, successful if there was a value.
+    */
+   public WriteBatch<K, V> replace(K key, V value) {
+      return replace(key, value, (Metadata) null);
+   }
+
+   public WriteBatch<K, V> replace(K key, V value, Metadata metadata) {
+      return add(key, BatchOperation.Type.REPLACE, requireValue(value), null, metadata);
+   }
+
+   /**
+    * Same as {@link java.util.Map#replace(Object, Object, Object)}, successful if the value was {@code oldValue}.
+    */
+   public WriteBatch<K, V> replace(K key, V oldValue, V newValue) {
+      return replace(key, oldValue, newValue, null);
+   }
+
+   public WriteBatch<K, V> replace(K key, V oldValue, V newValue, Metadata metadata) {
+      return add(key, BatchOperation.Type.REPLACE_IF_EQUALS, requireValue(newValue), requireValue(oldValue), metadata);
+   }
+
+   /**
+    * Same as {@link java.util.Map#remove(Object)}, successful if there was a value.
+    */
+   public WriteBatch<K, V> remove(K key) {
+      return add(key, BatchOperation.Type.REMOVE, null, null, null);
+   }
+
+   /**
+    * Same as {@link java.util.Map#remove(Object, Object)}, successful if the value was {@code value}.
+    */
+   public WriteBatch<K, V> remove(K key, V value) {
+      return add(key, BatchOperation.Type.REMOVE_IF_EQUALS, null, requireValue(value), null);
+   }
+
+   public int size() {
+      return operations.size();
+   }
+
+   public boolean isEmpty() {
+      return operations.isEmpty();
+   }
+
+   /**
+    * @return The operations of the batch, in the order they were added. For use by the cache implementations.
+    */
+   public Map<K, BatchOperation<V>> getOperations() {
+      return Collections.unmodifiableMap(operations);
+   }
+
+   /**
+    * @return A new batch with the same operations, with the keys and values converted by the given functions. For use
+    *       by the cache implementations.
+    */
+   public <K2, V2> WriteBatch<K2, V2> map(Function<? super K, ? extends K2> keyMapper,
+                                         Function<? super V, ? extends V2> valueMapper) {
+      WriteBatch<K2, V2> mapped = new WriteBatch<>();
+      operations.forEach((key, operation) -> mapped.add(keyMapper.apply(key), operation.mapValues(valueMapper)));
+      return mapped;
+   }
+
+   @Override
+   public String toString() {
+      return "WriteBatch{operations=" + operations + '}';
+   }
+
+   /**
+    * Applies the operations one by one, for the caches that don't implement {@link AdvancedCache#executeBatch(WriteBatch)}.
+    * <p>
+    * The conditional replace and remove operations only report whether they were successful: reading the value
+    * separately after a failure could return a value that the operation never saw.
+    */
+   Map<K, Result<V>> executeSequentially(AdvancedCache<K, V> cache) {
+      Map<K, Result<V>> results = new LinkedHashMap<>();
+      operations.forEach((key, operation) -> results.put(key, executeOperation(cache, key, operation)));
+      return results;
+   }
+
+   private static <K, V> Result<V> executeOperation(AdvancedCache<K, V> cache, K key, BatchOperation<V> operation) {
+      Metadata metadata = operation.getMetadata();
+      V previousValue;
+      switch (operation.getType()) {
+         case PUT:
+            previousValue = metadata == null ? cache.put(key, operation.getValue()) :
+                  cache.put(key, operation.getValue(), metadata);
+            break;
+         case PUT_IF_ABSENT:
+            previousValue = metadata == null ? cache.putIfAbsent(key, operation.getValue()) :
+                  cache.putIfAbsent(key, operation.getValue(), metadata);
+            break;
+         case REPLACE:
+            previousValue = metadata == null ? cache.replace(key, operation.getValue()) :
+                  cache.replace(key, operation.getValue(), metadata);
+            break;
+         case REPLACE_IF_EQUALS:
+            boolean replaced = metadata == null ?
+                  cache.replace(key, operation.getExpectedValue(), operation.getValue()) :
+                  cache.replace(key, operation.getExpectedValue(), operation.getValue(), metadata);
+            return new Result<>(replaced, replaced ? operation.getExpectedValue() : null);
+         case REMOVE:
+            previousValue = cache.remove(key);
+            break;
+         case REMOVE_IF_EQUALS:
+            boolean removed = cache.remove(key, operation.getExpectedValue());
+            return new Result<>(removed, removed ? operation.getExpectedValue() : null);
+         default:
+            throw new IllegalStateException("Unknown operation " + operation.getType());
+      }
+      return new Result<>(operation.isSuccessful(previousValue), previousValue);
+   }
+
+   private WriteBatch<K, V> add(K key, BatchOperation.Type type, V value, V expectedValue, Metadata metadata) {
+      if (key == null)
+         throw new NullPointerException("Null keys are not supported!");
+      return add(key, new BatchOperation<>(type, value, expectedValue, metadata));
+   }
+
+   private WriteBatch<K, V> add(K key, BatchOperation<V> operation) {
+      if (operations.putIfAbsent(key, operation) != null)
+         throw new IllegalArgumentException("The batch already has an operation for key " + key);
+      return this;
+   }
+
+   private static <V> V requireValue(V value) {
+      if (value == null)
+         throw new NullPointerException("Null values are not supported!");
+      return value;
+   }
+
+   /**
+    * The outcome of the operation on one key.
+    */
+   public static final class Result<V> {
+      private final boolean successful;
+      private final V previousValue;
+
+      public Result(boolean successful, V previousValue) {
+         this.successful = successful;
+         this.previousValue = previousValue;
+      }
+
+      /**
+       * @return {@code true} if the operation modified the entry, or would have modified it in the case of a put
+       *       with the same value.
+       */
+      public boolean isSuccessful() {
+         return successful;
+      }
+
+      /**
+       * @return The value before the operation, or {@code null} if there was no value. A failed conditional replace or
+       *       remove may also return {@code null} if the cache doesn't implement
+       *       {@link AdvancedCache#executeBatch(WriteBatch)}, as the value it compared is not known.
+       */
+      public V getPreviousValue() {
+         return previousValue;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         Result<?> result = (Result<?>) o;
+         return successful == result.successful && Objects.equals(previousValue, result.previousValue);
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * Boolean.hashCode(successful) + Objects.hashCode(previousValue);
+      }
+
+      @Override
+      public String toString() {
+         return "Result{successful=" + successful + ", previousValue=" + previousValue + '}';
+      }
+   }
+}
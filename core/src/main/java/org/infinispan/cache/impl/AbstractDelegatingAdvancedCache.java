@@ -17,6 +17,7 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheSet;
 import org.infinispan.LockedStream;
+import org.infinispan.WriteBatch;
 import org.infinispan.atomic.Delta;
 import org.infinispan.batch.BatchContainer;
 import org.infinispan.commons.CacheException;
@@ -44,6 +45,7 @@
 import org.infinispan.stats.Stats;
 import org.infinispan.topology.LocalTopologyManager;
 import org.infinispan.util.concurrent.locks.LockManager;
+import org.reactivestreams.Publisher;
 
 /**
  * Similar to {@link org.infinispan.cache.impl.AbstractDelegatingCache}, but for {@link AdvancedCache}.
@@ -411,6 +413,16 @@ public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> rem
       return cache.merge(key, value, remappingFunction, metadata);
    }
 
+   @Override
+   public Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      return cache.executeBatch(batch);
+   }
+
+   @Override
+   public CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      return cache.executeBatchAsync(batch);
+   }
+
    @Override
    public CompletableFuture<V> computeAsync(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction, Metadata metadata) {
       return cache.computeAsync(key, remappingFunction, metadata);
@@ -626,6 +638,11 @@ public CompletableFuture<Map<K, V>> getAllAsync(Set<?> keys) {
       return cache.getAllAsync(keys);
    }
 
+   @Override
+   public Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      return cache.getAllPublisher(keys);
+   }
+
    public interface AdvancedCacheWrapper<K, V> {
       AdvancedCache<K, V> wrap(AdvancedCache<K, V> cache);
 
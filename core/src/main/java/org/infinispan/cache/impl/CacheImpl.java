@@ -14,16 +14,20 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import javax.security.auth.Subject;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
@@ -35,6 +39,7 @@
 import org.infinispan.CacheSet;
 import org.infinispan.LockedStream;
 import org.infinispan.Version;
+import org.infinispan.WriteBatch;
 import org.infinispan.atomic.Delta;
 import org.infinispan.atomic.DeltaAware;
 import org.infinispan.atomic.impl.ApplyDelta;
@@ -44,6 +49,9 @@
 import org.infinispan.commands.control.LockControlCommand;
 import org.infinispan.commands.functional.ReadWriteKeyCommand;
 import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
+import org.infinispan.commands.functional.ReadWriteManyEntriesCommand;
+import org.infinispan.commands.functional.functions.BatchOperation;
+import org.infinispan.commands.functional.functions.BatchWriteFunction;
 import org.infinispan.commands.functional.functions.MergeFunction;
 import org.infinispan.commands.read.EntrySetCommand;
 import org.infinispan.commands.read.GetAllCommand;
@@ -71,6 +79,7 @@
 import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.dataconversion.Wrapper;
 import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.EnumUtil;
 import org.infinispan.commons.util.InfinispanCollections;
 import org.infinispan.commons.util.Util;
@@ -79,6 +88,7 @@
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
@@ -101,6 +111,12 @@
 import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.interceptors.base.CommandInterceptor;
+import org.infinispan.interceptors.impl.CacheMgmtInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.interceptors.impl.EntryWrappingInterceptor;
+import org.infinispan.interceptors.impl.InvocationContextInterceptor;
+import org.infinispan.interceptors.impl.VersionInterceptor;
+import org.infinispan.interceptors.locking.NonTransactionalLockingInterceptor;
 import org.infinispan.jmx.annotations.DataType;
 import org.infinispan.jmx.annotations.DisplayType;
 import org.infinispan.jmx.annotations.MBean;
@@ -112,11 +128,13 @@
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.notifications.cachelistener.ListenerHolder;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.notifications.cachemanagerlistener.CacheManagerNotifier;
 import org.infinispan.partitionhandling.AvailabilityMode;
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
+import org.infinispan.reactive.RxJavaInterop;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.statetransfer.StateTransferManager;
@@ -131,11 +149,15 @@
 import org.infinispan.transaction.impl.TransactionTable;
 import org.infinispan.transaction.xa.TransactionXaAdapter;
 import org.infinispan.transaction.xa.XaTransactionTable;
+import org.infinispan.util.KeyValuePair;
 import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.concurrent.locks.LockManager;
 import org.infinispan.util.concurrent.locks.RemoteLockCommand;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
 
 /**
  * @author Mircea.Markus@jboss.com
@@ -151,6 +173,10 @@
    private static final boolean trace = log.isTraceEnabled();
    public static final String OBJECT_NAME = "Cache";
    private static final long PFER_FLAGS = EnumUtil.bitSetOf(FAIL_SILENTLY, FORCE_ASYNCHRONOUS, ZERO_LOCK_ACQUISITION_TIMEOUT, PUT_FOR_EXTERNAL_READ, IGNORE_RETURN_VALUES);
+   // Interceptors that don't do anything for a plain read in a local, non-transactional cache
+   private static final Set<Class<?>> READ_FAST_PATH_INTERCEPTORS = Util.asSet(InvocationContextInterceptor.class,
+         VersionInterceptor.class, NonTransactionalLockingInterceptor.class, EntryWrappingInterceptor.class,
+         CallInterceptor.class);
 
    @Inject protected InvocationContextFactory invocationContextFactory;
    @Inject protected CommandsFactory commandsFactory;
@@ -176,12 +202,15 @@
    @Inject private GlobalConfiguration globalCfg;
    @Inject private LocalTopologyManager localTopologyManager;
    @Inject private StateTransferManager stateTransferManager;
+   @Inject private TimeService timeService;
 
    protected Metadata defaultMetadata;
    private final String name;
    private volatile boolean stopping = false;
    private boolean transactional;
    private boolean batchingEnabled;
+   private boolean readFastPathSupported;
+   private volatile ReadFastPath readFastPath;
    private final ContextBuilder contextBuilder = this::getInvocationContextWithImplicitTransaction;
    private final ContextBuilder expiredContextBuilder = i -> this.getInvocationContextWithImplicitTransaction(i, true);
    private final ContextBuilder pferContextBuilder = this::putForExternalReadContext;
@@ -200,6 +229,8 @@ public void preStart() {
             .lifespan(config.expiration().lifespan()).maxIdle(config.expiration().maxIdle()).build();
       transactional = config.transaction().transactionMode().isTransactional();
       batchingEnabled = config.invocationBatching().enabled();
+      readFastPathSupported = !config.clustering().cacheMode().isClustered() && !transactional && !batchingEnabled &&
+            !config.persistence().usingStores();
    }
 
    private void assertKeyNotNull(Object key) {
@@ -517,9 +548,34 @@ public final boolean containsValue(Object value) {
 
    @Override
    public final V get(Object key) {
+      ReadFastPath fastPath = readFastPath();
+      if (fastPath != null) {
+         return fastPath.get(key);
+      }
       return get(key, EnumUtil.EMPTY_BIT_SET, invocationContextFactory.createInvocationContext(false, 1));
    }
 
+   /**
+    * A plain get in a running local, non-transactional cache without stores or visited listeners only looks up the
+    * key in the data container, so it can skip creating the context and the command and invoking the interceptors.
+    *
+    * @return The fast path, or {@code null} if the read must go through the interceptor chain.
+    */
+   private ReadFastPath readFastPath() {
+      if (!readFastPathSupported || componentRegistry.getStatus() != ComponentStatus.RUNNING ||
+            notifier.hasListener(CacheEntryVisited.class))
+         return null;
+
+      // Interceptors can be added or removed at runtime, and the chain replaces its list every time
+      List<AsyncInterceptor> interceptors = invoker.getInterceptors();
+      ReadFastPath fastPath = readFastPath;
+      if (fastPath == null || fastPath.interceptors != interceptors) {
+         fastPath = new ReadFastPath(interceptors);
+         readFastPath = fastPath;
+      }
+      return fastPath.enabled ? fastPath : null;
+   }
+
    @SuppressWarnings("unchecked")
    final V get(Object key, long explicitFlags, InvocationContext ctx) {
       assertKeyNotNull(key);
@@ -573,6 +629,33 @@ final CompletableFuture<Map<K, V>> getAllAsync(Set<?> keys, long explicitFlags,
       return invoker.invokeAsync(ctx, command).thenApply(map -> dropNullEntries((Map<K, V>) map));
    }
 
+   @Override
+   public Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      return getAllPublisher(keys, EnumUtil.EMPTY_BIT_SET,
+            size -> invocationContextFactory.createInvocationContext(false, size));
+   }
+
+   final Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys, long explicitFlags,
+                                                    IntFunction<InvocationContext> contextFactory) {
+      if (transactional) {
+         // The batches would update the same transaction and its looked up entries from several threads
+         GetAllCommand command = commandsFactory.buildGetAllCommand(keys, explicitFlags, false);
+         CompletableFuture<Map<K, V>> cf = invoker.invokeAsync(contextFactory.apply(keys.size()), command)
+               .thenApply(map -> dropNullEntries((Map<K, V>) map));
+         return RxJavaInterop.<Map<K, V>>completionStageToPublisher().apply(cf).flatMapIterable(Map::entrySet);
+      }
+      // All the batches are invoked right away, from the caller's thread
+      List<List<Object>> batches = OwnerBatches.<Object>byReadOwner(keys, distributionManager, OwnerBatches.MAX_BATCH_SIZE);
+      List<Flowable<Map<K, V>>> batchResults = new ArrayList<>(batches.size());
+      for (List<Object> batch : batches) {
+         GetAllCommand command = commandsFactory.buildGetAllCommand(batch, explicitFlags, false);
+         CompletableFuture<Map<K, V>> cf = invoker.invokeAsync(contextFactory.apply(batch.size()), command)
+               .thenApply(map -> dropNullEntries((Map<K, V>) map));
+         batchResults.add(RxJavaInterop.<Map<K, V>>completionStageToPublisher().apply(cf));
+      }
+      return Flowable.merge(batchResults).flatMapIterable(Map::entrySet);
+   }
+
    private Map<K, V> dropNullEntries(Map<K, V> map) {
       Iterator<Entry<K, V>> entryIterator = map.entrySet().iterator();
       while (entryIterator.hasNext()) {
@@ -1497,10 +1580,53 @@ final void putAll(Map<? extends K, ? extends V> map, Metadata metadata, long exp
       // Interceptors are free to clear this flag if appropriate (since interceptors are the only consumers of the
       // return value).
       explicitFlags = EnumUtil.mergeBitSets(explicitFlags, FlagBitSets.IGNORE_RETURN_VALUES);
+      if (shouldSplitPutAll(map)) {
+         awaitBatches(putAllInBatches(map, metadata, explicitFlags, contextBuilder));
+         return;
+      }
       PutMapCommand command = createPutAllCommand(map, metadata, explicitFlags);
       executeCommandAndCommitIfNeeded(contextBuilder, command, map.size());
    }
 
+   /**
+    * Very large maps are split in batches per primary owner, so that the messages and the memory needed to apply them
+    * on the owners stay bounded. Transactional caches don't send anything before the commit, so they are not split.
+    */
+   private boolean shouldSplitPutAll(Map<? extends K, ? extends V> map) {
+      return map.size() > OwnerBatches.MAX_BATCH_SIZE && !transactional && config.clustering().cacheMode().isClustered();
+   }
+
+   private CompletableFuture<Void> putAllInBatches(Map<? extends K, ? extends V> map, Metadata metadata,
+                                                   long explicitFlags, ContextBuilder contextBuilder) {
+      InfinispanCollections.assertNotNullEntries(map, "map");
+      List<List<K>> batches = OwnerBatches.<K>byPrimaryOwner(map.keySet(), distributionManager, OwnerBatches.MAX_BATCH_SIZE);
+      CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
+      for (int i = 0; i < futures.length; i++) {
+         List<K> batch = batches.get(i);
+         Map<K, V> batchMap = new HashMap<>(batch.size() * 4 / 3 + 1);
+         for (K key : batch) {
+            batchMap.put(key, map.get(key));
+         }
+         PutMapCommand command = createPutAllCommand(batchMap, metadata, explicitFlags);
+         futures[i] = executeCommandAndCommitIfNeededAsync(contextBuilder, command, batchMap.size());
+      }
+      return CompletableFuture.allOf(futures);
+   }
+
+   private static void awaitBatches(CompletableFuture<Void> cf) {
+      try {
+         CompletableFutures.await(cf);
+      } catch (ExecutionException e) {
+         Throwable cause = e.getCause();
+         if (cause instanceof RuntimeException)
+            throw (RuntimeException) cause;
+         throw new CacheException(cause);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException(e);
+      }
+   }
+
    public final Map<K, V> getAndPutAll(Map<? extends K, ? extends V> map) {
       return getAndPutAll(map, defaultMetadata, EnumUtil.EMPTY_BIT_SET, contextBuilder);
    }
@@ -1587,6 +1713,9 @@ public final CompletableFuture<Void> putAllAsync(final Map<? extends K, ? extend
    final CompletableFuture<Void> putAllAsync(final Map<? extends K, ? extends V> data, final Metadata metadata,
                                              long explicitFlags, ContextBuilder contextBuilder) {
       explicitFlags = EnumUtil.mergeBitSets(explicitFlags, FlagBitSets.IGNORE_RETURN_VALUES);
+      if (shouldSplitPutAll(data)) {
+         return putAllInBatches(data, metadata, explicitFlags, contextBuilder);
+      }
       PutMapCommand command = createPutAllCommand(data, metadata, explicitFlags);
       return executeCommandAndCommitIfNeededAsync(contextBuilder, command, data.size());
    }
@@ -1844,6 +1973,62 @@ CompletableFuture<V> mergeInternalAsync(K key, V value, BiFunction<? super V, ?
       return executeCommandAndCommitIfNeededAsync(contextBuilder, command, 1);
    }
 
+   @Override
+   public Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      return executeBatch(batch, addUnsafeFlags(EnumUtil.EMPTY_BIT_SET), contextBuilder);
+   }
+
+   final Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch, long explicitFlags, ContextBuilder contextBuilder) {
+      if (batch.isEmpty())
+         return Collections.emptyMap();
+
+      ReadWriteManyEntriesCommand<K, V, BatchOperation<V>, KeyValuePair<K, V>> command = createBatchCommand(batch, explicitFlags);
+      List<KeyValuePair<K, V>> previousValues = executeCommandAndCommitIfNeeded(contextBuilder, command, batch.size());
+      return batchResults(batch, explicitFlags, previousValues);
+   }
+
+   @Override
+   public CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      return executeBatchAsync(batch, addUnsafeFlags(EnumUtil.EMPTY_BIT_SET), contextBuilder);
+   }
+
+   final CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch, long explicitFlags,
+                                                                           ContextBuilder contextBuilder) {
+      if (batch.isEmpty())
+         return CompletableFuture.completedFuture(Collections.emptyMap());
+
+      ReadWriteManyEntriesCommand<K, V, BatchOperation<V>, KeyValuePair<K, V>> command = createBatchCommand(batch, explicitFlags);
+      CompletableFuture<List<KeyValuePair<K, V>>> cf = executeCommandAndCommitIfNeededAsync(contextBuilder, command, batch.size());
+      return cf.thenApply(previousValues -> batchResults(batch, explicitFlags, previousValues));
+   }
+
+   private ReadWriteManyEntriesCommand<K, V, BatchOperation<V>, KeyValuePair<K, V>> createBatchCommand(WriteBatch<K, V> batch,
+                                                                                                     long explicitFlags) {
+      Map<K, BatchOperation<V>> operations = new LinkedHashMap<>(batch.getOperations());
+      operations.replaceAll((key, operation) ->
+            operation.isRemoval() ? operation : operation.withMetadata(applyDefaultMetadata(operation.getMetadata())));
+      return commandsFactory.buildReadWriteManyEntriesCommand(operations, BatchWriteFunction.getInstance(),
+            Params.fromFlagsBitSet(explicitFlags), getKeyDataConversion(), getValueDataConversion());
+   }
+
+   private Map<K, WriteBatch.Result<V>> batchResults(WriteBatch<K, V> batch, long explicitFlags,
+                                                     List<KeyValuePair<K, V>> previousValues) {
+      // Like the other write operations, return nothing with IGNORE_RETURN_VALUES
+      if (EnumUtil.containsAny(explicitFlags, FlagBitSets.IGNORE_RETURN_VALUES))
+         return Collections.emptyMap();
+
+      Map<K, V> previousValueMap = new HashMap<>(previousValues.size());
+      for (KeyValuePair<K, V> pair : previousValues) {
+         previousValueMap.put(pair.getKey(), pair.getValue());
+      }
+      Map<K, WriteBatch.Result<V>> results = new LinkedHashMap<>(batch.size());
+      batch.getOperations().forEach((key, operation) -> {
+         V previousValue = previousValueMap.get(key);
+         results.put(key, new WriteBatch.Result<>(operation.isSuccessful(previousValue), previousValue));
+      });
+      return results;
+   }
+
    @Override
    public AdvancedCache<K, V> getAdvancedCache() {
       return this;
@@ -2124,4 +2309,44 @@ interface ContextBuilder {
       InvocationContext create(int keyCount);
    }
 
+
+   private final class ReadFastPath {
+      final List<AsyncInterceptor> interceptors;
+      final boolean enabled;
+      final CacheMgmtInterceptor statistics;
+
+      ReadFastPath(List<AsyncInterceptor> interceptors) {
+         this.interceptors = interceptors;
+         boolean enabled = true;
+         CacheMgmtInterceptor statistics = null;
+         for (AsyncInterceptor interceptor : interceptors) {
+            if (interceptor.getClass() == CacheMgmtInterceptor.class) {
+               statistics = (CacheMgmtInterceptor) interceptor;
+            } else if (!READ_FAST_PATH_INTERCEPTORS.contains(interceptor.getClass())) {
+               enabled = false;
+            }
+         }
+         this.enabled = enabled;
+         this.statistics = statistics;
+      }
+
+      V get(Object key) {
+         assertKeyNotNull(key);
+         if (statistics == null || !statistics.getStatisticsEnabled()) {
+            return getFromDataContainer(key);
+         }
+
+         long start = timeService.time();
+         V value = getFromDataContainer(key);
+         statistics.addDataRead(key, value != null, timeService.timeDuration(start, TimeUnit.NANOSECONDS));
+         return value;
+      }
+
+      @SuppressWarnings("unchecked")
+      private V getFromDataContainer(Object key) {
+         // The data container removes the entry if it's expired and updates its last access time otherwise
+         InternalCacheEntry<K, V> entry = dataContainer.get(keyPartitioner.getSegment(key), key);
+         return entry != null ? entry.getValue() : null;
+      }
+   }
 }
@@ -16,6 +16,7 @@
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
 import org.infinispan.LockedStream;
+import org.infinispan.WriteBatch;
 import org.infinispan.commons.dataconversion.Encoder;
 import org.infinispan.commons.dataconversion.Wrapper;
 import org.infinispan.commons.util.EnumUtil;
@@ -27,6 +28,7 @@
 import org.infinispan.metadata.Metadata;
 import org.infinispan.stream.StreamMarshalling;
 import org.infinispan.stream.impl.local.ValueCacheCollection;
+import org.reactivestreams.Publisher;
 
 /**
  * A decorator to a cache, which can be built with a specific set of {@link Flag}s.  This
@@ -516,6 +518,11 @@ public Map<K, V> getAll(Set<?> keys) {
       return cacheImplementation.getAll(keys, flags, readContext(keys.size()));
    }
 
+   @Override
+   public Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      return cacheImplementation.getAllPublisher(keys, flags, this::readContext);
+   }
+
    @Override
    public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return cacheImplementation.getAllCacheEntries(keys, flags, readContext(keys.size()));
@@ -697,6 +704,16 @@ public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> rem
       return cacheImplementation.mergeInternal(key, value, remappingFunction, metadata, flags, contextBuilder);
    }
 
+   @Override
+   public Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      return cacheImplementation.executeBatch(batch, flags, contextBuilder);
+   }
+
+   @Override
+   public CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      return cacheImplementation.executeBatchAsync(batch, flags, contextBuilder);
+   }
+
    @Override
    public CacheEntry getCacheEntry(Object key) {
       return cacheImplementation.getCacheEntry(key, flags, readContext(1));
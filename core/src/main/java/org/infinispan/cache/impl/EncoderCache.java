@@ -21,6 +21,7 @@
 import org.infinispan.Cache;
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
+import org.infinispan.WriteBatch;
 import org.infinispan.commons.dataconversion.Encoder;
 import org.infinispan.commons.dataconversion.IdentityEncoder;
 import org.infinispan.commons.dataconversion.IdentityWrapper;
@@ -45,6 +46,9 @@
 import org.infinispan.util.WriteableCacheSetMapper;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
 
 /**
  * Cache decoration that makes use of the {@link Encoder} and {@link Wrapper} to convert between storage value and
@@ -369,6 +373,30 @@ public CompletableFuture<Map<K, V>> getAllAsync(Set<?> keys) {
       return super.getAllAsync(encodeKeysForWrite(keys)).thenApply(this::decodeMapForRead);
    }
 
+   @Override
+   public Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      return Flowable.fromPublisher(super.getAllPublisher(encodeKeysForWrite(keys)))
+            .map(e -> new AbstractMap.SimpleImmutableEntry<>(keyFromStorage(e.getKey()), valueFromStorage(e.getValue())));
+   }
+
+   @Override
+   public Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      return decodeBatchResults(super.executeBatch(batch.map(this::keyToStorage, this::valueToStorage)));
+   }
+
+   @Override
+   public CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      return super.executeBatchAsync(batch.map(this::keyToStorage, this::valueToStorage))
+            .thenApply(this::decodeBatchResults);
+   }
+
+   private Map<K, WriteBatch.Result<V>> decodeBatchResults(Map<K, WriteBatch.Result<V>> results) {
+      Map<K, WriteBatch.Result<V>> newMap = new LinkedHashMap<>(results.size());
+      results.forEach((k, result) -> newMap.put(keyFromStorage(k),
+            new WriteBatch.Result<>(result.isSuccessful(), valueFromStorage(result.getPreviousValue()))));
+      return newMap;
+   }
+
    @Override
    public CacheEntry<K, V> getCacheEntry(Object key) {
       K keyToStorage = keyToStorage(key);
@@ -0,0 +1,71 @@
+package org.infinispan.cache.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * Splits the keys of a multi-key operation in batches that each need at most one remote owner, with at most
+ * {@link #MAX_BATCH_SIZE} keys per batch.
+ * <p>
+ * Executing each batch as a separate command bounds the size of the messages, and lets the results of the fast
+ * owners be used before a slow owner replies.
+ *
+ * @since 10.0
+ */
+final class OwnerBatches {
+   static final int MAX_BATCH_SIZE = 1000;
+
+   private OwnerBatches() {
+   }
+
+   /**
+    * Groups the keys by the owner that a read would contact, the local node if it is a read owner.
+    */
+   static <K> List<List<K>> byReadOwner(Collection<? extends K> keys, DistributionManager distributionManager, int maxBatchSize) {
+      if (distributionManager == null)
+         return split(keys, k -> null, maxBatchSize);
+
+      LocalizedCacheTopology cacheTopology = distributionManager.getCacheTopology();
+      Address localAddress = cacheTopology.getLocalAddress();
+      return split(keys, k -> {
+         DistributionInfo info = cacheTopology.getDistribution(k);
+         return info.isReadOwner() ? localAddress : info.primary();
+      }, maxBatchSize);
+   }
+
+   /**
+    * Groups the keys by primary owner, which applies the writes in non-transactional caches.
+    */
+   static <K> List<List<K>> byPrimaryOwner(Collection<? extends K> keys, DistributionManager distributionManager, int maxBatchSize) {
+      if (distributionManager == null)
+         return split(keys, k -> null, maxBatchSize);
+
+      LocalizedCacheTopology cacheTopology = distributionManager.getCacheTopology();
+      return split(keys, k -> cacheTopology.getDistribution(k).primary(), maxBatchSize);
+   }
+
+   private static <K> List<List<K>> split(Collection<? extends K> keys, Function<K, Address> ownerFunction, int maxBatchSize) {
+      List<List<K>> batches = new ArrayList<>();
+      Map<Address, List<K>> batchByOwner = new HashMap<>();
+      for (K key : keys) {
+         Address owner = ownerFunction.apply(key);
+         List<K> batch = batchByOwner.computeIfAbsent(owner, o -> new ArrayList<>());
+         batch.add(key);
+         if (batch.size() >= maxBatchSize) {
+            batches.add(batch);
+            batchByOwner.remove(owner);
+         }
+      }
+      batches.addAll(batchByOwner.values());
+      return batches;
+   }
+}
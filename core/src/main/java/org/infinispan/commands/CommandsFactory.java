@@ -34,6 +34,7 @@
 import org.infinispan.commands.read.GetKeyValueCommand;
 import org.infinispan.commands.read.KeySetCommand;
 import org.infinispan.commands.read.SizeCommand;
+import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commands.remote.ClusteredGetAllCommand;
 import org.infinispan.commands.remote.ClusteredGetCommand;
 import org.infinispan.commands.remote.GetKeysInGroupCommand;
@@ -46,12 +47,16 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
+import org.infinispan.commands.triangle.BackupWriteCommand;
 import org.infinispan.commands.triangle.MultiEntriesFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.MultiKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.PutMapBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
+import org.infinispan.commands.tx.GroupCommitCompletionCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
 import org.infinispan.commands.tx.VersionedCommitCommand;
@@ -586,6 +591,32 @@ <K, V, R> ReadWriteManyCommand<K, V, R> buildReadWriteManyCommand(Collection<?>
 
    RenewBiasCommand buildRenewBiasCommand(Object[] keys);
 
+   /**
+    * Builds a command carrying the prepare and commit commands of several transactions to the same owners.
+    *
+    * @param groupId the id of the group, unique for the sender
+    * @param commands the commands, handled by the receiver in order
+    * @return a GroupCommitCommand
+    */
+   GroupCommitCommand buildGroupCommitCommand(long groupId, List<CacheRpcCommand> commands);
+
+   /**
+    * Builds a command waiting for the response of a command of a {@link GroupCommitCommand}.
+    *
+    * @param groupId the id of the group
+    * @param index the position of the command in the group
+    * @return a GroupCommitCompletionCommand
+    */
+   GroupCommitCompletionCommand buildGroupCommitCompletionCommand(long groupId, int index);
+
+   /**
+    * Builds a command carrying several backup write commands to the same backup owner.
+    *
+    * @param commands the commands, handled by the receiver in order
+    * @return a BackupWriteBatchCommand
+    */
+   BackupWriteBatchCommand buildBackupWriteBatchCommand(List<BackupWriteCommand> commands);
+
    SingleKeyBackupWriteCommand buildSingleKeyBackupWriteCommand();
 
    SingleKeyFunctionalBackupWriteCommand buildSingleKeyFunctionalBackupWriteCommand();
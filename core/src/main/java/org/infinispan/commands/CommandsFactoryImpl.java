@@ -39,6 +39,7 @@
 import org.infinispan.commands.read.GetKeyValueCommand;
 import org.infinispan.commands.read.KeySetCommand;
 import org.infinispan.commands.read.SizeCommand;
+import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commands.remote.ClusteredGetAllCommand;
 import org.infinispan.commands.remote.ClusteredGetCommand;
 import org.infinispan.commands.remote.GetKeysInGroupCommand;
@@ -51,12 +52,16 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
+import org.infinispan.commands.triangle.BackupWriteCommand;
 import org.infinispan.commands.triangle.MultiEntriesFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.MultiKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.PutMapBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
+import org.infinispan.commands.tx.GroupCommitCompletionCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
 import org.infinispan.commands.tx.VersionedCommitCommand;
@@ -141,6 +146,7 @@
 import org.infinispan.stream.impl.StreamRequestCommand;
 import org.infinispan.stream.impl.StreamResponseCommand;
 import org.infinispan.stream.impl.intops.IntermediateOperation;
+import org.infinispan.transaction.impl.GroupCommitter;
 import org.infinispan.transaction.impl.TransactionTable;
 import org.infinispan.transaction.xa.GlobalTransaction;
 import org.infinispan.transaction.xa.recovery.RecoveryManager;
@@ -203,6 +209,7 @@ public class CommandsFactoryImpl implements CommandsFactory {
    @Inject private StateTransferLock stateTransferLock;
    @Inject private StreamingMarshaller marshaller;
    @Inject private ComponentRef<BiasManager> biasManager;
+   @Inject private ComponentRef<GroupCommitter> groupCommitter;
    @Inject private RpcManager rpcManager;
    @Inject @ComponentName(KnownComponentNames.MODULE_COMMAND_INITIALIZERS)
    private Map<Byte, ModuleCommandInitializer> moduleCommandInitializers;
@@ -563,6 +570,21 @@ public void initializeReplicableCommand(ReplicableCommand c, boolean isRemote) {
          case RenewBiasCommand.COMMAND_ID:
             ((RenewBiasCommand) c).init(biasManager.running());
             break;
+         case GroupCommitCommand.COMMAND_ID:
+            GroupCommitCommand groupCommitCommand = (GroupCommitCommand) c;
+            groupCommitCommand.init(groupCommitter.running());
+            for (CacheRpcCommand grouped : groupCommitCommand.getCommands()) {
+               initializeReplicableCommand(grouped, isRemote);
+            }
+            break;
+         case GroupCommitCompletionCommand.COMMAND_ID:
+            ((GroupCommitCompletionCommand) c).init(groupCommitter.running());
+            break;
+         case BackupWriteBatchCommand.COMMAND_ID:
+            for (BackupWriteCommand batched : ((BackupWriteBatchCommand) c).getCommands()) {
+               initializeReplicableCommand(batched, isRemote);
+            }
+            break;
          default:
             ModuleCommandInitializer mci = moduleCommandInitializers.get(c.getCommandId());
             if (mci != null) {
@@ -821,6 +843,21 @@ public RenewBiasCommand buildRenewBiasCommand(Object[] keys) {
       return new RenewBiasCommand(cacheName, keys);
    }
 
+   @Override
+   public GroupCommitCommand buildGroupCommitCommand(long groupId, List<CacheRpcCommand> commands) {
+      return new GroupCommitCommand(cacheName, groupId, commands);
+   }
+
+   @Override
+   public GroupCommitCompletionCommand buildGroupCommitCompletionCommand(long groupId, int index) {
+      return new GroupCommitCompletionCommand(cacheName, groupId, index);
+   }
+
+   @Override
+   public BackupWriteBatchCommand buildBackupWriteBatchCommand(List<BackupWriteCommand> commands) {
+      return new BackupWriteBatchCommand(cacheName, commands);
+   }
+
    @Override
    public SingleKeyBackupWriteCommand buildSingleKeyBackupWriteCommand() {
       return new SingleKeyBackupWriteCommand(cacheName);
@@ -31,12 +31,15 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
 import org.infinispan.commands.triangle.MultiEntriesFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.MultiKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.PutMapBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
+import org.infinispan.commands.tx.GroupCommitCompletionCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
 import org.infinispan.commands.tx.VersionedCommitCommand;
@@ -325,6 +328,9 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
             case StreamIteratorCloseCommand.COMMAND_ID:
                command = new StreamIteratorCloseCommand(cacheName);
                break;
+            case BackupWriteBatchCommand.COMMAND_ID:
+               command = new BackupWriteBatchCommand(cacheName);
+               break;
             case SingleKeyBackupWriteCommand.COMMAND_ID:
                command = new SingleKeyBackupWriteCommand(cacheName);
                break;
@@ -358,6 +364,12 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
             case PublisherRequestCommand.COMMAND_ID:
                command = new PublisherRequestCommand<>(cacheName);
                break;
+            case GroupCommitCommand.COMMAND_ID:
+               command = new GroupCommitCommand(cacheName);
+               break;
+            case GroupCommitCompletionCommand.COMMAND_ID:
+               command = new GroupCommitCompletionCommand(cacheName);
+               break;
             default:
                throw new CacheException("Unknown command id " + id + "!");
          }
@@ -11,6 +11,7 @@
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.encoding.DataConversion;
+import org.infinispan.encoding.impl.ConversionCache;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.functional.EntryView;
 import org.infinispan.marshall.core.EncoderRegistry;
@@ -88,8 +89,9 @@ public void inject(ComponentRegistry registry) {
          GlobalConfiguration globalConfiguration = registry.getGlobalComponentRegistry().getGlobalConfiguration();
          EncoderRegistry encoderRegistry = registry.getComponent(EncoderRegistry.class);
          Configuration configuration = registry.getComponent(Configuration.class);
-         keyDataConversion.injectDependencies(globalConfiguration, encoderRegistry, configuration);
-         valueDataConversion.injectDependencies(globalConfiguration, encoderRegistry, configuration);
+         ConversionCache conversionCache = registry.getComponent(ConversionCache.class);
+         keyDataConversion.injectDependencies(globalConfiguration, encoderRegistry, configuration, conversionCache);
+         valueDataConversion.injectDependencies(globalConfiguration, encoderRegistry, configuration, conversionCache);
       }
    }
 
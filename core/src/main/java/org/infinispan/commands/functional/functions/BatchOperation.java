@@ -0,0 +1,152 @@
+package org.infinispan.commands.functional.functions;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.infinispan.commons.marshall.Ids;
+import org.infinispan.commons.marshall.MarshallUtil;
+import org.infinispan.functional.EntryView;
+import org.infinispan.metadata.Metadata;
+
+/**
+ * A single operation of a {@link org.infinispan.WriteBatch}, applied to the entry by {@link BatchWriteFunction}.
+ *
+ * @since 10.0
+ */
+public final class BatchOperation<V> {
+   public enum Type {
+      PUT,
+      PUT_IF_ABSENT,
+      REPLACE,
+      REPLACE_IF_EQUALS,
+      REMOVE,
+      REMOVE_IF_EQUALS;
+
+      private static final Type[] CACHED_VALUES = values();
+   }
+
+   private final Type type;
+   private final V value;
+   private final V expectedValue;
+   private final Metadata metadata;
+
+   public BatchOperation(Type type, V value, V expectedValue, Metadata metadata) {
+      this.type = Objects.requireNonNull(type);
+      this.value = value;
+      this.expectedValue = expectedValue;
+      this.metadata = metadata;
+   }
+
+   public Type getType() {
+      return type;
+   }
+
+   public V getValue() {
+      return value;
+   }
+
+   public V getExpectedValue() {
+      return expectedValue;
+   }
+
+   public Metadata getMetadata() {
+      return metadata;
+   }
+
+   public BatchOperation<V> withMetadata(Metadata metadata) {
+      return new BatchOperation<>(type, value, expectedValue, metadata);
+   }
+
+   public <V2> BatchOperation<V2> mapValues(Function<? super V, ? extends V2> valueMapper) {
+      return new BatchOperation<>(type, mapNullable(value, valueMapper), mapNullable(expectedValue, valueMapper), metadata);
+   }
+
+   public boolean isRemoval() {
+      return type == Type.REMOVE || type == Type.REMOVE_IF_EQUALS;
+   }
+
+   /**
+    * @param previousValue The value of the entry before the operation, or {@code null} if there was no entry
+    * @return {@code true} if the operation modified (or would modify) an entry with that value
+    */
+   public boolean isSuccessful(V previousValue) {
+      switch (type) {
+         case PUT:
+            return true;
+         case PUT_IF_ABSENT:
+            return previousValue == null;
+         case REPLACE:
+         case REMOVE:
+            return previousValue != null;
+         case REPLACE_IF_EQUALS:
+         case REMOVE_IF_EQUALS:
+            return previousValue != null && previousValue.equals(expectedValue);
+         default:
+            throw new IllegalStateException("Unknown operation " + type);
+      }
+   }
+
+   /**
+    * Applies the operation to the entry.
+    *
+    * @return The value of the entry before the operation
+    */
+   public <K> V apply(EntryView.ReadWriteEntryView<K, V> entry) {
+      V previousValue = entry.find().orElse(null);
+      if (isSuccessful(previousValue)) {
+         if (isRemoval()) {
+            entry.remove();
+         } else {
+            entry.set(value, metadata);
+         }
+      }
+      return previousValue;
+   }
+
+   @Override
+   public String toString() {
+      return "BatchOperation{" +
+            "type=" + type +
+            ", value=" + value +
+            ", expectedValue=" + expectedValue +
+            ", metadata=" + metadata +
+            '}';
+   }
+
+   private static <V, V2> V2 mapNullable(V value, Function<? super V, ? extends V2> valueMapper) {
+      return value == null ? null : valueMapper.apply(value);
+   }
+
+   public static class Externalizer implements AdvancedExternalizer<BatchOperation> {
+
+      @Override
+      public Set<Class<? extends BatchOperation>> getTypeClasses() {
+         return Collections.singleton(BatchOperation.class);
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.BATCH_OPERATION;
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, BatchOperation object) throws IOException {
+         MarshallUtil.marshallEnum(object.type, output);
+         output.writeObject(object.value);
+         output.writeObject(object.expectedValue);
+         output.writeObject(object.metadata);
+      }
+
+      @Override
+      public BatchOperation readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         Type type = MarshallUtil.unmarshallEnum(input, ordinal -> Type.CACHED_VALUES[ordinal]);
+         return new BatchOperation<>(type, input.readObject(), input.readObject(), (Metadata) input.readObject());
+      }
+   }
+}
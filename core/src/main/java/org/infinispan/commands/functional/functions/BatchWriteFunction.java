@@ -0,0 +1,59 @@
+package org.infinispan.commands.functional.functions;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.infinispan.commons.marshall.Ids;
+import org.infinispan.functional.EntryView;
+import org.infinispan.util.KeyValuePair;
+
+/**
+ * Applies the {@link BatchOperation} of each key of a {@link org.infinispan.WriteBatch}.
+ * <p>
+ * Returns the key with the previous value, because the results of the owners are not merged in the order of the keys.
+ *
+ * @since 10.0
+ */
+public final class BatchWriteFunction<K, V> implements BiFunction<BatchOperation<V>, EntryView.ReadWriteEntryView<K, V>, KeyValuePair<K, V>> {
+   private static final BatchWriteFunction INSTANCE = new BatchWriteFunction<>();
+
+   private BatchWriteFunction() {
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <K, V> BatchWriteFunction<K, V> getInstance() {
+      return INSTANCE;
+   }
+
+   @Override
+   public KeyValuePair<K, V> apply(BatchOperation<V> operation, EntryView.ReadWriteEntryView<K, V> entry) {
+      return new KeyValuePair<>(entry.key(), operation.apply(entry));
+   }
+
+   public static class Externalizer implements AdvancedExternalizer<BatchWriteFunction> {
+
+      @Override
+      public Set<Class<? extends BatchWriteFunction>> getTypeClasses() {
+         return Collections.singleton(BatchWriteFunction.class);
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.BATCH_WRITE_FUNCTION;
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, BatchWriteFunction object) {
+      }
+
+      @Override
+      public BatchWriteFunction readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return INSTANCE;
+      }
+   }
+}
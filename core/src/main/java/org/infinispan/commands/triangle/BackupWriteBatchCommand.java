@@ -0,0 +1,89 @@
+package org.infinispan.commands.triangle;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.commands.remote.BaseRpcCommand;
+import org.infinispan.commons.marshall.MarshallUtil;
+import org.infinispan.distribution.BackupWriteBundler;
+import org.infinispan.remoting.inboundhandler.TrianglePerCacheInboundInvocationHandler;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.util.ByteString;
+
+/**
+ * Carries several {@link BackupWriteCommand}s from a primary owner to the same backup owner in a single message.
+ * <p>
+ * The receiver doesn't invoke this command, the {@link TrianglePerCacheInboundInvocationHandler} handles each of the
+ * {@link #getCommands() commands} in order, as if they had been received separately.
+ *
+ * @see BackupWriteBundler
+ * @since 10.0
+ */
+public class BackupWriteBatchCommand extends BaseRpcCommand {
+   public static final byte COMMAND_ID = 85;
+
+   private List<BackupWriteCommand> commands;
+
+   private BackupWriteBatchCommand() {
+      super(null); // For command id uniqueness test
+   }
+
+   public BackupWriteBatchCommand(ByteString cacheName) {
+      super(cacheName);
+   }
+
+   public BackupWriteBatchCommand(ByteString cacheName, List<BackupWriteCommand> commands) {
+      super(cacheName);
+      this.commands = commands;
+   }
+
+   public List<BackupWriteCommand> getCommands() {
+      return commands;
+   }
+
+   @Override
+   public void setOrigin(Address origin) {
+      super.setOrigin(origin);
+      if (commands != null) {
+         for (BackupWriteCommand command : commands) {
+            command.setOrigin(origin);
+         }
+      }
+   }
+
+   @Override
+   public Object invoke() throws Throwable {
+      throw new IllegalStateException("The commands of a backup write batch must be handled separately");
+   }
+
+   @Override
+   public byte getCommandId() {
+      return COMMAND_ID;
+   }
+
+   @Override
+   public boolean isReturnValueExpected() {
+      return false;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      MarshallUtil.marshallCollection(commands, output);
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      commands = MarshallUtil.unmarshallCollection(input, ArrayList::new);
+   }
+
+   @Override
+   public String toString() {
+      return "BackupWriteBatchCommand{" +
+            "cacheName=" + cacheName +
+            ", commands=" + commands +
+            '}';
+   }
+}
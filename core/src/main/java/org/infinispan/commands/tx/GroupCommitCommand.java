@@ -0,0 +1,115 @@
+package org.infinispan.commands.tx;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.commands.remote.BaseRpcCommand;
+import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commons.marshall.MarshallUtil;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.inboundhandler.PerCacheInboundInvocationHandler;
+import org.infinispan.remoting.inboundhandler.Reply;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.transaction.impl.GroupCommitter;
+import org.infinispan.util.ByteString;
+
+/**
+ * Carries the prepare and commit commands of several transactions to the same owners in a single message.
+ * <p>
+ * The receiver doesn't invoke this command, it hands each of the {@link #getCommands() commands} to the
+ * {@link PerCacheInboundInvocationHandler} in order, as if they had been received separately, and replies with the
+ * list of their responses. The commands that are still running when the group is answered have a {@code null}
+ * response, and the sender asks for them with a {@link GroupCommitCompletionCommand}.
+ *
+ * @see GroupCommitter
+ * @since 10.0
+ */
+public class GroupCommitCommand extends BaseRpcCommand {
+   public static final byte COMMAND_ID = 83;
+
+   private long groupId;
+   private List<CacheRpcCommand> commands;
+   private transient GroupCommitter groupCommitter;
+
+   private GroupCommitCommand() {
+      super(null); // For command id uniqueness test
+   }
+
+   public GroupCommitCommand(ByteString cacheName) {
+      super(cacheName);
+   }
+
+   public GroupCommitCommand(ByteString cacheName, long groupId, List<CacheRpcCommand> commands) {
+      super(cacheName);
+      this.groupId = groupId;
+      this.commands = commands;
+   }
+
+   public void init(GroupCommitter groupCommitter) {
+      this.groupCommitter = groupCommitter;
+   }
+
+   public long getGroupId() {
+      return groupId;
+   }
+
+   public List<CacheRpcCommand> getCommands() {
+      return commands;
+   }
+
+   @Override
+   public void setOrigin(Address origin) {
+      super.setOrigin(origin);
+      if (commands != null) {
+         for (CacheRpcCommand command : commands) {
+            command.setOrigin(origin);
+         }
+      }
+   }
+
+   /**
+    * Handles each of the commands with {@code handler}, and replies with their responses.
+    */
+   public void handle(PerCacheInboundInvocationHandler handler, Reply reply, DeliverOrder order) {
+      groupCommitter.handle(this, handler, reply, order);
+   }
+
+   @Override
+   public Object invoke() throws Throwable {
+      throw new IllegalStateException("The commands of a group commit must be handled separately");
+   }
+
+   @Override
+   public byte getCommandId() {
+      return COMMAND_ID;
+   }
+
+   @Override
+   public boolean isReturnValueExpected() {
+      return true;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      output.writeLong(groupId);
+      MarshallUtil.marshallCollection(commands, output);
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      groupId = input.readLong();
+      commands = MarshallUtil.unmarshallCollection(input, ArrayList::new);
+   }
+
+   @Override
+   public String toString() {
+      return "GroupCommitCommand{" +
+            "cacheName=" + cacheName +
+            ", groupId=" + groupId +
+            ", commands=" + commands +
+            '}';
+   }
+}
@@ -0,0 +1,79 @@
+package org.infinispan.commands.tx;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.concurrent.CompletableFuture;
+
+import org.infinispan.commands.remote.BaseRpcCommand;
+import org.infinispan.transaction.impl.GroupCommitter;
+import org.infinispan.util.ByteString;
+
+/**
+ * Waits for the response of a command of a {@link GroupCommitCommand} that was still running when the group was
+ * answered, and replies with it.
+ *
+ * @see GroupCommitter
+ * @since 10.0
+ */
+public class GroupCommitCompletionCommand extends BaseRpcCommand {
+   public static final byte COMMAND_ID = 84;
+
+   private long groupId;
+   private int index;
+   private transient GroupCommitter groupCommitter;
+
+   private GroupCommitCompletionCommand() {
+      super(null); // For command id uniqueness test
+   }
+
+   public GroupCommitCompletionCommand(ByteString cacheName) {
+      super(cacheName);
+   }
+
+   public GroupCommitCompletionCommand(ByteString cacheName, long groupId, int index) {
+      super(cacheName);
+      this.groupId = groupId;
+      this.index = index;
+   }
+
+   public void init(GroupCommitter groupCommitter) {
+      this.groupCommitter = groupCommitter;
+   }
+
+   @Override
+   public CompletableFuture<Object> invokeAsync() throws Throwable {
+      return groupCommitter.completion(getOrigin(), groupId, index);
+   }
+
+   @Override
+   public byte getCommandId() {
+      return COMMAND_ID;
+   }
+
+   @Override
+   public boolean isReturnValueExpected() {
+      return true;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      output.writeLong(groupId);
+      output.writeInt(index);
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      groupId = input.readLong();
+      index = input.readInt();
+   }
+
+   @Override
+   public String toString() {
+      return "GroupCommitCompletionCommand{" +
+            "cacheName=" + cacheName +
+            ", groupId=" + groupId +
+            ", index=" + index +
+            '}';
+   }
+}
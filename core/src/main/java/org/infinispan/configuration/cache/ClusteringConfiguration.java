@@ -58,10 +58,14 @@ public Object readAttributeValue(String enclosing, String nesting, AttributeDefi
    public static final AttributeDefinition<Integer> INVALIDATION_BATCH_SIZE = AttributeDefinition.builder("invalidationBatchSize",  128).immutable().build();
    public static final AttributeDefinition<BiasAcquisition> BIAS_ACQUISITION = AttributeDefinition.builder("biasAcquisition", BiasAcquisition.ON_WRITE).immutable().build();
    public static final AttributeDefinition<Long> BIAS_LIFESPAN = AttributeDefinition.builder("biasLifespan", TimeUnit.MINUTES.toMillis(5)).immutable().build();
+   public static final AttributeDefinition<Long> BACKUP_BUNDLING_WINDOW = AttributeDefinition.builder("backupBundlingWindow", 0L).immutable().build();
+   public static final AttributeDefinition<Integer> BACKUP_BUNDLING_SIZE = AttributeDefinition.builder("backupBundlingSize", 64).immutable().build();
+   public static final AttributeDefinition<Boolean> LATENCY_AWARE_READS = AttributeDefinition.builder("latencyAwareReads", false).immutable().build();
    private final List<ConfigurationInfo> elements;
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, REMOTE_TIMEOUT, INVALIDATION_BATCH_SIZE, BIAS_ACQUISITION, BIAS_LIFESPAN);
+      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, REMOTE_TIMEOUT, INVALIDATION_BATCH_SIZE, BIAS_ACQUISITION, BIAS_LIFESPAN,
+            BACKUP_BUNDLING_WINDOW, BACKUP_BUNDLING_SIZE, LATENCY_AWARE_READS);
    }
 
    public static final ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(CLUSTERING.getLocalName(), false);
@@ -144,6 +148,29 @@ public long biasLifespan() {
       return attributes.attribute(BIAS_LIFESPAN).get();
    }
 
+   /**
+    * For distributed non-transactional caches, the time (micros) during which the backup writes sent to the same
+    * backup owner are bundled in a single message. 0 sends each backup write separately.
+    */
+   public long backupBundlingWindow() {
+      return attributes.attribute(BACKUP_BUNDLING_WINDOW).get();
+   }
+
+   /**
+    * For distributed non-transactional caches, the number of bundled backup writes after which the bundle is sent
+    * before its window expires.
+    */
+   public int backupBundlingSize() {
+      return attributes.attribute(BACKUP_BUNDLING_SIZE).get();
+   }
+
+   /**
+    * For distributed caches, whether remote reads are sent first to the owner with the lowest recent response time.
+    */
+   public boolean latencyAwareReads() {
+      return attributes.attribute(LATENCY_AWARE_READS).get();
+   }
+
    /**
     * Configure hash sub element
     */
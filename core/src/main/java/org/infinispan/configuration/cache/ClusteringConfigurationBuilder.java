@@ -1,9 +1,12 @@
 package org.infinispan.configuration.cache;
 
+import static org.infinispan.configuration.cache.ClusteringConfiguration.BACKUP_BUNDLING_SIZE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.BACKUP_BUNDLING_WINDOW;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.BIAS_ACQUISITION;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.BIAS_LIFESPAN;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.CACHE_MODE;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.INVALIDATION_BATCH_SIZE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.LATENCY_AWARE_READS;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.REMOTE_TIMEOUT;
 
 import java.util.ArrayList;
@@ -114,6 +117,34 @@ public ClusteringConfigurationBuilder biasLifespan(long l, TimeUnit unit) {
       return this;
    }
 
+   /**
+    * Used in distributed non-transactional caches. The time (micros) during which the backup writes sent to the
+    * same backup owner are bundled in a single message. Defaults to 0, which sends each backup write separately.
+    */
+   public ClusteringConfigurationBuilder backupBundlingWindow(long micros) {
+      attributes.attribute(BACKUP_BUNDLING_WINDOW).set(micros);
+      return this;
+   }
+
+   /**
+    * Used in distributed non-transactional caches. The number of bundled backup writes after which the bundle is
+    * sent without waiting for the {@link #backupBundlingWindow(long)} to expire.
+    */
+   public ClusteringConfigurationBuilder backupBundlingSize(int size) {
+      attributes.attribute(BACKUP_BUNDLING_SIZE).set(size);
+      return this;
+   }
+
+   /**
+    * Used in distributed caches. If enabled, remote reads are sent first to the owner with the lowest recent response
+    * time instead of the primary owner, and the delay before asking the next owner is derived from the response times
+    * of the first one. Defaults to false.
+    */
+   public ClusteringConfigurationBuilder latencyAwareReads(boolean enabled) {
+      attributes.attribute(LATENCY_AWARE_READS).set(enabled);
+      return this;
+   }
+
    /**
     * Configure hash sub element
     */
@@ -170,6 +201,10 @@ void validate() {
       } else if (attributes.attribute(BIAS_ACQUISITION).get() == BiasAcquisition.ON_READ) {
          throw new UnsupportedOperationException("Not implemented yet");
       }
+      if (attributes.attribute(BACKUP_BUNDLING_WINDOW).get() < 0 || attributes.attribute(BACKUP_BUNDLING_SIZE).get() < 1) {
+         throw log.invalidBackupBundling(attributes.attribute(BACKUP_BUNDLING_WINDOW).get(),
+               attributes.attribute(BACKUP_BUNDLING_SIZE).get());
+      }
    }
 
    @Override
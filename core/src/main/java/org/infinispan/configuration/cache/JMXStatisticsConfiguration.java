@@ -19,14 +19,16 @@ public class JMXStatisticsConfiguration implements Matchable<JMXStatisticsConfig
    public static final AttributeDefinition<Boolean> ENABLED = AttributeDefinition.builder("enabled", false).xmlName("statistics")
          .build();
    public static final AttributeDefinition<Boolean> AVAILABLE = AttributeDefinition.builder("available", true).xmlName("statistics-available").build();
+   public static final AttributeDefinition<Integer> HOT_KEY_SAMPLE_RATE = AttributeDefinition.builder("hotKeySampleRate", 0).xmlName("statistics-hot-key-sample-rate").immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(JMXStatisticsConfiguration.class, ENABLED, AVAILABLE);
+      return new AttributeSet(JMXStatisticsConfiguration.class, ENABLED, AVAILABLE, HOT_KEY_SAMPLE_RATE);
    }
 
    static ElementDefinition<JMXStatisticsConfiguration> ELEMENT_DEFINITION = new DefaultElementDefinition<>("", false);
 
    private final Attribute<Boolean> enabled;
    private final Attribute<Boolean> available;
+   private final Attribute<Integer> hotKeySampleRate;
    private final AttributeSet attributes;
 
    /**
@@ -38,6 +40,7 @@ static AttributeSet attributeDefinitionSet() {
       this.attributes = attributes.checkProtection();
       enabled = attributes.attribute(ENABLED);
       available = attributes.attribute(AVAILABLE);
+      hotKeySampleRate = attributes.attribute(HOT_KEY_SAMPLE_RATE);
    }
 
    @Override
@@ -57,6 +60,13 @@ public boolean available() {
       return available.get();
    }
 
+   /**
+    * One in how many operations is sampled to find the most accessed keys. 0 disables the sampling.
+    */
+   public int hotKeySampleRate() {
+      return hotKeySampleRate.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
@@ -3,6 +3,7 @@
 import static org.infinispan.configuration.cache.JMXStatisticsConfiguration.AVAILABLE;
 import static org.infinispan.configuration.cache.JMXStatisticsConfiguration.ELEMENT_DEFINITION;
 import static org.infinispan.configuration.cache.JMXStatisticsConfiguration.ENABLED;
+import static org.infinispan.configuration.cache.JMXStatisticsConfiguration.HOT_KEY_SAMPLE_RATE;
 
 import java.lang.invoke.MethodHandles;
 
@@ -73,6 +74,17 @@ public JMXStatisticsConfigurationBuilder available(boolean available) {
       return this;
    }
 
+   /**
+    * Samples one in {@code sampleRate} operations to track the most read, written, locked and contended keys. The
+    * reads and writes are only sampled when statistics are enabled.
+    *
+    * @param sampleRate 1 samples every operation, 0, the default, disables the hot key tracking.
+    */
+   public JMXStatisticsConfigurationBuilder hotKeySampleRate(int sampleRate) {
+      attributes.attribute(HOT_KEY_SAMPLE_RATE).set(sampleRate);
+      return this;
+   }
+
    @Override
    public void validate() {
       Attribute<Boolean> enabled = attributes.attribute(ENABLED);
@@ -82,6 +94,9 @@ public void validate() {
             throw log.statisticsEnabledNotAvailable();
          }
       }
+      int hotKeySampleRate = attributes.attribute(HOT_KEY_SAMPLE_RATE).get();
+      if (hotKeySampleRate < 0)
+         throw log.invalidHotKeySampleRate(hotKeySampleRate);
    }
 
    @Override
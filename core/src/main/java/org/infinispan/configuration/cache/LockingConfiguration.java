@@ -23,11 +23,13 @@ public class LockingConfiguration implements Matchable<LockingConfiguration>, Co
    public static final AttributeDefinition<Integer> CONCURRENCY_LEVEL = AttributeDefinition.builder("concurrencyLevel", 32).immutable().build();
    public static final AttributeDefinition<IsolationLevel> ISOLATION_LEVEL  = AttributeDefinition.builder("isolationLevel", IsolationLevel.REPEATABLE_READ).xmlName("isolation").immutable().build();
    public static final AttributeDefinition<Long> LOCK_ACQUISITION_TIMEOUT  = AttributeDefinition.builder("lockAcquisitionTimeout", TimeUnit.SECONDS.toMillis(10)).xmlName("acquire-timeout").build();
+   public static final AttributeDefinition<Boolean> OPTIMISTIC_WRITES = AttributeDefinition.builder("optimisticWrites", false).immutable().build();
+   public static final AttributeDefinition<Boolean> ADAPTIVE_LOCKS = AttributeDefinition.builder("adaptiveLocks", false).immutable().build();
    public static final AttributeDefinition<Boolean> USE_LOCK_STRIPING = AttributeDefinition.builder("striping", false).immutable().build();
    public static final AttributeDefinition<Boolean> WRITE_SKEW_CHECK = AttributeDefinition.builder("writeSkewCheck", true).xmlName("write-skew").immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(LockingConfiguration.class, CONCURRENCY_LEVEL, ISOLATION_LEVEL, LOCK_ACQUISITION_TIMEOUT, USE_LOCK_STRIPING, WRITE_SKEW_CHECK);
+      return new AttributeSet(LockingConfiguration.class, CONCURRENCY_LEVEL, ISOLATION_LEVEL, LOCK_ACQUISITION_TIMEOUT, OPTIMISTIC_WRITES, USE_LOCK_STRIPING, ADAPTIVE_LOCKS, WRITE_SKEW_CHECK);
    }
 
    static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(LOCKING.getLocalName());
@@ -35,7 +37,9 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<Integer> concurrencyLevel;
    private final Attribute<IsolationLevel> isolationLevel;
    private final Attribute<Long> lockAcquisitionTimeout;
+   private final Attribute<Boolean> optimisticWrites;
    private final Attribute<Boolean> useLockStriping;
+   private final Attribute<Boolean> adaptiveLocks;
 
    private final AttributeSet attributes;
 
@@ -45,7 +49,9 @@ static AttributeSet attributeDefinitionSet() {
       concurrencyLevel = attributes.attribute(CONCURRENCY_LEVEL);
       isolationLevel = attributes.attribute(ISOLATION_LEVEL);
       lockAcquisitionTimeout = attributes.attribute(LOCK_ACQUISITION_TIMEOUT);
+      optimisticWrites = attributes.attribute(OPTIMISTIC_WRITES);
       useLockStriping = attributes.attribute(USE_LOCK_STRIPING);
+      adaptiveLocks = attributes.attribute(ADAPTIVE_LOCKS);
    }
 
    @Override
@@ -96,6 +102,14 @@ public LockingConfiguration lockAcquisitionTimeout(long timeout) {
       return this;
    }
 
+   /**
+    * If true, single-key writes in non-transactional local caches don't acquire the key lock. Instead, the write is
+    * applied only if the entry wasn't modified since it was read, and it is retried with the lock otherwise.
+    */
+   public boolean optimisticWrites() {
+      return optimisticWrites.get();
+   }
+
    /**
     * If true, a pool of shared locks is maintained for all entries that need to be locked.
     * Otherwise, a lock is created per entry in the cache. Lock striping helps control memory
@@ -105,6 +119,14 @@ public boolean useLockStriping() {
       return useLockStriping.get();
    }
 
+   /**
+    * If true, a lock is created per entry, but the lock instances are reused for other entries once they are released.
+    * The locks of the most contended entries are kept, instead of being released and created again.
+    */
+   public boolean adaptiveLocks() {
+      return adaptiveLocks.get();
+   }
+
    /**
     * This setting is only applicable in the case of REPEATABLE_READ. When write skew check is set
     * to false, if the writer at commit time discovers that the working entry and the underlying
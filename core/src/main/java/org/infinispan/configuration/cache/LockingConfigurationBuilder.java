@@ -1,9 +1,11 @@
 package org.infinispan.configuration.cache;
 
+import static org.infinispan.configuration.cache.LockingConfiguration.ADAPTIVE_LOCKS;
 import static org.infinispan.configuration.cache.LockingConfiguration.CONCURRENCY_LEVEL;
 import static org.infinispan.configuration.cache.LockingConfiguration.ELEMENT_DEFINITION;
 import static org.infinispan.configuration.cache.LockingConfiguration.ISOLATION_LEVEL;
 import static org.infinispan.configuration.cache.LockingConfiguration.LOCK_ACQUISITION_TIMEOUT;
+import static org.infinispan.configuration.cache.LockingConfiguration.OPTIMISTIC_WRITES;
 import static org.infinispan.configuration.cache.LockingConfiguration.USE_LOCK_STRIPING;
 
 import java.util.concurrent.TimeUnit;
@@ -97,6 +99,17 @@ public LockingConfigurationBuilder lockAcquisitionTimeout(long l, TimeUnit unit)
       return lockAcquisitionTimeout(unit.toMillis(l));
    }
 
+   /**
+    * If true, single-key writes in non-transactional local caches don't acquire the key lock. Instead, the write is
+    * applied only if the entry wasn't modified since it was read, and it is retried with the lock otherwise. This
+    * avoids the locking overhead when the writes rarely conflict. Writes to multiple keys always acquire the locks.
+    * Not supported by clustered caches, caches with stores or off-heap storage, and ignored by transactional caches.
+    */
+   public LockingConfigurationBuilder optimisticWrites(boolean b) {
+      attributes.attribute(OPTIMISTIC_WRITES).set(b);
+      return this;
+   }
+
    /**
     * If true, a pool of shared locks is maintained for all entries that need to be locked.
     * Otherwise, a lock is created per entry in the cache. Lock striping helps control memory
@@ -107,6 +120,16 @@ public LockingConfigurationBuilder useLockStriping(boolean b) {
       return this;
    }
 
+   /**
+    * If true, a lock is created per entry, but the lock instances are reused for other entries once they are released.
+    * The locks of the most contended entries are kept, instead of being released and created again. The lock wait
+    * times are exposed through JMX. Cannot be enabled together with {@link #useLockStriping(boolean)}.
+    */
+   public LockingConfigurationBuilder adaptiveLocks(boolean b) {
+      attributes.attribute(ADAPTIVE_LOCKS).set(b);
+      return this;
+   }
+
    /**
     * This setting is only applicable in the case of REPEATABLE_READ. When write skew check is set
     * to false, if the writer at commit time discovers that the working entry and the underlying
@@ -130,6 +153,13 @@ public void validate() {
 
       if (isolationLevel.get() == IsolationLevel.SERIALIZABLE)
          isolationLevel.set(IsolationLevel.REPEATABLE_READ);
+
+      if (attributes.attribute(OPTIMISTIC_WRITES).get() && (getBuilder().clustering().cacheMode().isClustered() ||
+            !getBuilder().persistence().stores().isEmpty() || getBuilder().memory().storageType() == StorageType.OFF_HEAP))
+         throw log.optimisticWritesNotSupported();
+
+      if (attributes.attribute(ADAPTIVE_LOCKS).get() && attributes.attribute(USE_LOCK_STRIPING).get())
+         throw log.adaptiveLocksWithStriping();
    }
 
    @Override
@@ -22,8 +22,12 @@ public class PersistenceConfiguration implements Matchable<PersistenceConfigurat
    public static final AttributeDefinition<Integer> AVAILABILITY_INTERVAL = AttributeDefinition.builder("availabilityInterval", 1000).immutable().build();
    public static final AttributeDefinition<Integer> CONNECTION_ATTEMPTS = AttributeDefinition.builder("connectionAttempts", 10).immutable().build();
    public static final AttributeDefinition<Integer> CONNECTION_INTERVAL = AttributeDefinition.builder("connectionInterval", 50).immutable().build();
+   public static final AttributeDefinition<Integer> PRELOAD_THREADS = AttributeDefinition.builder("preloadThreads", 1).immutable().build();
+   public static final AttributeDefinition<Integer> PASSIVATION_BUFFER_SIZE = AttributeDefinition.builder("passivationBufferSize", 0).immutable().build();
+   public static final AttributeDefinition<Integer> BLOOM_FILTER_SIZE = AttributeDefinition.builder("bloomFilterSize", 0).immutable().build();
+   public static final AttributeDefinition<Float> REFRESH_AHEAD_FACTOR = AttributeDefinition.builder("refreshAheadFactor", 0f).immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(PersistenceConfiguration.class, PASSIVATION, AVAILABILITY_INTERVAL, CONNECTION_ATTEMPTS, CONNECTION_INTERVAL);
+      return new AttributeSet(PersistenceConfiguration.class, PASSIVATION, AVAILABILITY_INTERVAL, CONNECTION_ATTEMPTS, CONNECTION_INTERVAL, PRELOAD_THREADS, PASSIVATION_BUFFER_SIZE, BLOOM_FILTER_SIZE, REFRESH_AHEAD_FACTOR);
    }
 
    static ElementDefinition ELEMENT_DEFINITION = new DefaultElementDefinition(PERSISTENCE.getLocalName());
@@ -32,6 +36,10 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<Integer> availabilityInterval;
    private final Attribute<Integer> connectionAttempts;
    private final Attribute<Integer> connectionInterval;
+   private final Attribute<Integer> preloadThreads;
+   private final Attribute<Integer> passivationBufferSize;
+   private final Attribute<Integer> bloomFilterSize;
+   private final Attribute<Float> refreshAheadFactor;
    private final AttributeSet attributes;
    private final List<StoreConfiguration> stores;
    private final List<ConfigurationInfo> subElements = new ArrayList<>();
@@ -43,6 +51,10 @@ static AttributeSet attributeDefinitionSet() {
       this.availabilityInterval = attributes.attribute(AVAILABILITY_INTERVAL);
       this.connectionAttempts = attributes.attribute(CONNECTION_ATTEMPTS);
       this.connectionInterval = attributes.attribute(CONNECTION_INTERVAL);
+      this.preloadThreads = attributes.attribute(PRELOAD_THREADS);
+      this.passivationBufferSize = attributes.attribute(PASSIVATION_BUFFER_SIZE);
+      this.bloomFilterSize = attributes.attribute(BLOOM_FILTER_SIZE);
+      this.refreshAheadFactor = attributes.attribute(REFRESH_AHEAD_FACTOR);
       this.stores = stores;
       this.subElements.addAll(stores);
    }
@@ -77,6 +89,40 @@ public int connectionInterval() {
       return connectionInterval.get();
    }
 
+   /**
+    * The maximum number of threads used to preload the cache from the store on startup. When greater than 1 and the
+    * store is segmented, the segments are split among the threads of the persistence thread pool and loaded in parallel.
+    */
+   public int preloadThreads() {
+      return preloadThreads.get();
+   }
+
+   /**
+    * The number of evicted entries gathered before they are passivated to the stores as a single batch, in the
+    * background. Reads consult the buffer, so buffered entries remain visible until they have been written. A value
+    * of 0, the default, passivates every entry synchronously on the evicting thread.
+    */
+   public int passivationBufferSize() {
+      return passivationBufferSize.get();
+   }
+
+   /**
+    * The expected number of keys in the stores, used to size a Bloom filter that skips the store lookups for keys
+    * that are definitely not stored. The filter is only used when none of the stores is shared or ignores
+    * modifications. 0 disables the filter.
+    */
+   public int bloomFilterSize() {
+      return bloomFilterSize.get();
+   }
+
+   /**
+    * The fraction of the lifespan of an entry after which a read of the entry schedules an asynchronous reload from
+    * the cache loaders, while the current value is still returned. 0 disables the refresh.
+    */
+   public float refreshAheadFactor() {
+      return refreshAheadFactor.get();
+   }
+
    public List<StoreConfiguration> stores() {
       return stores;
    }
@@ -1,9 +1,13 @@
 package org.infinispan.configuration.cache;
 
 import static org.infinispan.configuration.cache.PersistenceConfiguration.AVAILABILITY_INTERVAL;
+import static org.infinispan.configuration.cache.PersistenceConfiguration.BLOOM_FILTER_SIZE;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.CONNECTION_ATTEMPTS;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.CONNECTION_INTERVAL;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.PASSIVATION;
+import static org.infinispan.configuration.cache.PersistenceConfiguration.PASSIVATION_BUFFER_SIZE;
+import static org.infinispan.configuration.cache.PersistenceConfiguration.PRELOAD_THREADS;
+import static org.infinispan.configuration.cache.PersistenceConfiguration.REFRESH_AHEAD_FACTOR;
 import static org.infinispan.configuration.parsing.Element.CLUSTER_LOADER;
 import static org.infinispan.configuration.parsing.Element.FILE_STORE;
 import static org.infinispan.configuration.parsing.Element.STORE;
@@ -130,6 +134,52 @@ public PersistenceConfigurationBuilder connectionInterval(int interval) {
       return this;
    }
 
+   /**
+    * @param preloadThreads The maximum number of threads used to preload the cache from the store on startup. When greater
+    *                       than 1 and the store is segmented, the segments are split among the threads of the persistence
+    *                       thread pool and loaded in parallel.
+    */
+   public PersistenceConfigurationBuilder preloadThreads(int preloadThreads) {
+      attributes.attribute(PRELOAD_THREADS).set(preloadThreads);
+      return this;
+   }
+
+   /**
+    * @param passivationBufferSize The number of evicted entries gathered before they are passivated to the stores as a single
+    *                              batch, in the background. Reads consult the buffer, so buffered entries remain visible until
+    *                              they have been written. A value of 0, the default, passivates every entry synchronously on
+    *                              the evicting thread.
+    */
+   public PersistenceConfigurationBuilder passivationBufferSize(int passivationBufferSize) {
+      attributes.attribute(PASSIVATION_BUFFER_SIZE).set(passivationBufferSize);
+      return this;
+   }
+
+   /**
+    * Enables a Bloom filter of the stored keys, which avoids the store lookups for keys that are definitely not in the
+    * stores. The filter is only used when none of the stores is shared or ignores modifications, and it requires the
+    * stores to be modified only through the cache.
+    *
+    * @param bloomFilterSize the expected number of keys in the stores, used to size the filter. 0 disables the filter.
+    */
+   public PersistenceConfigurationBuilder bloomFilterSize(int bloomFilterSize) {
+      attributes.attribute(BLOOM_FILTER_SIZE).set(bloomFilterSize);
+      return this;
+   }
+
+   /**
+    * Enables refresh-ahead for mortal entries: when an entry is read after the given fraction of its lifespan has
+    * elapsed, the current value is returned and the entry is reloaded from the cache loaders in the background. The
+    * reloaded entry replaces the one in memory only if it expires later.
+    *
+    * @param refreshAheadFactor the fraction of the lifespan, greater than or equal to 0 and less than 1. 0, the
+    *                           default, disables refresh-ahead.
+    */
+   public PersistenceConfigurationBuilder refreshAheadFactor(float refreshAheadFactor) {
+      attributes.attribute(REFRESH_AHEAD_FACTOR).set(refreshAheadFactor);
+      return this;
+   }
+
    /**
     * If true, data is written to the cache store only when it is evicted from memory, which is known as 'passivation'.
     * When the data is requested again it is activated, which returns the data to memory and removes it from the
@@ -218,6 +268,9 @@ public void validate() {
       }
       if (numFetchPersistentState > 1)
          throw log.onlyOneFetchPersistentStoreAllowed();
+      float refreshAheadFactor = attributes.attribute(REFRESH_AHEAD_FACTOR).get();
+      if (refreshAheadFactor < 0 || refreshAheadFactor >= 1)
+         throw log.invalidRefreshAheadFactor(refreshAheadFactor);
 
       // If a store is present, the reaper expiration thread must be enabled.
       if (!stores.isEmpty()) {
@@ -64,12 +64,13 @@ public Object readAttributeValue(String enclosingElement, String nesting, Attrib
    public static final AttributeDefinition<Long> COMPLETED_TX_TIMEOUT = AttributeDefinition.builder("complete-timeout", 60000L).immutable().build();
    public static final AttributeDefinition<TransactionProtocol> TRANSACTION_PROTOCOL = AttributeDefinition.builder("transaction-protocol", TransactionProtocol.DEFAULT).immutable().xmlName("protocol").build();
    public static final AttributeDefinition<Boolean> NOTIFICATIONS = AttributeDefinition.builder("notifications", true).immutable().build();
+   public static final AttributeDefinition<Long> GROUP_COMMIT_WINDOW = AttributeDefinition.builder("group-commit-window", 0L).immutable().build();
    public static final ElementDefinition ELEMENT_DEFINTION = new DefaultElementDefinition(TRANSACTION.getLocalName());
 
    static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(TransactionConfiguration.class, AUTO_COMMIT, CACHE_STOP_TIMEOUT, LOCKING_MODE,
             TRANSACTION_MANAGER_LOOKUP, TRANSACTION_SYNCHRONIZATION_REGISTRY_LOOKUP, TRANSACTION_MODE, USE_SYNCHRONIZATION, USE_1_PC_FOR_AUTO_COMMIT_TRANSACTIONS,
-            REAPER_WAKE_UP_INTERVAL, COMPLETED_TX_TIMEOUT, TRANSACTION_PROTOCOL, NOTIFICATIONS);
+            REAPER_WAKE_UP_INTERVAL, COMPLETED_TX_TIMEOUT, TRANSACTION_PROTOCOL, NOTIFICATIONS, GROUP_COMMIT_WINDOW);
    }
 
    private final List<ConfigurationInfo> subElements = new ArrayList<>();
@@ -87,6 +88,7 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<Long> completedTxTimeout;
    private final Attribute<TransactionProtocol> transactionProtocol;
    private final Attribute<Boolean> notifications;
+   private final Attribute<Long> groupCommitWindow;
    private final AttributeSet attributes;
    private final RecoveryConfiguration recovery;
    private final boolean invocationBatching;
@@ -105,6 +107,7 @@ static AttributeSet attributeDefinitionSet() {
       completedTxTimeout = attributes.attribute(COMPLETED_TX_TIMEOUT);
       transactionProtocol = attributes.attribute(TRANSACTION_PROTOCOL);
       notifications = attributes.attribute(NOTIFICATIONS);
+      groupCommitWindow = attributes.attribute(GROUP_COMMIT_WINDOW);
       this.recovery = recovery;
       this.invocationBatching = invocationBatching;
       subElements.add(recovery);
@@ -273,6 +276,13 @@ public long completedTxTimeout()  {
       return completedTxTimeout.get();
    }
 
+   /**
+    * @see TransactionConfigurationBuilder#groupCommitWindow(long)
+    */
+   public long groupCommitWindow() {
+      return groupCommitWindow.get();
+   }
+
    /**
     * Before Infinispan 5.1 you could access the cache both transactionally and
     * non-transactionally. Naturally the non-transactional access is faster and
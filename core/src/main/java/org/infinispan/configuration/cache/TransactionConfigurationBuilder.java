@@ -3,6 +3,7 @@
 import static org.infinispan.configuration.cache.TransactionConfiguration.AUTO_COMMIT;
 import static org.infinispan.configuration.cache.TransactionConfiguration.CACHE_STOP_TIMEOUT;
 import static org.infinispan.configuration.cache.TransactionConfiguration.COMPLETED_TX_TIMEOUT;
+import static org.infinispan.configuration.cache.TransactionConfiguration.GROUP_COMMIT_WINDOW;
 import static org.infinispan.configuration.cache.TransactionConfiguration.LOCKING_MODE;
 import static org.infinispan.configuration.cache.TransactionConfiguration.NOTIFICATIONS;
 import static org.infinispan.configuration.cache.TransactionConfiguration.REAPER_WAKE_UP_INTERVAL;
@@ -266,6 +267,15 @@ public TransactionConfigurationBuilder completedTxTimeout(long timeout) {
       return this;
    }
 
+   /**
+    * The time (micros) during which concurrent prepare and commit commands to the same owners are grouped in a single
+    * message. Defaults to 0, which sends each command separately. Not used with the total order protocol.
+    */
+   public TransactionConfigurationBuilder groupCommitWindow(long window) {
+      attributes.attribute(GROUP_COMMIT_WINDOW).set(window);
+      return this;
+   }
+
    public TransactionConfigurationBuilder transactionProtocol(TransactionProtocol transactionProtocol) {
       attributes.attribute(TRANSACTION_PROTOCOL).set(transactionProtocol);
       return this;
@@ -298,6 +308,8 @@ public void validate() {
          throw log.invalidReaperWakeUpInterval(reaperWakeUpInterval.get());
       if (completedTxTimeout.get() < 0)
          throw log.invalidCompletedTxTimeout(completedTxTimeout.get());
+      if (attributes.attribute(GROUP_COMMIT_WINDOW).get() < 0)
+         throw log.invalidGroupCommitWindow(attributes.attribute(GROUP_COMMIT_WINDOW).get());
       CacheMode cacheMode = clustering().cacheMode();
       if(attributes.attribute(TRANSACTION_PROTOCOL).get() == TransactionProtocol.TOTAL_ORDER) {
          //total order only supports transactional caches
@@ -15,6 +15,7 @@ public enum Attribute {
     // KEEP THESE IN ALPHABETICAL ORDER!
 
     ACQUIRE_TIMEOUT,
+    ADAPTIVE_LOCKS,
     ADDRESS_COUNT,
     AFTER,
     ALIASES,
@@ -27,8 +28,11 @@ public enum Attribute {
     AUTO_CONFIG,
     AVAILABILITY_INTERVAL,
     AWAIT_INITIAL_TRANSFER,
+    BACKUP_BUNDLING_SIZE,
+    BACKUP_BUNDLING_WINDOW,
     BACKUP_FAILURE_POLICY("failure-policy"),
     BEFORE,
+    BLOOM_FILTER_SIZE,
     CAPACITY_FACTOR("capacity"),
     CHUNK_SIZE,
     CLASS,
@@ -57,6 +61,7 @@ public enum Attribute {
     @Deprecated
     FLUSH_LOCK_TIMEOUT,
     FRAGMENTATION_FACTOR,
+    GROUP_COMMIT_WINDOW,
     GROUP_NAME,
     ID,
     INDEX,
@@ -73,6 +78,7 @@ public enum Attribute {
     KEY_EQUIVALENCE,
     KEY_PARTITIONER,
     L1_LIFESPAN("l1-lifespan"),
+    LATENCY_AWARE_READS,
     LIFESPAN,
     LISTENER_EXECUTOR,
     LOCATION,
@@ -97,13 +103,16 @@ public enum Attribute {
     NAMES,
     NOTIFICATIONS,
     ON_REHASH("onRehash"),
+    OPTIMISTIC_WRITES,
     OWNERS,
     PATH,
     PASSIVATION,
+    PASSIVATION_BUFFER_SIZE,
     PERMISSIONS,
     PERSISTENCE_EXECUTOR,
     POSITION,
     PRELOAD,
+    PRELOAD_THREADS,
     PRIORITY,
     PURGE,
     @Deprecated
@@ -115,6 +124,7 @@ public enum Attribute {
     READ_ONLY,
     REAPER_WAKE_UP_INTERVAL("reaper-interval"),
     RECOVERY_INFO_CACHE_NAME("recovery-cache"),
+    REFRESH_AHEAD_FACTOR,
     RELATIVE_TO,
     REMOTE_CACHE,
     REMOTE_COMMAND_EXECUTOR,
@@ -138,6 +148,7 @@ public enum Attribute {
     SPIN_DURATION("deadlock-detection-spin"),
     STATISTICS,
     STATISTICS_AVAILABLE,
+    STATISTICS_HOT_KEY_SAMPLE_RATE,
     START,
     STATE_TRANSFER_EXECUTOR,
     STORE_KEYS_AS_BINARY("keys"),
@@ -1125,6 +1125,10 @@ private void parseCacheAttribute(XMLExtendedStreamReader reader,
             builder.jmxStatistics().available(Boolean.valueOf(value));
             break;
          }
+         case STATISTICS_HOT_KEY_SAMPLE_RATE: {
+            builder.jmxStatistics().hotKeySampleRate(Integer.parseInt(value));
+            break;
+         }
          case SPIN_DURATION: {
             log.ignoreXmlAttribute(attribute);
             break;
@@ -1708,6 +1712,10 @@ protected void parseLocking(XMLExtendedStreamReader reader, ConfigurationBuilder
                builder.locking().useLockStriping(Boolean.parseBoolean(value));
                break;
             }
+            case ADAPTIVE_LOCKS: {
+               builder.locking().adaptiveLocks(Boolean.parseBoolean(value));
+               break;
+            }
             case ACQUIRE_TIMEOUT: {
                builder.locking().lockAcquisitionTimeout(Long.parseLong(value));
                break;
@@ -1716,6 +1724,10 @@ protected void parseLocking(XMLExtendedStreamReader reader, ConfigurationBuilder
                builder.locking().concurrencyLevel(Integer.parseInt(value));
                break;
             }
+            case OPTIMISTIC_WRITES: {
+               builder.locking().optimisticWrites(Boolean.parseBoolean(value));
+               break;
+            }
             case WRITE_SKEW_CHECK: {
                log.ignoredAttribute("write skew attribute", "9.0", attribute.getLocalName(), reader.getLocation().getLineNumber());
                break;
@@ -1784,6 +1796,10 @@ protected void parseTransaction(XMLExtendedStreamReader reader, ConfigurationBui
                builder.transaction().notifications(Boolean.parseBoolean(value));
                break;
             }
+            case GROUP_COMMIT_WINDOW: {
+               builder.transaction().groupCommitWindow(Long.parseLong(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -2061,6 +2077,18 @@ private void parseDistributedCache(XMLExtendedStreamReader reader, Configuration
                builder.clustering().hash().capacityFactor(Float.parseFloat(value));
                break;
             }
+            case BACKUP_BUNDLING_WINDOW: {
+               builder.clustering().backupBundlingWindow(Long.parseLong(value));
+               break;
+            }
+            case BACKUP_BUNDLING_SIZE: {
+               builder.clustering().backupBundlingSize(Integer.parseInt(value));
+               break;
+            }
+            case LATENCY_AWARE_READS: {
+               builder.clustering().latencyAwareReads(Boolean.parseBoolean(value));
+               break;
+            }
             default: {
                this.parseSegmentedCacheAttribute(reader, i, attribute, value, builder, holder.getClassLoader(), baseCacheMode);
             }
@@ -2187,6 +2215,18 @@ private void parsePersistence(final XMLExtendedStreamReader reader, final Config
             case CONNECTION_INTERVAL:
                builder.persistence().connectionInterval(Integer.parseInt(value));
                break;
+            case REFRESH_AHEAD_FACTOR:
+               builder.persistence().refreshAheadFactor(Float.parseFloat(value));
+               break;
+            case BLOOM_FILTER_SIZE:
+               builder.persistence().bloomFilterSize(Integer.parseInt(value));
+               break;
+            case PASSIVATION_BUFFER_SIZE:
+               builder.persistence().passivationBufferSize(Integer.parseInt(value));
+               break;
+            case PRELOAD_THREADS:
+               builder.persistence().preloadThreads(Integer.parseInt(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
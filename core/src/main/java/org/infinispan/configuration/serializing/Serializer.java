@@ -354,6 +354,9 @@ private void writeDistributedCache(XMLExtendedStreamWriter writer, String name,
       writer.writeStartElement(Element.DISTRIBUTED_CACHE);
       configuration.clustering().hash().attributes().write(writer);
       configuration.clustering().l1().attributes().write(writer);
+      configuration.clustering().attributes().write(writer, ClusteringConfiguration.BACKUP_BUNDLING_WINDOW, Attribute.BACKUP_BUNDLING_WINDOW);
+      configuration.clustering().attributes().write(writer, ClusteringConfiguration.BACKUP_BUNDLING_SIZE, Attribute.BACKUP_BUNDLING_SIZE);
+      configuration.clustering().attributes().write(writer, ClusteringConfiguration.LATENCY_AWARE_READS, Attribute.LATENCY_AWARE_READS);
       writeCommonClusteredCacheAttributes(writer, configuration);
       writeCommonCacheAttributesElements(writer, name, configuration);
       GroupsConfiguration groups = configuration.clustering().hash().groups();
@@ -494,6 +497,7 @@ private void writeCommonClusteredCacheAttributes(XMLExtendedStreamWriter writer,
    private void writeCommonCacheAttributesElements(XMLExtendedStreamWriter writer, String name, Configuration configuration) throws XMLStreamException {
       writer.writeAttribute(Attribute.NAME, name);
       configuration.jmxStatistics().attributes().write(writer, JMXStatisticsConfiguration.ENABLED, Attribute.STATISTICS);
+      configuration.jmxStatistics().attributes().write(writer, JMXStatisticsConfiguration.HOT_KEY_SAMPLE_RATE, Attribute.STATISTICS_HOT_KEY_SAMPLE_RATE);
       configuration.unsafe().attributes().write(writer);
       writeBackup(writer, configuration);
       writeEncoding(writer, configuration);
@@ -621,6 +625,10 @@ private void writePersistence(XMLExtendedStreamWriter writer, Configuration conf
          attributes.write(writer, PersistenceConfiguration.AVAILABILITY_INTERVAL, Attribute.AVAILABILITY_INTERVAL);
          attributes.write(writer, PersistenceConfiguration.CONNECTION_ATTEMPTS, Attribute.CONNECTION_ATTEMPTS);
          attributes.write(writer, PersistenceConfiguration.CONNECTION_INTERVAL, Attribute.CONNECTION_INTERVAL);
+         attributes.write(writer, PersistenceConfiguration.PRELOAD_THREADS, Attribute.PRELOAD_THREADS);
+         attributes.write(writer, PersistenceConfiguration.PASSIVATION_BUFFER_SIZE, Attribute.PASSIVATION_BUFFER_SIZE);
+         attributes.write(writer, PersistenceConfiguration.BLOOM_FILTER_SIZE, Attribute.BLOOM_FILTER_SIZE);
+         attributes.write(writer, PersistenceConfiguration.REFRESH_AHEAD_FACTOR, Attribute.REFRESH_AHEAD_FACTOR);
          for (StoreConfiguration store : persistence.stores()) {
             writeStore(writer, store);
          }
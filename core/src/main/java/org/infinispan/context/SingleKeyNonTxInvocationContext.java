@@ -2,10 +2,13 @@
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.metadata.Metadata;
 import org.infinispan.remoting.transport.Address;
 
 /**
@@ -31,6 +34,18 @@ public final class SingleKeyNonTxInvocationContext implements InvocationContext
 
    private Object lockOwner;
 
+   /**
+    * Set when the key is written without the lock, the write is only committed if the stored entry is still
+    * {@link #optimisticBase}, with the same value and metadata.
+    */
+   private boolean isOptimisticWrite;
+
+   private InternalCacheEntry optimisticBase;
+
+   private Object optimisticBaseValue;
+
+   private Metadata optimisticBaseMetadata;
+
    public SingleKeyNonTxInvocationContext(final Address origin) {
       this.origin = origin;
    }
@@ -172,10 +187,62 @@ public boolean isEntryRemovedInContext(final Object key) {
       return ce != null && ce.isRemoved() && ce.isChanged();
    }
 
+   /**
+    * Marks the write as optimistic, it must only be committed if {@link #isOptimisticBase(InternalCacheEntry)} is
+    * still true for the stored entry.
+    *
+    * @param base the entry stored before the write, or {@code null} if there was none
+    */
+   public void beginOptimisticWrite(InternalCacheEntry base) {
+      this.isOptimisticWrite = true;
+      this.optimisticBase = base;
+      if (base != null) {
+         // The entries can be updated in place, see InternalEntryFactory.update()
+         synchronized (base) {
+            this.optimisticBaseValue = base.getValue();
+            this.optimisticBaseMetadata = base.getMetadata();
+         }
+      }
+   }
+
+   public boolean isOptimisticWrite() {
+      return isOptimisticWrite;
+   }
+
+   /**
+    * @return {@code true} if {@code entry} is the entry stored before the optimistic write, and it wasn't updated
+    * since.
+    */
+   public boolean isOptimisticBase(InternalCacheEntry entry) {
+      if (entry != optimisticBase)
+         return false;
+      if (entry == null)
+         return true;
+      synchronized (entry) {
+         return entry.getValue() == optimisticBaseValue && Objects.equals(entry.getMetadata(), optimisticBaseMetadata);
+      }
+   }
+
+   public Object getOptimisticBaseValue() {
+      return optimisticBaseValue;
+   }
+
+   public Metadata getOptimisticBaseMetadata() {
+      return optimisticBaseMetadata;
+   }
+
+   public void endOptimisticWrite() {
+      this.isOptimisticWrite = false;
+      this.optimisticBase = null;
+      this.optimisticBaseValue = null;
+      this.optimisticBaseMetadata = null;
+   }
+
    public void resetState() {
       this.key = null;
       this.cacheEntry = null;
       this.isLocked = false;
+      endOptimisticWrite();
    }
 
    @Override
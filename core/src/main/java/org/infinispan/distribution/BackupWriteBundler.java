@@ -0,0 +1,167 @@
+package org.infinispan.distribution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
+import org.infinispan.commands.triangle.BackupWriteCommand;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Bundles the {@link BackupWriteCommand}s that a primary owner sends to the same backup owner.
+ * <p>
+ * The first command for a backup owner opens a bundle, and the bundle is sent once the
+ * {@link org.infinispan.configuration.cache.ClusteringConfiguration#backupBundlingWindow() backup bundling window}
+ * expires, or earlier if it reaches the
+ * {@link org.infinispan.configuration.cache.ClusteringConfiguration#backupBundlingSize() backup bundling size}. A
+ * bundle with a single command is sent as is, otherwise the commands are sent in a {@link BackupWriteBatchCommand}.
+ * The receiver handles each command separately, so the triangle ordering and the acks are not affected.
+ *
+ * @since 10.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "BackupWriteBundler", description = "Bundles the backup writes sent to the same backup owner")
+public class BackupWriteBundler {
+   private static final Log log = LogFactory.getLog(BackupWriteBundler.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   @Inject private Configuration configuration;
+   @Inject private RpcManager rpcManager;
+   @Inject private CommandsFactory commandsFactory;
+   @Inject @ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR)
+   private ScheduledExecutorService timeoutExecutor;
+   @Inject @ComponentName(KnownComponentNames.ASYNC_TRANSPORT_EXECUTOR)
+   private ExecutorService transportExecutor;
+
+   private final ConcurrentMap<Address, Bundle> bundles = new ConcurrentHashMap<>();
+   private final LongAdder batches = new LongAdder();
+   private final LongAdder batchedCommands = new LongAdder();
+   private long window;
+   private int maxSize;
+
+   @Start
+   public void start() {
+      window = configuration.clustering().backupBundlingWindow();
+      maxSize = configuration.clustering().backupBundlingSize();
+   }
+
+   @Stop
+   public void stop() {
+      for (Address backup : bundles.keySet()) {
+         Bundle bundle = bundles.remove(backup);
+         if (bundle != null) {
+            send(backup, bundle);
+         }
+      }
+   }
+
+   /**
+    * @return {@code true} if the backup writes should be sent with {@link #send(Collection, BackupWriteCommand)}.
+    */
+   public boolean isEnabled() {
+      return window > 0;
+   }
+
+   /**
+    * Sends {@code command} to each of the {@code backups}, possibly bundled with other backup writes to the same
+    * backup owner.
+    */
+   public void send(Collection<Address> backups, BackupWriteCommand command) {
+      for (Address backup : backups) {
+         Bundle[] full = new Bundle[1];
+         bundles.compute(backup, (address, bundle) -> {
+            if (bundle == null) {
+               bundle = new Bundle();
+               Bundle newBundle = bundle;
+               // The timeout executor has a single thread, so the send, which may block on flow control,
+               // runs in the transport executor
+               bundle.timeout = timeoutExecutor.schedule(() -> {
+                  if (bundles.remove(address, newBundle)) {
+                     transportExecutor.execute(() -> send(address, newBundle));
+                  }
+               }, window, TimeUnit.MICROSECONDS);
+            }
+            bundle.commands.add(command);
+            if (bundle.commands.size() >= maxSize) {
+               full[0] = bundle;
+               return null;
+            }
+            return bundle;
+         });
+         if (full[0] != null) {
+            full[0].timeout.cancel(false);
+            send(backup, full[0]);
+         }
+      }
+   }
+
+   private void send(Address backup, Bundle bundle) {
+      List<BackupWriteCommand> commands = bundle.commands;
+      if (commands.size() == 1) {
+         rpcManager.sendTo(backup, commands.get(0), DeliverOrder.NONE);
+         return;
+      }
+      if (trace) {
+         log.tracef("Sending %d backup writes to %s in a single message", commands.size(), backup);
+      }
+      batches.increment();
+      batchedCommands.add(commands.size());
+      rpcManager.sendTo(backup, commandsFactory.buildBackupWriteBatchCommand(commands), DeliverOrder.NONE);
+   }
+
+   @ManagedAttribute(description = "Number of bundles of backup writes sent in a single message", displayName = "Backup write batches",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getBatches() {
+      return batches.sum();
+   }
+
+   @ManagedAttribute(description = "Number of backup writes sent in a bundle", displayName = "Batched backup writes",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getBatchedCommands() {
+      return batchedCommands.sum();
+   }
+
+   @ManagedAttribute(description = "Average number of backup writes in a bundle", displayName = "Average batch size",
+         displayType = DisplayType.SUMMARY)
+   public double getAverageBatchSize() {
+      long batches = getBatches();
+      return batches == 0 ? 0 : (double) getBatchedCommands() / batches;
+   }
+
+   @ManagedOperation(description = "Resets the backup write bundling statistics", displayName = "Reset statistics")
+   public void resetStatistics() {
+      batches.reset();
+      batchedCommands.reset();
+   }
+
+   private static class Bundle {
+      final List<BackupWriteCommand> commands = new ArrayList<>();
+      ScheduledFuture<?> timeout;
+   }
+}
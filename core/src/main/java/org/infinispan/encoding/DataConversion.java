@@ -25,6 +25,7 @@
 import org.infinispan.configuration.cache.EncodingConfiguration;
 import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.configuration.global.GlobalConfiguration;
+import org.infinispan.encoding.impl.ConversionCache;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.marshall.core.EncoderRegistry;
@@ -58,6 +59,7 @@ public MediaType getRequestMediaType() {
    private boolean isKey;
    private Transcoder transcoder;
    private transient EncoderRegistry encoderRegistry;
+   private transient ConversionCache conversionCache;
 
    private DataConversion(Class<? extends Encoder> encoderClass, Class<? extends Wrapper> wrapperClass,
                           MediaType requestMediaType, MediaType storageMediaType, boolean isKey) {
@@ -149,13 +151,16 @@ public Object convertToRequestFormat(Object o, MediaType contentType) {
    }
 
    @Inject
-   public void injectDependencies(GlobalConfiguration gcr, EncoderRegistry encoderRegistry, Configuration configuration) {
+   public void injectDependencies(GlobalConfiguration gcr, EncoderRegistry encoderRegistry, Configuration configuration,
+                                  ConversionCache conversionCache) {
       this.encoderRegistry = encoderRegistry;
       boolean embeddedMode = Configurations.isEmbeddedMode(gcr);
       this.storageMediaType = getStorageMediaType(configuration, embeddedMode);
 
       StorageType storageType = configuration.memory().storageType();
       boolean offheap = storageType == StorageType.OFF_HEAP;
+      // Every off-heap read wraps a new instance, so the conversions would never be reused
+      this.conversionCache = offheap ? null : conversionCache;
       boolean binary = storageType == StorageType.BINARY;
       boolean isEncodingEmpty = encoderClass == null && encoderId == null && encoder == null;
       if (isEncodingEmpty) {
@@ -205,6 +210,13 @@ private void lookupWrapper() {
 
    public Object fromStorage(Object stored) {
       if (stored == null) return null;
+      if (transcoder != null && conversionCache != null && ConversionCache.isCacheable(stored)) {
+         return conversionCache.fromStorage(stored, this, this::transcodeFromStorage);
+      }
+      return transcodeFromStorage(stored);
+   }
+
+   private Object transcodeFromStorage(Object stored) {
       Object fromStorage = encoder.fromStorage(wrapper.unwrap(stored));
       return transcoder == null ? fromStorage : transcoder.transcode(fromStorage, storageMediaType, requestMediaType);
    }
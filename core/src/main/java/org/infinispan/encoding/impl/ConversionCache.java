@@ -0,0 +1,140 @@
+package org.infinispan.encoding.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.encoding.DataConversion;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
+
+/**
+ * Remembers the last conversions of stored values to a request media type, so that repeated reads of the same entry
+ * through a {@link DataConversion} with a transcoder don't transcode the value again.
+ * <p>
+ * The conversions are kept in a fixed number of slots, selected by the identity hash code of the stored value, and a
+ * new conversion simply replaces the previous one in its slot. A conversion is only reused for the same stored
+ * instance and an equal {@link DataConversion}. Writes always store a new instance, so they invalidate the previous
+ * conversions implicitly. Only conversions of immutable stored values ({@link WrappedBytes} and {@link String}) to
+ * serialized formats ({@code byte[]} and {@link String}) are cached, and a cached {@code byte[]} is copied before it is
+ * returned. Conversions to objects are never cached, as the application could modify them. Off-heap caches don't use
+ * the conversion cache, as every read returns a new instance.
+ * <p>
+ * The cached values are strongly referenced until their slot is reused, even after their entry is removed or evicted,
+ * and memory based eviction doesn't account for them. So values larger than {@link #MAX_CACHED_SIZE} bytes, either
+ * stored or converted, are never cached.
+ *
+ * @since 10.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "ConversionCache", description = "Caches the conversions of stored values to other media types")
+public class ConversionCache {
+   static final int CAPACITY = 1024;
+   static final int MAX_CACHED_SIZE = 4096;
+
+   private final AtomicReferenceArray<Conversion> slots = new AtomicReferenceArray<>(CAPACITY);
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private volatile boolean enabled = true;
+
+   public static boolean isCacheable(Object stored) {
+      return (stored instanceof WrappedBytes || stored instanceof String) && size(stored) <= MAX_CACHED_SIZE;
+   }
+
+   /**
+    * @return The converted value, from the cache if {@code stored} was converted by an equal {@code dataConversion}
+    * before, otherwise applying {@code converter}.
+    */
+   public Object fromStorage(Object stored, DataConversion dataConversion, Function<Object, Object> converter) {
+      if (!enabled)
+         return converter.apply(stored);
+
+      int slot = System.identityHashCode(stored) & (CAPACITY - 1);
+      Conversion conversion = slots.get(slot);
+      if (conversion != null && conversion.stored == stored && conversion.dataConversion.equals(dataConversion)) {
+         hits.increment();
+         Object converted = conversion.converted;
+         // The callers own the returned array and could modify it
+         return converted instanceof byte[] ? ((byte[]) converted).clone() : converted;
+      }
+      misses.increment();
+      Object converted = converter.apply(stored);
+      if ((converted instanceof byte[] || converted instanceof String) && size(converted) <= MAX_CACHED_SIZE) {
+         slots.set(slot, new Conversion(stored, dataConversion, converted));
+      }
+      return converted;
+   }
+
+   @ManagedAttribute(description = "Whether the conversions are cached", displayName = "Enabled", writable = true)
+   public boolean isEnabled() {
+      return enabled;
+   }
+
+   public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+      if (!enabled) {
+         clear();
+      }
+   }
+
+   @ManagedAttribute(description = "Number of conversions found in the cache", displayName = "Hits",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getHits() {
+      return hits.sum();
+   }
+
+   @ManagedAttribute(description = "Number of conversions not found in the cache", displayName = "Misses",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getMisses() {
+      return misses.sum();
+   }
+
+   @ManagedAttribute(description = "Percentage hit/(hit+miss) ratio of the conversions", displayName = "Hit ratio",
+         units = Units.PERCENTAGE, displayType = DisplayType.SUMMARY)
+   public double getHitRatio() {
+      long hits = getHits();
+      long total = hits + getMisses();
+      return total == 0 ? 0 : (double) hits / total;
+   }
+
+   @ManagedOperation(description = "Removes all the cached conversions", displayName = "Clear")
+   public void clear() {
+      for (int i = 0; i < CAPACITY; i++) {
+         slots.set(i, null);
+      }
+   }
+
+   @ManagedOperation(description = "Resets the hit and miss counters", displayName = "Reset statistics")
+   public void resetStatistics() {
+      hits.reset();
+      misses.reset();
+   }
+
+   private static int size(Object value) {
+      if (value instanceof WrappedBytes)
+         return ((WrappedBytes) value).getLength();
+      if (value instanceof byte[])
+         return ((byte[]) value).length;
+      // Strings take up to 2 bytes per char
+      return ((String) value).length() * 2;
+   }
+
+   private static final class Conversion {
+      final Object stored;
+      final DataConversion dataConversion;
+      final Object converted;
+
+      Conversion(Object stored, DataConversion dataConversion, Object converted) {
+         this.stored = stored;
+         this.dataConversion = dataConversion;
+         this.converted = converted;
+      }
+   }
+}
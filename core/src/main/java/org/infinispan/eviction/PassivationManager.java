@@ -9,6 +9,7 @@
 import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.PersistenceException;
 
 import net.jcip.annotations.ThreadSafe;
@@ -39,6 +40,49 @@ public interface PassivationManager extends JmxStatisticsExposer {
     */
    void skipPassivationOnStop(boolean skip);
 
+   /**
+    * Returns the entry that has been passivated but is still buffered and not yet written to the stores.
+    *
+    * @param key the key of the entry
+    * @return the buffered entry or {@code null} if there is no buffered entry for the key
+    */
+   default MarshallableEntry getPendingPassivation(Object key) {
+      return null;
+   }
+
+   /**
+    * Discards the buffered passivation of the given key, if any, so it is never written to the stores. If the entry
+    * is being written by a concurrent flush, this method waits for the flush to complete.
+    *
+    * @param key the key of the entry
+    */
+   default void cancelPendingPassivation(Object key) {
+   }
+
+   /**
+    * Discards all the buffered passivations without writing them to the stores. Passivations that are being written
+    * by a concurrent flush are waited for.
+    */
+   default void clearPendingPassivations() {
+   }
+
+   /**
+    * Writes all the buffered passivations to the stores and waits for them to complete.
+    */
+   @ManagedOperation(
+         description = "Writes all the buffered passivated entries to the CacheStore",
+         displayName = "Flush pending passivations")
+   default void flushPendingPassivations() {
+   }
+
+   @ManagedAttribute(
+         description = "Number of passivated entries waiting to be written to the CacheStore",
+         displayName = "Number of pending passivations"
+   )
+   default int getPendingPassivations() {
+      return 0;
+   }
+
    @ManagedAttribute(
          description = "Number of passivation events",
          displayName = "Number of cache passivations",
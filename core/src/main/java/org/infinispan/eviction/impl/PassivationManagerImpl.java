@@ -1,10 +1,20 @@
 package org.infinispan.eviction.impl;
 
 import static org.infinispan.commons.util.Util.toStr;
+import static org.infinispan.factories.KnownComponentNames.PERSISTENCE_EXECUTOR;
 import static org.infinispan.persistence.manager.PersistenceManager.AccessMode.BOTH;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.time.TimeService;
@@ -17,6 +27,7 @@
 import org.infinispan.distribution.DistributionManager;
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.eviction.PassivationManager;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
@@ -24,9 +35,12 @@
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.MarshallableEntryFactory;
 import org.infinispan.persistence.spi.PersistenceException;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import net.jcip.annotations.GuardedBy;
+
 public class PassivationManagerImpl implements PassivationManager {
    private static final Log log = LogFactory.getLog(PassivationManagerImpl.class);
    private static final boolean trace = log.isTraceEnabled();
@@ -39,6 +53,13 @@ public class PassivationManagerImpl implements PassivationManager {
    @Inject private MarshallableEntryFactory marshalledEntryFactory;
    @Inject private DistributionManager distributionManager;
    @Inject private KeyPartitioner keyPartitioner;
+   @Inject @ComponentName(PERSISTENCE_EXECUTOR)
+   private ScheduledExecutorService persistenceExecutor;
+
+   private final ConcurrentMap<Object, PendingPassivation> pendingPassivations = new ConcurrentHashMap<>();
+   private final AtomicBoolean flushScheduled = new AtomicBoolean();
+   private final Lock flushLock = new ReentrantLock();
+   private int bufferSize;
 
    private volatile boolean skipOnStop = false;
 
@@ -52,6 +73,7 @@ public void start() {
       enabled = !persistenceManager.isReadOnly() && cfg.persistence().passivation() && cfg.persistence().usingStores();
       if (enabled) {
          statsEnabled = cfg.jmxStatistics().enabled();
+         bufferSize = cfg.persistence().passivationBufferSize();
       }
    }
 
@@ -75,8 +97,12 @@ public void passivate(InternalCacheEntry entry) {
          try {
             MarshallableEntry marshalledEntry = marshalledEntryFactory.create(key, entry.getValue(), entry.getMetadata(),
                   entry.getExpiryTime(), entry.getLastUsed());
-            persistenceManager.writeToAllNonTxStores(marshalledEntry, keyPartitioner.getSegment(key), BOTH);
-            if (statsEnabled) passivations.getAndIncrement();
+            if (bufferSize > 0) {
+               bufferPassivation(key, marshalledEntry);
+            } else {
+               persistenceManager.writeToAllNonTxStores(marshalledEntry, keyPartitioner.getSegment(key), BOTH);
+               if (statsEnabled) passivations.getAndIncrement();
+            }
          } catch (CacheException e) {
             log.unableToPassivateEntry(key, e);
          }
@@ -85,8 +111,92 @@ public void passivate(InternalCacheEntry entry) {
       }
    }
 
+   private void bufferPassivation(Object key, MarshallableEntry marshalledEntry) {
+      pendingPassivations.put(key, new PendingPassivation(marshalledEntry));
+      int pending = pendingPassivations.size();
+      if (pending >= bufferSize) {
+         if (flushScheduled.compareAndSet(false, true)) {
+            persistenceExecutor.execute(() -> {
+               try {
+                  flushPendingPassivations();
+               } finally {
+                  flushScheduled.set(false);
+               }
+            });
+         } else if (pending >= 2 * bufferSize) {
+            // The background flush cannot keep up with the evictions, write the buffer on the evicting thread
+            flushPendingPassivations();
+         }
+      }
+   }
+
+   @Override
+   public MarshallableEntry getPendingPassivation(Object key) {
+      PendingPassivation pending = pendingPassivations.get(key);
+      return pending != null ? pending.entry : null;
+   }
+
+   @Override
+   public void cancelPendingPassivation(Object key) {
+      PendingPassivation pending = pendingPassivations.remove(key);
+      if (pending != null) {
+         pending.cancel();
+      }
+   }
+
+   @Override
+   public void clearPendingPassivations() {
+      for (Object key : pendingPassivations.keySet()) {
+         cancelPendingPassivation(key);
+      }
+   }
+
+   @Override
+   public void flushPendingPassivations() {
+      if (pendingPassivations.isEmpty())
+         return;
+
+      // Flushes are serialized, so an entry passivated again is always written after its previous value
+      flushLock.lock();
+      try {
+         CompletableFuture<Void> flushFuture = new CompletableFuture<>();
+         List<PendingPassivation> batch = new ArrayList<>(pendingPassivations.size());
+         for (PendingPassivation pending : pendingPassivations.values()) {
+            if (pending.claim(flushFuture)) {
+               batch.add(pending);
+            }
+         }
+         if (batch.isEmpty())
+            return;
+
+         try {
+            if (trace) log.tracef("Flushing %d pending passivations", batch.size());
+            persistenceManager.writeBatchToAllNonTxStores(() -> new IteratorMapper<>(batch.iterator(), p -> p.entry), BOTH, 0);
+            if (statsEnabled) passivations.getAndAdd(batch.size());
+         } catch (CacheException e) {
+            for (PendingPassivation pending : batch) {
+               log.unableToPassivateEntry(pending.entry.getKey(), e);
+            }
+         } finally {
+            for (PendingPassivation pending : batch) {
+               pendingPassivations.remove(pending.entry.getKey(), pending);
+            }
+            flushFuture.complete(null);
+         }
+      } finally {
+         flushLock.unlock();
+      }
+   }
+
+   @Override
+   public int getPendingPassivations() {
+      return pendingPassivations.size();
+   }
+
    @Override
    public void passivateAll() throws PersistenceException {
+      // Entries in the buffer are no longer in memory, so they are written even if passivation on stop is skipped
+      flushPendingPassivations();
       if (enabled && !skipOnStop) {
          long start = timeService.time();
          log.passivatingAllEntries();
@@ -123,4 +233,37 @@ public void setStatisticsEnabled(boolean enabled) {
    public void resetStatistics() {
       passivations.set(0L);
    }
+
+   private static class PendingPassivation {
+      final MarshallableEntry entry;
+      @GuardedBy("this")
+      private CompletableFuture<Void> flushFuture;
+
+      PendingPassivation(MarshallableEntry entry) {
+         this.entry = entry;
+      }
+
+      synchronized boolean claim(CompletableFuture<Void> future) {
+         if (flushFuture != null)
+            return false;
+         flushFuture = future;
+         return true;
+      }
+
+      /**
+       * Prevents the entry from being flushed or, if a flush is already writing it, waits for the flush to complete so
+       * that any store update done by the caller is applied after the flushed value.
+       */
+      void cancel() {
+         CompletableFuture<Void> future;
+         synchronized (this) {
+            if (flushFuture == null) {
+               flushFuture = CompletableFutures.completedNull();
+               return;
+            }
+            future = flushFuture;
+         }
+         future.join();
+      }
+   }
 }
@@ -13,6 +13,7 @@
 import org.infinispan.globalstate.impl.GlobalStateManagerImpl;
 import org.infinispan.remoting.inboundhandler.GlobalInboundInvocationHandler;
 import org.infinispan.remoting.inboundhandler.InboundInvocationHandler;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
 import org.infinispan.stream.impl.IteratorHandler;
 import org.infinispan.topology.PersistentUUIDManager;
 import org.infinispan.topology.PersistentUUIDManagerImpl;
@@ -33,7 +34,8 @@
 @DefaultFactoryFor(classes = {BackupReceiverRepository.class, CancellationService.class, EventLogManager.class,
                               InboundInvocationHandler.class, PersistentUUIDManager.class,
                               RemoteCommandsFactory.class, TimeService.class,
-                              IteratorHandler.class, GlobalStateManager.class, GlobalConfigurationManager.class})
+                              IteratorHandler.class, GlobalStateManager.class, GlobalConfigurationManager.class,
+                              RpcLatencyTracker.class})
 
 @Scope(Scopes.GLOBAL)
 public class EmptyConstructorFactory extends AbstractComponentFactory implements AutoInstantiableFactory {
@@ -61,6 +63,8 @@ else if (componentName.equals(GlobalStateManager.class.getName()))
          return new GlobalStateManagerImpl();
       else if (componentName.equals(GlobalConfigurationManager.class.getName()))
          return new GlobalConfigurationManagerImpl();
+      else if (componentName.equals(RpcLatencyTracker.class.getName()))
+         return new RpcLatencyTracker();
 
       throw log.factoryCannotConstructComponent(componentName);
    }
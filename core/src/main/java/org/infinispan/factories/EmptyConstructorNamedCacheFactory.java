@@ -18,10 +18,12 @@
 import org.infinispan.context.InvocationContextFactory;
 import org.infinispan.context.NonTransactionalInvocationContextFactory;
 import org.infinispan.context.TransactionalInvocationContextFactory;
+import org.infinispan.distribution.BackupWriteBundler;
 import org.infinispan.distribution.L1Manager;
 import org.infinispan.distribution.RemoteValueRetrievedListener;
 import org.infinispan.distribution.TriangleOrderManager;
 import org.infinispan.distribution.impl.L1ManagerImpl;
+import org.infinispan.encoding.impl.ConversionCache;
 import org.infinispan.eviction.ActivationManager;
 import org.infinispan.eviction.EvictionManager;
 import org.infinispan.eviction.PassivationManager;
@@ -51,7 +53,9 @@
 import org.infinispan.statetransfer.CommitManager;
 import org.infinispan.statetransfer.StateTransferLock;
 import org.infinispan.statetransfer.StateTransferLockImpl;
+import org.infinispan.stats.impl.HotKeyTracker;
 import org.infinispan.transaction.impl.ClusteredTransactionOriginatorChecker;
+import org.infinispan.transaction.impl.GroupCommitter;
 import org.infinispan.transaction.impl.TransactionCoordinator;
 import org.infinispan.transaction.impl.TransactionOriginatorChecker;
 import org.infinispan.transaction.totalorder.TotalOrderManager;
@@ -84,7 +88,9 @@
                               XSiteStateTransferManager.class, XSiteStateConsumer.class, XSiteStateProvider.class,
                               FunctionalNotifier.class, CommandAckCollector.class, TriangleOrderManager.class,
                               OrderedUpdatesManager.class, ScatteredVersionManager.class, TransactionOriginatorChecker.class,
-                              BiasManager.class, OffHeapEntryFactory.class, OffHeapMemoryAllocator.class})
+                              BiasManager.class, OffHeapEntryFactory.class, OffHeapMemoryAllocator.class,
+                              HotKeyTracker.class, ConversionCache.class, GroupCommitter.class,
+                              BackupWriteBundler.class})
 public class EmptyConstructorNamedCacheFactory extends AbstractNamedCacheComponentFactory implements AutoInstantiableFactory {
 
    @Override
@@ -198,6 +204,14 @@ public Object construct(String componentName) {
             return new OffHeapEntryFactoryImpl();
          } else if (componentName.equals(OffHeapMemoryAllocator.class.getName())) {
             return new UnpooledOffHeapMemoryAllocator();
+         } else if (componentName.equals(HotKeyTracker.class.getName())) {
+            return new HotKeyTracker();
+         } else if (componentName.equals(ConversionCache.class.getName())) {
+            return new ConversionCache();
+         } else if (componentName.equals(GroupCommitter.class.getName())) {
+            return new GroupCommitter();
+         } else if (componentName.equals(BackupWriteBundler.class.getName())) {
+            return new BackupWriteBundler();
          } else if (componentName.equals(ClusterCacheNotifier.class.getName())) {
             return ComponentAlias.of(CacheNotifier.class);
          } else if (componentName.equals(RemoteValueRetrievedListener.class.getName())) {
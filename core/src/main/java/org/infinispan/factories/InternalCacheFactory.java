@@ -432,7 +432,7 @@ public V get(Object key) {
          if (interceptor.getStatisticsEnabled()) {
             long beginTime = timeService.time();
             value = cache.get(key);
-            interceptor.addDataRead(value != null, timeService.timeDuration(beginTime, TimeUnit.NANOSECONDS));
+            interceptor.addDataRead(key, value != null, timeService.timeDuration(beginTime, TimeUnit.NANOSECONDS));
          } else {
             value = cache.get(key);
          }
@@ -1,6 +1,7 @@
 package org.infinispan.factories;
 
 import org.infinispan.factories.annotations.DefaultFactoryFor;
+import org.infinispan.util.concurrent.locks.impl.AdaptiveLockContainer;
 import org.infinispan.util.concurrent.locks.impl.LockContainer;
 import org.infinispan.util.concurrent.locks.impl.PerKeyLockContainer;
 import org.infinispan.util.concurrent.locks.impl.StripedLockContainer;
@@ -17,6 +18,9 @@ public class LockContainerFactory extends AbstractNamedCacheComponentFactory imp
    @SuppressWarnings("unchecked")
    @Override
    public Object construct(String componentName) {
+      if (configuration.locking().adaptiveLocks()) {
+         return new AdaptiveLockContainer(configuration.locking().concurrencyLevel());
+      }
       return configuration.locking().useLockStriping() ?
              new StripedLockContainer(configuration.locking().concurrencyLevel()) :
              new PerKeyLockContainer();
@@ -247,4 +247,49 @@ public static ReplicationMode valueOf(int ordinal) {
       }
 
    }
+
+   /**
+    * Defines how the functions of a command on multiple keys are applied on each owner. Commands on a single key
+    * ignore this parameter.
+    *
+    * @since 10.0
+    */
+   @Experimental
+   enum ApplyMode implements Param<ApplyMode> {
+      /**
+       * The functions are applied one key after another by the thread executing the command.
+       */
+      SEQUENTIAL,
+      /**
+       * The keys are split in stripes and the functions for different stripes are applied concurrently, by at most
+       * as many threads as there are processors. The functions must be safe to use from multiple threads. The results
+       * are returned in the same order as the keys.
+       */
+      PARALLEL;
+
+      public static final int ID = ParamIds.APPLY_MODE_ID;
+      private static final ApplyMode[] CACHED_VALUES = values();
+
+      @Override
+      public int id() {
+         return ID;
+      }
+
+      @Override
+      public ApplyMode get() {
+         return this;
+      }
+
+      public static ApplyMode defaultValue() {
+         return SEQUENTIAL;
+      }
+
+      public static ApplyMode valueOf(int ordinal) {
+         return CACHED_VALUES[ordinal];
+      }
+
+      public static boolean isParallel(Params params) {
+         return params.<ApplyMode>get(ID).get() == PARALLEL;
+      }
+   }
 }
@@ -15,6 +15,7 @@ public final class ParamIds {
    public static final int EXECUTION_MODE_ID = 2;
    public static final int STATS_MODE_ID = 3;
    public static final int REPLICATION_MODE_ID = 4;
+   public static final int APPLY_MODE_ID = 5;
 
    private ParamIds() {
       // Cannot be instantiated, it's just a holder class
@@ -7,6 +7,7 @@
 import java.util.List;
 
 import org.infinispan.functional.Param;
+import org.infinispan.functional.Param.ApplyMode;
 import org.infinispan.functional.Param.ExecutionMode;
 import org.infinispan.functional.Param.LockingMode;
 import org.infinispan.functional.Param.PersistenceMode;
@@ -33,12 +34,14 @@ public final class Params {
 
    private static final Param<?>[] DEFAULTS = new Param<?>[]{
          PersistenceMode.defaultValue(), LockingMode.defaultValue(), ExecutionMode.defaultValue(),
-         StatisticsMode.defaultValue(), ReplicationMode.defaultValue()
+         StatisticsMode.defaultValue(), ReplicationMode.defaultValue(), ApplyMode.defaultValue()
    };
    // TODO: as Params are immutable and there's only limited number of them,
    // there could be a table with all the possible combinations and we
    // wouldn't have to allocate at all
    private static final Params DEFAULT_INSTANCE = new Params(DEFAULTS);
+   // Execution mode value that marks a second byte with the execution mode and the apply mode
+   private static final int EXTENDED_ENCODING = 3;
 
    final Param<?>[] params;
 
@@ -206,37 +209,60 @@ public static Params from(Param<?>... ps) {
       // make sure that bit-set marshalling will work
       if (PersistenceMode.values().length > 4) throw new IllegalStateException();
       if (LockingMode.values().length > 4) throw new IllegalStateException();
-      if (ExecutionMode.values().length > 4) throw new IllegalStateException();
+      // The last execution mode value is reserved to mark an extended encoding
+      if (ExecutionMode.values().length > 3) throw new IllegalStateException();
       if (StatisticsMode.values().length > 2) throw new IllegalStateException();
       if (ReplicationMode.values().length > 2) throw new IllegalStateException();
+      if (ApplyMode.values().length > 2) throw new IllegalStateException();
    }
 
+   /**
+    * Writes the parameters in a single byte, as long as the {@link ApplyMode} is the default one. Otherwise, the
+    * execution mode bits in the first byte are set to {@link #EXTENDED_ENCODING} and a second byte holds the execution
+    * mode and the apply mode, so nodes that don't know about the apply mode can still read the default encoding.
+    */
    public static void writeObject(ObjectOutput output, Params params) throws IOException {
       PersistenceMode persistenceMode = (PersistenceMode) params.get(PersistenceMode.ID).get();
       LockingMode lockingMode = (LockingMode) params.get(LockingMode.ID).get();
       ExecutionMode executionMode = (ExecutionMode) params.get(ExecutionMode.ID).get();
       StatisticsMode statisticsMode = (StatisticsMode) params.get(StatisticsMode.ID).get();
       ReplicationMode replicationMode = (ReplicationMode) params.get(ReplicationMode.ID).get();
+      ApplyMode applyMode = (ApplyMode) params.get(ApplyMode.ID).get();
+      boolean extended = applyMode != ApplyMode.defaultValue();
       int paramBits = persistenceMode.ordinal()
             | (lockingMode.ordinal() << 2)
-            | (executionMode.ordinal() << 4)
+            | ((extended ? EXTENDED_ENCODING : executionMode.ordinal()) << 4)
             | (statisticsMode.ordinal() << 6)
             | (replicationMode.ordinal() << 7);
       output.writeByte(paramBits);
+      if (extended) {
+         output.writeByte(executionMode.ordinal() | (applyMode.ordinal() << 7));
+      }
    }
 
    public static Params readObject(ObjectInput input) throws IOException {
       int paramBits = input.readByte();
       PersistenceMode persistenceMode = PersistenceMode.valueOf(paramBits & 3);
       LockingMode lockingMode = LockingMode.valueOf((paramBits >>> 2) & 3);
-      ExecutionMode executionMode = ExecutionMode.valueOf((paramBits >>> 4) & 3);
       StatisticsMode statisticsMode = StatisticsMode.valueOf((paramBits >>> 6) & 1);
       ReplicationMode replicationMode = ReplicationMode.valueOf((paramBits >>> 7) & 1);
+      ExecutionMode executionMode;
+      ApplyMode applyMode;
+      int executionBits = (paramBits >>> 4) & 3;
+      if (executionBits == EXTENDED_ENCODING) {
+         int extendedBits = input.readByte();
+         executionMode = ExecutionMode.valueOf(extendedBits & 3);
+         applyMode = ApplyMode.valueOf((extendedBits >>> 7) & 1);
+      } else {
+         executionMode = ExecutionMode.valueOf(executionBits);
+         applyMode = ApplyMode.defaultValue();
+      }
       if (persistenceMode == PersistenceMode.defaultValue()
             && lockingMode == LockingMode.defaultValue()
             && executionMode == ExecutionMode.defaultValue()
             && statisticsMode == StatisticsMode.defaultValue()
-            && replicationMode == ReplicationMode.defaultValue()) {
+            && replicationMode == ReplicationMode.defaultValue()
+            && applyMode == ApplyMode.defaultValue()) {
          return DEFAULT_INSTANCE;
       } else {
          Param[] params = Arrays.copyOf(DEFAULTS, DEFAULTS.length);
@@ -245,6 +271,7 @@ public static Params readObject(ObjectInput input) throws IOException {
          params[ExecutionMode.ID] = executionMode;
          params[StatisticsMode.ID] = statisticsMode;
          params[ReplicationMode.ID] = replicationMode;
+         params[ApplyMode.ID] = applyMode;
          return new Params(params);
       }
    }
@@ -24,6 +24,8 @@ public abstract class BaseAsyncInterceptor implements AsyncInterceptor {
    @Inject protected Configuration cacheConfiguration;
    private AsyncInterceptor nextInterceptor;
    private DDAsyncInterceptor nextDDInterceptor;
+   // Indexed by command id, a non-null element replaces nextInterceptor for commands with that id
+   private AsyncInterceptor[] nextInterceptorByCommandId;
 
    /**
     * Used internally to set up the interceptor.
@@ -33,6 +35,34 @@ public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
       this.nextInterceptor = nextInterceptor;
       this.nextDDInterceptor =
             nextInterceptor instanceof DDAsyncInterceptor ? (DDAsyncInterceptor) nextInterceptor : null;
+      this.nextInterceptorByCommandId = null;
+   }
+
+   /**
+    * Used internally to skip the interceptors after this one that would only pass some commands to their next
+    * interceptor.
+    *
+    * @param nextInterceptorByCommandId The interceptor to invoke next for every command id, offset by
+    *                                   {@link Byte#MIN_VALUE}, or {@code null} to invoke the next interceptor.
+    */
+   public final void setNextInterceptorByCommandId(AsyncInterceptor[] nextInterceptorByCommandId) {
+      this.nextInterceptorByCommandId = nextInterceptorByCommandId;
+   }
+
+   private Object invokeNextInterceptor(InvocationContext ctx, VisitableCommand command) throws Throwable {
+      AsyncInterceptor[] nextByCommandId = nextInterceptorByCommandId;
+      if (nextByCommandId != null) {
+         AsyncInterceptor next = nextByCommandId[command.getCommandId() - Byte.MIN_VALUE];
+         if (next != null) {
+            return next instanceof DDAsyncInterceptor ?
+                  command.acceptVisitor(ctx, (DDAsyncInterceptor) next) : next.visitCommand(ctx, command);
+         }
+      }
+      if (nextDDInterceptor != null) {
+         return command.acceptVisitor(ctx, nextDDInterceptor);
+      } else {
+         return nextInterceptor.visitCommand(ctx, command);
+      }
    }
 
    /**
@@ -50,11 +80,7 @@ public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
     */
    public final Object invokeNext(InvocationContext ctx, VisitableCommand command) {
       try {
-         if (nextDDInterceptor != null) {
-            return command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            return nextInterceptor.visitCommand(ctx, command);
-         }
+         return invokeNextInterceptor(ctx, command);
       } catch (Throwable throwable) {
          return new SimpleAsyncInvocationStage(throwable);
       }
@@ -70,11 +96,7 @@ public final Object invokeNextThenApply(InvocationContext ctx, VisitableCommand
                                            InvocationSuccessFunction function) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).thenApply(ctx, command, function);
          }
@@ -94,11 +116,7 @@ public final Object invokeNextThenAccept(InvocationContext ctx, VisitableCommand
                                            InvocationSuccessAction action) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).thenAccept(ctx, command, action);
          }
@@ -119,11 +137,7 @@ public final Object invokeNextAndExceptionally(InvocationContext ctx, VisitableC
                                                   InvocationExceptionFunction function) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).andExceptionally(ctx, command, function);
          }
@@ -146,11 +160,7 @@ public final Object invokeNextAndFinally(InvocationContext ctx, VisitableCommand
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
-            } else {
-               rv = nextInterceptor.visitCommand(ctx, command);
-            }
+            rv = invokeNextInterceptor(ctx, command);
             throwable = null;
 
             if (rv instanceof InvocationStage) {
@@ -179,11 +189,7 @@ public final Object invokeNextAndHandle(InvocationContext ctx, VisitableCommand
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
-            } else {
-               rv = nextInterceptor.visitCommand(ctx, command);
-            }
+            rv = invokeNextInterceptor(ctx, command);
             throwable = null;
 
             if (rv instanceof InvocationStage) {
@@ -9,6 +9,7 @@
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -66,6 +67,7 @@
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.remoting.transport.ResponseCollector;
 import org.infinispan.remoting.transport.impl.MapResponseCollector;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
 import org.infinispan.remoting.transport.impl.SingleResponseCollector;
 import org.infinispan.remoting.transport.impl.SingletonMapResponseCollector;
 import org.infinispan.remoting.transport.impl.VoidResponseCollector;
@@ -92,10 +94,12 @@ public abstract class BaseDistributionInterceptor extends ClusteringInterceptor
    @Inject protected KeyPartitioner keyPartitioner;
    @Inject protected TimeService timeService;
    @Inject protected InternalExpirationManager<Object, Object> expirationManager;
+   @Inject protected RpcLatencyTracker latencyTracker;
 
    protected boolean isL1Enabled;
    protected boolean isReplicated;
    protected boolean isWriteBehind;
+   protected boolean latencyAwareReads;
 
    private final ReadOnlyManyHelper readOnlyManyHelper = new ReadOnlyManyHelper();
    private final InvocationSuccessFunction primaryReturnHandler = this::primaryReturnHandler;
@@ -111,6 +115,7 @@ public void configure() {
       isL1Enabled = cacheConfiguration.clustering().l1().enabled();
       isReplicated = cacheConfiguration.clustering().cacheMode().isReplicated();
       isWriteBehind = cacheConfiguration.persistence().usingAsyncStore();
+      latencyAwareReads = cacheConfiguration.clustering().latencyAwareReads();
    }
 
    @Override
@@ -165,6 +170,22 @@ protected DistributionInfo retrieveDistributionInfo(LocalizedCacheTopology topol
       return topology.getSegmentDistribution(SegmentSpecificCommand.extractSegment(command, key, keyPartitioner));
    }
 
+   /**
+    * Sends a read command to the {@code readOwners} one at a time, until one of them responds. With
+    * {@link org.infinispan.configuration.cache.ClusteringConfiguration#latencyAwareReads() latency-aware reads}, the
+    * owner with the lowest recent response time is asked first, and the next owner is asked once the recent 95th
+    * percentile of its response time has elapsed.
+    */
+   protected <T> CompletionStage<T> invokeRemoteRead(Collection<Address> readOwners, ReplicableCommand command,
+                                                     ResponseCollector<T> collector) {
+      if (!latencyAwareReads || readOwners.size() <= 1) {
+         return rpcManager.invokeCommandStaggered(readOwners, command, collector, rpcManager.getSyncRpcOptions());
+      }
+      List<Address> targets = latencyTracker.sortByLatency(readOwners);
+      return rpcManager.invokeCommandStaggered(targets, command, collector, rpcManager.getSyncRpcOptions(),
+                                               latencyTracker.getStaggerDelay(targets.get(0)), TimeUnit.NANOSECONDS);
+   }
+
    /**
     * Fetch a key from its remote owners and store it in the context.
     *
@@ -197,8 +218,7 @@ protected <C extends FlagAffectedCommand & TopologyAffectedCommand> CompletionSt
       getCommand.setTopologyId(topologyId);
       getCommand.setWrite(isWrite);
 
-      return rpcManager.invokeCommandStaggered(info.readOwners(), getCommand, new RemoteGetSingleKeyCollector(),
-                                               rpcManager.getSyncRpcOptions())
+      return invokeRemoteRead(info.readOwners(), getCommand, new RemoteGetSingleKeyCollector())
                        .thenAccept(response -> {
                           Object responseValue = response.getResponseValue();
                           if (responseValue == null) {
@@ -712,8 +732,7 @@ public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand
          remoteCommand.setTopologyId(cacheTopology.getTopologyId());
 
          CompletionStage<SuccessfulResponse> rpc =
-            rpcManager.invokeCommandStaggered(owners, remoteCommand, new RemoteGetSingleKeyCollector(),
-                                              rpcManager.getSyncRpcOptions());
+            invokeRemoteRead(owners, remoteCommand, new RemoteGetSingleKeyCollector());
          return asyncValue(rpc).thenApply(ctx, command, (rCtx, rCommand, response) -> {
             Object responseValue = ((SuccessfulResponse) response).getResponseValue();
             return unwrapFunctionalResultOnOrigin(rCtx, ((ReadOnlyKeyCommand) rCommand).getKey(), responseValue);
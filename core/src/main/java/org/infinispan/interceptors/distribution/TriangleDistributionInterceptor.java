@@ -49,6 +49,7 @@
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.impl.FlagBitSets;
+import org.infinispan.distribution.BackupWriteBundler;
 import org.infinispan.distribution.DistributionInfo;
 import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.distribution.TriangleOrderManager;
@@ -101,6 +102,7 @@ public class TriangleDistributionInterceptor extends BaseDistributionInterceptor
    @Inject private CommandAckCollector commandAckCollector;
    @Inject private CommandsFactory commandsFactory;
    @Inject private TriangleOrderManager triangleOrderManager;
+   @Inject private BackupWriteBundler backupWriteBundler;
    private Address localAddress;
 
    @Start
@@ -353,7 +355,7 @@ private <C extends WriteCommand> void sendToBackups(C command, Collection<Object
             log.tracef("Command %s got sequence %s for segment %s", command.getCommandInvocationId(), segmentId,
                   sequence);
          }
-         rpcManager.sendToMany(backups, backupCommand, DeliverOrder.NONE);
+         sendBackupCommand(backups, backupCommand);
       }
    }
 
@@ -494,7 +496,15 @@ private <C extends DataWriteCommand> void sendToBackups(int segmentId, C command
       }
       // TODO Should we use sendToAll in replicated mode?
       // we must send the message only after the collector is registered in the map
-      rpcManager.sendToMany(backupOwners, backupCommand, DeliverOrder.NONE);
+      sendBackupCommand(backupOwners, backupCommand);
+   }
+
+   private void sendBackupCommand(Collection<Address> backupOwners, BackupWriteCommand backupCommand) {
+      if (backupWriteBundler.isEnabled()) {
+         backupWriteBundler.send(backupOwners, backupCommand);
+      } else {
+         rpcManager.sendToMany(backupOwners, backupCommand, DeliverOrder.NONE);
+      }
    }
 
    private Object localWriteInvocation(InvocationContext context, DataWriteCommand command,
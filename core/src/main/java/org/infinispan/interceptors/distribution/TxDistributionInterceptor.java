@@ -70,6 +70,7 @@
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.remoting.transport.impl.MapResponseCollector;
 import org.infinispan.statetransfer.OutdatedTopologyException;
+import org.infinispan.transaction.impl.GroupCommitter;
 import org.infinispan.transaction.impl.LocalTransaction;
 import org.infinispan.transaction.xa.GlobalTransaction;
 import org.infinispan.util.concurrent.CompletableFutures;
@@ -90,6 +91,7 @@ public class TxDistributionInterceptor extends BaseDistributionInterceptor {
 
    @Inject private PartitionHandlingManager partitionHandlingManager;
    @Inject private ComponentRegistry componentRegistry;
+   @Inject private GroupCommitter groupCommitter;
 
    private boolean forceRemoteReadForFunctionalCommands;
 
@@ -288,16 +290,7 @@ public Object visitPrepareCommand(TxInvocationContext ctx, PrepareCommand comman
    protected CompletionStage<Object> prepareOnAffectedNodes(TxInvocationContext<?> ctx, PrepareCommand command,
                                                               Collection<Address> recipients) {
       try {
-         CompletionStage<Map<Address, Response>> remoteInvocation;
-         if (recipients != null) {
-            MapResponseCollector collector =
-                  MapResponseCollector.ignoreLeavers(recipients.size());
-            remoteInvocation = rpcManager.invokeCommand(recipients, command, collector, rpcManager.getSyncRpcOptions());
-         } else {
-            MapResponseCollector collector =
-                  MapResponseCollector.ignoreLeavers(rpcManager.getMembers().size());
-            remoteInvocation = rpcManager.invokeCommandOnAll(command, collector, rpcManager.getSyncRpcOptions());
-         }
+         CompletionStage<Map<Address, Response>> remoteInvocation = invokeTxBoundaryCommand(recipients, command, true);
          return remoteInvocation.handle((responses, t) -> {
             transactionRemotelyPrepared(ctx);
             CompletableFutures.rethrowException(t);
@@ -319,14 +312,8 @@ public Object visitRollbackCommand(TxInvocationContext ctx, RollbackCommand comm
    private Object handleSecondPhaseCommand(TxInvocationContext ctx, TransactionBoundaryCommand command) {
       if (shouldInvokeRemoteTxCommand(ctx)) {
          Collection<Address> recipients = getCommitNodes(ctx, command);
-         CompletionStage<Map<Address, Response>> remoteInvocation;
-         if (recipients != null) {
-            MapResponseCollector collector = MapResponseCollector.ignoreLeavers(recipients.size());
-            remoteInvocation = rpcManager.invokeCommand(recipients, command, collector, rpcManager.getSyncRpcOptions());
-         } else {
-            MapResponseCollector collector = MapResponseCollector.ignoreLeavers();
-            remoteInvocation = rpcManager.invokeCommandOnAll(command, collector, rpcManager.getSyncRpcOptions());
-         }
+         CompletionStage<Map<Address, Response>> remoteInvocation =
+               invokeTxBoundaryCommand(recipients, command, command instanceof CommitCommand);
          return asyncValue(remoteInvocation.thenApply(responses -> {
             checkTxCommandResponses(responses, command, ctx, recipients);
             return null;
@@ -336,6 +323,25 @@ private Object handleSecondPhaseCommand(TxInvocationContext ctx, TransactionBoun
       return invokeNext(ctx, command);
    }
 
+   /**
+    * Sends a transaction boundary command to {@code recipients}, or to all the members if {@code null}.
+    *
+    * @param groupable whether the command can be grouped with the commands of other transactions
+    */
+   protected CompletionStage<Map<Address, Response>> invokeTxBoundaryCommand(Collection<Address> recipients,
+         TransactionBoundaryCommand command, boolean groupable) {
+      if (groupable && groupCommitter.isEnabled()) {
+         return groupCommitter.invoke(recipients, command);
+      }
+      if (recipients != null) {
+         MapResponseCollector collector = MapResponseCollector.ignoreLeavers(recipients.size());
+         return rpcManager.invokeCommand(recipients, command, collector, rpcManager.getSyncRpcOptions());
+      } else {
+         MapResponseCollector collector = MapResponseCollector.ignoreLeavers(rpcManager.getMembers().size());
+         return rpcManager.invokeCommandOnAll(command, collector, rpcManager.getSyncRpcOptions());
+      }
+   }
+
    private Collection<Address> getCommitNodes(TxInvocationContext ctx, TopologyAffectedCommand command) {
       LocalTransaction localTx = (LocalTransaction) ctx.getCacheTransaction();
       LocalizedCacheTopology cacheTopology = checkTopologyId(command);
@@ -508,8 +514,7 @@ public <C extends AbstractDataWriteCommand & FunctionalCommand> Object handleTxF
             remoteRead.setTopologyId(command.getTopologyId());
 
             CompletionStage<SuccessfulResponse> remoteGet =
-                  rpcManager.invokeCommandStaggered(distributionInfo.readOwners(), remoteRead,
-                                                    new RemoteGetSingleKeyCollector(), rpcManager.getSyncRpcOptions());
+                  invokeRemoteRead(distributionInfo.readOwners(), remoteRead, new RemoteGetSingleKeyCollector());
             return asyncValue(remoteGet).thenApply(ctx, command, (rCtx, rCommand, response) -> {
                Object responseValue = ((SuccessfulResponse) response).getResponseValue();
                return unwrapFunctionalResultOnOrigin(ctx, command.getKey(), responseValue);
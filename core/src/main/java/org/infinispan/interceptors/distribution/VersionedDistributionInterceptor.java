@@ -18,7 +18,6 @@
 import org.infinispan.metadata.Metadata;
 import org.infinispan.remoting.responses.Response;
 import org.infinispan.remoting.transport.Address;
-import org.infinispan.remoting.transport.impl.MapResponseCollector;
 import org.infinispan.transaction.impl.AbstractCacheTransaction;
 import org.infinispan.transaction.impl.LocalTransaction;
 import org.infinispan.transaction.xa.CacheTransaction;
@@ -135,14 +134,7 @@ private void checkAndAddReadVersion(AbstractCacheTransaction tx, Object key, Ent
 
    @Override
    protected CompletionStage<Object> prepareOnAffectedNodes(TxInvocationContext<?> ctx, PrepareCommand command, Collection<Address> recipients) {
-      CompletionStage<Map<Address, Response>> remoteInvocation;
-      if (recipients != null) {
-         MapResponseCollector collector = MapResponseCollector.ignoreLeavers(recipients.size());
-         remoteInvocation = rpcManager.invokeCommand(recipients, command, collector, rpcManager.getSyncRpcOptions());
-      } else {
-         MapResponseCollector collector = MapResponseCollector.ignoreLeavers();
-         remoteInvocation = rpcManager.invokeCommandOnAll(command, collector, rpcManager.getSyncRpcOptions());
-      }
+      CompletionStage<Map<Address, Response>> remoteInvocation = invokeTxBoundaryCommand(recipients, command, true);
       return remoteInvocation.handle((responses, t) -> {
          transactionRemotelyPrepared(ctx);
          CompletableFutures.rethrowException(t);
@@ -49,7 +49,8 @@ public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
 
    // Modifications are guarded with "lock", but reads do not need synchronization
    private volatile List<AsyncInterceptor> interceptors = EMPTY_INTERCEPTORS_LIST;
-   private volatile AsyncInterceptor firstInterceptor = null;
+   // The first interceptor that does something with a command, indexed by command id offset by Byte.MIN_VALUE
+   private volatile AsyncInterceptor[] firstInterceptorByCommandId = null;
 
    public AsyncInterceptorChainImpl(ComponentMetadataRepo componentMetadataRepo) {
       this.componentMetadataRepo = componentMetadataRepo;
@@ -228,10 +229,14 @@ public void appendInterceptor(AsyncInterceptor ci, boolean isCustom) {
       }
    }
 
+   private AsyncInterceptor firstInterceptor(VisitableCommand command) {
+      return firstInterceptorByCommandId[command.getCommandId() - Byte.MIN_VALUE];
+   }
+
    @Override
    public CompletableFuture<Object> invokeAsync(InvocationContext ctx, VisitableCommand command) {
       try {
-         Object result = firstInterceptor.visitCommand(ctx, command);
+         Object result = firstInterceptor(command).visitCommand(ctx, command);
          if (result instanceof InvocationStage) {
             return ((InvocationStage) result).toCompletableFuture();
          } else {
@@ -245,7 +250,7 @@ public CompletableFuture<Object> invokeAsync(InvocationContext ctx, VisitableCom
    @Override
    public Object invoke(InvocationContext ctx, VisitableCommand command) {
       try {
-         Object result = firstInterceptor.visitCommand(ctx, command);
+         Object result = firstInterceptor(command).visitCommand(ctx, command);
          if (result instanceof InvocationStage) {
             return ((InvocationStage) result).get();
          } else {
@@ -346,6 +351,7 @@ private void rebuildInterceptors() {
          interceptor.setNextInterceptor(nextInterceptor);
          nextInterceptor = interceptor;
       }
-      this.firstInterceptor = nextInterceptor;
+      // Skip the interceptors that would only invoke the next interceptor
+      this.firstInterceptorByCommandId = InterceptorSkipTables.install(interceptors);
    }
 }
@@ -5,8 +5,16 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -58,6 +66,7 @@
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.distribution.group.impl.GroupFilter;
 import org.infinispan.distribution.group.impl.GroupManager;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.impl.ComponentRef;
@@ -67,6 +76,7 @@
 import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.jmx.annotations.Parameter;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.persistence.internal.PersistenceUtil;
@@ -80,6 +90,7 @@
 import org.infinispan.stream.impl.spliterators.IteratorAsSpliterator;
 import org.infinispan.util.EntryWrapper;
 import org.infinispan.util.LazyConcatIterator;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -87,6 +98,8 @@
 
 import io.reactivex.Flowable;
 
+import static org.infinispan.commons.util.Util.toStr;
+import static org.infinispan.factories.KnownComponentNames.PERSISTENCE_EXECUTOR;
 import static org.infinispan.persistence.manager.PersistenceManager.AccessMode.SHARED;
 import static org.infinispan.persistence.manager.PersistenceManager.AccessMode.NOT_ASYNC;
 
@@ -100,6 +113,16 @@
 
    private final AtomicLong cacheLoads = new AtomicLong(0);
    private final AtomicLong cacheMisses = new AtomicLong(0);
+   private final AtomicLong coalescedLoads = new AtomicLong(0);
+   private final AtomicLong refreshes = new AtomicLong(0);
+   private final AtomicLong refreshTime = new AtomicLong(0);
+   // The creation time of the last version of each key that was reloaded, so each version is reloaded only once
+   private final ConcurrentMap<Object, Long> refreshedVersions = new ConcurrentHashMap<>();
+   private final AtomicLong nextRefreshPruneTime = new AtomicLong();
+   private final ConcurrentMap<Object, CompletableFuture<InternalCacheEntry<K, V>>> localInFlightLoads =
+         new ConcurrentHashMap<>();
+   private final ConcurrentMap<Object, CompletableFuture<InternalCacheEntry<K, V>>> remoteInFlightLoads =
+         new ConcurrentHashMap<>();
 
    @Inject protected PersistenceManager persistenceManager;
    @Inject protected CacheNotifier notifier;
@@ -110,12 +133,16 @@
    @Inject private GroupManager groupManager;
    @Inject private ComponentRef<Cache<K, V>> cache;
    @Inject private KeyPartitioner partitioner;
+   @Inject @ComponentName(PERSISTENCE_EXECUTOR)
+   private ScheduledExecutorService persistenceExecutor;
 
    private boolean activation;
+   private float refreshAheadFactor;
 
    @Start
    public void start() {
       this.activation = cacheConfiguration.persistence().passivation();
+      this.refreshAheadFactor = cacheConfiguration.persistence().refreshAheadFactor();
    }
 
    @Override
@@ -322,6 +349,9 @@ protected boolean canLoad(Object key) {
     */
    protected final Boolean loadIfNeeded(final InvocationContext ctx, Object key, final FlagAffectedCommand cmd) {
       if (skipLoad(cmd, key, ctx)) {
+         if (refreshAheadFactor > 0) {
+            refreshAheadIfNeeded(ctx, key, cmd);
+         }
          return null;
       }
 
@@ -329,7 +359,52 @@ protected final Boolean loadIfNeeded(final InvocationContext ctx, Object key, fi
    }
 
    private Boolean loadInContext(InvocationContext ctx, Object key, FlagAffectedCommand cmd) {
-      final AtomicReference<Boolean> isLoaded = new AtomicReference<>();
+      // Write commands always check the stores themselves, they may already hold the lock on the key
+      if (cmd instanceof WriteCommand) {
+         AtomicReference<Boolean> isLoaded = new AtomicReference<>();
+         InternalCacheEntry<K, V> entry = loadInDataContainer(ctx, key, cmd, isLoaded);
+         return wrapInContext(ctx, key, cmd, entry, isLoaded.get());
+      }
+
+      // Concurrent reads of the same key share a single load, so a key that is missing from memory (e.g. because it
+      // expired) doesn't cause one store load per reader. Local and remote reads can see different stores
+      // (e.g. a ClusterLoader only loads for local reads), so they don't share loads.
+      ConcurrentMap<Object, CompletableFuture<InternalCacheEntry<K, V>>> inFlightLoads =
+            ctx.isOriginLocal() ? localInFlightLoads : remoteInFlightLoads;
+      CompletableFuture<InternalCacheEntry<K, V>> loadFuture = new CompletableFuture<>();
+      CompletableFuture<InternalCacheEntry<K, V>> inFlightLoad = inFlightLoads.putIfAbsent(key, loadFuture);
+      if (inFlightLoad != null) {
+         if (trace) {
+            log.tracef("Waiting for the in-flight load of key %s", toStr(key));
+         }
+         if (getStatisticsEnabled()) {
+            coalescedLoads.incrementAndGet();
+         }
+         InternalCacheEntry<K, V> entry;
+         try {
+            entry = inFlightLoad.join();
+         } catch (CompletionException e) {
+            throw CompletableFutures.asCompletionException(CompletableFutures.extractException(e));
+         }
+         // The entry was loaded by another invocation, which already sent the notifications
+         return wrapInContext(ctx, key, cmd, entry, null);
+      }
+
+      try {
+         AtomicReference<Boolean> isLoaded = new AtomicReference<>();
+         InternalCacheEntry<K, V> entry = loadInDataContainer(ctx, key, cmd, isLoaded);
+         loadFuture.complete(entry);
+         return wrapInContext(ctx, key, cmd, entry, isLoaded.get());
+      } catch (Throwable t) {
+         loadFuture.completeExceptionally(t);
+         throw t;
+      } finally {
+         inFlightLoads.remove(key, loadFuture);
+      }
+   }
+
+   private InternalCacheEntry<K, V> loadInDataContainer(InvocationContext ctx, Object key, FlagAffectedCommand cmd,
+                                                        AtomicReference<Boolean> isLoaded) {
       InternalCacheEntry<K, V> entry = PersistenceUtil.loadAndStoreInDataContainer(dataContainer,
             SegmentSpecificCommand.extractSegment(cmd, key, partitioner), persistenceManager, (K) key, ctx, timeService,
             isLoaded);
@@ -346,7 +421,11 @@ private Boolean loadInContext(InvocationContext ctx, Object key, FlagAffectedCom
             cacheMisses.incrementAndGet();
          }
       }
+      return entry;
+   }
 
+   private Boolean wrapInContext(InvocationContext ctx, Object key, FlagAffectedCommand cmd,
+                                 InternalCacheEntry<K, V> entry, Boolean isLoadedValue) {
       if (entry != null) {
          entryFactory.wrapExternalEntry(ctx, key, entry, true, cmd instanceof WriteCommand);
 
@@ -364,6 +443,87 @@ private Boolean loadInContext(InvocationContext ctx, Object key, FlagAffectedCom
       return isLoadedValue;
    }
 
+   /**
+    * Schedules a reload of the entry from the cache loaders if it was read by a read command after the configured
+    * fraction of its lifespan. The command still returns the current value.
+    */
+   private void refreshAheadIfNeeded(InvocationContext ctx, Object key, FlagAffectedCommand cmd) {
+      if (cmd instanceof WriteCommand || hasSkipLoadFlag(cmd))
+         return;
+
+      CacheEntry entry = ctx.lookupEntry(key);
+      if (entry == null || entry.getValue() == null)
+         return;
+
+      long lifespan = entry.getLifespan();
+      long created = entry.getCreated();
+      if (lifespan < 0 || created < 0 || timeService.wallClockTime() - created < lifespan * refreshAheadFactor)
+         return;
+
+      if (!cmd.hasAnyFlag(FlagBitSets.SKIP_OWNERSHIP_CHECK) && !canLoad(key))
+         return;
+
+      // Reload each version of the entry only once, even if the store returns the same version
+      Long previous = refreshedVersions.put(key, created);
+      if (previous != null && previous == created)
+         return;
+
+      if (trace) {
+         log.tracef("Refreshing entry %s ahead of its expiration", entry);
+      }
+      int segment = SegmentSpecificCommand.extractSegment(cmd, key, partitioner);
+      Object value = entry.getValue();
+      try {
+         persistenceExecutor.execute(() -> refreshEntry(key, segment, value, created));
+      } catch (RejectedExecutionException e) {
+         refreshedVersions.remove(key, created);
+         log.debugf(e, "Unable to refresh entry for key %s", toStr(key));
+      }
+   }
+
+   private void refreshEntry(Object key, int segment, Object value, long created) {
+      long start = timeService.time();
+      try {
+         MarshallableEntry<K, V> loaded = persistenceManager.loadFromAllStores(key, segment, true, true);
+         if (loaded == null)
+            return;
+
+         InternalCacheEntry<K, V> refreshed = PersistenceUtil.convert(loaded, iceFactory);
+         boolean[] replaced = new boolean[1];
+         dataContainer.compute(segment, (K) key, (k, oldEntry, factory) -> {
+            // Don't overwrite the entry if it was modified, removed or evicted in the meantime
+            if (oldEntry == null || !Objects.equals(oldEntry.getValue(), value) || oldEntry.getCreated() != created)
+               return oldEntry;
+            if (refreshed.getExpiryTime() >= 0 && refreshed.getExpiryTime() <= oldEntry.getExpiryTime())
+               return oldEntry;
+            replaced[0] = true;
+            return refreshed;
+         });
+         if (replaced[0] && getStatisticsEnabled()) {
+            refreshes.incrementAndGet();
+            refreshTime.addAndGet(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
+         }
+      } catch (Throwable t) {
+         log.debugf(t, "Unable to refresh entry for key %s", toStr(key));
+      } finally {
+         pruneRefreshedVersions();
+      }
+   }
+
+   /**
+    * Forgets the reloaded versions that are no longer in the data container, at most once per second.
+    */
+   private void pruneRefreshedVersions() {
+      long now = timeService.wallClockTime();
+      long pruneTime = nextRefreshPruneTime.get();
+      if (now >= pruneTime && nextRefreshPruneTime.compareAndSet(pruneTime, now + 1000)) {
+         refreshedVersions.entrySet().removeIf(e -> {
+            InternalCacheEntry<K, V> current = dataContainer.peek(e.getKey());
+            return current == null || current.getCreated() != e.getValue();
+         });
+      }
+   }
+
    private boolean skipLoad(FlagAffectedCommand cmd, Object key, InvocationContext ctx) {
       CacheEntry e = ctx.lookupEntry(key);
       if (e == null) {
@@ -449,6 +609,38 @@ public long getCacheLoaderMisses() {
       return cacheMisses.get();
    }
 
+   @ManagedAttribute(
+         description = "Number of reads that waited for a concurrent load of the same key instead of loading it from the cache store",
+         displayName = "Number of coalesced cache store loads",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   @SuppressWarnings("unused")
+   public long getCacheLoaderCoalescedLoads() {
+      return coalescedLoads.get();
+   }
+
+   @ManagedAttribute(
+         description = "Number of entries replaced by a newer version reloaded from the cache store ahead of their expiration",
+         displayName = "Number of cache store refreshes",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   @SuppressWarnings("unused")
+   public long getCacheLoaderRefreshes() {
+      return refreshes.get();
+   }
+
+   @ManagedAttribute(
+         description = "Average time to reload an entry from the cache store ahead of its expiration",
+         displayName = "Average cache store refresh time",
+         units = Units.MILLISECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   @SuppressWarnings("unused")
+   public long getAverageRefreshTime() {
+      long count = refreshes.get();
+      return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(refreshTime.get() / count);
+   }
+
    @Override
    @ManagedOperation(
          description = "Resets statistics gathered by this component",
@@ -457,6 +649,9 @@ public long getCacheLoaderMisses() {
    public void resetStatistics() {
       cacheLoads.set(0);
       cacheMisses.set(0);
+      coalescedLoads.set(0);
+      refreshes.set(0);
+      refreshTime.set(0);
    }
 
    @ManagedAttribute(
@@ -27,12 +27,12 @@
 import org.infinispan.commands.read.GetKeyValueCommand;
 import org.infinispan.commands.write.ComputeCommand;
 import org.infinispan.commands.write.ComputeIfAbsentCommand;
+import org.infinispan.commands.write.DataWriteCommand;
 import org.infinispan.commands.write.EvictCommand;
 import org.infinispan.commands.write.PutKeyValueCommand;
 import org.infinispan.commands.write.PutMapCommand;
 import org.infinispan.commands.write.RemoveCommand;
 import org.infinispan.commands.write.ReplaceCommand;
-import org.infinispan.commands.write.WriteCommand;
 import org.infinispan.commons.util.ByRef;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.ClusteringConfiguration;
@@ -54,9 +54,11 @@
 import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.jmx.annotations.Units;
+import org.infinispan.stats.impl.HotKeyTracker;
 import org.infinispan.topology.CacheTopology;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.concurrent.StripedCounters;
+import org.infinispan.commons.util.concurrent.StripedHistogram;
 
 /**
  * Captures cache management statistics
@@ -66,15 +68,25 @@
  */
 @MBean(objectName = "Statistics", description = "General statistics such as timings, hit/miss ratio, etc.")
 public class CacheMgmtInterceptor extends JmxStatsCommandInterceptor {
+
    @Inject private ComponentRef<AdvancedCache> cache;
    @Inject private InternalDataContainer dataContainer;
    @Inject private TimeService timeService;
    @Inject private OffHeapMemoryAllocator allocator;
+   @Inject private HotKeyTracker hotKeys;
 
    private final AtomicLong startNanoseconds = new AtomicLong(0);
    private volatile AtomicLong resetNanoseconds = new AtomicLong(0);
    private StripedCounters<StripeB> counters = new StripedCounters<>(StripeC::new);
 
+   // Latencies in nanoseconds since the last reset
+   private final StripedHistogram hitTimes = new StripedHistogram();
+   private final StripedHistogram missTimes = new StripedHistogram();
+   private final StripedHistogram storeTimes = new StripedHistogram();
+   private final StripedHistogram removeTimes = new StripedHistogram();
+   private final StripedHistogram getAllTimes = new StripedHistogram();
+   private final StripedHistogram putAllTimes = new StripedHistogram();
+
    @Start
    public void start() {
       startNanoseconds.set(timeService.time());
@@ -100,14 +112,21 @@ public final Object visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEnt
       return visitDataReadCommand(ctx, command);
    }
 
+   public void addDataRead(Object key, boolean foundValue, long timeNanoSeconds) {
+      hotKeys.recordRead(key);
+      addDataRead(foundValue, timeNanoSeconds);
+   }
+
    public void addDataRead(boolean foundValue, long timeNanoSeconds) {
       StripeB stripe = counters.stripeForCurrentThread();
       if (foundValue) {
          counters.add(StripeB.hitTimesFieldUpdater, stripe, timeNanoSeconds);
          counters.increment(StripeB.hitsFieldUpdater, stripe);
+         hitTimes.record(timeNanoSeconds);
       } else {
          counters.add(StripeB.missTimesFieldUpdater, stripe, timeNanoSeconds);
          counters.increment(StripeB.missesFieldUpdater, stripe);
+         missTimes.record(timeNanoSeconds);
       }
    }
 
@@ -116,6 +135,7 @@ private Object visitDataReadCommand(InvocationContext ctx, AbstractDataCommand c
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      hotKeys.recordRead(command.getKey());
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          addDataRead(rv != null, timeService.timeDuration(start, TimeUnit.NANOSECONDS));
@@ -129,6 +149,11 @@ public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) t
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      if (hotKeys.isEnabled()) {
+         for (Object key : command.getKeys()) {
+            hotKeys.recordRead(key);
+         }
+      }
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -143,6 +168,7 @@ public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) t
          }
 
          int missCount = requests - hitCount;
+         getAllTimes.record(intervalNanoseconds);
          StripeB stripe = counters.stripeForCurrentThread();
          if (hitCount > 0) {
             counters.add(StripeB.hitsFieldUpdater, stripe, hitCount);
@@ -161,11 +187,17 @@ public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) t
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      if (hotKeys.isEnabled()) {
+         for (Object key : command.getMap().keySet()) {
+            hotKeys.recordWrite(key);
+         }
+      }
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          final long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
          final Map<Object, Object> data = ((PutMapCommand) rCommand).getMap();
          if (data != null && !data.isEmpty()) {
+            putAllTimes.record(intervalNanoseconds);
             StripeB stripe = counters.stripeForCurrentThread();
             counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.add(StripeB.storesFieldUpdater, stripe, data.size());
@@ -190,6 +222,7 @@ public Object visitComputeCommand(InvocationContext ctx, ComputeCommand command)
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      hotKeys.recordWrite(command.getKey());
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          if (rv == null && rCommand.isSuccessful()) {
@@ -199,6 +232,7 @@ public Object visitComputeCommand(InvocationContext ctx, ComputeCommand command)
             StripeB stripe = counters.stripeForCurrentThread();
             counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalMilliseconds);
             counters.increment(StripeB.storesFieldUpdater, stripe);
+            storeTimes.record(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
          }
       });
    }
@@ -208,11 +242,12 @@ public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsent
       return updateStoreStatistics(ctx, command);
    }
 
-   private Object updateStoreStatistics(InvocationContext ctx, WriteCommand command) throws Throwable {
+   private Object updateStoreStatistics(InvocationContext ctx, DataWriteCommand command) throws Throwable {
       boolean statisticsEnabled = getStatisticsEnabled(command);
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      hotKeys.recordWrite(command.getKey());
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          if (rCommand.isSuccessful()) {
@@ -220,6 +255,7 @@ private Object updateStoreStatistics(InvocationContext ctx, WriteCommand command
             StripeB stripe = counters.stripeForCurrentThread();
             counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.storesFieldUpdater, stripe);
+            storeTimes.record(intervalNanoseconds);
          }
       });
    }
@@ -232,6 +268,7 @@ public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand
       if (!getStatisticsEnabled())
          return invokeNextThenApply(ctx, command, StatsEnvelope::unpack);
 
+      hotKeys.recordRead(command.getKey());
       long start = timeService.time();
       return invokeNextThenApply(ctx, command, (rCtx, rCommand, rv) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -240,9 +277,11 @@ public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand
          if (envelope.isMiss()) {
             counters.add(StripeB.missTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.missesFieldUpdater, stripe);
+            missTimes.record(intervalNanoseconds);
          } else if (envelope.isHit()){
             counters.add(StripeB.hitTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.hitsFieldUpdater, stripe);
+            hitTimes.record(intervalNanoseconds);
          }
          return envelope.value();
       });
@@ -256,6 +295,11 @@ public Object visitReadOnlyManyCommand(InvocationContext ctx, ReadOnlyManyComman
       if (!getStatisticsEnabled())
          return invokeNextThenApply(ctx, command, StatsEnvelope::unpackStream);
 
+      if (hotKeys.isEnabled()) {
+         for (Object key : command.getKeys()) {
+            hotKeys.recordRead(key);
+         }
+      }
       long start = timeService.time();
       return invokeNextThenApply(ctx, command, (rCtx, rCommand, rv) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -293,6 +337,7 @@ private Object updateStatisticsWriteOnly(InvocationContext ctx, AbstractDataComm
       if (!getStatisticsEnabled())
          return invokeNextThenApply(ctx, command, StatsEnvelope::unpack);
 
+      hotKeys.recordWrite(command.getKey());
       long start = timeService.time();
       return invokeNextThenApply(ctx, command, (rCtx, rCommand, rv) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -301,9 +346,11 @@ private Object updateStatisticsWriteOnly(InvocationContext ctx, AbstractDataComm
          if (envelope.isDelete()) {
             counters.add(StripeB.removeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.removeHitsFieldUpdater, stripe);
+            removeTimes.record(intervalNanoseconds);
          } else if ((envelope.flags() & (StatsEnvelope.CREATE | StatsEnvelope.UPDATE)) != 0) {
             counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.storesFieldUpdater, stripe);
+            storeTimes.record(intervalNanoseconds);
          }
          assert envelope.value() == null;
          return null;
@@ -323,6 +370,7 @@ private Object updateStatisticsReadWrite(InvocationContext ctx, AbstractDataComm
       if (!getStatisticsEnabled())
          return invokeNextThenApply(ctx, command, StatsEnvelope::unpack);
 
+      hotKeys.recordWrite(command.getKey());
       long start = timeService.time();
       return invokeNextThenApply(ctx, command, (rCtx, rCommand, rv) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -331,16 +379,20 @@ private Object updateStatisticsReadWrite(InvocationContext ctx, AbstractDataComm
          if (envelope.isDelete()) {
             counters.add(StripeB.removeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.removeHitsFieldUpdater, stripe);
+            removeTimes.record(intervalNanoseconds);
          } else if ((envelope.flags() & (StatsEnvelope.CREATE | StatsEnvelope.UPDATE)) != 0) {
             counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.storesFieldUpdater, stripe);
+            storeTimes.record(intervalNanoseconds);
          }
          if (envelope.isHit()) {
             counters.add(StripeB.hitTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.hitsFieldUpdater, stripe);
+            hitTimes.record(intervalNanoseconds);
          } else if (envelope.isMiss()) {
             counters.add(StripeB.missTimesFieldUpdater, stripe, intervalNanoseconds);
             counters.increment(StripeB.missesFieldUpdater, stripe);
+            missTimes.record(intervalNanoseconds);
          }
          return envelope.value();
       });
@@ -372,6 +424,11 @@ private Object updateStatisticsReadWrite(InvocationContext ctx, AbstractWriteMan
       if (!getStatisticsEnabled())
          return invokeNextThenApply(ctx, command, StatsEnvelope::unpackCollection);
 
+      if (hotKeys.isEnabled()) {
+         for (Object key : command.getAffectedKeys()) {
+            hotKeys.recordWrite(key);
+         }
+      }
       long start = timeService.time();
       return invokeNextThenApply(ctx, command, (rCtx, rCommand, rv) -> {
          long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
@@ -427,6 +484,7 @@ public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) t
       if (!statisticsEnabled || !ctx.isOriginLocal())
          return invokeNext(ctx, command);
 
+      hotKeys.recordWrite(command.getKey());
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          RemoveCommand removeCommand = (RemoveCommand) rCommand;
@@ -449,6 +507,7 @@ private void increaseRemoveHits(long start) {
       StripeB stripe = counters.stripeForCurrentThread();
       counters.add(StripeB.removeTimesFieldUpdater, stripe, intervalNanoseconds);
       counters.increment(StripeB.removeHitsFieldUpdater, stripe);
+      removeTimes.record(intervalNanoseconds);
    }
 
    private void increaseRemoveMisses() {
@@ -630,6 +689,66 @@ public long getAverageRemoveTimeNanos() {
       return counters.get(StripeB.removeTimesFieldUpdater) / removes;
    }
 
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a read operation that found the key since the statistics were reset",
+         displayName = "Read hit time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getHitTimePercentiles() {
+      return hitTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a read operation that didn't find the key since the statistics were reset",
+         displayName = "Read miss time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getMissTimePercentiles() {
+      return missTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a write operation since the statistics were reset",
+         displayName = "Write time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getWriteTimePercentiles() {
+      return storeTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a remove operation since the statistics were reset",
+         displayName = "Remove time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getRemoveTimePercentiles() {
+      return removeTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a getAll operation since the statistics were reset",
+         displayName = "GetAll time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getGetAllTimePercentiles() {
+      return getAllTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(
+         description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds for a putAll operation since the statistics were reset",
+         displayName = "PutAll time percentiles",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public Map<String, Long> getPutAllTimePercentiles() {
+      return putAllTimes.getPercentiles();
+   }
+
    @ManagedAttribute(
          description = "Number of entries in the cache including passivated entries",
          displayName = "Number of current cache entries",
@@ -768,6 +887,12 @@ public void resetStatistics() {
       counters.reset(StripeB.removeHitsFieldUpdater);
       counters.reset(StripeB.removeTimesFieldUpdater);
       counters.reset(StripeB.removeMissesFieldUpdater);
+      hitTimes.reset();
+      missTimes.reset();
+      storeTimes.reset();
+      removeTimes.reset();
+      getAllTimes.reset();
+      putAllTimes.reset();
       resetNanoseconds.set(timeService.time());
    }
 
@@ -16,6 +16,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -87,12 +88,15 @@
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.distribution.group.impl.GroupManager;
 import org.infinispan.encoding.DataConversion;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.functional.EntryView;
 import org.infinispan.functional.Param;
 import org.infinispan.functional.impl.EntryViews;
+import org.infinispan.functional.impl.Params;
 import org.infinispan.functional.impl.StatsEnvelope;
 import org.infinispan.interceptors.BaseAsyncInterceptor;
 import org.infinispan.metadata.Metadata;
@@ -104,6 +108,7 @@
 import org.infinispan.stream.impl.local.SegmentedKeyStreamSupplier;
 import org.infinispan.util.DataContainerRemoveIterator;
 import org.infinispan.util.EntryWrapper;
+import org.infinispan.util.StripedHashFunction;
 import org.infinispan.util.UserRaisedFunctionalException;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -140,15 +145,19 @@ public class CallInterceptor extends BaseAsyncInterceptor implements Visitor {
    @Inject InternalEntryFactory internalEntryFactory;
    @Inject KeyPartitioner keyPartitioner;
    @Inject GroupManager groupManager;
+   @Inject @ComponentName(KnownComponentNames.ASYNC_OPERATIONS_EXECUTOR)
+   Executor asyncExecutor;
 
    // Internally we always deal with an unwrapped cache, so don't unwrap per invocation
    Cache unwrappedCache;
 
    private IncrementableEntryVersion nonExistentVersion;
+   private StripedHashFunction<Object> keyStripes;
 
    @Start
    public void start() {
       nonExistentVersion = versionGenerator.nonExistingVersion();
+      keyStripes = new StripedHashFunction<>(cacheConfiguration.locking().concurrencyLevel());
       unwrappedCache = AbstractDelegatingCache.unwrapCache(cacheRef.wired());
    }
 
@@ -935,6 +944,18 @@ public Object visitReadWriteKeyCommand(InvocationContext ctx, ReadWriteKeyComman
    public Object visitWriteOnlyManyEntriesCommand(InvocationContext ctx, WriteOnlyManyEntriesCommand command) throws Throwable {
       Map<Object, Object> arguments = command.getArguments();
       DataConversion valueDataConversion = command.getValueDataConversion();
+      if (isParallel(command.getParams(), arguments.size())) {
+         ParallelKeyApplier.apply(arguments.keySet(), keyStripes, asyncExecutor, k -> {
+            CacheEntry cacheEntry = ctx.lookupEntry(k);
+            if (cacheEntry == null) {
+               throw new IllegalStateException();
+            }
+            Object decodedValue = valueDataConversion.fromStorage(arguments.get(k));
+            command.getBiConsumer().accept(decodedValue, EntryViews.writeOnly(cacheEntry, valueDataConversion));
+            return null;
+         });
+         return null;
+      }
       for (Map.Entry entry : arguments.entrySet()) {
          CacheEntry cacheEntry = ctx.lookupEntry(entry.getKey());
 
@@ -970,7 +991,19 @@ public Object visitWriteOnlyKeyValueCommand(InvocationContext ctx, WriteOnlyKeyV
    public Object visitWriteOnlyManyCommand(InvocationContext ctx, WriteOnlyManyCommand command) throws Throwable {
       Consumer consumer = command.getConsumer();
       DataConversion valueDataConversion = command.getValueDataConversion();
-      for (Object k : command.getAffectedKeys()) {
+      Collection<?> keys = command.getAffectedKeys();
+      if (isParallel(command.getParams(), keys.size())) {
+         ParallelKeyApplier.apply(keys, keyStripes, asyncExecutor, k -> {
+            CacheEntry cacheEntry = ctx.lookupEntry(k);
+            if (cacheEntry == null) {
+               throw new IllegalStateException();
+            }
+            consumer.accept(EntryViews.writeOnly(cacheEntry, valueDataConversion));
+            return null;
+         });
+         return null;
+      }
+      for (Object k : keys) {
          CacheEntry cacheEntry = ctx.lookupEntry(k);
          if (cacheEntry == null) {
             throw new IllegalStateException();
@@ -987,31 +1020,34 @@ public Object visitReadWriteManyCommand(InvocationContext ctx, ReadWriteManyComm
       // otherwise they're not applied. So, apply the function eagerly and
       // return a lazy stream of the void returns.
       Collection<Object> keys = command.getAffectedKeys();
-      List<Object> returns = new ArrayList<>(keys.size());
       boolean skipStats = Param.StatisticsMode.isSkip(command.getParams());
       DataConversion keyDataConversion = command.getKeyDataConversion();
       DataConversion valueDataConversion = command.getValueDataConversion();
       Function function = command.getFunction();
-      keys.forEach(k -> {
+      Function<Object, Object> applyFunction = k -> {
          MVCCEntry entry = (MVCCEntry) ctx.lookupEntry(k);
 
          boolean exists = entry.getValue() != null;
          EntryViews.AccessLoggingReadWriteView view = EntryViews.readWrite(entry, keyDataConversion, valueDataConversion);
          Object r = snapshot(function.apply(view));
-         returns.add(skipStats ? r : StatsEnvelope.create(r, entry, exists, view.isRead()));
-      });
+         return skipStats ? r : StatsEnvelope.create(r, entry, exists, view.isRead());
+      };
+      if (isParallel(command.getParams(), keys.size())) {
+         return new ArrayList<>(Arrays.asList(ParallelKeyApplier.apply(keys, keyStripes, asyncExecutor, applyFunction)));
+      }
+      List<Object> returns = new ArrayList<>(keys.size());
+      keys.forEach(k -> returns.add(applyFunction.apply(k)));
       return returns;
    }
 
    @Override
    public Object visitReadWriteManyEntriesCommand(InvocationContext ctx, ReadWriteManyEntriesCommand command) throws Throwable {
       Map<Object, Object> arguments = command.getArguments();
-      List<Object> returns = new ArrayList<>(arguments.size());
       boolean skipStats = Param.StatisticsMode.isSkip(command.getParams());
       BiFunction biFunction = command.getBiFunction();
       DataConversion keyDataConversion = command.getKeyDataConversion();
       DataConversion valueDataConversion = command.getValueDataConversion();
-      arguments.forEach((k, arg) -> {
+      BiFunction<Object, Object, Object> applyFunction = (k, arg) -> {
          MVCCEntry entry = (MVCCEntry) ctx.lookupEntry(k);
 
          if (entry == null) {
@@ -1021,11 +1057,21 @@ public Object visitReadWriteManyEntriesCommand(InvocationContext ctx, ReadWriteM
          boolean exists = entry.getValue() != null;
          EntryViews.AccessLoggingReadWriteView view = EntryViews.readWrite(entry, keyDataConversion, valueDataConversion);
          Object r = snapshot(biFunction.apply(decodedArgument, view));
-         returns.add(skipStats ? r : StatsEnvelope.create(r, entry, exists, view.isRead()));
-      });
+         return skipStats ? r : StatsEnvelope.create(r, entry, exists, view.isRead());
+      };
+      if (isParallel(command.getParams(), arguments.size())) {
+         return new ArrayList<>(Arrays.asList(ParallelKeyApplier.apply(arguments.keySet(), keyStripes, asyncExecutor,
+               k -> applyFunction.apply(k, arguments.get(k)))));
+      }
+      List<Object> returns = new ArrayList<>(arguments.size());
+      arguments.forEach((k, arg) -> returns.add(applyFunction.apply(k, arg)));
       return returns;
    }
 
+   private static boolean isParallel(Params params, int numKeys) {
+      return numKeys > 1 && ParallelKeyApplier.MAX_PARALLELISM > 1 && Param.ApplyMode.isParallel(params);
+   }
+
    static class BackingEntrySet<K, V> extends AbstractCollection<CacheEntry<K, V>> implements CacheSet<CacheEntry<K, V>> {
       private final boolean isRemoteIteration;
       private final Cache<K, V> cache;
@@ -0,0 +1,152 @@
+package org.infinispan.interceptors.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.Visitor;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.AsyncInterceptor;
+import org.infinispan.interceptors.BaseAsyncInterceptor;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+
+/**
+ * Computes, for every interceptor in a chain and every command id, the next interceptor that does something with
+ * the command.
+ * <p>
+ * A {@link DDAsyncInterceptor} that overrides neither the visit method of a command nor {@code handleDefault} only
+ * passes the command to the next interceptor, so the previous interceptor can invoke the one after it directly.
+ * Commands are identified by their {@link VisitableCommand#getCommandId() command id}, and only the ids declared by
+ * the parameter type of exactly one visit method are skipped. Local commands share the same id, and module commands
+ * are visited with {@link Visitor#visitUnknownCommand(InvocationContext, VisitableCommand)}, so they always go
+ * through every interceptor.
+ *
+ * @since 10.0
+ */
+final class InterceptorSkipTables {
+   private static final int TABLE_SIZE = 1 << Byte.SIZE;
+
+   // The visit method for every command id offset by Byte.MIN_VALUE, null if commands with that id are never skipped
+   private static final Method[] VISIT_METHODS = findVisitMethods();
+
+   private static final ClassValue<boolean[]> PASS_THROUGH = new ClassValue<boolean[]>() {
+      @Override
+      protected boolean[] computeValue(Class<?> type) {
+         return findPassThroughCommandIds(type);
+      }
+   };
+
+   private InterceptorSkipTables() {
+   }
+
+   /**
+    * Installs the skip tables in the interceptors of the chain.
+    *
+    * @return The first interceptor to invoke for every command id, offset by {@link Byte#MIN_VALUE}.
+    */
+   static AsyncInterceptor[] install(List<AsyncInterceptor> interceptors) {
+      int size = interceptors.size();
+      AsyncInterceptor[] nextByCommandId = new AsyncInterceptor[TABLE_SIZE];
+      // The last interceptor is never skipped
+      Arrays.fill(nextByCommandId, interceptors.get(size - 1));
+      for (int i = size - 2; i >= 0; i--) {
+         AsyncInterceptor interceptor = interceptors.get(i);
+         AsyncInterceptor next = interceptors.get(i + 1);
+         if (interceptor instanceof BaseAsyncInterceptor) {
+            AsyncInterceptor[] skipTable = null;
+            for (int id = 0; id < TABLE_SIZE; id++) {
+               if (nextByCommandId[id] != next) {
+                  if (skipTable == null) {
+                     skipTable = new AsyncInterceptor[TABLE_SIZE];
+                  }
+                  skipTable[id] = nextByCommandId[id];
+               }
+            }
+            ((BaseAsyncInterceptor) interceptor).setNextInterceptorByCommandId(skipTable);
+         }
+
+         boolean[] passThrough = PASS_THROUGH.get(interceptor.getClass());
+         for (int id = 0; id < TABLE_SIZE; id++) {
+            if (!passThrough[id]) {
+               nextByCommandId[id] = interceptor;
+            }
+         }
+      }
+      return nextByCommandId;
+   }
+
+   private static Method[] findVisitMethods() {
+      Method[] visitMethods = new Method[TABLE_SIZE];
+      boolean[] ambiguous = new boolean[TABLE_SIZE];
+      for (Method method : Visitor.class.getMethods()) {
+         Class<?>[] parameterTypes = method.getParameterTypes();
+         if (parameterTypes.length != 2)
+            continue;
+
+         int commandId;
+         try {
+            Field commandIdField = parameterTypes[1].getDeclaredField("COMMAND_ID");
+            if (!Modifier.isStatic(commandIdField.getModifiers()))
+               continue;
+            commandIdField.setAccessible(true);
+            commandId = commandIdField.getInt(null);
+         } catch (NoSuchFieldException | IllegalAccessException | IllegalArgumentException e) {
+            continue;
+         }
+         if (commandId < Byte.MIN_VALUE || commandId > Byte.MAX_VALUE)
+            continue;
+
+         int id = commandId - Byte.MIN_VALUE;
+         if (visitMethods[id] != null) {
+            ambiguous[id] = true;
+         }
+         visitMethods[id] = method;
+      }
+      for (int id = 0; id < TABLE_SIZE; id++) {
+         if (ambiguous[id]) {
+            visitMethods[id] = null;
+         }
+      }
+      // Local commands
+      visitMethods[-Byte.MIN_VALUE] = null;
+      return visitMethods;
+   }
+
+   private static boolean[] findPassThroughCommandIds(Class<?> interceptorType) {
+      boolean[] passThrough = new boolean[TABLE_SIZE];
+      if (!DDAsyncInterceptor.class.isAssignableFrom(interceptorType) ||
+            !isInherited(interceptorType, "handleDefault", InvocationContext.class, VisitableCommand.class))
+         return passThrough;
+
+      for (int id = 0; id < TABLE_SIZE; id++) {
+         Method visitMethod = VISIT_METHODS[id];
+         passThrough[id] = visitMethod != null &&
+               isInherited(interceptorType, visitMethod.getName(), visitMethod.getParameterTypes());
+      }
+      return passThrough;
+   }
+
+   /**
+    * @return {@code true} if the method is declared in {@link DDAsyncInterceptor} and not overridden.
+    */
+   private static boolean isInherited(Class<?> interceptorType, String name, Class<?>... parameterTypes) {
+      for (Class<?> c = interceptorType; c != DDAsyncInterceptor.class; c = c.getSuperclass()) {
+         if (isDeclared(c, name, parameterTypes))
+            return false;
+      }
+      // Visitor default methods delegate to other visit methods
+      return isDeclared(DDAsyncInterceptor.class, name, parameterTypes);
+   }
+
+   private static boolean isDeclared(Class<?> type, String name, Class<?>... parameterTypes) {
+      try {
+         type.getDeclaredMethod(name, parameterTypes);
+         return true;
+      } catch (NoSuchMethodException e) {
+         return false;
+      }
+   }
+}
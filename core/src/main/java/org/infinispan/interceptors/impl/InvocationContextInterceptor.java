@@ -188,9 +188,12 @@ private boolean isOngoingTransaction(InvocationContext ctx) throws SystemExcepti
       if (!ctx.isInTxScope())
          return false;
 
-      if (ctx.isOriginLocal())
-         return txTable.containsLocalTx(((TxInvocationContext) ctx).getGlobalTransaction());
-      else
-         return txTable.containRemoteTx(((TxInvocationContext) ctx).getGlobalTransaction());
+      if (ctx.isOriginLocal()) {
+         // Read-only transactions are not registered by their GlobalTransaction
+         Transaction transaction = ((TxInvocationContext) ctx).getTransaction();
+         return transaction != null ? txTable.getLocalTransaction(transaction) != null :
+               txTable.containsLocalTx(((TxInvocationContext) ctx).getGlobalTransaction());
+      }
+      return txTable.containRemoteTx(((TxInvocationContext) ctx).getGlobalTransaction());
    }
 }
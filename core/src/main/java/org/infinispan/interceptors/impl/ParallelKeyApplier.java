@@ -0,0 +1,111 @@
+package org.infinispan.interceptors.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.infinispan.commons.util.ProcessorInfo;
+import org.infinispan.util.StripedHashFunction;
+
+/**
+ * Applies a function to all the keys of a many-key command with {@link org.infinispan.functional.Param.ApplyMode#PARALLEL}.
+ * <p>
+ * The keys are split in the same stripes as the locks, and each stripe is applied by a single thread. The invoking
+ * thread applies stripes as well, so the command completes even if the executor doesn't have any free thread.
+ *
+ * @since 10.0
+ */
+final class ParallelKeyApplier {
+   static final int MAX_PARALLELISM = ProcessorInfo.availableProcessors();
+
+   private final Object[] keys;
+   private final Object[] results;
+   private final int[][] stripes;
+   private final Function<Object, Object> function;
+   private final AtomicInteger nextStripe = new AtomicInteger();
+   private final AtomicReference<Throwable> failure = new AtomicReference<>();
+   private final CountDownLatch completed;
+
+   private ParallelKeyApplier(Object[] keys, int[][] stripes, Function<Object, Object> function) {
+      this.keys = keys;
+      this.results = new Object[keys.length];
+      this.stripes = stripes;
+      this.function = function;
+      this.completed = new CountDownLatch(stripes.length);
+   }
+
+   /**
+    * @return the results of the function, in the iteration order of {@code keys}.
+    */
+   static Object[] apply(Collection<?> keys, StripedHashFunction<Object> hashFunction, Executor executor,
+                         Function<Object, Object> function) throws Throwable {
+      Object[] keyArray = keys.toArray();
+      int[][] stripes = split(keyArray, hashFunction);
+      ParallelKeyApplier applier = new ParallelKeyApplier(keyArray, stripes, function);
+      int helpers = Math.min(stripes.length, MAX_PARALLELISM) - 1;
+      for (int i = 0; i < helpers; i++) {
+         try {
+            executor.execute(applier::applyStripes);
+         } catch (RejectedExecutionException e) {
+            // The invoking thread applies the remaining stripes
+            break;
+         }
+      }
+      applier.applyStripes();
+      applier.completed.await();
+      Throwable throwable = applier.failure.get();
+      if (throwable != null)
+         throw throwable;
+      return applier.results;
+   }
+
+   private static int[][] split(Object[] keys, StripedHashFunction<Object> hashFunction) {
+      int[] stripeOfKey = new int[keys.length];
+      int[] stripeSizes = new int[hashFunction.getNumSegments()];
+      int nonEmptyStripes = 0;
+      for (int i = 0; i < keys.length; i++) {
+         int stripe = hashFunction.hashToSegment(keys[i]);
+         stripeOfKey[i] = stripe;
+         if (stripeSizes[stripe]++ == 0) {
+            nonEmptyStripes++;
+         }
+      }
+      int[][] stripes = new int[nonEmptyStripes][];
+      int[] stripeIndex = new int[stripeSizes.length];
+      int next = 0;
+      for (int stripe = 0; stripe < stripeSizes.length; stripe++) {
+         if (stripeSizes[stripe] != 0) {
+            stripeIndex[stripe] = next;
+            stripes[next++] = new int[stripeSizes[stripe]];
+         }
+      }
+      Arrays.fill(stripeSizes, 0);
+      for (int i = 0; i < keys.length; i++) {
+         int stripe = stripeOfKey[i];
+         stripes[stripeIndex[stripe]][stripeSizes[stripe]++] = i;
+      }
+      return stripes;
+   }
+
+   private void applyStripes() {
+      int stripe;
+      while ((stripe = nextStripe.getAndIncrement()) < stripes.length) {
+         try {
+            if (failure.get() == null) {
+               for (int keyIndex : stripes[stripe]) {
+                  results[keyIndex] = function.apply(keys[keyIndex]);
+               }
+            }
+         } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+         } finally {
+            completed.countDown();
+         }
+      }
+   }
+}
@@ -214,7 +214,9 @@ public Object visitRollbackCommand(TxInvocationContext ctx, RollbackCommand comm
    @Override
    public Object visitLockControlCommand(TxInvocationContext ctx, LockControlCommand command)
          throws Throwable {
-      enlistIfNeeded(ctx);
+      if (shouldEnlist(ctx)) {
+         txTable.registerLocalTransaction(enlist(ctx));
+      }
 
       if (ctx.isOriginLocal()) {
          command.setGlobalTransaction(ctx.getGlobalTransaction());
@@ -314,20 +316,20 @@ public Object visitInvalidateCommand(InvocationContext ctx, InvalidateCommand in
    @Override
    public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command)
          throws Throwable {
-      enlistIfNeeded(ctx);
+      enlistIfNeeded(ctx, command);
       return invokeNext(ctx, command);
    }
 
    @Override
    public final Object visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEntryCommand command)
          throws Throwable {
-      enlistIfNeeded(ctx);
+      enlistIfNeeded(ctx, command);
       return invokeNext(ctx, command);
    }
 
    @Override
    public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) throws Throwable {
-      enlistIfNeeded(ctx);
+      enlistIfNeeded(ctx, command);
       return invokeNext(ctx, command);
    }
 
@@ -337,15 +339,25 @@ private void enlistIfNeeded(InvocationContext ctx) throws SystemException {
       }
    }
 
+   private void enlistIfNeeded(InvocationContext ctx, FlagAffectedCommand command) throws SystemException {
+      if (shouldEnlist(ctx)) {
+         LocalTransaction localTransaction = enlist((TxInvocationContext) ctx);
+         if (command.hasAnyFlag(FlagBitSets.FORCE_WRITE_LOCK)) {
+            // The read acquires a lock, so the transaction is registered as if it wrote
+            txTable.registerLocalTransaction(localTransaction);
+         }
+      }
+   }
+
    @Override
    public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand command) throws Throwable {
-      enlistIfNeeded(ctx);
+      enlistIfNeeded(ctx, command);
       return invokeNext(ctx, command);
    }
 
    @Override
    public Object visitReadOnlyManyCommand(InvocationContext ctx, ReadOnlyManyCommand command) throws Throwable {
-      enlistIfNeeded(ctx);
+      enlistIfNeeded(ctx, command);
       return invokeNext(ctx, command);
    }
 
@@ -393,6 +405,7 @@ private Object handleWriteCommand(InvocationContext ctx, WriteCommand command)
          throws Throwable {
       if (shouldEnlist(ctx)) {
          LocalTransaction localTransaction = enlist((TxInvocationContext) ctx);
+         txTable.registerLocalTransaction(localTransaction);
          boolean implicitWith1Pc = useOnePhaseForAutoCommitTx && localTransaction.isImplicitTransaction();
          if (implicitWith1Pc) {
             //in this situation we don't support concurrent updates so skip locking entirely
@@ -296,8 +296,15 @@ protected final Object nonTxLockAndInvokeNext(InvocationContext ctx, VisitableCo
             lockManager.unlockAll(rCtx);
             throw throwable;
          } else {
+            onLocksAcquired(rCtx);
             return invokeNextAndFinally(rCtx, rCommand, finallyFunction);
          }
       });
    }
+
+   /**
+    * Invoked for non-transactional commands after the locks are acquired and before the next interceptor.
+    */
+   protected void onLocksAcquired(InvocationContext ctx) {
+   }
 }
@@ -22,10 +22,12 @@
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.entries.MVCCEntry;
 import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.container.impl.MergeOnStore;
 import org.infinispan.container.versioning.EntryVersionsMap;
 import org.infinispan.container.versioning.VersionGenerator;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
+import org.infinispan.context.SingleKeyNonTxInvocationContext;
 import org.infinispan.context.impl.FlagBitSets;
 import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.distribution.DistributionManager;
@@ -48,6 +50,7 @@
 import org.infinispan.statetransfer.StateTransferLock;
 import org.infinispan.transaction.impl.WriteSkewHelper;
 import org.infinispan.transaction.xa.CacheTransaction;
+import org.infinispan.util.concurrent.locks.LockManager;
 import org.infinispan.commons.time.TimeService;
 
 /**
@@ -303,6 +306,8 @@ public Address getAddress() {
     * This logic is used in local mode caches.
     */
    class LocalLogic extends AbstractClusteringDependentLogic {
+      @Inject private LockManager lockManager;
+
       private LocalizedCacheTopology localTopology;
 
       @Inject
@@ -349,20 +354,66 @@ protected void commitSingleEntry(CacheEntry entry, FlagAffectedCommand command,
          Object key = entry.getKey();
          int segment = SegmentSpecificCommand.extractSegment(command, key, keyPartitioner);
 
-         InternalCacheEntry previousEntry = dataContainer.peek(segment, entry.getKey());
          Object previousValue = null;
          Metadata previousMetadata = null;
-         if (previousEntry != null) {
-            previousValue = previousEntry.getValue();
-            previousMetadata = previousEntry.getMetadata();
+         if (ctx instanceof SingleKeyNonTxInvocationContext && ((SingleKeyNonTxInvocationContext) ctx).isOptimisticWrite()) {
+            SingleKeyNonTxInvocationContext singleKeyCtx = (SingleKeyNonTxInvocationContext) ctx;
+            previousValue = singleKeyCtx.getOptimisticBaseValue();
+            previousMetadata = singleKeyCtx.getOptimisticBaseMetadata();
+            commitOptimisticWrite(entry, segment, singleKeyCtx);
+         } else {
+            InternalCacheEntry previousEntry = dataContainer.peek(segment, entry.getKey());
+            if (previousEntry != null) {
+               previousValue = previousEntry.getValue();
+               previousMetadata = previousEntry.getMetadata();
+            }
+            commitManager.commit(entry, trackFlag, segment, l1Invalidation, ctx);
          }
-         commitManager.commit(entry, trackFlag, segment, l1Invalidation, ctx);
 
          // Notify after events if necessary
          NotifyHelper.entryCommitted(notifier, functionalNotifier, created, removed, expired,
                entry, ctx, command, previousValue, previousMetadata);
       }
 
+      /**
+       * Commits a write that didn't acquire the lock, only if the stored entry wasn't modified since the write started
+       * and no other writer holds the lock.
+       * <p>
+       * A writer that acquires the lock waits for the in-flight optimistic commits of the key,
+       * see {@link NonTransactionalLockingInterceptor}, so the lock check here is enough to keep the optimistic
+       * writes from interleaving with the locked ones.
+       *
+       * @throws OptimisticWriteConflictException if the write must be retried with the lock
+       */
+      private void commitOptimisticWrite(CacheEntry entry, int segment, SingleKeyNonTxInvocationContext ctx) {
+         dataContainer.compute(segment, entry.getKey(), (k, current, factory) -> {
+            if (!ctx.isOptimisticBase(current) || lockManager.isLocked(k)) {
+               throw OptimisticWriteConflictException.INSTANCE;
+            }
+            if (entry.isRemoved() || entry.isEvicted()) {
+               return null;
+            }
+            Object value = entry.getValue();
+            if (value instanceof MergeOnStore) {
+               value = ((MergeOnStore) value).merge(current == null ? null : current.getValue());
+               if (value == null) {
+                  return null;
+               }
+            } else if (value == null) {
+               return current;
+            }
+            Metadata metadata = entry.getMetadata();
+            if (current != null) {
+               return factory.update(current, value, metadata);
+            } else if (entry.getCreated() == -1 && entry.getLastUsed() == -1) {
+               return factory.create(k, value, metadata);
+            } else {
+               return factory.create(k, value, metadata, entry.getCreated(), metadata.lifespan(),
+                     entry.getLastUsed(), metadata.maxIdle());
+            }
+         });
+      }
+
       @Override
       protected WriteSkewHelper.KeySpecificLogic initKeySpecificLogic(boolean totalOrder) {
          return WriteSkewHelper.ALWAYS_TRUE_LOGIC;
@@ -6,22 +6,45 @@
 import org.infinispan.InvalidCacheUsageException;
 import org.infinispan.commands.DataCommand;
 import org.infinispan.commands.FlagAffectedCommand;
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.write.DataWriteCommand;
 import org.infinispan.commands.write.WriteCommand;
+import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.context.InvocationContext;
+import org.infinispan.context.SingleKeyNonTxInvocationContext;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.interceptors.InvocationFinallyFunction;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.concurrent.locks.KeyAwareLockPromise;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
 /**
  * Locking interceptor to be used for non-transactional caches.
+ * <p>
+ * With {@link org.infinispan.configuration.cache.LockingConfiguration#optimisticWrites()}, single-key writes don't
+ * acquire the lock. The entry stored before the write is recorded in the context, and the write is only committed if
+ * the stored entry is still the same and the key isn't locked. Otherwise the write is retried with the lock, which
+ * also means the listeners may receive the pre-notifications twice. Writers holding the lock wait for the in-flight
+ * optimistic commits of their keys before reading them.
  *
  * @author Mircea Markus
  */
 public class NonTransactionalLockingInterceptor extends AbstractLockingInterceptor {
    private static final Log log = LogFactory.getLog(NonTransactionalLockingInterceptor.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   @Inject private InternalDataContainer<Object, Object> dataContainer;
 
    private final Predicate<Object> shouldLockKey = this::shouldLockKey;
+   private final InvocationFinallyFunction retryWithLockOnConflict = this::retryWithLockOnConflict;
+   private boolean optimisticWrites;
+
+   @Start
+   public void start() {
+      optimisticWrites = cacheConfiguration.locking().optimisticWrites();
+   }
 
    @Override
    protected Log getLog() {
@@ -37,9 +60,39 @@ protected final Object visitDataReadCommand(InvocationContext ctx, DataCommand c
    @Override
    protected Object visitDataWriteCommand(InvocationContext ctx, DataWriteCommand command) throws Throwable {
       assertNonTransactional(ctx);
+      if (optimisticWrites && ctx instanceof SingleKeyNonTxInvocationContext && !hasSkipLocking(command)) {
+         SingleKeyNonTxInvocationContext singleKeyCtx = (SingleKeyNonTxInvocationContext) ctx;
+         singleKeyCtx.beginOptimisticWrite(dataContainer.peek(command.getSegment(), command.getKey()));
+         return invokeNextAndHandle(ctx, command, retryWithLockOnConflict);
+      }
       return visitNonTxDataWriteCommand(ctx, command);
    }
 
+   private Object retryWithLockOnConflict(InvocationContext rCtx, VisitableCommand rCommand, Object rv,
+                                          Throwable throwable) throws Throwable {
+      ((SingleKeyNonTxInvocationContext) rCtx).endOptimisticWrite();
+      if (throwable == null) {
+         return rv;
+      } else if (CompletableFutures.extractException(throwable) != OptimisticWriteConflictException.INSTANCE) {
+         throw throwable;
+      }
+      DataWriteCommand command = (DataWriteCommand) rCommand;
+      if (trace) log.tracef("Optimistic write conflict, retrying with the lock: %s", command);
+      rCtx.removeLookedUpEntry(command.getKey());
+      return visitNonTxDataWriteCommand(rCtx, command);
+   }
+
+   @Override
+   protected void onLocksAcquired(InvocationContext ctx) {
+      if (optimisticWrites) {
+         // An optimistic commit may have checked the lock just before we acquired it,
+         // wait for it to finish before the entry is read
+         for (Object key : ctx.getLockedKeys()) {
+            dataContainer.compute(key, (k, current, factory) -> current);
+         }
+      }
+   }
+
    @Override
    protected Object handleReadManyCommand(InvocationContext ctx, FlagAffectedCommand command, Collection<?> keys) {
       assertNonTransactional(ctx);
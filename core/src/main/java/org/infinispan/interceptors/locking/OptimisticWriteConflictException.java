@@ -0,0 +1,21 @@
+package org.infinispan.interceptors.locking;
+
+import org.infinispan.commons.CacheException;
+
+/**
+ * Signals that an optimistic write found the entry modified or locked by another writer when committing, and must
+ * be retried with the lock.
+ * <p>
+ * Conflicts are expected under contention, so the exception has no stack trace and the {@link #INSTANCE} is reused.
+ *
+ * @since 10.0
+ */
+final class OptimisticWriteConflictException extends CacheException {
+   private static final long serialVersionUID = 2913604938513377186L;
+
+   static final OptimisticWriteConflictException INSTANCE = new OptimisticWriteConflictException();
+
+   private OptimisticWriteConflictException() {
+      super("Optimistic write conflict", null, false, false);
+   }
+}
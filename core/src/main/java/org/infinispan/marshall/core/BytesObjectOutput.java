@@ -245,6 +245,7 @@ private int ensureCapacity(int len) {
    }
 
    private static final int DEFAULT_DOUBLING_SIZE = 4 * 1024 * 1024; // 4MB
+   private static final int LARGE_WRITE_HEADROOM = 1024;
 
    /**
     * Gets the number of bytes to which the internal buffer should be resized.
@@ -252,16 +253,25 @@ private int ensureCapacity(int len) {
     * reaches a configurable max size (default is 4MB), after which it begins
     * growing the buffer in 25% increments.  This is intended to help prevent
     * an OutOfMemoryError during a resize of a large buffer.
+    * <p>
+    * If a single write needs more than that, e.g. a large {@code byte[]} value,
+    * the buffer keeps some room after it, so that writing the remaining fields
+    * of the command doesn't copy the value again.
     *
     * @param curSize    the current number of bytes
     * @param minNewSize the minimum number of bytes required
     * @return the size to which the internal buffer should be resized
     */
    private int getNewBufferSize(int curSize, int minNewSize) {
+      int newSize;
       if (curSize <= DEFAULT_DOUBLING_SIZE)
-         return Math.max(curSize << 1, minNewSize);
+         newSize = curSize << 1;
       else
-         return Math.max(curSize + (curSize >> 2), minNewSize);
+         newSize = curSize + (curSize >> 2);
+      if (newSize >= minNewSize)
+         return newSize;
+      // Avoid overflowing near the maximum array size
+      return Math.max(minNewSize, minNewSize + LARGE_WRITE_HEADROOM);
    }
 
    byte[] toBytes() {
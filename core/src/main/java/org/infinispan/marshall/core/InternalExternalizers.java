@@ -10,6 +10,8 @@
 import org.infinispan.cache.impl.EncoderKeyMapper;
 import org.infinispan.cache.impl.EncoderValueMapper;
 import org.infinispan.commands.RemoteCommandsFactory;
+import org.infinispan.commands.functional.functions.BatchOperation;
+import org.infinispan.commands.functional.functions.BatchWriteFunction;
 import org.infinispan.commands.functional.functions.MergeFunction;
 import org.infinispan.commons.hash.MurmurHash3;
 import org.infinispan.commons.io.ByteBufferImpl;
@@ -151,6 +153,8 @@ static ClassToExternalizerMap load(
       addInternalExternalizer(new AtomicKeySetImpl.FunctionExternalizer(), exts);
       addInternalExternalizer(new AtomicMapProxyImpl.Externalizer(), exts);
       addInternalExternalizer(new AvailabilityMode.Externalizer(), exts);
+      addInternalExternalizer(new BatchOperation.Externalizer(), exts);
+      addInternalExternalizer(new BatchWriteFunction.Externalizer(), exts);
       addInternalExternalizer(new BiasRevocationResponse.Externalizer(), exts);
       addInternalExternalizer(new BiFunctionMapper.Externalizer(), exts);
       addInternalExternalizer(new ByteBufferImpl.Externalizer(), exts);
@@ -1,5 +1,6 @@
 package org.infinispan.notifications.cachelistener;
 
+import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Map;
 
@@ -112,4 +113,10 @@ void notifyCacheEntryPassivated(K key, V value, boolean pre,
    void notifyPartitionStatusChanged(AvailabilityMode mode, boolean pre);
 
    void notifyPersistenceAvailabilityChanged(boolean available);
+
+   /**
+    * @return {@code true} if at least one listener method is annotated with the given annotation, e.g.
+    *       {@link org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited}.
+    */
+   boolean hasListener(Class<? extends Annotation> annotation);
 }
@@ -158,6 +158,14 @@ protected Set<L> removeListenerInvocation(Class<? extends Annotation> annotation
       return markedForRemoval;
    }
 
+   /**
+    * @return {@code true} if at least one listener method is registered for the given annotation.
+    */
+   public boolean hasListener(Class<? extends Annotation> annotation) {
+      List<L> list = listenersMap.get(annotation);
+      return list != null && !list.isEmpty();
+   }
+
    public Set<Object> getListeners() {
       Set<Object> result = new HashSet<Object>(listenersMap.size());
       for (List<L> list : listenersMap.values()) {
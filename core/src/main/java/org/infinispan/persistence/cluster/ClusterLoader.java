@@ -1,8 +1,8 @@
 package org.infinispan.persistence.cluster;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.infinispan.AdvancedCache;
@@ -13,21 +13,28 @@
 import org.infinispan.configuration.cache.ClusterLoaderConfiguration;
 import org.infinispan.container.entries.InternalCacheValue;
 import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.lifecycle.ComponentStatus;
-import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.CacheLoader;
 import org.infinispan.persistence.spi.InitializationContext;
 import org.infinispan.persistence.spi.LocalOnlyCacheLoader;
+import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.PersistenceException;
-import org.infinispan.remoting.responses.ClusteredGetResponseValidityFilter;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.responses.CacheNotFoundResponse;
+import org.infinispan.remoting.responses.ExceptionResponse;
 import org.infinispan.remoting.responses.Response;
 import org.infinispan.remoting.responses.SuccessfulResponse;
-import org.infinispan.remoting.rpc.ResponseFilter;
-import org.infinispan.remoting.rpc.ResponseMode;
+import org.infinispan.remoting.responses.UnsureResponse;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.remoting.rpc.RpcOptions;
 import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.ResponseCollector;
+import org.infinispan.remoting.transport.ResponseCollectors;
+import org.infinispan.remoting.transport.Transport;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
 import org.infinispan.util.ByteString;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -35,6 +42,10 @@
 /**
  * Cache loader that consults other members in the cluster for values. A <code>remoteCallTimeout</code> property is
  * required, a <code>long</code> that specifies in milliseconds how long to wait for results before returning a null.
+ * <p>
+ * The members are queried one at a time, starting with the owners of the key, and the first successful response is
+ * used. A slow member doesn't stall the load, as the next member is queried once the recent 95th percentile of the
+ * first member's response time, as tracked by the {@link RpcLatencyTracker}, has elapsed.
  *
  * @author Mircea.Markus@jboss.com
  */
@@ -50,6 +61,7 @@ public class ClusterLoader implements CacheLoader, LocalOnlyCacheLoader {
    private ClusterLoaderConfiguration configuration;
    private InitializationContext ctx;
    private ByteString cacheName;
+   private RpcLatencyTracker latencyTracker;
 
    @Override
    public void init(InitializationContext ctx) {
@@ -60,42 +72,25 @@ public void init(InitializationContext ctx) {
       rpcManager = cache.getRpcManager();
       this.configuration = ctx.getConfiguration();
       keyPartitioner = cache.getComponentRegistry().getComponent(KeyPartitioner.class);
+      latencyTracker = cache.getComponentRegistry().getGlobalComponentRegistry().getComponent(RpcLatencyTracker.class);
    }
 
    @Override
    public MarshallableEntry loadEntry(Object key) throws PersistenceException {
       if (!isCacheReady()) return null;
 
-      ClusteredGetCommand clusteredGetCommand = commandsFactory.buildClusteredGetCommand(key,
-            keyPartitioner.getSegment(key), EnumUtil.bitSetOf(Flag.SKIP_OWNERSHIP_CHECK));
-
-      Collection<Response> responses = doRemoteCall(clusteredGetCommand);
-      if (responses.isEmpty()) return null;
-
-      Response response;
-      if (responses.size() > 1) {
-         // Remove duplicates before deciding if multiple responses were received
-         Set<Response> setResponses = new HashSet<>(responses);
-         if (setResponses.size() > 1)
-            throw new PersistenceException(String.format(
-                  "Responses contains more than 1 element and these elements are not equal, so can't decide which one to use: %s",
-                  setResponses));
-         response = setResponses.iterator().next();
-      } else {
-         response = responses.iterator().next();
-      }
+      int segment = keyPartitioner.getSegment(key);
+      ClusteredGetCommand clusteredGetCommand = commandsFactory.buildClusteredGetCommand(key, segment,
+            EnumUtil.bitSetOf(Flag.SKIP_OWNERSHIP_CHECK));
+      clusteredGetCommand.setTopologyId(rpcManager.getTopologyId());
 
-      if (response.isSuccessful() && response instanceof SuccessfulResponse) {
-         InternalCacheValue value = (InternalCacheValue) ((SuccessfulResponse) response).getResponseValue();
-         return value == null ? null :
-               ctx.getMarshallableEntryFactory().create(key, value.getValue());
-      }
+      SuccessfulResponse response = doRemoteCall(clusteredGetCommand, getTargets(segment));
+      if (response == null) return null;
 
-      log.unknownResponsesFromRemoteCache(responses);
-      throw new PersistenceException("Unknown responses");
+      InternalCacheValue value = (InternalCacheValue) response.getResponseValue();
+      return value == null ? null : ctx.getMarshallableEntryFactory().create(key, value.getValue());
    }
 
-
    @Override
    public boolean contains(Object key) {
       return loadEntry(key) != null;
@@ -111,14 +106,42 @@ public void stop() {
       //nothing to do here
    }
 
-   private Collection<Response> doRemoteCall(ClusteredGetCommand clusteredGetCommand) throws PersistenceException {
-      Set<Address> members = new HashSet<>(rpcManager.getTransport().getMembers());
-      Address self = rpcManager.getTransport().getAddress();
-      ResponseFilter filter = new ClusteredGetResponseValidityFilter(members, self);
+   /**
+    * The owners of the segment are queried first, primary owner first, and then the other members. The next target
+    * is only queried if the previous ones didn't respond within the recent 95th percentile of the response time.
+    */
+   private List<Address> getTargets(int segment) {
+      Transport transport = rpcManager.getTransport();
+      Address self = transport.getAddress();
+      List<Address> members = transport.getMembers();
+      List<Address> targets = new ArrayList<>(members.size());
+      DistributionManager distributionManager = cache.getDistributionManager();
+      LocalizedCacheTopology cacheTopology = distributionManager != null ? distributionManager.getCacheTopology() : null;
+      if (cacheTopology != null) {
+         for (Address owner : cacheTopology.getSegmentDistribution(segment).readOwners()) {
+            if (!owner.equals(self) && members.contains(owner)) {
+               targets.add(owner);
+            }
+         }
+      }
+      for (Address member : members) {
+         if (!member.equals(self) && !targets.contains(member)) {
+            targets.add(member);
+         }
+      }
+      return targets;
+   }
+
+   private SuccessfulResponse doRemoteCall(ClusteredGetCommand clusteredGetCommand, List<Address> targets)
+         throws PersistenceException {
+      if (targets.isEmpty())
+         return null;
+
       try {
-         RpcOptions options = rpcManager.getRpcOptionsBuilder(ResponseMode.WAIT_FOR_VALID_RESPONSE)
-               .timeout(configuration.remoteCallTimeout(), TimeUnit.MILLISECONDS).responseFilter(filter).build();
-         return rpcManager.invokeRemotely(null, clusteredGetCommand, options).values();
+         RpcOptions options = new RpcOptions(DeliverOrder.NONE, configuration.remoteCallTimeout(), TimeUnit.MILLISECONDS);
+         return rpcManager.blocking(rpcManager.invokeCommandStaggered(targets, clusteredGetCommand,
+               new FirstSuccessfulResponseCollector(), options, latencyTracker.getStaggerDelay(targets.get(0)),
+               TimeUnit.NANOSECONDS));
       } catch (Exception e) {
          log.errorDoingRemoteCall(e);
          throw new PersistenceException(e);
@@ -134,4 +157,29 @@ private Collection<Response> doRemoteCall(ClusteredGetCommand clusteredGetComman
    protected boolean isCacheReady() {
       return cache.getStatus() == ComponentStatus.RUNNING;
    }
+
+   /**
+    * Completes with the first successful response. Unsuccessful responses, e.g. from nodes that don't have the cache,
+    * are ignored, and the result is {@code null} if no target responded successfully.
+    */
+   private static class FirstSuccessfulResponseCollector implements ResponseCollector<SuccessfulResponse> {
+      @Override
+      public SuccessfulResponse addResponse(Address sender, Response response) {
+         if (response instanceof SuccessfulResponse) {
+            return (SuccessfulResponse) response;
+         }
+         if (response instanceof ExceptionResponse) {
+            throw ResponseCollectors.wrapRemoteException(sender, ((ExceptionResponse) response).getException());
+         }
+         if (!(response instanceof UnsureResponse) && !(response instanceof CacheNotFoundResponse)) {
+            log.unknownResponsesFromRemoteCache(Collections.singleton(response));
+         }
+         return null;
+      }
+
+      @Override
+      public SuccessfulResponse finish() {
+         return null;
+      }
+   }
 }
@@ -0,0 +1,65 @@
+package org.infinispan.persistence.manager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter of the keys in the stores, with a separate bit set for every segment.
+ * <p>
+ * Keys can only be added, so a key removed from the stores is still reported as possibly present. The filter is
+ * sized for a false positive probability of about 1% with the expected number of keys.
+ */
+class KeyBloomFilter {
+   private static final int BITS_PER_KEY = 10;
+   private static final int NUM_HASHES = 7;
+   private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+   private final AtomicLongArray[] segments;
+   private final int bitsPerSegment;
+
+   KeyBloomFilter(int numSegments, int expectedKeys) {
+      long bits = Math.max(Long.SIZE, (long) expectedKeys * BITS_PER_KEY / numSegments);
+      // Round up to a multiple of 64, so that every bit of the words can be used
+      int words = (int) Math.min(Integer.MAX_VALUE / Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE);
+      this.bitsPerSegment = words * Long.SIZE;
+      this.segments = new AtomicLongArray[numSegments];
+      for (int i = 0; i < numSegments; i++) {
+         segments[i] = new AtomicLongArray(words);
+      }
+   }
+
+   void add(int segment, Object key) {
+      AtomicLongArray bits = segments[segment];
+      long hash = hash(key);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 0; i < NUM_HASHES; i++) {
+         int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitsPerSegment;
+         int word = bit >>> 6;
+         long mask = 1L << bit;
+         long value;
+         while (((value = bits.get(word)) & mask) == 0) {
+            if (bits.compareAndSet(word, value, value | mask))
+               break;
+         }
+      }
+   }
+
+   boolean mightContain(int segment, Object key) {
+      AtomicLongArray bits = segments[segment];
+      long hash = hash(key);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 0; i < NUM_HASHES; i++) {
+         int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitsPerSegment;
+         if ((bits.get(bit >>> 6) & (1L << bit)) == 0)
+            return false;
+      }
+      return true;
+   }
+
+   private static long hash(Object key) {
+      // Spread the hash code over 64 bits, as the two halves are used as independent hash functions
+      long hash = key.hashCode() * GOLDEN_RATIO;
+      return hash ^ (hash >>> 29);
+   }
+}
@@ -8,6 +8,7 @@
 import static org.infinispan.context.Flag.SKIP_LOCKING;
 import static org.infinispan.context.Flag.SKIP_OWNERSHIP_CHECK;
 import static org.infinispan.context.Flag.SKIP_XSITE_BACKUP;
+import static org.infinispan.factories.KnownComponentNames.CACHE_NAME;
 import static org.infinispan.factories.KnownComponentNames.PERSISTENCE_EXECUTOR;
 
 import java.lang.invoke.MethodHandles;
@@ -28,8 +29,9 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
@@ -41,20 +43,25 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.api.Lifecycle;
+import org.infinispan.commons.dataconversion.IdentityEncoder;
 import org.infinispan.commons.io.ByteBufferFactory;
 import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.Features;
 import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.cache.AbstractSegmentedStoreConfiguration;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.configuration.cache.StoreConfiguration;
 import org.infinispan.configuration.global.GlobalConfiguration;
+import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.eviction.EvictionType;
+import org.infinispan.eviction.PassivationManager;
 import org.infinispan.expiration.impl.InternalExpirationManager;
 import org.infinispan.factories.DataContainerFactory;
 import org.infinispan.factories.annotations.ComponentName;
@@ -67,7 +74,15 @@
 import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
 import org.infinispan.interceptors.impl.CacheWriterInterceptor;
 import org.infinispan.interceptors.impl.TransactionalStoreInterceptor;
+import org.infinispan.jmx.annotations.DataType;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.marshall.core.MarshalledEntryFactory;
+import org.infinispan.metadata.EmbeddedMetadata;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.persistence.InitializationContextImpl;
@@ -100,12 +115,17 @@
 import org.infinispan.remoting.transport.Transport;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
+import org.infinispan.util.rxjava.FlowableFromIntSetFunction;
 import org.reactivestreams.Publisher;
 
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.internal.functions.Functions;
+import io.reactivex.parallel.ParallelFlowable;
+import io.reactivex.schedulers.Schedulers;
 import net.jcip.annotations.GuardedBy;
 
+@MBean(objectName = "PersistenceManager", description = "Component that manages the cache loaders and stores.")
 public class PersistenceManagerImpl implements PersistenceManager {
 
    private static final Log log = LogFactory.getLog(PersistenceManagerImpl.class);
@@ -127,6 +147,11 @@ public class PersistenceManagerImpl implements PersistenceManager {
    @Inject private CacheNotifier cacheNotifier;
    @Inject private KeyPartitioner keyPartitioner;
    @Inject private Transport transport;
+   @Inject private ComponentRef<InternalDataContainer<Object, Object>> dataContainer;
+   @Inject private ComponentRef<PreloadManager> preloadManager;
+   @Inject private ComponentRef<PassivationManager> passivationManager;
+   @Inject @ComponentName(CACHE_NAME)
+   private String cacheName;
 
    @GuardedBy("storesMutex")
    private final List<CacheLoader> loaders = new ArrayList<>();
@@ -150,6 +175,9 @@ public class PersistenceManagerImpl implements PersistenceManager {
    private boolean preloaded;
    private Future availabilityFuture;
    private volatile StoreUnavailableException unavailableException;
+   private volatile KeyBloomFilter bloomFilter;
+   private final LongAdder bloomFilterNegatives = new LongAdder();
+   private final LongAdder bloomFilterFalsePositives = new LongAdder();
 
    @Override
    @Start()
@@ -186,11 +214,129 @@ public void start() {
             }
             storesMutex.writeLock().unlock();
          }
+         createBloomFilter();
       } catch (Exception e) {
          throw new CacheException("Unable to start cache loaders", e);
       }
    }
 
+   /**
+    * The filter is populated with the keys of all the stores before the cache starts, and from then on with the keys
+    * of every write. It can only be used when all the loaders are stores whose contents are only changed through this
+    * cache.
+    */
+   private void createBloomFilter() {
+      int bloomFilterSize = configuration.persistence().bloomFilterSize();
+      if (bloomFilterSize <= 0)
+         return;
+
+      List<AdvancedCacheLoader> stores = new ArrayList<>();
+      storesMutex.readLock().lock();
+      try {
+         for (CacheLoader l : loaders) {
+            StoreConfiguration storeConfiguration = getStoreConfig(l);
+            if (storeConfiguration.shared() || storeConfiguration.ignoreModifications() ||
+                  !(l instanceof AdvancedCacheLoader) || !(undelegate(l) instanceof CacheWriter)) {
+               log.bloomFilterNotSupported(cacheName, undelegate(l).getClass().getName());
+               return;
+            }
+            stores.add((AdvancedCacheLoader) l);
+         }
+      } finally {
+         storesMutex.readLock().unlock();
+      }
+
+      long start = timeService.time();
+      KeyBloomFilter filter = new KeyBloomFilter(configuration.clustering().hash().numSegments(), bloomFilterSize);
+      for (AdvancedCacheLoader<Object, Object> store : stores) {
+         Flowable.fromPublisher(store.publishKeys(null))
+               .blockingForEach(key -> filter.add(keyPartitioner.getSegment(key), key));
+      }
+      bloomFilter = filter;
+      if (trace) {
+         log.tracef("Created the Bloom filter of the stores of cache %s in %s", cacheName,
+               Util.prettyPrintTime(timeService.timeDuration(start, MILLISECONDS), MILLISECONDS));
+      }
+   }
+
+   /**
+    * Adds the key to the Bloom filter, if any. Must be called before the key is written to the stores, so that a
+    * concurrent load never skips a key that is being written.
+    */
+   private void addToBloomFilter(Object key) {
+      KeyBloomFilter filter = bloomFilter;
+      if (filter != null) {
+         filter.add(keyPartitioner.getSegment(key), key);
+      }
+   }
+
+   private boolean isNotInStores(Object key) {
+      KeyBloomFilter filter = bloomFilter;
+      if (filter != null && !filter.mightContain(keyPartitioner.getSegment(key), key)) {
+         bloomFilterNegatives.increment();
+         return true;
+      }
+      return false;
+   }
+
+   /**
+    * Counts a Bloom filter false positive, but only if a loader was asked for the key: a lookup that no loader was
+    * allowed to handle says nothing about the filter.
+    */
+   private void recordMiss(boolean loaded) {
+      if (loaded && bloomFilter != null) {
+         bloomFilterFalsePositives.increment();
+      }
+   }
+
+   @ManagedAttribute(
+         description = "Whether store lookups are filtered by a Bloom filter of the stored keys",
+         displayName = "Bloom filter enabled",
+         dataType = DataType.TRAIT
+   )
+   public boolean isBloomFilterEnabled() {
+      return bloomFilter != null;
+   }
+
+   @ManagedAttribute(
+         description = "Number of store lookups skipped because the Bloom filter reported the key as absent",
+         displayName = "Number of Bloom filter negatives",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getBloomFilterNegatives() {
+      return bloomFilterNegatives.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Number of store lookups for absent keys that the Bloom filter reported as possibly present",
+         displayName = "Number of Bloom filter false positives",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getBloomFilterFalsePositives() {
+      return bloomFilterFalsePositives.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Percentage of the lookups for absent keys that the Bloom filter did not skip",
+         displayName = "Bloom filter false positive rate",
+         units = Units.PERCENTAGE,
+         displayType = DisplayType.SUMMARY
+   )
+   public double getBloomFilterFalsePositiveRate() {
+      long falsePositives = bloomFilterFalsePositives.sum();
+      long total = falsePositives + bloomFilterNegatives.sum();
+      return total == 0 ? 0 : (double) falsePositives / total;
+   }
+
+   @ManagedOperation(
+         description = "Resets the Bloom filter statistics",
+         displayName = "Reset Bloom filter statistics"
+   )
+   public void resetBloomFilterStatistics() {
+      bloomFilterNegatives.reset();
+      bloomFilterFalsePositives.reset();
+   }
+
    protected void pollStoreAvailability() {
       storesMutex.readLock().lock();
       try {
@@ -315,18 +461,117 @@ public void preload() {
 
       long start = timeService.time();
 
-
       final long maxEntries = getMaxEntries();
-      final AtomicInteger loadedEntries = new AtomicInteger(0);
       final AdvancedCache<Object, Object> flaggedCache = getCacheForStateInsertion();
-      Long insertAmount = Flowable.fromPublisher(preloadCl.entryPublisher(null, true, true))
-            .take(maxEntries)
-            .doOnNext(me ->  preloadKey(flaggedCache, me.getKey(), me.getValue(), me.getMetadata()))
-            .count()
-            .blockingGet();
+      final int threads = Math.max(1, configuration.persistence().preloadThreads());
+      final boolean skipInterceptors = threads > 1 && canPreloadIntoDataContainer();
+      final boolean segmented = threads > 1 && isSegmented(preloadCl);
+      final int numSegments = configuration.clustering().hash().numSegments();
+      final AtomicLong insertedEntries = new AtomicLong();
+      final PreloadManager progress = preloadManager.wired();
+      progress.preloadStarted(cache.wired().getName(), segmented ? numSegments : -1);
+      io.reactivex.functions.Consumer<MarshallableEntry<Object, Object>> preloadEntry = me -> {
+         if (skipInterceptors) {
+            preloadIntoDataContainer(me);
+         } else {
+            preloadKey(flaggedCache, me.getKey(), me.getValue(), me.getMetadata());
+         }
+         insertedEntries.incrementAndGet();
+         progress.entryPreloaded();
+      };
+      try {
+         if (threads == 1) {
+            Flowable.fromPublisher(preloadCl.entryPublisher(null, true, true))
+                  .take(maxEntries)
+                  .doOnNext(preloadEntry)
+                  .ignoreElements()
+                  .blockingAwait();
+         } else {
+            AtomicLong acceptedEntries = new AtomicLong();
+            parallelPreloadPublisher(preloadCl, threads, segmented, numSegments, maxEntries, acceptedEntries, progress)
+                  .filter(me -> acceptedEntries.getAndIncrement() < maxEntries)
+                  .doOnNext(preloadEntry)
+                  .sequential()
+                  .ignoreElements()
+                  .blockingAwait();
+         }
+      } finally {
+         progress.preloadFinished();
+      }
+      long insertAmount = insertedEntries.get();
       this.preloaded = insertAmount < maxEntries;
 
-      log.debugf("Preloaded %d keys in %s", loadedEntries.get(), Util.prettyPrintTime(timeService.timeDuration(start, MILLISECONDS)));
+      log.debugf("Preloaded %d keys in %s using %d thread(s)%s", insertAmount,
+            Util.prettyPrintTime(timeService.timeDuration(start, MILLISECONDS)), threads,
+            skipInterceptors ? " directly into the data container" : "");
+   }
+
+   private boolean isSegmented(AdvancedCacheLoader<Object, Object> preloadCl) {
+      StoreConfiguration storeConfiguration = getStoreConfig(preloadCl);
+      return preloadCl instanceof SegmentedAdvancedLoadWriteStore && storeConfiguration != null &&
+            storeConfiguration.segmented();
+   }
+
+   /**
+    * Splits the preload in one publisher per segment when the store is segmented, otherwise the entries are read
+    * sequentially from the store and only their insertion is parallelized.
+    * <p>
+    * The publishers stop reading once {@code maxEntries} entries were accepted, so that the pipeline completes
+    * instead of being cancelled while the insertions are still running.
+    */
+   private ParallelFlowable<MarshallableEntry<Object, Object>> parallelPreloadPublisher(
+         AdvancedCacheLoader<Object, Object> preloadCl, int threads, boolean segmented, int numSegments,
+         long maxEntries, AtomicLong acceptedEntries, PreloadManager progress) {
+      Scheduler scheduler = Schedulers.from(persistenceExecutor);
+      if (segmented) {
+         SegmentedAdvancedLoadWriteStore<Object, Object> segmentedStore = (SegmentedAdvancedLoadWriteStore<Object, Object>) preloadCl;
+         IntSet segments = IntSets.immutableRangeSet(numSegments);
+         return new FlowableFromIntSetFunction<>(segments,
+               segment -> Flowable.fromPublisher(segmentedStore.entryPublisher(IntSets.immutableSet(segment), null, true, true))
+                     .takeWhile(ignore -> acceptedEntries.get() < maxEntries)
+                     .doOnComplete(progress::segmentPreloaded))
+               .parallel(threads)
+               .runOn(scheduler)
+               .flatMap(Functions.identity());
+      }
+      return Flowable.fromPublisher(preloadCl.entryPublisher(null, true, true))
+            .take(maxEntries)
+            .parallel(threads)
+            .runOn(scheduler);
+   }
+
+   /**
+    * Entries can be written straight into the data container, skipping the interceptor chain, only if no interceptor
+    * would act on a state insertion: there must be no transactions, indexing, passivation, custom interceptors or
+    * listeners. The entries must also be stored as they are loaded, i.e. in object form without an encoder.
+    */
+   private boolean canPreloadIntoDataContainer() {
+      if (configuration.transaction().transactionMode().isTransactional() ||
+            configuration.persistence().passivation() ||
+            configuration.clustering().cacheMode().isScattered() ||
+            !configuration.customInterceptors().interceptors().isEmpty() ||
+            !cacheNotifier.getListeners().isEmpty() ||
+            configuration.memory().storageType() != StorageType.OBJECT) {
+         return false;
+      }
+      AdvancedCache<Object, Object> advancedCache = cache.wired();
+      if (!(advancedCache.getKeyDataConversion().getEncoder() instanceof IdentityEncoder) ||
+            !(advancedCache.getValueDataConversion().getEncoder() instanceof IdentityEncoder)) {
+         return false;
+      }
+      return !configuration.indexing().enabled();
+   }
+
+   private void preloadIntoDataContainer(MarshallableEntry<Object, Object> me) {
+      Object key = me.getKey();
+      Metadata metadata = me.getMetadata();
+      if (metadata == null) {
+         metadata = new EmbeddedMetadata.Builder().build();
+      }
+      // Only the wrapping applies, as the encoders are identity ones
+      key = cache.wired().getKeyDataConversion().toStorage(key);
+      Object value = cache.wired().getValueDataConversion().toStorage(me.getValue());
+      dataContainer.wired().put(keyPartitioner.getSegment(key), key, value, metadata, me.created(), me.lastUsed());
    }
 
    @Override
@@ -484,6 +729,10 @@ public void purgeExpired() {
 
    @Override
    public void clearAllStores(Predicate<? super StoreConfiguration> predicate) {
+      // The stores are about to be cleared, so there's no point in writing the buffered passivations
+      if (passivationManager.isRunning()) {
+         passivationManager.running().clearPendingPassivations();
+      }
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -504,6 +753,7 @@ public void clearAllStores(Predicate<? super StoreConfiguration> predicate) {
 
    @Override
    public boolean deleteFromAllStores(Object key, int segment, Predicate<? super StoreConfiguration> predicate) {
+      cancelPendingPassivation(key);
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -557,6 +807,7 @@ <K, V> SegmentedAdvancedLoadWriteStore<K, V> getFirstSegmentedStore(Predicate<?
    @Override
    public <K, V> Publisher<MarshallableEntry<K, V>> publishEntries(Predicate<? super K> filter, boolean fetchValue,
                                                                    boolean fetchMetadata, Predicate<? super StoreConfiguration> predicate) {
+      flushPendingPassivations();
       AdvancedCacheLoader<K, V> advancedCacheLoader = getFirstAdvancedCacheLoader(predicate);
 
       if (advancedCacheLoader != null) {
@@ -573,6 +824,7 @@ public <K, V> Publisher<MarshallableEntry<K, V>> publishEntries(Predicate<? supe
    @Override
    public <K, V> Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments, Predicate<? super K> filter,
                                                                    boolean fetchValue, boolean fetchMetadata, Predicate<? super StoreConfiguration> predicate) {
+      flushPendingPassivations();
       SegmentedAdvancedLoadWriteStore<K, V> segmentedStore = getFirstSegmentedStore(predicate);
       if (segmentedStore != null) {
          return Flowable.using(publisherSemaphoreCallable, semaphore -> {
@@ -585,6 +837,7 @@ public <K, V> Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments,
 
    @Override
    public <K> Publisher<K> publishKeys(Predicate<? super K> filter, Predicate<? super StoreConfiguration> predicate) {
+      flushPendingPassivations();
       AdvancedCacheLoader<K, ?> advancedCacheLoader = getFirstAdvancedCacheLoader(predicate);
 
       if (advancedCacheLoader != null) {
@@ -601,6 +854,7 @@ public <K> Publisher<K> publishKeys(Predicate<? super K> filter, Predicate<? sup
    @Override
    public <K> Publisher<K> publishKeys(IntSet segments, Predicate<? super K> filter,
          Predicate<? super StoreConfiguration> predicate) {
+      flushPendingPassivations();
       SegmentedAdvancedLoadWriteStore<K, ?> segmentedStore = getFirstSegmentedStore(predicate);
 
       if (segmentedStore != null) {
@@ -617,16 +871,26 @@ public <K> Publisher<K> publishKeys(IntSet segments, Predicate<? super K> filter
 
    @Override
    public MarshallableEntry loadFromAllStores(Object key, boolean localInvocation, boolean includeStores) {
+      if (includeStores) {
+         MarshallableEntry pending = getPendingPassivation(key);
+         if (pending != null)
+            return pending.isExpired(timeService.wallClockTime()) ? null : pending;
+      }
+      if (isNotInStores(key))
+         return null;
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
+         boolean loaded = false;
          for (CacheLoader l : loaders) {
             if (allowLoad(l, localInvocation, includeStores)) {
                MarshallableEntry load = l.loadEntry(key);
                if (load != null)
                   return load;
+               loaded = true;
             }
          }
+         recordMiss(loaded);
          return null;
       } finally {
          storesMutex.readLock().unlock();
@@ -635,6 +899,13 @@ public MarshallableEntry loadFromAllStores(Object key, boolean localInvocation,
 
    @Override
    public MarshallableEntry loadFromAllStores(Object key, int segment, boolean localInvocation, boolean includeStores) {
+      if (includeStores) {
+         MarshallableEntry pending = getPendingPassivation(key);
+         if (pending != null)
+            return pending.isExpired(timeService.wallClockTime()) ? null : pending;
+      }
+      if (isNotInStores(key))
+         return null;
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -645,19 +916,42 @@ public MarshallableEntry loadFromAllStores(Object key, int segment, boolean loca
                   return load;
             }
          }
+         boolean loaded = false;
          for (CacheLoader l : loaders) {
             if (allowLoad(l, localInvocation, includeStores)) {
                MarshallableEntry load = l.loadEntry(key);
                if (load != null)
                   return load;
+               loaded = true;
             }
          }
+         recordMiss(loaded);
          return null;
       } finally {
          storesMutex.readLock().unlock();
       }
    }
 
+   /**
+    * Bulk operations read the stores directly, so entries still buffered by the passivation manager must be written
+    * first.
+    */
+   private void flushPendingPassivations() {
+      if (passivationManager.isRunning()) {
+         passivationManager.running().flushPendingPassivations();
+      }
+   }
+
+   private void cancelPendingPassivation(Object key) {
+      if (passivationManager.isRunning()) {
+         passivationManager.running().cancelPendingPassivation(key);
+      }
+   }
+
+   private MarshallableEntry getPendingPassivation(Object key) {
+      return passivationManager.isRunning() ? passivationManager.running().getPendingPassivation(key) : null;
+   }
+
    private boolean allowLoad(CacheLoader loader, boolean localInvocation, boolean includeStores) {
       return (localInvocation || !isLocalOnlyLoader(loader)) && (includeStores || !(loader instanceof CacheWriter));
    }
@@ -680,6 +974,8 @@ public void writeToAllNonTxStores(MarshallableEntry marshalledEntry, int segment
    @Override
    public void writeToAllNonTxStores(MarshallableEntry marshalledEntry, int segment,
                                      Predicate<? super StoreConfiguration> predicate, long flags) {
+      cancelPendingPassivation(marshalledEntry.getKey());
+      addToBloomFilter(marshalledEntry.getKey());
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -705,6 +1001,9 @@ public void writeBatchToAllNonTxStores(Iterable<MarshallableEntry> entries,
       if (!entries.iterator().hasNext())
          return;
 
+      if (bloomFilter != null) {
+         entries.forEach(entry -> addToBloomFilter(entry.getKey()));
+      }
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -736,6 +1035,8 @@ public void deleteBatchFromAllNonTxStores(Iterable<Object> keys, Predicate<? sup
       if (!keys.iterator().hasNext())
          return;
 
+      keys.forEach(this::cancelPendingPassivation);
+
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -750,6 +1051,9 @@ public void deleteBatchFromAllNonTxStores(Iterable<Object> keys, Predicate<? sup
    @Override
    public void prepareAllTxStores(Transaction transaction, BatchModification batchModification,
          Predicate<? super StoreConfiguration> predicate) throws PersistenceException {
+      if (bloomFilter != null) {
+         batchModification.getMarshallableEntries().forEach(entry -> addToBloomFilter(entry.getKey()));
+      }
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -792,6 +1096,7 @@ public AdvancedCacheLoader getStateTransferProvider() {
 
    @Override
    public int size(Predicate<? super StoreConfiguration> predicate) {
+      flushPendingPassivations();
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -808,6 +1113,7 @@ public int size(Predicate<? super StoreConfiguration> predicate) {
 
    @Override
    public int size(IntSet segments) {
+      flushPendingPassivations();
       storesMutex.readLock().lock();
       try {
          checkStoreAvailability();
@@ -1,19 +1,144 @@
 package org.infinispan.persistence.manager;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.Util;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DataType;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
 /**
- * Separate the preload into its own component
+ * Separate the preload into its own component.
+ * <p>
+ * The component also keeps track of the preload progress, which is exposed via JMX and periodically logged while
+ * the preload is running. The total number of entries is not reported, as computing the size of some stores requires
+ * a full scan. Instead, when the store is preloaded one segment at a time, the remaining time is estimated from the
+ * number of segments already preloaded.
  */
 @Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "Preload", description = "Component that preloads the cache with the contents of the cache store on startup.")
 public class PreloadManager {
+   private static final Log log = LogFactory.getLog(PreloadManager.class);
+   private static final long LOG_INTERVAL_NANOS = SECONDS.toNanos(10);
+
    @Inject private PersistenceManager persistenceManager;
+   @Inject private TimeService timeService;
+
+   private final AtomicLong preloadedEntries = new AtomicLong();
+   private final AtomicLong nextLogTime = new AtomicLong();
+   private final AtomicLong preloadedSegments = new AtomicLong();
+   private volatile String cacheName;
+   private volatile int totalSegments = -1;
+   private volatile long startTime;
+   private volatile long endTime;
+   private volatile boolean inProgress;
 
    @Start
    public void start() {
       persistenceManager.preload();
    }
+
+   void preloadStarted(String cacheName, int totalSegments) {
+      this.cacheName = cacheName;
+      this.totalSegments = totalSegments;
+      this.preloadedEntries.set(0);
+      this.preloadedSegments.set(0);
+      this.startTime = timeService.time();
+      this.nextLogTime.set(startTime + LOG_INTERVAL_NANOS);
+      this.inProgress = true;
+   }
+
+   void entryPreloaded() {
+      long preloaded = preloadedEntries.incrementAndGet();
+      long logTime = nextLogTime.get();
+      long now;
+      if ((preloaded & 0x3FF) == 0 && (now = timeService.time()) >= logTime &&
+            nextLogTime.compareAndSet(logTime, now + LOG_INTERVAL_NANOS)) {
+         long remaining = getEstimatedTimeRemaining();
+         log.preloadProgress(preloaded, cacheName, getPreloadRate(),
+               remaining < 0 ? "unknown" : Util.prettyPrintTime(remaining, MILLISECONDS));
+      }
+   }
+
+   void segmentPreloaded() {
+      preloadedSegments.incrementAndGet();
+   }
+
+   void preloadFinished() {
+      this.endTime = timeService.time();
+      this.inProgress = false;
+   }
+
+   @ManagedAttribute(
+         description = "Whether the preload of the cache is currently in progress",
+         displayName = "Preload in progress",
+         dataType = DataType.TRAIT
+   )
+   public boolean isPreloadInProgress() {
+      return inProgress;
+   }
+
+   @ManagedAttribute(
+         description = "Number of entries preloaded from the cache store",
+         displayName = "Number of preloaded entries",
+         measurementType = MeasurementType.TRENDSUP,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getPreloadedEntries() {
+      return preloadedEntries.get();
+   }
+
+   @ManagedAttribute(
+         description = "Average number of entries preloaded per second",
+         displayName = "Preload rate",
+         displayType = DisplayType.SUMMARY
+   )
+   public long getPreloadRate() {
+      long elapsed = (inProgress ? timeService.time() : endTime) - startTime;
+      if (elapsed <= 0)
+         return 0;
+      return preloadedEntries.get() * SECONDS.toNanos(1) / elapsed;
+   }
+
+   @ManagedAttribute(
+         description = "Estimated time remaining until the preload completes, or -1 if unknown",
+         displayName = "Preload estimated time remaining",
+         units = Units.MILLISECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getEstimatedTimeRemaining() {
+      if (!inProgress)
+         return 0;
+      long total = totalSegments;
+      long preloaded = preloadedSegments.get();
+      if (total < 0 || preloaded == 0)
+         return -1;
+      long elapsed = timeService.time() - startTime;
+      return NANOSECONDS.toMillis(elapsed * (total - preloaded) / preloaded);
+   }
+
+   @ManagedAttribute(
+         description = "Time spent preloading the cache",
+         displayName = "Preload time",
+         units = Units.MILLISECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getPreloadTime() {
+      long end = inProgress ? timeService.time() : endTime;
+      return NANOSECONDS.toMillis(end - startTime);
+   }
 }
@@ -10,6 +10,7 @@
 import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
 import org.infinispan.commons.CacheException;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.GlobalComponentRegistry;
@@ -118,7 +119,11 @@ private void handleCacheRpcCommand(Address origin, CacheRpcCommand command, Repl
       }
       initializeCacheRpcCommand(command, cr);
       PerCacheInboundInvocationHandler handler = cr.getPerCacheInboundInvocationHandler();
-      handler.handle(command, reply, mode);
+      if (command.getCommandId() == GroupCommitCommand.COMMAND_ID) {
+         ((GroupCommitCommand) command).handle(handler, reply, mode);
+      } else {
+         handler.handle(command, reply, mode);
+      }
    }
 
    private void initializeCacheRpcCommand(CacheRpcCommand command, ComponentRegistry componentRegistry) {
@@ -12,6 +12,7 @@
 import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commands.remote.SingleRpcCommand;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
 import org.infinispan.commands.triangle.BackupWriteCommand;
 import org.infinispan.commands.triangle.MultiEntriesFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.MultiKeyFunctionalBackupWriteCommand;
@@ -99,6 +100,9 @@ public void handle(CacheRpcCommand command, Reply reply, DeliverOrder order) {
             case MultiKeyFunctionalBackupWriteCommand.COMMAND_ID:
                handleMultiKeyBackupCommand((BackupWriteCommand) command);
                return;
+            case BackupWriteBatchCommand.COMMAND_ID:
+               handleBackupWriteBatchCommand((BackupWriteBatchCommand) command, reply, order);
+               return;
             case BackupAckCommand.COMMAND_ID:
                handleBackupAckCommand((BackupAckCommand) command);
                return;
@@ -198,6 +202,12 @@ private void handleSingleKeyBackupCommand(BackupWriteCommand command) {
       remoteCommandsExecutor.execute(runnable);
    }
 
+   private void handleBackupWriteBatchCommand(BackupWriteBatchCommand command, Reply reply, DeliverOrder order) {
+      for (BackupWriteCommand backupCommand : command.getCommands()) {
+         handle(backupCommand, reply, order);
+      }
+   }
+
    private void handleExceptionAck(ExceptionAckCommand command) {
       command.ack();
    }
@@ -5,6 +5,7 @@
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.infinispan.commands.ReplicableCommand;
@@ -80,6 +81,20 @@ <T> CompletionStage<T> invokeCommandOnAll(ReplicableCommand command, ResponseCol
    <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
                                                  ResponseCollector<T> collector, RpcOptions rpcOptions);
 
+   /**
+    * Same as {@link #invokeCommandStaggered(Collection, ReplicableCommand, ResponseCollector, RpcOptions)}, but the
+    * delay before sending the command to the next target is {@code staggerDelay}, capped by the remaining time until
+    * the timeout. A {@code staggerDelay} {@code <= 0} uses the implementation-dependent delay.
+    *
+    * @since 10.0
+    */
+   @Experimental
+   default <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
+                                                         ResponseCollector<T> collector, RpcOptions rpcOptions,
+                                                         long staggerDelay, TimeUnit unit) {
+      return invokeCommandStaggered(targets, command, collector, rpcOptions);
+   }
+
    /**
     * Invoke different commands on a collection of nodes and pass the responses to a {@link ResponseCollector}.
     *
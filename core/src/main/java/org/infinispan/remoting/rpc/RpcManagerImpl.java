@@ -227,18 +227,26 @@ public <T> CompletionStage<T> invokeCommandOnAll(ReplicableCommand command, Resp
    @Override
    public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
                                                         ResponseCollector<T> collector, RpcOptions rpcOptions) {
+      return invokeCommandStaggered(targets, command, collector, rpcOptions, 0, rpcOptions.timeUnit());
+   }
+
+   @Override
+   public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
+                                                        ResponseCollector<T> collector, RpcOptions rpcOptions,
+                                                        long staggerDelay, TimeUnit unit) {
       CacheRpcCommand cacheRpc = toCacheRpcCommand(command);
+      long timeout = unit.convert(rpcOptions.timeout(), rpcOptions.timeUnit());
 
       if (!statisticsEnabled) {
-         return t.invokeCommandStaggered(targets, cacheRpc, collector, rpcOptions.deliverOrder(), rpcOptions.timeout(),
-                                         rpcOptions.timeUnit());
+         return t.invokeCommandStaggered(targets, cacheRpc, collector, rpcOptions.deliverOrder(), timeout,
+                                         staggerDelay, unit);
       }
 
       long startTimeNanos = timeService.time();
       CompletionStage<T> invocation;
       try {
-         invocation = t.invokeCommandStaggered(targets, cacheRpc, collector, rpcOptions.deliverOrder(),
-                                               rpcOptions.timeout(), rpcOptions.timeUnit());
+         invocation = t.invokeCommandStaggered(targets, cacheRpc, collector, rpcOptions.deliverOrder(), timeout,
+                                               staggerDelay, unit);
       } catch (Exception e) {
          return errorReplicating(e);
       }
@@ -222,6 +222,13 @@ public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets
       return actual.invokeCommandStaggered(targets, command, collector, deliverOrder, timeout, unit);
    }
 
+   @Override
+   public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
+                                                        ResponseCollector<T> collector, DeliverOrder deliverOrder,
+                                                        long timeout, long staggerDelay, TimeUnit unit) {
+      return actual.invokeCommandStaggered(targets, command, collector, deliverOrder, timeout, staggerDelay, unit);
+   }
+
    @Override
    public <T> CompletionStage<T> invokeCommands(Collection<Address> targets,
                                                 Function<Address, ReplicableCommand> commandGenerator,
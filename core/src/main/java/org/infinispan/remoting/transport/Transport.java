@@ -396,6 +396,20 @@ public boolean needMoreResponses() {
       }
    }
 
+   /**
+    * Same as {@link #invokeCommandStaggered(Collection, ReplicableCommand, ResponseCollector, DeliverOrder, long, TimeUnit)},
+    * but the delay before sending the command to the next target is {@code staggerDelay}, capped by the remaining
+    * time until the timeout. A {@code staggerDelay} {@code <= 0} uses the implementation-dependent delay.
+    *
+    * @since 10.0
+    */
+   @Experimental
+   default <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
+                                                         ResponseCollector<T> collector, DeliverOrder deliverOrder,
+                                                         long timeout, long staggerDelay, TimeUnit unit) {
+      return invokeCommandStaggered(targets, command, collector, deliverOrder, timeout, unit);
+   }
+
    /**
     * Invoke different commands on a collection of nodes and pass the responses to a {@link ResponseCollector}.
     * <p>
@@ -0,0 +1,161 @@
+package org.infinispan.remoting.transport.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * Tracks the response time of the remote reads sent to each node.
+ * <p>
+ * Only the responses to staggered requests, which are used for remote reads, are recorded. Writes, prepares and state
+ * transfer requests may wait for locks or transfer large amounts of data, so their response time would not reflect
+ * the read latency.
+ * <p>
+ * For each node it keeps an exponentially weighted moving average of the response time, used to pick the fastest
+ * owner for a remote read, and the 95th percentile of the last {@link #SAMPLES} response times, used as the stagger
+ * delay before asking the next owner.
+ * <p>
+ * The average of a node without any response in the last second is considered unknown, so that the node is tried
+ * again and a node that was slow once doesn't stay slow forever.
+ *
+ * @since 10.0
+ */
+@Scope(Scopes.GLOBAL)
+@MBean(objectName = "RpcLatencyTracker", description = "Tracks the response time of the remote reads sent to each node")
+public class RpcLatencyTracker {
+   static final int SAMPLES = 64;
+   private static final long STALE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+   @Inject private TimeService timeService;
+
+   private final ConcurrentMap<Address, NodeLatency> latencies = new ConcurrentHashMap<>();
+
+   /**
+    * @return the start time to pass to {@link #recordResponse(Address, long)}
+    */
+   public long startTime() {
+      return timeService.time();
+   }
+
+   /**
+    * Records the response time of a request sent to {@code target} at {@code startTime}.
+    */
+   public void recordResponse(Address target, long startTime) {
+      long latency = timeService.timeDuration(startTime, TimeUnit.NANOSECONDS);
+      latencies.computeIfAbsent(target, a -> new NodeLatency()).record(latency, timeService.time());
+   }
+
+   /**
+    * @return the average response time of {@code target} in nanoseconds, or {@code -1} if it's unknown.
+    */
+   public long getAverageLatency(Address target) {
+      NodeLatency latency = latencies.get(target);
+      if (latency == null || timeService.timeDuration(latency.lastSampleTime, TimeUnit.NANOSECONDS) > STALE_NANOS) {
+         return -1;
+      }
+      return latency.average;
+   }
+
+   /**
+    * @return the delay in nanoseconds before asking another node if {@code target} didn't respond, or {@code 0} if
+    * there aren't enough samples.
+    */
+   public long getStaggerDelay(Address target) {
+      NodeLatency latency = latencies.get(target);
+      return latency != null ? latency.percentile : 0;
+   }
+
+   /**
+    * @return {@code owners} with the owner with the lowest average response time first, and the others in their
+    * original order. An owner with an unknown average response time is preferred.
+    */
+   public List<Address> sortByLatency(Collection<Address> owners) {
+      List<Address> targets = new ArrayList<>(owners);
+      int fastestIndex = 0;
+      long fastestLatency = Long.MAX_VALUE;
+      for (int i = 0; i < targets.size(); i++) {
+         long latency = getAverageLatency(targets.get(i));
+         if (latency < fastestLatency) {
+            fastestIndex = i;
+            fastestLatency = latency;
+         }
+      }
+      if (fastestIndex > 0) {
+         targets.add(0, targets.remove(fastestIndex));
+      }
+      return targets;
+   }
+
+   /**
+    * Forgets the nodes that are no longer {@code members} of the cluster.
+    */
+   public void retainAll(Collection<Address> members) {
+      latencies.keySet().retainAll(members);
+   }
+
+   @ManagedAttribute(description = "Average response time of the requests sent to each node (in microseconds)",
+         displayName = "Average latencies")
+   public Map<String, Long> getAverageLatencies() {
+      Map<String, Long> averages = new TreeMap<>();
+      latencies.forEach((address, latency) -> averages.put(address.toString(),
+            TimeUnit.NANOSECONDS.toMicros(latency.average)));
+      return averages;
+   }
+
+   @ManagedAttribute(description = "95th percentile of the recent response times of each node (in microseconds)",
+         displayName = "Latency percentiles")
+   public Map<String, Long> getLatencyPercentiles() {
+      Map<String, Long> percentiles = new TreeMap<>();
+      latencies.forEach((address, latency) -> percentiles.put(address.toString(),
+            TimeUnit.NANOSECONDS.toMicros(latency.percentile)));
+      return percentiles;
+   }
+
+   @ManagedOperation(description = "Forgets the response times of all the nodes", displayName = "Reset statistics")
+   public void resetStatistics() {
+      latencies.clear();
+   }
+
+   /**
+    * The response times of a node, updated under the instance's lock and read without it.
+    */
+   private static class NodeLatency {
+      private final long[] samples = new long[SAMPLES];
+      private int count;
+      private int next;
+      private volatile long average;
+      private volatile long percentile;
+      private volatile long lastSampleTime;
+
+      synchronized void record(long latency, long now) {
+         average = count == 0 ? latency : average + ((latency - average) >> 3);
+         samples[next] = latency;
+         next = (next + 1) % SAMPLES;
+         if (count < SAMPLES) {
+            count++;
+         }
+         // Sort the samples again after every SAMPLES / 4 responses
+         if (count >= SAMPLES / 4 && next % (SAMPLES / 4) == 0) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentile = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+         }
+         lastSampleTime = now;
+      }
+   }
+}
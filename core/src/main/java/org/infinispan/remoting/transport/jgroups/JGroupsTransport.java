@@ -77,6 +77,7 @@
 import org.infinispan.remoting.transport.impl.MultiTargetRequest;
 import org.infinispan.remoting.transport.impl.Request;
 import org.infinispan.remoting.transport.impl.RequestRepository;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
 import org.infinispan.remoting.transport.impl.SingleResponseCollector;
 import org.infinispan.remoting.transport.impl.SingleTargetRequest;
 import org.infinispan.remoting.transport.impl.SingletonMapResponseCollector;
@@ -147,6 +148,7 @@ public class JGroupsTransport implements Transport {
    @Inject protected CacheManagerNotifier notifier;
    @Inject protected TimeService timeService;
    @Inject protected InboundInvocationHandler invocationHandler;
+   @Inject protected RpcLatencyTracker latencyTracker;
    @Inject @ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR)
    protected ScheduledExecutorService timeoutExecutor;
    @Inject @ComponentName(KnownComponentNames.REMOTE_COMMAND_EXECUTOR)
@@ -654,6 +656,7 @@ protected void receiveClusterView(View newView) {
          }
 
          this.clusterView = new ClusterView((int) viewId, members, address);
+         latencyTracker.retainAll(members);
 
          // Create a completable future for the new view
          oldFuture = nextViewFuture;
@@ -930,11 +933,18 @@ public <T> CompletionStage<T> invokeCommandOnAll(Collection<Address> requiredTar
    public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
                                                         ResponseCollector<T> collector, DeliverOrder deliverOrder,
                                                         long timeout, TimeUnit unit) {
+      return invokeCommandStaggered(targets, command, collector, deliverOrder, timeout, 0, unit);
+   }
+
+   @Override
+   public <T> CompletionStage<T> invokeCommandStaggered(Collection<Address> targets, ReplicableCommand command,
+                                                        ResponseCollector<T> collector, DeliverOrder deliverOrder,
+                                                        long timeout, long staggerDelay, TimeUnit unit) {
       long requestId = requests.newRequestId();
       logRequest(requestId, command, "staggered " + targets);
       StaggeredRequest<T> request =
             new StaggeredRequest<>(collector, requestId, requests, targets, getAddress(), command, deliverOrder,
-                                   timeout, unit, this);
+                                   timeout, staggerDelay, unit, this);
       try {
          addRequest(request);
          request.onNewView(clusterView.getMembersSet());
@@ -1252,6 +1262,10 @@ ScheduledExecutorService getTimeoutExecutor() {
       return timeoutExecutor;
    }
 
+   RpcLatencyTracker getLatencyTracker() {
+      return latencyTracker;
+   }
+
    private void processMessage(Message message) {
       org.jgroups.Address src = message.src();
       short flags = message.getFlags();
@@ -10,6 +10,7 @@
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.remoting.transport.impl.MultiTargetRequest;
 import org.infinispan.remoting.transport.impl.RequestRepository;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
 import org.infinispan.remoting.transport.ResponseCollector;
 
 import net.jcip.annotations.GuardedBy;
@@ -22,22 +23,28 @@
    private final ReplicableCommand command;
    private final DeliverOrder deliverOrder;
    private final JGroupsTransport transport;
+   private final long staggerDelayNanos;
 
    @GuardedBy("responseCollector")
    private long deadline;
    @GuardedBy("responseCollector")
    private int targetIndex;
+   @GuardedBy("responseCollector")
+   private final long[] startTimes;
 
    StaggeredRequest(ResponseCollector<T> responseCollector, long requestId, RequestRepository repository,
                     Collection<Address> targets, Address excludedTarget, ReplicableCommand command,
-                    DeliverOrder deliverOrder, long timeout, TimeUnit unit, JGroupsTransport transport) {
+                    DeliverOrder deliverOrder, long timeout, long staggerDelay, TimeUnit unit,
+                    JGroupsTransport transport) {
       super(responseCollector, requestId, repository, targets, excludedTarget);
 
       this.command = command;
       this.deliverOrder = deliverOrder;
       this.transport = transport;
+      this.staggerDelayNanos = unit.toNanos(staggerDelay);
 
       this.deadline = transport.timeService.expectedEndTime(timeout, unit);
+      this.startTimes = new long[getTargetsSize()];
    }
 
    @Override
@@ -47,6 +54,24 @@ public void setTimeout(ScheduledExecutorService timeoutExecutor, long timeout, T
 
    @Override
    public synchronized void onResponse(Address sender, Response response) {
+      // Staggered requests are only used for remote reads, so writes waiting for locks don't skew the read latency
+      RpcLatencyTracker latencyTracker = transport.getLatencyTracker();
+      if (latencyTracker != null) {
+         int senderIndex = -1;
+         long startTime = 0;
+         synchronized (responseCollector) {
+            for (int i = 0; i < targetIndex; i++) {
+               if (sender.equals(getTarget(i))) {
+                  senderIndex = i;
+                  startTime = startTimes[i];
+                  break;
+               }
+            }
+         }
+         if (senderIndex >= 0) {
+            latencyTracker.recordResponse(sender, startTime);
+         }
+      }
       super.onResponse(sender, response);
 
       sendNextMessage();
@@ -93,6 +118,10 @@ void sendNextMessage() {
             }
 
             isFinalTarget = targetIndex >= getTargetsSize();
+            RpcLatencyTracker latencyTracker = transport.getLatencyTracker();
+            if (latencyTracker != null) {
+               startTimes[targetIndex - 1] = latencyTracker.startTime();
+            }
          }
 
          // Sending may block in flow-control or even in TCP, so we must do it outside the critical section
@@ -103,7 +132,8 @@ void sendNextMessage() {
          // Otherwise, schedule a timeout task to send a staggered request to the next target
          long delayNanos = transport.getTimeService().remainingTime(deadline, TimeUnit.NANOSECONDS);
          if (!isFinalTarget) {
-            delayNanos = delayNanos / 10 / getTargetsSize();
+            delayNanos = staggerDelayNanos > 0 ? Math.min(staggerDelayNanos, delayNanos) :
+                         delayNanos / 10 / getTargetsSize();
          }
          super.setTimeout(transport.getTimeoutExecutor(), delayNanos, TimeUnit.NANOSECONDS);
       } catch (Exception e) {
@@ -18,6 +18,7 @@
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
 import org.infinispan.LockedStream;
+import org.infinispan.WriteBatch;
 import org.infinispan.atomic.Delta;
 import org.infinispan.batch.BatchContainer;
 import org.infinispan.commons.dataconversion.Encoder;
@@ -47,6 +48,7 @@
 import org.infinispan.security.SecureCache;
 import org.infinispan.stats.Stats;
 import org.infinispan.util.concurrent.locks.LockManager;
+import org.reactivestreams.Publisher;
 
 /**
  * SecureCacheImpl.
@@ -405,6 +407,18 @@ public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> rem
       return delegate.merge(key, value, remappingFunction, metadata);
    }
 
+   @Override
+   public Map<K, WriteBatch.Result<V>> executeBatch(WriteBatch<K, V> batch) {
+      authzManager.checkPermission(subject, AuthorizationPermission.WRITE);
+      return delegate.executeBatch(batch);
+   }
+
+   @Override
+   public CompletableFuture<Map<K, WriteBatch.Result<V>>> executeBatchAsync(WriteBatch<K, V> batch) {
+      authzManager.checkPermission(subject, AuthorizationPermission.WRITE);
+      return delegate.executeBatchAsync(batch);
+   }
+
    @Override
    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction, Metadata metadata) {
       authzManager.checkPermission(subject, AuthorizationPermission.WRITE);
@@ -912,6 +926,12 @@ public CompletableFuture<Map<K, V>> getAllAsync(Set<?> keys) {
       return delegate.getAllAsync(keys);
    }
 
+   @Override
+   public Publisher<Map.Entry<K, V>> getAllPublisher(Set<?> keys) {
+      authzManager.checkPermission(subject, AuthorizationPermission.BULK_READ);
+      return delegate.getAllPublisher(keys);
+   }
+
    @Override
    public LockManager getLockManager() {
       authzManager.checkPermission(subject, AuthorizationPermission.WRITE);
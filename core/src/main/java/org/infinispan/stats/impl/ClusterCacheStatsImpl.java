@@ -30,6 +30,7 @@
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,7 +53,9 @@
 import org.infinispan.jmx.annotations.DisplayType;
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Parameter;
 import org.infinispan.jmx.annotations.Units;
 import org.infinispan.manager.ClusterExecutor;
 import org.infinispan.manager.EmbeddedCacheManager;
@@ -419,6 +422,60 @@ public long getStoreWrites() {
       return getStatAsLong(CACHE_WRITER_STORES);
    }
 
+   @ManagedAttribute(description = "Shows the " + HotKeyTracker.DEFAULT_TOP_KEYS + " most read keys in the cluster",
+         displayName = "Cluster wide top read keys")
+   public Map<String, Long> getTopReadKeys() {
+      return getTopKeys(HotKeyTracker.Type.READ, HotKeyTracker.DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + HotKeyTracker.DEFAULT_TOP_KEYS + " most written keys in the cluster",
+         displayName = "Cluster wide top written keys")
+   public Map<String, Long> getTopWrittenKeys() {
+      return getTopKeys(HotKeyTracker.Type.WRITE, HotKeyTracker.DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + HotKeyTracker.DEFAULT_TOP_KEYS + " most locked keys in the cluster",
+         displayName = "Cluster wide top locked keys")
+   public Map<String, Long> getTopLockedKeys() {
+      return getTopKeys(HotKeyTracker.Type.LOCK, HotKeyTracker.DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + HotKeyTracker.DEFAULT_TOP_KEYS + " keys whose lock was most often held by another owner in the cluster",
+         displayName = "Cluster wide top contended keys")
+   public Map<String, Long> getTopContendedKeys() {
+      return getTopKeys(HotKeyTracker.Type.CONTENDED_LOCK, HotKeyTracker.DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedOperation(description = "Shows the n keys with the most operations of a type (READ, WRITE, LOCK or CONTENDED_LOCK) in the cluster",
+         displayName = "Cluster wide top n keys")
+   public Map<String, Long> getNTopKeys(@Parameter(name = "type", description = "READ, WRITE, LOCK or CONTENDED_LOCK") String type,
+                                        @Parameter(name = "n", description = "the number of keys to return") int n) {
+      return getTopKeys(HotKeyTracker.Type.valueOf(type), n);
+   }
+
+   /**
+    * Sums the keys sampled by the {@link HotKeyTracker} of every node.
+    *
+    * @return Up to {@code n} keys with the estimated number of operations of the given type, highest first
+    */
+   public Map<String, Long> getTopKeys(HotKeyTracker.Type type, int n) {
+      ConcurrentMap<String, Long> counts = new ConcurrentHashMap<>();
+      TriConsumer<Address, Map<String, Long>, Throwable> triConsumer = (a, v, t) -> {
+         if (t != null) {
+            throw new CacheException(t);
+         }
+         v.forEach((key, count) -> counts.merge(key, count, Long::sum));
+      };
+      clusterExecutor.submitConsumer(new HotKeysFunction(cache.getName(), type), triConsumer).join();
+
+      Map<String, Long> top = new LinkedHashMap<>();
+      counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(n)
+            .forEachOrdered(e -> top.put(e.getKey(), e.getValue()));
+      return top;
+   }
+
    private void updateTimeSinceStart(Collection<Map<String, Number>> responseList) {
       long timeSinceStartMax = 0;
       for (Map<String, Number> m : responseList) {
@@ -457,6 +514,31 @@ private static CacheMode getCacheMode(Cache cache) {
       return cache.getCacheConfiguration().clustering().cacheMode();
    }
 
+   private static class HotKeysFunction implements Function<EmbeddedCacheManager, Map<String, Long>>, Serializable {
+
+      private static final long serialVersionUID = 2609519264316530546L;
+
+      private final String cacheName;
+      private final HotKeyTracker.Type type;
+
+      private HotKeysFunction(String cacheName, HotKeyTracker.Type type) {
+         this.cacheName = cacheName;
+         this.type = type;
+      }
+
+      @Override
+      public Map<String, Long> apply(EmbeddedCacheManager embeddedCacheManager) {
+         AdvancedCache<Object, Object> remoteCache = embeddedCacheManager.getCache(cacheName).getAdvancedCache();
+         HotKeyTracker hotKeyTracker = remoteCache.getComponentRegistry().getComponent(HotKeyTracker.class);
+         Map<String, Long> map = new HashMap<>();
+         if (hotKeyTracker != null) {
+            // A key that is not in the top n of any node can still be in the top n of the cluster
+            map.putAll(hotKeyTracker.getTopKeysAsString(type, HotKeyTracker.CAPACITY));
+         }
+         return map;
+      }
+   }
+
    private static class DistributedCacheStatsCallable implements
          Function<EmbeddedCacheManager, Map<String, Number>>, Serializable {
 
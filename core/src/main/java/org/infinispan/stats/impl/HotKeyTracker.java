@@ -0,0 +1,190 @@
+package org.infinispan.stats.impl;
+
+import static org.infinispan.commons.util.Util.toStr;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.Parameter;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Tracks the most read, written, locked and contended keys of a cache on this node.
+ * <p>
+ * Only one in {@link #getSampleRate()} operations is recorded, in a {@link SpaceSavingSketch} per {@link Type}, so
+ * the overhead stays low enough to leave it enabled in production. The reported counts are the sampled counts
+ * multiplied by the sample rate, i.e. estimates of the number of operations since the last reset.
+ * <p>
+ * Reads and writes are recorded by the statistics interceptor, so they are only sampled when statistics are enabled.
+ * Lock acquisitions are recorded by the lock manager on the node acquiring the lock, i.e. on the primary owner in
+ * non-transactional caches. {@link ClusterCacheStatsImpl} aggregates the keys from all the nodes.
+ *
+ * @since 10.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "HotKeys", description = "Samples the cache operations to find the most accessed keys")
+public class HotKeyTracker {
+   private static final Log log = LogFactory.getLog(HotKeyTracker.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   public static final int DEFAULT_TOP_KEYS = 10;
+   // Keys tracked per type, more than the reported keys so that the top counts are more precise
+   static final int CAPACITY = 1000;
+
+   public enum Type {
+      READ,
+      WRITE,
+      LOCK,
+      CONTENDED_LOCK
+   }
+
+   @Inject private Configuration configuration;
+
+   private final EnumMap<Type, SpaceSavingSketch> sketches = new EnumMap<>(Type.class);
+   private volatile int sampleRate;
+
+   public HotKeyTracker() {
+      for (Type type : Type.values()) {
+         sketches.put(type, new SpaceSavingSketch(CAPACITY));
+      }
+   }
+
+   @Start
+   public void start() {
+      sampleRate = configuration.jmxStatistics().hotKeySampleRate();
+   }
+
+   public boolean isEnabled() {
+      return sampleRate > 0;
+   }
+
+   public void recordRead(Object key) {
+      record(Type.READ, key);
+   }
+
+   public void recordWrite(Object key) {
+      record(Type.WRITE, key);
+   }
+
+   /**
+    * @param contended {@code true} if the lock was held by another owner right after it was requested
+    */
+   public void recordLock(Object key, boolean contended) {
+      int sampleRate = this.sampleRate;
+      if (sampleRate <= 0 || !sample(sampleRate))
+         return;
+
+      offer(Type.LOCK, key);
+      if (contended) {
+         offer(Type.CONTENDED_LOCK, key);
+      }
+   }
+
+   /**
+    * @return Up to {@code n} keys with the estimated number of operations of the given type, highest first
+    */
+   public Map<Object, Long> getTopKeys(Type type, int n) {
+      int sampleRate = this.sampleRate;
+      SpaceSavingSketch sketch = sketches.get(type);
+      Map<Object, Long> top;
+      synchronized (sketch) {
+         top = sketch.topK(n);
+      }
+      if (sampleRate > 1) {
+         top.replaceAll((k, count) -> count * sampleRate);
+      }
+      return top;
+   }
+
+   /**
+    * Same as {@link #getTopKeys(Type, int)}, but the keys are converted to strings.
+    */
+   public Map<String, Long> getTopKeysAsString(Type type, int n) {
+      Map<String, Long> top = new LinkedHashMap<>();
+      getTopKeys(type, n).forEach((k, count) -> top.merge(String.valueOf(k), count, Long::sum));
+      return top;
+   }
+
+   @ManagedAttribute(description = "One in how many operations is sampled, 0 if the tracking is disabled",
+         displayName = "Sample rate", writable = true)
+   public int getSampleRate() {
+      return sampleRate;
+   }
+
+   public void setSampleRate(int sampleRate) {
+      if (sampleRate < 0)
+         throw log.invalidHotKeySampleRate(sampleRate);
+      // The counts of the two rates can't be combined
+      resetStatistics();
+      this.sampleRate = sampleRate;
+   }
+
+   @ManagedAttribute(description = "Shows the " + DEFAULT_TOP_KEYS + " most read keys", displayName = "Top read keys")
+   public Map<String, Long> getTopReadKeys() {
+      return getTopKeysAsString(Type.READ, DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + DEFAULT_TOP_KEYS + " most written keys", displayName = "Top written keys")
+   public Map<String, Long> getTopWrittenKeys() {
+      return getTopKeysAsString(Type.WRITE, DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + DEFAULT_TOP_KEYS + " most locked keys", displayName = "Top locked keys")
+   public Map<String, Long> getTopLockedKeys() {
+      return getTopKeysAsString(Type.LOCK, DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedAttribute(description = "Shows the " + DEFAULT_TOP_KEYS + " keys whose lock was most often held by another owner",
+         displayName = "Top contended keys")
+   public Map<String, Long> getTopContendedKeys() {
+      return getTopKeysAsString(Type.CONTENDED_LOCK, DEFAULT_TOP_KEYS);
+   }
+
+   @ManagedOperation(description = "Shows the n keys with the most operations of a type (READ, WRITE, LOCK or CONTENDED_LOCK)",
+         displayName = "Top n keys")
+   public Map<String, Long> getNTopKeys(@Parameter(name = "type", description = "READ, WRITE, LOCK or CONTENDED_LOCK") String type,
+                                        @Parameter(name = "n", description = "the number of keys to return") int n) {
+      return getTopKeysAsString(Type.valueOf(type), n);
+   }
+
+   @ManagedOperation(description = "Resets the sampled keys", displayName = "Reset statistics")
+   public void resetStatistics() {
+      for (SpaceSavingSketch sketch : sketches.values()) {
+         synchronized (sketch) {
+            sketch.clear();
+         }
+      }
+   }
+
+   private void record(Type type, Object key) {
+      int sampleRate = this.sampleRate;
+      if (sampleRate > 0 && sample(sampleRate)) {
+         offer(type, key);
+      }
+   }
+
+   private static boolean sample(int sampleRate) {
+      return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+   }
+
+   private void offer(Type type, Object key) {
+      if (trace) {
+         log.tracef("Sampled %s of key %s", type, toStr(key));
+      }
+      SpaceSavingSketch sketch = sketches.get(type);
+      synchronized (sketch) {
+         sketch.offer(key);
+      }
+   }
+}
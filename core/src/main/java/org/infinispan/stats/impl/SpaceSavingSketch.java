@@ -0,0 +1,158 @@
+package org.infinispan.stats.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the most frequent keys in a stream using a fixed amount of memory, with the Space-Saving algorithm
+ * (Metwally et al., "Efficient Computation of Frequent and Top-k Elements in Data Streams").
+ * <p>
+ * At most {@code capacity} keys are tracked. When a new key arrives and all the slots are taken, it replaces the key
+ * with the lowest count and inherits its count, so the counts can overestimate, but never underestimate, the real
+ * number of occurrences. The keys are kept in buckets of equal counts, so that every offer is O(1).
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 10.0
+ */
+class SpaceSavingSketch {
+   private final int capacity;
+   private final Map<Object, Slot> slots;
+   // The bucket with the lowest count, buckets are linked in ascending count order
+   private Bucket minBucket;
+
+   SpaceSavingSketch(int capacity) {
+      this.capacity = capacity;
+      this.slots = new HashMap<>(capacity * 4 / 3 + 1);
+   }
+
+   void offer(Object key) {
+      Slot slot = slots.get(key);
+      if (slot == null) {
+         if (slots.size() < capacity) {
+            slot = new Slot(key);
+            if (minBucket == null || minBucket.count != 0) {
+               Bucket bucket = new Bucket(0);
+               bucket.next = minBucket;
+               if (minBucket != null) {
+                  minBucket.prev = bucket;
+               }
+               minBucket = bucket;
+            }
+            minBucket.add(slot);
+         } else {
+            // Replace one of the keys with the lowest count
+            slot = minBucket.head;
+            slots.remove(slot.key);
+            slot.key = key;
+         }
+         slots.put(key, slot);
+      }
+      increment(slot);
+   }
+
+   /**
+    * @return Up to {@code n} keys with their estimated count, highest count first.
+    */
+   Map<Object, Long> topK(int n) {
+      Map<Object, Long> top = new LinkedHashMap<>();
+      Bucket maxBucket = minBucket;
+      while (maxBucket != null && maxBucket.next != null) {
+         maxBucket = maxBucket.next;
+      }
+      for (Bucket bucket = maxBucket; bucket != null && top.size() < n; bucket = bucket.prev) {
+         for (Slot slot = bucket.head; slot != null && top.size() < n; slot = slot.next) {
+            top.put(slot.key, bucket.count);
+         }
+      }
+      return top;
+   }
+
+   void clear() {
+      slots.clear();
+      minBucket = null;
+   }
+
+   private void increment(Slot slot) {
+      Bucket bucket = slot.bucket;
+      long newCount = bucket.count + 1;
+      Bucket next = bucket.next;
+      if (next == null || next.count != newCount) {
+         // Reuse the bucket if the slot is alone in it
+         if (bucket.head == slot && slot.next == null) {
+            bucket.count = newCount;
+            return;
+         }
+         Bucket newBucket = new Bucket(newCount);
+         newBucket.prev = bucket;
+         newBucket.next = next;
+         if (next != null) {
+            next.prev = newBucket;
+         }
+         bucket.next = newBucket;
+         next = newBucket;
+      }
+      bucket.remove(slot);
+      if (bucket.head == null) {
+         unlink(bucket);
+      }
+      next.add(slot);
+   }
+
+   private void unlink(Bucket bucket) {
+      if (bucket.prev != null) {
+         bucket.prev.next = bucket.next;
+      } else {
+         minBucket = bucket.next;
+      }
+      if (bucket.next != null) {
+         bucket.next.prev = bucket.prev;
+      }
+   }
+
+   private static class Slot {
+      Object key;
+      Bucket bucket;
+      Slot prev;
+      Slot next;
+
+      Slot(Object key) {
+         this.key = key;
+      }
+   }
+
+   private static class Bucket {
+      long count;
+      Bucket prev;
+      Bucket next;
+      Slot head;
+
+      Bucket(long count) {
+         this.count = count;
+      }
+
+      void add(Slot slot) {
+         slot.bucket = this;
+         slot.prev = null;
+         slot.next = head;
+         if (head != null) {
+            head.prev = slot;
+         }
+         head = slot;
+      }
+
+      void remove(Slot slot) {
+         if (slot.prev != null) {
+            slot.prev.next = slot.next;
+         } else {
+            head = slot.next;
+         }
+         if (slot.next != null) {
+            slot.next.prev = slot.prev;
+         }
+         slot.prev = null;
+         slot.next = null;
+      }
+   }
+}
@@ -0,0 +1,413 @@
+package org.infinispan.transaction.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
+import org.infinispan.commands.tx.GroupCommitCompletionCommand;
+import org.infinispan.commands.tx.TransactionBoundaryCommand;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.inboundhandler.PerCacheInboundInvocationHandler;
+import org.infinispan.remoting.inboundhandler.Reply;
+import org.infinispan.remoting.responses.Response;
+import org.infinispan.remoting.responses.SuccessfulResponse;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.ResponseCollector;
+import org.infinispan.remoting.transport.impl.MapResponseCollector;
+import org.infinispan.transaction.TransactionProtocol;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Groups the prepare and commit commands that concurrent transactions send to the same owners.
+ * <p>
+ * The first command for a set of owners opens a group, and the group is sent once the
+ * {@link org.infinispan.configuration.cache.TransactionConfiguration#groupCommitWindow() group commit window} expires,
+ * or earlier if it reaches {@link #MAX_GROUP_SIZE} commands. A group with a single command is sent as is, otherwise
+ * the commands are sent in a {@link GroupCommitCommand}. The receiver handles each command separately and in order,
+ * and the responses are split again so that each transaction sees the same responses it would have seen without
+ * grouping.
+ * <p>
+ * A prepare may have to wait for the locks of another transaction, and that transaction may be waiting for the
+ * response of a command in the same group. So the receiver doesn't wait for all the commands to finish: once another
+ * window expires, it answers the group with the responses it has, and the sender asks for each of the missing
+ * responses with a {@link GroupCommitCompletionCommand}.
+ *
+ * @since 10.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "GroupCommitter", description = "Groups the prepare and commit commands of concurrent transactions")
+public class GroupCommitter {
+   private static final Log log = LogFactory.getLog(GroupCommitter.class);
+   private static final boolean trace = log.isTraceEnabled();
+   private static final Object ALL_MEMBERS = new Object();
+
+   public static final int MAX_GROUP_SIZE = 64;
+
+   @Inject private Configuration configuration;
+   @Inject private RpcManager rpcManager;
+   @Inject private CommandsFactory commandsFactory;
+   @Inject @ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR)
+   private ScheduledExecutorService timeoutExecutor;
+
+   private final ConcurrentMap<Object, Group> groups = new ConcurrentHashMap<>();
+   private final ConcurrentMap<PendingKey, CompletableFuture<Response>> pendingCommands = new ConcurrentHashMap<>();
+   private final AtomicLong groupIds = new AtomicLong();
+   private final LongAdder groupCommits = new LongAdder();
+   private final LongAdder groupedCommands = new LongAdder();
+   private final LongAdder pendingResponses = new LongAdder();
+   private long window;
+
+   @Start
+   public void start() {
+      window = configuration.transaction().transactionProtocol() == TransactionProtocol.TOTAL_ORDER ?
+            0 : configuration.transaction().groupCommitWindow();
+   }
+
+   @Stop
+   public void stop() {
+      for (Object key : groups.keySet()) {
+         Group group = groups.remove(key);
+         if (group != null) {
+            send(group);
+         }
+      }
+   }
+
+   /**
+    * @return {@code true} if the commands should be sent with {@link #invoke(Collection, TransactionBoundaryCommand)}.
+    */
+   public boolean isEnabled() {
+      return window > 0;
+   }
+
+   /**
+    * Sends {@code command} to {@code recipients}, possibly grouped with the commands of other transactions.
+    *
+    * @param recipients the owners, or {@code null} for all the members of the cache
+    * @return the responses of the recipients to {@code command}, with leavers ignored
+    */
+   public CompletionStage<Map<Address, Response>> invoke(Collection<Address> recipients,
+                                                          TransactionBoundaryCommand command) {
+      Object key = recipients == null ? ALL_MEMBERS : new HashSet<>(recipients);
+      CompletableFuture<Map<Address, Response>> future = new CompletableFuture<>();
+      Group[] full = new Group[1];
+      groups.compute(key, (k, group) -> {
+         if (group == null) {
+            group = new Group(recipients);
+            Group newGroup = group;
+            group.timeout = timeoutExecutor.schedule(() -> {
+               if (groups.remove(k, newGroup)) {
+                  send(newGroup);
+               }
+            }, window, TimeUnit.MICROSECONDS);
+         }
+         group.commands.add(command);
+         group.futures.add(future);
+         if (group.commands.size() >= MAX_GROUP_SIZE) {
+            full[0] = group;
+            return null;
+         }
+         return group;
+      });
+      if (full[0] != null) {
+         full[0].timeout.cancel(false);
+         send(full[0]);
+      }
+      return future;
+   }
+
+   /**
+    * Handles the commands of a group received from another node, and replies with their responses.
+    */
+   public void handle(GroupCommitCommand command, PerCacheInboundInvocationHandler handler, Reply reply,
+                      DeliverOrder order) {
+      List<CacheRpcCommand> commands = command.getCommands();
+      @SuppressWarnings("unchecked")
+      CompletableFuture<Response>[] responses = new CompletableFuture[commands.size()];
+      for (int i = 0; i < responses.length; i++) {
+         CompletableFuture<Response> response = new CompletableFuture<>();
+         responses[i] = response;
+         handler.handle(commands.get(i),
+               r -> response.complete(r == null ? SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE : r), order);
+      }
+      AtomicBoolean replied = new AtomicBoolean();
+      CompletableFuture<Void> all = CompletableFuture.allOf(responses);
+      if (!all.isDone()) {
+         ScheduledFuture<?> timeout = timeoutExecutor.schedule(() -> {
+            if (replied.compareAndSet(false, true)) {
+               reply.reply(groupResponse(command, responses));
+            }
+         }, window, TimeUnit.MICROSECONDS);
+         all.thenRun(() -> timeout.cancel(false));
+      }
+      all.thenRun(() -> {
+         if (replied.compareAndSet(false, true)) {
+            reply.reply(groupResponse(command, responses));
+         }
+      });
+   }
+
+   /**
+    * @return The response of a command of a group that was still running when the group was answered.
+    */
+   public CompletableFuture<Object> completion(Address origin, long groupId, int index) {
+      CompletableFuture<Response> response = pendingCommands.remove(new PendingKey(origin, groupId, index));
+      if (response == null) {
+         throw new IllegalStateException("No pending command " + index + " in group " + groupId + " from " + origin);
+      }
+      return response.thenApply(r -> r);
+   }
+
+   private Response groupResponse(GroupCommitCommand command, CompletableFuture<Response>[] responses) {
+      List<Response> list = new ArrayList<>(responses.length);
+      for (int i = 0; i < responses.length; i++) {
+         CompletableFuture<Response> response = responses[i];
+         if (response.isDone()) {
+            list.add(response.join());
+         } else {
+            // The sender asks for it with a GroupCommitCompletionCommand
+            PendingKey key = new PendingKey(command.getOrigin(), command.getGroupId(), i);
+            pendingCommands.put(key, response);
+            response.thenRun(() -> timeoutExecutor.schedule(() -> pendingCommands.remove(key),
+                  configuration.clustering().remoteTimeout(), TimeUnit.MILLISECONDS));
+            list.add(null);
+         }
+      }
+      return SuccessfulResponse.create(list);
+   }
+
+   private void send(Group group) {
+      if (group.commands.size() == 1) {
+         sendSeparately(group);
+         return;
+      }
+      groupCommits.increment();
+      groupedCommands.add(group.commands.size());
+      long groupId = groupIds.incrementAndGet();
+      GroupCommitCommand command = commandsFactory.buildGroupCommitCommand(groupId, group.commands);
+      if (trace) {
+         log.tracef("Sending %d grouped commands to %s", group.commands.size(),
+               group.recipients == null ? "all members" : group.recipients);
+      }
+      CompletionStage<Map<Address, Response>> remoteInvocation;
+      try {
+         if (group.recipients != null) {
+            remoteInvocation = rpcManager.invokeCommand(group.recipients, command, new RawResponseCollector(),
+                  rpcManager.getSyncRpcOptions());
+         } else {
+            remoteInvocation = rpcManager.invokeCommandOnAll(command, new RawResponseCollector(),
+                  rpcManager.getSyncRpcOptions());
+         }
+      } catch (Throwable t) {
+         group.futures.forEach(f -> f.completeExceptionally(t));
+         return;
+      }
+      remoteInvocation.whenComplete((responses, throwable) -> {
+         for (int i = 0; i < group.futures.size(); i++) {
+            CompletableFuture<Map<Address, Response>> future = group.futures.get(i);
+            if (throwable != null) {
+               future.completeExceptionally(throwable);
+            } else {
+               completeGroupedCommand(groupId, i, responses, future);
+            }
+         }
+      });
+   }
+
+   private void sendSeparately(Group group) {
+      CacheRpcCommand command = group.commands.get(0);
+      CompletableFuture<Map<Address, Response>> future = group.futures.get(0);
+      try {
+         CompletionStage<Map<Address, Response>> remoteInvocation;
+         if (group.recipients != null) {
+            remoteInvocation = rpcManager.invokeCommand(group.recipients, command,
+                  MapResponseCollector.ignoreLeavers(group.recipients.size()), rpcManager.getSyncRpcOptions());
+         } else {
+            remoteInvocation = rpcManager.invokeCommandOnAll(command, MapResponseCollector.ignoreLeavers(),
+                  rpcManager.getSyncRpcOptions());
+         }
+         remoteInvocation.whenComplete((responses, throwable) -> complete(future, responses, throwable));
+      } catch (Throwable t) {
+         future.completeExceptionally(t);
+      }
+   }
+
+   /**
+    * Extracts the responses to the command at {@code index}, asks for the ones that were missing, and collects them as
+    * they would have been collected if the command was sent on its own.
+    */
+   @SuppressWarnings("unchecked")
+   private void completeGroupedCommand(long groupId, int index, Map<Address, Response> groupResponses,
+                                       CompletableFuture<Map<Address, Response>> future) {
+      Map<Address, Response> responses = new HashMap<>(groupResponses.size());
+      List<CompletableFuture<Map<Address, Response>>> pending = null;
+      for (Map.Entry<Address, Response> entry : groupResponses.entrySet()) {
+         Response response = entry.getValue();
+         if (response instanceof SuccessfulResponse) {
+            response = ((List<Response>) ((SuccessfulResponse) response).getResponseValue()).get(index);
+            if (response == null) {
+               if (pending == null) {
+                  pending = new ArrayList<>();
+               }
+               pendingResponses.increment();
+               GroupCommitCompletionCommand command = commandsFactory.buildGroupCommitCompletionCommand(groupId, index);
+               pending.add(rpcManager.invokeCommand(entry.getKey(), command, new RawResponseCollector(),
+                     rpcManager.getSyncRpcOptions()).toCompletableFuture());
+               continue;
+            }
+         }
+         // Otherwise the group failed as a whole, and the response applies to all its commands
+         responses.put(entry.getKey(), response);
+      }
+      if (pending == null) {
+         collect(future, responses);
+         return;
+      }
+      List<CompletableFuture<Map<Address, Response>>> pendingFutures = pending;
+      CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+         if (throwable == null) {
+            pendingFutures.forEach(f -> responses.putAll(f.join()));
+            collect(future, responses);
+         } else {
+            future.completeExceptionally(throwable);
+         }
+      });
+   }
+
+   private static void collect(CompletableFuture<Map<Address, Response>> future, Map<Address, Response> responses) {
+      MapResponseCollector collector = MapResponseCollector.ignoreLeavers(responses.size());
+      try {
+         responses.forEach(collector::addResponse);
+         future.complete(collector.finish());
+      } catch (Throwable t) {
+         future.completeExceptionally(t);
+      }
+   }
+
+   private static void complete(CompletableFuture<Map<Address, Response>> future, Map<Address, Response> responses,
+                                Throwable throwable) {
+      if (throwable != null) {
+         future.completeExceptionally(throwable);
+      } else {
+         future.complete(responses);
+      }
+   }
+
+   @ManagedAttribute(description = "Number of groups of commands sent in a single message", displayName = "Group commits",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getGroupCommits() {
+      return groupCommits.sum();
+   }
+
+   @ManagedAttribute(description = "Number of prepare and commit commands sent in a group", displayName = "Grouped commands",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getGroupedCommands() {
+      return groupedCommands.sum();
+   }
+
+   @ManagedAttribute(description = "Number of responses to grouped commands that were requested separately",
+         displayName = "Pending responses", measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getPendingResponses() {
+      return pendingResponses.sum();
+   }
+
+   @ManagedAttribute(description = "Average number of commands in a group", displayName = "Average group size",
+         displayType = DisplayType.SUMMARY)
+   public double getAverageGroupSize() {
+      long groups = getGroupCommits();
+      return groups == 0 ? 0 : (double) getGroupedCommands() / groups;
+   }
+
+   @ManagedOperation(description = "Resets the group commit statistics", displayName = "Reset statistics")
+   public void resetStatistics() {
+      groupCommits.reset();
+      groupedCommands.reset();
+      pendingResponses.reset();
+   }
+
+   private static final class Group {
+      final Collection<Address> recipients;
+      final List<CacheRpcCommand> commands = new ArrayList<>();
+      final List<CompletableFuture<Map<Address, Response>>> futures = new ArrayList<>();
+      ScheduledFuture<?> timeout;
+
+      Group(Collection<Address> recipients) {
+         this.recipients = recipients;
+      }
+   }
+
+   private static final class PendingKey {
+      final Address origin;
+      final long groupId;
+      final int index;
+
+      PendingKey(Address origin, long groupId, int index) {
+         this.origin = origin;
+         this.groupId = groupId;
+         this.index = index;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         PendingKey that = (PendingKey) o;
+         return groupId == that.groupId && index == that.index && Objects.equals(origin, that.origin);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(origin, groupId, index);
+      }
+   }
+
+   /**
+    * Keeps the responses as they are, they are checked for each command separately.
+    */
+   private static final class RawResponseCollector implements ResponseCollector<Map<Address, Response>> {
+      private final Map<Address, Response> responses = new HashMap<>();
+
+      @Override
+      public Map<Address, Response> addResponse(Address sender, Response response) {
+         responses.put(sender, response);
+         return null;
+      }
+
+      @Override
+      public Map<Address, Response> finish() {
+         return responses;
+      }
+   }
+}
@@ -22,6 +22,7 @@
 import org.infinispan.factories.annotations.Stop;
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.transaction.xa.GlobalTransaction;
 import org.infinispan.transaction.xa.recovery.RecoveryManager;
 import org.infinispan.util.logging.Log;
@@ -45,6 +46,7 @@ public class TransactionCoordinator {
    @Inject private ComponentRef<AsyncInterceptorChain> invoker;
    @Inject private ComponentRef<TransactionTable> txTable;
    @Inject private ComponentRef<RecoveryManager> recoveryManager;
+   @Inject private ComponentRef<CacheNotifier> notifier;
    @Inject private Configuration configuration;
 
    private CommandCreator commandCreator;
@@ -53,6 +55,7 @@ public class TransactionCoordinator {
    private boolean totalOrder;
    private boolean defaultOnePhaseCommit;
    private boolean use1PcForAutoCommitTransactions;
+   private boolean notifications;
 
    @Start(priority = 1)
    private void setStartStatus() {
@@ -67,6 +70,7 @@ private void setStopStatus() {
    @Start
    public void start() {
       use1PcForAutoCommitTransactions = configuration.transaction().use1PcForAutoCommitTransactions();
+      notifications = configuration.transaction().notifications();
       totalOrder = configuration.transaction().transactionProtocol().isTotalOrder();
       defaultOnePhaseCommit = Configurations.isOnePhaseCommit(configuration) ||
             Configurations.isOnePhaseTotalOrderCommit(configuration);
@@ -111,6 +115,10 @@ public final int prepare(LocalTransaction localTransaction, boolean replayEntryW
          return XA_OK;
       }
 
+      if (completeReadOnly(localTransaction)) {
+         return XA_RDONLY;
+      }
+
       PrepareCommand prepareCommand = commandCreator.createPrepareCommand(localTransaction.getGlobalTransaction(), localTransaction.getModifications(), false);
       if (trace) log.tracef("Sending prepare command through the chain: %s", prepareCommand);
 
@@ -149,6 +157,10 @@ public boolean commit(LocalTransaction localTransaction, boolean isOnePhase) thr
       if (isOnePhaseCommit(localTransaction) || isOnePhase) {
          validateNotMarkedForRollback(localTransaction);
 
+         if (completeReadOnly(localTransaction)) {
+            return true;
+         }
+
          if (trace) log.trace("Doing an 1PC prepare call on the interceptor chain");
          List<WriteCommand> modifications = localTransaction.getModifications();
          PrepareCommand command = commandCreator.createPrepareCommand(localTransaction.getGlobalTransaction(), modifications, true);
@@ -231,6 +243,27 @@ private void rollbackInternal(LocalTxInvocationContext ctx) throws Throwable {
       txTable.running().removeLocalTransaction(ctx.getCacheTransaction());
    }
 
+   /**
+    * Completes a transaction that didn't write or lock anything without invoking the interceptor chain: there is
+    * nothing to prepare, commit or release, neither locally nor on other nodes, and the entries it read were only
+    * kept in its context.
+    *
+    * @return {@code true} if the transaction was completed, {@code false} if it must be prepared and committed.
+    */
+   private boolean completeReadOnly(LocalTransaction localTransaction) {
+      if (totalOrder || !localTransaction.isReadOnly() || !localTransaction.getAffectedKeys().isEmpty() ||
+            !localTransaction.getLockedKeys().isEmpty() || !localTransaction.getRemoteLocksAcquired().isEmpty()) {
+         return false;
+      }
+      if (trace) log.tracef("Completing read-only transaction %s without prepare and commit", localTransaction.getGlobalTransaction());
+      // Only notify once, the TM may complete the transaction both in prepare and in commit
+      if (txTable.running().removeLocalTransaction(localTransaction) && notifications) {
+         LocalTxInvocationContext ctx = icf.running().createTxInvocationContext(localTransaction);
+         notifier.running().notifyTransactionCompleted(localTransaction.getGlobalTransaction(), true, ctx);
+      }
+      return true;
+   }
+
    private void validateNotMarkedForRollback(LocalTransaction localTransaction) throws XAException {
       if (localTransaction.isMarkedForRollback()) {
          if (trace) log.tracef("Transaction already marked for rollback. Forcing rollback for %s", localTransaction);
@@ -5,13 +5,15 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -432,12 +434,26 @@ public LocalTransaction getOrCreateLocalTransaction(Transaction transaction, boo
          current = txFactory.newLocalTransaction(transaction, tx, implicitTransaction, currentTopologyId);
          if (trace) log.tracef("Created a new local transaction: %s", current);
          localTransactions.put(transaction, current);
-         globalToLocalTransactions.put(current.getGlobalTransaction(), current);
          notifier.notifyTransactionRegistered(tx, true);
       }
       return current;
    }
 
+   /**
+    * Makes the transaction visible by its {@link GlobalTransaction}, to the lookups of other nodes and to the minimum
+    * topology id calculation. It must be invoked before the transaction first writes or locks a key, so a transaction
+    * that only reads is never registered.
+    */
+   public void registerLocalTransaction(LocalTransaction localTransaction) {
+      if (globalToLocalTransactions.putIfAbsent(localTransaction.getGlobalTransaction(), localTransaction) == null) {
+         if (trace) log.tracef("Registered local transaction %s", localTransaction.getGlobalTransaction());
+         // The minimum topology id may have moved past the topology the transaction started in
+         if (clustered && localTransaction.getTopologyId() < minTxTopologyId) {
+            calculateMinTopologyId(-1);
+         }
+      }
+   }
+
    /**
     * Removes the {@link org.infinispan.transaction.xa.TransactionXaAdapter} corresponding to the given tx. Returns true
     * if such an tx exists.
@@ -593,7 +609,7 @@ private void calculateMinTopologyId(int idOfRemovedTransaction) {
                (idOfRemovedTransaction == minTxTopologyId && idOfRemovedTransaction < currentTopologyId)) {
             int minTopologyIdFound = currentTopologyId;
 
-            for (CacheTransaction ct : localTransactions.values()) {
+            for (CacheTransaction ct : globalToLocalTransactions.values()) {
                int topologyId = ct.getTopologyId();
                if (topologyId < minTopologyIdFound) minTopologyIdFound = topologyId;
             }
@@ -710,6 +726,11 @@ public CompletedTransactionStatus getCompletedTransactionStatus(GlobalTransactio
 
    private class CompletedTransactionsInfo {
       final ConcurrentMap<GlobalTransaction, CompletedTransactionInfo> completedTransactions;
+      // The completed transactions grouped by completion time, oldest first, so pruning only visits the expired ones
+      final Deque<CompletedTransactionsBucket> buckets;
+      final long bucketDuration;
+      // The number of completed transactions in the map, one per originator
+      final ConcurrentMap<Address, Integer> nodeCompletedTxCounts;
       // The ConcurrentMap transaction id previously cleared, one per originator
       final ConcurrentMap<Address, Long> nodeMaxPrunedTxIds;
       // The highest transaction id previously cleared, with any originator
@@ -717,11 +738,14 @@ private class CompletedTransactionsInfo {
 
       CompletedTransactionsInfo() {
          nodeMaxPrunedTxIds = new ConcurrentHashMap<>();
+         nodeCompletedTxCounts = new ConcurrentHashMap<>();
          completedTransactions = new ConcurrentHashMap<>();
+         buckets = new ConcurrentLinkedDeque<>();
+         // The cleanup task runs once per reaper interval, smaller buckets wouldn't prune any sooner
+         bucketDuration = TimeUnit.MILLISECONDS.toNanos(configuration.transaction().reaperWakeUpInterval());
          globalMaxPrunedTxId = -1;
       }
 
-
       /**
        * With the current state transfer implementation it is possible for a transaction to be prepared several times
        * on a remote node. This might cause leaks, e.g. if the transaction is prepared, committed and prepared again.
@@ -729,7 +753,27 @@ private class CompletedTransactionsInfo {
        */
       void markTransactionCompleted(GlobalTransaction globalTx, boolean successful) {
          if (trace) log.tracef("Marking transaction %s as completed", globalTx);
-         completedTransactions.put(globalTx, new CompletedTransactionInfo(timeService.time(), successful));
+         long now = timeService.time();
+         CompletedTransactionInfo completedTx = new CompletedTransactionInfo(globalTx, successful);
+         if (completedTransactions.put(globalTx, completedTx) == null) {
+            nodeCompletedTxCounts.merge(globalTx.getAddress(), 1, Integer::sum);
+         }
+         // A transaction marked again is only removed with its last bucket
+         bucketFor(now).transactions.add(completedTx);
+      }
+
+      private CompletedTransactionsBucket bucketFor(long timestamp) {
+         CompletedTransactionsBucket bucket = buckets.peekLast();
+         if (bucket == null || timestamp - bucket.start >= bucketDuration) {
+            synchronized (buckets) {
+               bucket = buckets.peekLast();
+               if (bucket == null || timestamp - bucket.start >= bucketDuration) {
+                  bucket = new CompletedTransactionsBucket(timestamp);
+                  buckets.addLast(bucket);
+               }
+            }
+         }
+         return bucket;
       }
 
       /**
@@ -786,36 +830,32 @@ void cleanupCompletedTransactions() {
             long minCompleteTimestamp = timeService.time() - TimeUnit.MILLISECONDS.toNanos(configuration.transaction().completedTxTimeout());
             int removedEntries = 0;
 
-            // Collect the leavers. They will be removed at the end.
-            Set<Address> leavers = new HashSet<>();
-            for (Map.Entry<Address, Long> e : nodeMaxPrunedTxIds.entrySet()) {
-               if (!rpcManager.getMembers().contains(e.getKey())) {
-                  leavers.add(e.getKey());
-               }
-            }
-
-            // Remove stale completed transactions.
-            Iterator<Map.Entry<GlobalTransaction, CompletedTransactionInfo>> txIterator = completedTransactions.entrySet().iterator();
-            while (txIterator.hasNext()) {
-               Map.Entry<GlobalTransaction, CompletedTransactionInfo> e = txIterator.next();
-               CompletedTransactionInfo completedTx = e.getValue();
-               if (minCompleteTimestamp - completedTx.timestamp > 0) {
+            // Remove stale completed transactions, one bucket at a time.
+            // A bucket only holds transactions completed before its end.
+            CompletedTransactionsBucket bucket;
+            while ((bucket = buckets.peekFirst()) != null && minCompleteTimestamp - (bucket.start + bucketDuration) > 0) {
+               buckets.pollFirst();
+               for (CompletedTransactionInfo completedTx : bucket.transactions) {
+                  GlobalTransaction gtx = completedTx.globalTransaction;
+                  if (completedTransactions.get(gtx) != completedTx) {
+                     // Marked as completed again, it is in a newer bucket
+                     continue;
+                  }
                   // Need to update lastPrunedTxId *before* removing the tx from the map
                   // Don't need atomic operations, there can't be more than one thread updating lastPrunedTxId.
-                  final long txId = e.getKey().getId();
-                  final Address address = e.getKey().getAddress();
-                  updateLastPrunedTxId(txId, address);
+                  updateLastPrunedTxId(gtx.getId(), gtx.getAddress());
 
-                  txIterator.remove();
-                  removedEntries++;
-               } else {
-                  // Nodes with "active" completed transactions are not removed..
-                  leavers.remove(e.getKey().getAddress());
+                  if (completedTransactions.remove(gtx, completedTx)) {
+                     nodeCompletedTxCounts.computeIfPresent(gtx.getAddress(), (a, count) -> count == 1 ? null : count - 1);
+                     removedEntries++;
+                  }
                }
             }
 
             // Finally, remove nodes that are no longer members and don't have any "active" completed transactions.
-            leavers.forEach(nodeMaxPrunedTxIds::remove);
+            List<Address> members = rpcManager.getMembers();
+            nodeMaxPrunedTxIds.keySet().removeIf(address -> !members.contains(address) &&
+                  !nodeCompletedTxCounts.containsKey(address));
 
             long duration = timeService.timeDuration(beginning, TimeUnit.MILLISECONDS);
 
@@ -919,12 +959,21 @@ private boolean isOptimisticCache() {
    }
 
    private static class CompletedTransactionInfo {
-      public final long timestamp;
+      public final GlobalTransaction globalTransaction;
       public final boolean successful;
 
-      private CompletedTransactionInfo(long timestamp, boolean successful) {
-         this.timestamp = timestamp;
+      private CompletedTransactionInfo(GlobalTransaction globalTransaction, boolean successful) {
+         this.globalTransaction = globalTransaction;
          this.successful = successful;
       }
    }
+
+   private static class CompletedTransactionsBucket {
+      final long start;
+      final Queue<CompletedTransactionInfo> transactions = new ConcurrentLinkedQueue<>();
+
+      private CompletedTransactionsBucket(long start) {
+         this.start = start;
+      }
+   }
 }
@@ -0,0 +1,331 @@
+package org.infinispan.util.concurrent.locks.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.ByRef;
+import org.infinispan.commons.util.concurrent.StripedHistogram;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
+import org.infinispan.util.StripedHashFunction;
+import org.infinispan.util.concurrent.locks.DeadlockChecker;
+import org.infinispan.util.concurrent.locks.ExtendedLockPromise;
+import org.infinispan.util.concurrent.locks.LockState;
+
+/**
+ * A lock container with a lock per entry, like {@link PerKeyLockContainer}, that reuses the lock instances.
+ * <p>
+ * When a lock is released and nobody else requested it, it is removed from the container and kept in a small,
+ * bounded pool, so the next acquisition of an unlocked key doesn't create a new lock. The pool belongs to the
+ * container, so the locks of a stopped cache are not kept alive by the threads that released them.
+ * <p>
+ * The keys are also mapped to stripes, as in {@link StripedLockContainer}, but only to estimate the contention. The
+ * contention of a stripe goes up when a key is requested while another owner holds its lock, and down when a key is
+ * requested and its lock is free. A contended key in a contended stripe is promoted to a dedicated lock, which stays in
+ * the container while it is released, until the contention of its stripe goes down to 0.
+ * <p>
+ * {@link #getLock(Object)} may return a lock that was reused for another key after it returned, like it may return a
+ * lock shared by other keys with lock striping. {@link #getOwner(Object)} and {@link #isLocked(Object)} check the key.
+ *
+ * @since 10.0
+ */
+@MBean(objectName = "LockContainer", description = "Per entry lock container that reuses the lock instances")
+public class AdaptiveLockContainer implements LockContainer {
+   static final int POOL_SIZE = 32;
+   public static final int PROMOTION_THRESHOLD = 4;
+   public static final int MAX_CONTENTION = 64;
+   static final int DEDICATED_LOCKS_PER_STRIPE = 4;
+   private static final int INITIAL_CAPACITY = 32;
+
+   private final ConcurrentMap<Object, PooledLock> lockMap = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+   private final StripedHashFunction<Object> hashFunction;
+   private final AtomicIntegerArray contention;
+   private final AtomicInteger dedicatedLocks = new AtomicInteger();
+   private final int maxDedicatedLocks;
+   // Uncontended acquisitions are recorded as 0
+   private final StripedHistogram waitTimes = new StripedHistogram();
+   private final LongAdder contendedAcquisitions = new LongAdder();
+   private final LongAdder totalWaitNanos = new LongAdder();
+   private final LongAdder reusedLocks = new LongAdder();
+   private final LongAdder createdLocks = new LongAdder();
+   private final AtomicReferenceArray<PooledLock> pool = new AtomicReferenceArray<>(POOL_SIZE);
+   private Executor executor;
+   private TimeService timeService;
+
+   public AdaptiveLockContainer(int concurrencyLevel) {
+      hashFunction = new StripedHashFunction<>(concurrencyLevel);
+      contention = new AtomicIntegerArray(hashFunction.getNumSegments());
+      maxDedicatedLocks = hashFunction.getNumSegments() * DEDICATED_LOCKS_PER_STRIPE;
+   }
+
+   @Inject
+   public void inject(@ComponentName(KnownComponentNames.ASYNC_OPERATIONS_EXECUTOR) Executor executor, TimeService timeService) {
+      this.executor = executor;
+      this.timeService = timeService;
+      for (PooledLock pooledLock : lockMap.values()) {
+         pooledLock.lock.setTimeService(timeService);
+      }
+      // The pooled locks can't be updated, so they are discarded
+      for (int i = 0; i < POOL_SIZE; i++) {
+         pool.set(i, null);
+      }
+   }
+
+   @Override
+   public ExtendedLockPromise acquire(Object key, Object lockOwner, long time, TimeUnit timeUnit) {
+      ByRef<ExtendedLockPromise> reference = ByRef.create(null);
+      ByRef.Boolean contended = new ByRef.Boolean(false);
+      lockMap.compute(key, (aKey, pooledLock) -> {
+         if (pooledLock == null) {
+            pooledLock = borrow(aKey);
+         }
+         InfinispanLock lock = pooledLock.lock;
+         contended.set(lock.isLocked() && !lock.containsLockOwner(lockOwner));
+         updateContention(aKey, pooledLock, contended.get());
+         reference.set(lock.acquire(lockOwner, time, timeUnit));
+         return pooledLock;
+      });
+      ExtendedLockPromise promise = reference.get();
+      if (contended.get()) {
+         long start = timeService.time();
+         promise.addListener(state -> {
+            if (state == LockState.ACQUIRED) {
+               recordWait(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
+            }
+         });
+      } else {
+         waitTimes.record(0);
+      }
+      return promise;
+   }
+
+   @Override
+   public InfinispanLock getLock(Object key) {
+      PooledLock pooledLock = lockMap.get(key);
+      return pooledLock == null ? null : pooledLock.lock;
+   }
+
+   @Override
+   public Object getOwner(Object key) {
+      PooledLock pooledLock = lockMap.get(key);
+      if (pooledLock == null)
+         return null;
+      Object owner = pooledLock.lock.getLockOwner();
+      // The key is updated before the lock is reused, so a lock reused for another key is detected here
+      Object lockKey = pooledLock.key;
+      return lockKey == key || key.equals(lockKey) ? owner : null;
+   }
+
+   @Override
+   public void release(Object key, Object lockOwner) {
+      lockMap.computeIfPresent(key, (aKey, pooledLock) -> {
+         pooledLock.lock.release(lockOwner);
+         return removeIfReleased(aKey, pooledLock);
+      });
+   }
+
+   @Override
+   public int getNumLocksHeld() {
+      int count = 0;
+      for (PooledLock pooledLock : lockMap.values()) {
+         if (pooledLock.lock.isLocked()) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+   @Override
+   public boolean isLocked(Object key) {
+      return getOwner(key) != null;
+   }
+
+   @Override
+   public int size() {
+      return lockMap.size();
+   }
+
+   @Override
+   public void deadlockCheck(DeadlockChecker deadlockChecker) {
+      lockMap.values().forEach(pooledLock -> pooledLock.lock.deadlockCheck(deadlockChecker));
+   }
+
+   @ManagedAttribute(description = "Percentiles (p50, p90, p99, p99.9 and max) of the number of nanoseconds waiting to acquire a lock, 0 if it was free",
+         displayName = "Lock wait time percentiles", units = Units.NANOSECONDS, displayType = DisplayType.SUMMARY)
+   public Map<String, Long> getLockWaitTimePercentiles() {
+      return waitTimes.getPercentiles();
+   }
+
+   @ManagedAttribute(description = "Number of lock acquisitions that waited for another owner", displayName = "Contended lock acquisitions",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getContendedLockAcquisitions() {
+      return contendedAcquisitions.sum();
+   }
+
+   @ManagedAttribute(description = "Average time waiting for a lock held by another owner", displayName = "Average lock wait time",
+         units = Units.MILLISECONDS, displayType = DisplayType.SUMMARY)
+   public double getAverageLockWaitTime() {
+      long waits = contendedAcquisitions.sum();
+      return waits == 0 ? 0 : (double) totalWaitNanos.sum() / waits / TimeUnit.MILLISECONDS.toNanos(1);
+   }
+
+   @ManagedAttribute(description = "Number of locks kept for contended keys while released", displayName = "Number of dedicated locks",
+         displayType = DisplayType.SUMMARY)
+   public int getNumberOfDedicatedLocks() {
+      return dedicatedLocks.get();
+   }
+
+   @ManagedAttribute(description = "Number of lock instances reused from the pools", displayName = "Reused locks",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getReusedLocks() {
+      return reusedLocks.sum();
+   }
+
+   @ManagedAttribute(description = "Number of lock instances created", displayName = "Created locks",
+         measurementType = MeasurementType.TRENDSUP, displayType = DisplayType.SUMMARY)
+   public long getCreatedLocks() {
+      return createdLocks.sum();
+   }
+
+   @ManagedOperation(description = "Resets the lock wait statistics", displayName = "Reset statistics")
+   public void resetStatistics() {
+      waitTimes.reset();
+      contendedAcquisitions.reset();
+      totalWaitNanos.reset();
+      reusedLocks.reset();
+      createdLocks.reset();
+   }
+
+   @Override
+   public String toString() {
+      return "AdaptiveLockContainer{" +
+            "locks=" + lockMap +
+            ", dedicatedLocks=" + dedicatedLocks +
+            '}';
+   }
+
+   private PooledLock borrow(Object key) {
+      PooledLock pooledLock = pollPool();
+      if (pooledLock != null) {
+         reusedLocks.increment();
+      } else {
+         pooledLock = new PooledLock();
+         createdLocks.increment();
+      }
+      pooledLock.key = key;
+      return pooledLock;
+   }
+
+   private void updateContention(Object key, PooledLock pooledLock, boolean contended) {
+      int stripe = hashFunction.hashToSegment(key);
+      // Races between threads can lose updates, the contention is only an estimate
+      int stripeContention = contention.get(stripe);
+      if (contended) {
+         if (stripeContention < MAX_CONTENTION) {
+            contention.lazySet(stripe, ++stripeContention);
+         }
+         if (!pooledLock.dedicated && stripeContention >= PROMOTION_THRESHOLD &&
+               dedicatedLocks.get() < maxDedicatedLocks) {
+            pooledLock.dedicated = true;
+            dedicatedLocks.incrementAndGet();
+         }
+      } else if (stripeContention > 0) {
+         contention.lazySet(stripe, stripeContention - 1);
+      }
+   }
+
+   // Invoked inside lockMap.compute()
+   private PooledLock removeIfReleased(Object key, PooledLock pooledLock) {
+      InfinispanLock lock = pooledLock.lock;
+      if (lock.isLocked()) {
+         return pooledLock;
+      }
+      if (pooledLock.dedicated) {
+         if (contention.get(hashFunction.hashToSegment(key)) > 0) {
+            return pooledLock;
+         }
+         pooledLock.dedicated = false;
+         dedicatedLocks.decrementAndGet();
+      }
+      // The key is null if the lock was already pooled by the release runnable
+      if (lock.isFree() && pooledLock.key != null) {
+         pooledLock.key = null;
+         offerPool(pooledLock);
+      }
+      return null;
+   }
+
+   private PooledLock pollPool() {
+      int start = poolStartIndex();
+      for (int i = 0; i < POOL_SIZE; i++) {
+         int index = (start + i) & (POOL_SIZE - 1);
+         PooledLock pooledLock = pool.get(index);
+         if (pooledLock != null && pool.compareAndSet(index, pooledLock, null)) {
+            return pooledLock;
+         }
+      }
+      return null;
+   }
+
+   private void offerPool(PooledLock pooledLock) {
+      int start = poolStartIndex();
+      for (int i = 0; i < POOL_SIZE; i++) {
+         int index = (start + i) & (POOL_SIZE - 1);
+         if (pool.get(index) == null && pool.compareAndSet(index, null, pooledLock)) {
+            return;
+         }
+      }
+      // The pool is full, the lock is discarded
+   }
+
+   private static int poolStartIndex() {
+      // Threads start from different slots, to reduce the contention on the pool
+      return (int) Thread.currentThread().getId() & (POOL_SIZE - 1);
+   }
+
+   private void recordWait(long waitNanos) {
+      waitTimes.record(waitNanos);
+      contendedAcquisitions.increment();
+      totalWaitNanos.add(waitNanos);
+   }
+
+   private final class PooledLock implements Runnable {
+      final InfinispanLock lock = new InfinispanLock(executor, timeService, this);
+      volatile Object key;
+      // Only accessed inside lockMap.compute()
+      boolean dedicated;
+
+      @Override
+      public void run() {
+         // Invoked when a request is cancelled or times out after the lock was released
+         Object currentKey = key;
+         if (currentKey != null) {
+            lockMap.computeIfPresent(currentKey, (aKey, pooledLock) ->
+                  pooledLock == this ? removeIfReleased(aKey, pooledLock) : pooledLock);
+         }
+      }
+
+      @Override
+      public String toString() {
+         return "PooledLock{" +
+               "lock=" + lock +
+               ", dedicated=" + dedicated +
+               '}';
+      }
+   }
+}
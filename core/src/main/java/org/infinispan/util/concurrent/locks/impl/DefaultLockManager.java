@@ -32,6 +32,7 @@
 import org.infinispan.jmx.annotations.DataType;
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.stats.impl.HotKeyTracker;
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.concurrent.locks.DeadlockDetectedException;
 import org.infinispan.util.concurrent.locks.ExtendedLockPromise;
@@ -64,6 +65,7 @@ public class DefaultLockManager implements LockManager {
    private ScheduledExecutorService scheduler;
    @Inject @ComponentName(KnownComponentNames.ASYNC_OPERATIONS_EXECUTOR)
    private Executor executor;
+   @Inject private HotKeyTracker hotKeys;
 
    @Override
    public KeyAwareLockPromise lock(Object key, Object lockOwner, long time, TimeUnit unit) {
@@ -77,8 +79,7 @@ public KeyAwareLockPromise lock(Object key, Object lockOwner, long time, TimeUni
 
       if (key == lockOwner) {
          // If the lock is already owned by this lock owner there is no reason to attempt the lock needlessly
-         InfinispanLock lock = lockContainer.getLock(key);
-         if (lock != null && lock.getLockOwner() == key) {
+         if (lockContainer.getOwner(key) == key) {
             if (trace)
                log.tracef("Not locking key=%s as it is already held by the same lock owner", key);
             return KeyAwareLockPromise.NO_OP;
@@ -86,6 +87,9 @@ public KeyAwareLockPromise lock(Object key, Object lockOwner, long time, TimeUni
       }
 
       ExtendedLockPromise promise = lockContainer.acquire(key, lockOwner, time, unit);
+      if (hotKeys.isEnabled()) {
+         hotKeys.recordLock(key, !lockOwner.equals(promise.getOwner()));
+      }
       return new KeyAwareExtendedLockPromise(promise, key, unit.toMillis(time)).scheduleLockTimeoutTask(scheduler);
    }
 
@@ -121,8 +125,13 @@ public KeyAwareLockPromise lockAll(Collection<?> keys, Object lockOwner, long ti
       //needed to avoid internal deadlock when 2 or more lock owner invokes this method with the same keys.
       //ordering will not solve the problem since acquire() is non-blocking and each lock owner can iterate faster/slower than the other.
       synchronized (this) {
+         boolean recordHotKeys = hotKeys.isEnabled();
          for (Object key : uniqueKeys) {
-            compositeLockPromise.addLock(new KeyAwareExtendedLockPromise(lockContainer.acquire(key, lockOwner, time, unit), key, unit.toMillis(time)));
+            ExtendedLockPromise promise = lockContainer.acquire(key, lockOwner, time, unit);
+            if (recordHotKeys) {
+               hotKeys.recordLock(key, !lockOwner.equals(promise.getOwner()));
+            }
+            compositeLockPromise.addLock(new KeyAwareExtendedLockPromise(promise, key, unit.toMillis(time)));
          }
       }
       compositeLockPromise.markListAsFinal();
@@ -185,8 +194,7 @@ public boolean isLocked(Object key) {
 
    @Override
    public Object getOwner(Object key) {
-      InfinispanLock lock = lockContainer.getLock(key);
-      return lock == null ? null : lock.getLockOwner();
+      return lockContainer.getOwner(key);
    }
 
    @Override
@@ -206,6 +206,13 @@ public boolean isLocked() {
       return current != null;
    }
 
+   /**
+    * @return {@code true} if the lock is not acquired and there are no pending or unfinished requests.
+    */
+   boolean isFree() {
+      return current == null && lockOwners.isEmpty() && pendingRequest.isEmpty();
+   }
+
    /**
     * It forces a deadlock checking.
     */
@@ -247,8 +254,9 @@ private boolean casRelease(LockPlaceHolder lockPlaceHolder) {
       return cas(lockPlaceHolder, null);
    }
 
-   private boolean remove(Object lockOwner) {
-      return lockOwners.remove(lockOwner) != null;
+   private boolean remove(LockPlaceHolder lockPlaceHolder) {
+      // Only remove the owner's current request, so a late cleanup can't affect a new request of the same owner
+      return lockOwners.remove(lockPlaceHolder.owner, lockPlaceHolder);
    }
 
    private void triggerReleased() {
@@ -502,7 +510,7 @@ private boolean casState(LockState expect, LockState update) {
       }
 
       private void cleanup() {
-         if (remove(owner)) {
+         if (remove(this)) {
             triggerReleased();
          }
       }
@@ -27,6 +27,15 @@ public interface LockContainer {
     */
    InfinispanLock getLock(Object key);
 
+   /**
+    * @param key the key to test.
+    * @return the owner of the lock for a specific object, or {@code null} if it is not locked.
+    */
+   default Object getOwner(Object key) {
+      InfinispanLock lock = getLock(key);
+      return lock == null ? null : lock.getLockOwner();
+   }
+
    void release(Object key, Object lockOwner);
 
    /**
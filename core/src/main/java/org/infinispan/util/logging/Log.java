@@ -1862,4 +1862,30 @@ CacheConfigurationException offHeapMemoryEvictionSizeNotLargeEnoughForAddresses(
 
    @Message(value = "JGroups stack '%s' has a RELAY2 protocol without remote sites", id = 548)
    CacheConfigurationException jgroupsRelayWithoutRemoteSites(String name);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Preloaded %d entries into cache '%s' (%d entries/s, %s remaining)", id = 549)
+   void preloadProgress(long preloaded, String cacheName, long rate, String remaining);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Disabling the Bloom filter of cache '%s', store %s is shared, ignores modifications or is not a store", id = 550)
+   void bloomFilterNotSupported(String cacheName, String storeClass);
+
+   @Message(value = "The refresh-ahead factor must be greater than or equal to 0 and less than 1, but was %s", id = 551)
+   CacheConfigurationException invalidRefreshAheadFactor(float refreshAheadFactor);
+
+   @Message(value = "The hot key sample rate must be greater than or equal to 0, but was %d", id = 552)
+   CacheConfigurationException invalidHotKeySampleRate(int sampleRate);
+
+   @Message(value = "Optimistic writes are only supported by local caches without stores and off-heap storage", id = 553)
+   CacheConfigurationException optimisticWritesNotSupported();
+
+   @Message(value = "Adaptive locks and lock striping cannot be enabled together", id = 554)
+   CacheConfigurationException adaptiveLocksWithStriping();
+
+   @Message(value = "The group commit window must be greater than or equal to 0, but was %d", id = 555)
+   CacheConfigurationException invalidGroupCommitWindow(long window);
+
+   @Message(value = "The backup bundling window must be greater than or equal to 0 and the backup bundling size must be greater than 0, but they were %d and %d", id = 556)
+   CacheConfigurationException invalidBackupBundling(long window, int size);
 }
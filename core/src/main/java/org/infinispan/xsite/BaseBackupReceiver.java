@@ -243,6 +243,8 @@ private void replayModificationsInTransaction(PrepareCommand command, boolean on
                      tm.rollback();
                   }
                } else { // Wait for a remote commit/rollback.
+                  // The commit/rollback looks up the transaction by its GlobalTransaction, even if it didn't write
+                  txTable().registerLocalTransaction(localTx);
                   remote2localTx.put(command.getGlobalTransaction(), localTx.getGlobalTransaction());
                   tm.suspend();
                }
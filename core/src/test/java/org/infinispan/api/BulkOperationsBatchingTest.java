@@ -0,0 +1,219 @@
+package org.infinispan.api;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.transaction.TransactionManager;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commands.remote.ClusteredGetAllCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.rpc.RpcOptions;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.ResponseCollector;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.transaction.impl.LocalTransaction;
+import org.infinispan.transaction.impl.TransactionTable;
+import org.infinispan.util.AbstractDelegatingRpcManager;
+import org.testng.annotations.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+
+/**
+ * Tests that {@link org.infinispan.AdvancedCache#getAllPublisher(Set)} publishes the entries of each owner as soon as
+ * it replies, and that very large {@code putAll} maps are split in bounded batches per owner.
+ */
+@Test(groups = "functional", testName = "api.BulkOperationsBatchingTest")
+public class BulkOperationsBatchingTest extends MultipleCacheManagersTest {
+   private static final int MAX_BATCH_SIZE = 1000;
+   private static final String TX_CACHE = "tx";
+
+   private DelayingRpcManager rpcManager;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.clustering().hash().numOwners(1);
+      createCluster(cfg, 3);
+      ConfigurationBuilder txCfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, true);
+      txCfg.clustering().hash().numOwners(1);
+      defineConfigurationOnAllManagers(TX_CACHE, txCfg);
+      waitForClusterToForm();
+      waitForClusterToForm(TX_CACHE);
+      rpcManager = TestingUtil.wrapComponent(cache(0), RpcManager.class, DelayingRpcManager::new);
+   }
+
+   public void testGetAllPublisherDoesNotWaitForSlowOwner() throws Exception {
+      Set<Object> fastKeys = new HashSet<>();
+      Set<Object> slowKeys = new HashSet<>();
+      for (int i = 0; i < 5; i++) {
+         fastKeys.add(getKeyForCache(0));
+         fastKeys.add(getKeyForCache(1));
+         slowKeys.add(getKeyForCache(2));
+      }
+      Set<Object> allKeys = new HashSet<>(fastKeys);
+      allKeys.addAll(slowKeys);
+      for (Object key : allKeys) {
+         cache(0).put(key, "v" + key);
+      }
+
+      rpcManager.slowTarget = address(2);
+      TestSubscriber<Map.Entry<Object, Object>> subscriber =
+            Flowable.fromPublisher(cache(0).getAdvancedCache().getAllPublisher(allKeys)).test();
+      try {
+         subscriber.awaitCount(fastKeys.size());
+         assertEquals(fastKeys.size(), subscriber.valueCount());
+         for (Map.Entry<Object, Object> entry : subscriber.values()) {
+            assertTrue(fastKeys.contains(entry.getKey()));
+         }
+         subscriber.assertNotComplete();
+      } finally {
+         rpcManager.releaseSlowTarget();
+      }
+
+      assertTrue(subscriber.await(10, TimeUnit.SECONDS));
+      subscriber.assertComplete().assertValueCount(allKeys.size());
+      for (Map.Entry<Object, Object> entry : subscriber.values()) {
+         assertEquals("v" + entry.getKey(), entry.getValue());
+      }
+   }
+
+   public void testGetAllPublisherSkipsMissingKeys() {
+      Object key = getKeyForCache(1);
+      cache(0).put(key, "value");
+      Set<Object> keys = new HashSet<>();
+      keys.add(key);
+      keys.add(getKeyForCache(2));
+
+      Flowable.fromPublisher(cache(0).getAdvancedCache().getAllPublisher(keys)).test()
+            .awaitDone(10, TimeUnit.SECONDS)
+            .assertValueCount(1)
+            .assertValue(e -> e.getKey().equals(key) && e.getValue().equals("value"));
+   }
+
+   public void testGetAllPublisherInTransaction() throws Exception {
+      Cache<Object, Object> cache = cache(0, TX_CACHE);
+      Object localKey = getKeyForCache(cache);
+      Set<Object> keys = new HashSet<>();
+      keys.add(localKey);
+      for (int i = 0; i < 5; i++) {
+         keys.add(getKeyForCache(cache(1, TX_CACHE)));
+         keys.add(getKeyForCache(cache(2, TX_CACHE)));
+      }
+      for (Object key : keys) {
+         cache.put(key, "v" + key);
+      }
+
+      TransactionManager tm = tm(0, TX_CACHE);
+      tm.begin();
+      try {
+         cache.put(localKey, "tx");
+         List<Map.Entry<Object, Object>> entries =
+               Flowable.fromPublisher(cache.getAdvancedCache().getAllPublisher(keys)).toList().blockingGet();
+         assertEquals(keys.size(), entries.size());
+         for (Map.Entry<Object, Object> entry : entries) {
+            assertEquals(entry.getKey() == localKey ? "tx" : "v" + entry.getKey(), entry.getValue());
+         }
+         LocalTransaction localTx = TestingUtil.extractComponent(cache, TransactionTable.class)
+               .getLocalTransaction(tm.getTransaction());
+         assertEquals(keys, localTx.getLookedUpEntries().keySet());
+      } finally {
+         tm.commit();
+      }
+      assertEquals("tx", cache(1, TX_CACHE).get(localKey));
+   }
+
+   public void testLargePutAllIsSplitPerOwner() {
+      Map<Object, Object> map = new HashMap<>();
+      for (int i = 0; i < 5 * MAX_BATCH_SIZE; i++) {
+         map.put("k" + i, "v" + i);
+      }
+      LocalizedCacheTopology cacheTopology = cache(0).getAdvancedCache().getDistributionManager().getCacheTopology();
+      Map<Address, Integer> keysPerOwner = new HashMap<>();
+      for (Object key : map.keySet()) {
+         keysPerOwner.merge(cacheTopology.getDistribution(key).primary(), 1, Integer::sum);
+      }
+      int expectedBatches = 0;
+      for (Map.Entry<Address, Integer> e : keysPerOwner.entrySet()) {
+         if (!e.getKey().equals(address(0))) {
+            expectedBatches += (e.getValue() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+         }
+      }
+
+      rpcManager.putMapCount = 0;
+      rpcManager.maxPutMapSize = 0;
+      cache(0).putAll(map);
+
+      assertEquals(expectedBatches, rpcManager.putMapCount);
+      assertTrue(rpcManager.maxPutMapSize <= MAX_BATCH_SIZE);
+      for (int i = 0; i < 3; i++) {
+         assertEquals(map.size(), cache(i).size());
+      }
+      assertEquals("v42", cache(2).get("k42"));
+   }
+
+   public void testSmallPutAllIsNotSplit() {
+      Map<Object, Object> map = new HashMap<>();
+      for (int i = 0; i < 10; i++) {
+         map.put(getKeyForCache(1), "v" + i);
+      }
+      rpcManager.putMapCount = 0;
+      cache(0).putAll(map);
+      assertEquals(1, rpcManager.putMapCount);
+      assertEquals(map.size(), cache(1).getAdvancedCache().getDataContainer().size());
+   }
+
+   static class DelayingRpcManager extends AbstractDelegatingRpcManager {
+      volatile Address slowTarget;
+      volatile CompletableFuture<Void> slowTargetReleased = new CompletableFuture<>();
+      volatile int putMapCount;
+      volatile int maxPutMapSize;
+
+      DelayingRpcManager(RpcManager realOne) {
+         super(realOne);
+      }
+
+      void releaseSlowTarget() {
+         slowTarget = null;
+         slowTargetReleased.complete(null);
+      }
+
+      @Override
+      protected <T> CompletionStage<T> performRequest(Collection<Address> targets, ReplicableCommand command,
+                                                      ResponseCollector<T> collector,
+                                                      Function<ResponseCollector<T>, CompletionStage<T>> invoker,
+                                                      RpcOptions rpcOptions) {
+         if (command instanceof PutMapCommand) {
+            synchronized (this) {
+               putMapCount++;
+               maxPutMapSize = Math.max(maxPutMapSize, ((PutMapCommand) command).getMap().size());
+            }
+         }
+         CompletionStage<T> stage = super.performRequest(targets, command, collector, invoker, rpcOptions);
+         Address slowTarget = this.slowTarget;
+         if (slowTarget != null && targets.contains(slowTarget) && command instanceof ClusteredGetAllCommand) {
+            CompletableFuture<Void> released = slowTargetReleased;
+            return stage.thenCombine(released, (response, ignored) -> response);
+         }
+         return stage;
+      }
+   }
+}
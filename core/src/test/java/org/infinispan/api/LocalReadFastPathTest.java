@@ -0,0 +1,110 @@
+package org.infinispan.api;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
+import org.infinispan.notifications.cachelistener.event.CacheEntryVisitedEvent;
+import org.infinispan.stats.Stats;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that plain reads that bypass the interceptor chain keep the statistics, expiration and listener semantics.
+ */
+@Test(groups = "functional", testName = "api.LocalReadFastPathTest")
+public class LocalReadFastPathTest extends SingleCacheManagerTest {
+   private final ControlledTimeService timeService = new ControlledTimeService();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      cfg.jmxStatistics().enable();
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      TestingUtil.replaceComponent(cm, TimeService.class, timeService, true);
+      return cm;
+   }
+
+   public void testStatistics() {
+      cache.put("k1", "v1");
+      Stats before = cache.getAdvancedCache().getStats();
+
+      assertEquals("v1", cache.get("k1"));
+      assertNull(cache.get("missing"));
+      Stats after = cache.getAdvancedCache().getStats();
+      assertEquals(before.getHits() + 1, after.getHits());
+      assertEquals(before.getMisses() + 1, after.getMisses());
+   }
+
+   public void testExpiration() {
+      cache.put("k2", "v2", 1, TimeUnit.SECONDS);
+      cache.put("k3", "v3", -1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+      assertEquals("v2", cache.get("k2"));
+
+      timeService.advance(600);
+      // Reading the entry resets its max idle
+      assertEquals("v3", cache.get("k3"));
+
+      timeService.advance(600);
+      assertNull(cache.get("k2"));
+      assertEquals("v3", cache.get("k3"));
+      assertNull(cache.getAdvancedCache().getDataContainer().peek("k2"));
+   }
+
+   public void testVisitedListener() {
+      cache.put("k4", "v4");
+      VisitedListener listener = new VisitedListener();
+      cache.addListener(listener);
+      try {
+         assertEquals("v4", cache.get("k4"));
+         assertEquals(2, listener.visits.get());
+      } finally {
+         cache.removeListener(listener);
+      }
+   }
+
+   public void testInterceptorAddedAtRuntime() {
+      cache.put("k5", "v5");
+      AtomicInteger reads = new AtomicInteger();
+      DDAsyncInterceptor interceptor = new DDAsyncInterceptor() {
+         @Override
+         public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) throws Throwable {
+            reads.incrementAndGet();
+            return invokeNext(ctx, command);
+         }
+      };
+      cache.getAdvancedCache().getAsyncInterceptorChain().addInterceptorBefore(interceptor, CallInterceptor.class);
+      try {
+         assertEquals("v5", cache.get("k5"));
+         assertEquals(1, reads.get());
+      } finally {
+         cache.getAdvancedCache().getAsyncInterceptorChain().removeInterceptor(interceptor.getClass());
+      }
+      assertEquals("v5", cache.get("k5"));
+      assertEquals(1, reads.get());
+   }
+
+   @Listener
+   public static class VisitedListener {
+      final AtomicInteger visits = new AtomicInteger();
+
+      @CacheEntryVisited
+      public void entryVisited(CacheEntryVisitedEvent<?, ?> event) {
+         visits.incrementAndGet();
+      }
+   }
+}
@@ -0,0 +1,147 @@
+package org.infinispan.api;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.WriteBatch;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.context.Flag;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.CountingRpcManager;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link AdvancedCache#executeBatch(WriteBatch)} in a distributed cache.
+ */
+@Test(groups = "functional", testName = "api.WriteBatchTest")
+public class WriteBatchTest extends MultipleCacheManagersTest {
+   private CountingRpcManager rpcManager;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.clustering().hash().numOwners(2);
+      createCluster(cfg, 3);
+      waitForClusterToForm();
+      rpcManager = TestingUtil.wrapComponent(cache(0), RpcManager.class, CountingRpcManager::new);
+      ConfigurationBuilder simpleCfg = new ConfigurationBuilder();
+      simpleCfg.simpleCache(true);
+      manager(0).defineConfiguration("simple", simpleCfg.build());
+   }
+
+   public void testMixedOperations() {
+      Object[] keys = new Object[6];
+      for (int i = 0; i < keys.length; i++) {
+         keys[i] = getKeyForCache(i % 3);
+      }
+      cache(1).put(keys[1], "old1");
+      cache(1).put(keys[2], "old2");
+      cache(1).put(keys[3], "old3");
+      cache(1).put(keys[4], "old4");
+
+      WriteBatch<Object, Object> batch = new WriteBatch<>()
+            .put(keys[0], "new0")
+            .putIfAbsent(keys[1], "new1")
+            .replace(keys[2], "old2", "new2")
+            .replace(keys[3], "wrong", "new3")
+            .remove(keys[4])
+            .remove(keys[5], "missing");
+      rpcManager.resetStats();
+      Map<Object, WriteBatch.Result<Object>> results = cache(0).getAdvancedCache().executeBatch(batch);
+
+      // One command per remote primary owner
+      assertEquals(2, rpcManager.otherCount);
+      assertEquals(Arrays.asList(keys), Arrays.asList(results.keySet().toArray()));
+      assertResult(results.get(keys[0]), true, null);
+      assertResult(results.get(keys[1]), false, "old1");
+      assertResult(results.get(keys[2]), true, "old2");
+      assertResult(results.get(keys[3]), false, "old3");
+      assertResult(results.get(keys[4]), true, "old4");
+      assertResult(results.get(keys[5]), false, null);
+
+      for (int i = 0; i < 3; i++) {
+         assertEquals("new0", cache(i).get(keys[0]));
+         assertEquals("old1", cache(i).get(keys[1]));
+         assertEquals("new2", cache(i).get(keys[2]));
+         assertEquals("old3", cache(i).get(keys[3]));
+         assertNull(cache(i).get(keys[4]));
+         assertNull(cache(i).get(keys[5]));
+      }
+   }
+
+   public void testPerKeyMetadata() {
+      Object mortalKey = getKeyForCache(1);
+      Object immortalKey = getKeyForCache(2);
+      WriteBatch<Object, Object> batch = new WriteBatch<>()
+            .put(mortalKey, "v1", new EmbeddedMetadata.Builder().lifespan(1, TimeUnit.HOURS).build())
+            .put(immortalKey, "v2");
+      cache(0).getAdvancedCache().executeBatch(batch);
+
+      CacheEntry<Object, Object> mortalEntry = cache(1).getAdvancedCache().getCacheEntry(mortalKey);
+      assertEquals(TimeUnit.HOURS.toMillis(1), mortalEntry.getLifespan());
+      CacheEntry<Object, Object> immortalEntry = cache(2).getAdvancedCache().getCacheEntry(immortalKey);
+      assertEquals(-1, immortalEntry.getLifespan());
+   }
+
+   public void testIgnoreReturnValues() {
+      Object key = getKeyForCache(1);
+      cache(0).put(key, "v1");
+      AdvancedCache<Object, Object> cache = cache(0).getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES);
+      Map<Object, WriteBatch.Result<Object>> results = cache.executeBatch(new WriteBatch<>().replace(key, "v1", "v2"));
+      assertTrue(results.isEmpty());
+      assertEquals("v2", cache(2).get(key));
+   }
+
+   public void testAsync() throws Exception {
+      Object key = getKeyForCache(2);
+      Map<Object, WriteBatch.Result<Object>> results = cache(0).getAdvancedCache()
+            .executeBatchAsync(new WriteBatch<>().putIfAbsent(key, "v1")).get(10, TimeUnit.SECONDS);
+      assertResult(results.get(key), true, null);
+      assertEquals("v1", cache(1).get(key));
+   }
+
+   public void testSequentialConditionalOperations() {
+      AdvancedCache<Object, Object> cache = manager(0).getCache("simple").getAdvancedCache();
+      cache.put("k1", "old1");
+      cache.put("k2", "old2");
+      cache.put("k3", "old3");
+      WriteBatch<Object, Object> batch = new WriteBatch<>()
+            .replace("k1", "old1", "new1")
+            .replace("k2", "wrong", "new2")
+            .remove("k3", "wrong");
+      Map<Object, WriteBatch.Result<Object>> results = cache.executeBatch(batch);
+
+      assertResult(results.get("k1"), true, "old1");
+      // The value compared by a failed conditional operation is not read again
+      assertResult(results.get("k2"), false, null);
+      assertResult(results.get("k3"), false, null);
+      assertEquals("new1", cache.get("k1"));
+      assertEquals("old2", cache.get("k2"));
+      assertEquals("old3", cache.get("k3"));
+   }
+
+   public void testEmptyBatch() {
+      assertTrue(cache(0).getAdvancedCache().executeBatch(new WriteBatch<>()).isEmpty());
+   }
+
+   @Test(expectedExceptions = IllegalArgumentException.class)
+   public void testDuplicateKey() {
+      new WriteBatch<>().put("k", "v1").remove("k");
+   }
+
+   private static void assertResult(WriteBatch.Result<Object> result, boolean successful, Object previousValue) {
+      assertEquals(successful, result.isSuccessful());
+      assertEquals(previousValue, result.getPreviousValue());
+   }
+}
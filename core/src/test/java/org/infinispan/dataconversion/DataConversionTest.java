@@ -1,6 +1,8 @@
 package org.infinispan.dataconversion;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.infinispan.commons.dataconversion.MediaType.APPLICATION_OBJECT_TYPE;
 import static org.infinispan.commons.dataconversion.MediaType.APPLICATION_XML_TYPE;
 import static org.infinispan.notifications.Listener.Observation.POST;
@@ -8,10 +10,12 @@
 import static org.infinispan.test.fwk.TestCacheManagerFactory.createCacheManager;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,7 @@
 import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.encoding.DataConversion;
+import org.infinispan.encoding.impl.ConversionCache;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.GlobalComponentRegistry;
 import org.infinispan.factories.annotations.Inject;
@@ -375,6 +380,84 @@ public void call() {
       });
    }
 
+   public void testConversionCache() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.encoding().key().mediaType("text/plain; charset=ISO-8859-1");
+      cfg.encoding().value().mediaType("text/plain; charset=UTF-8");
+
+      withCacheManager(new CacheManagerCallable(
+            createCacheManager(cfg)) {
+         @Override
+         public void call() {
+            Cache<byte[], byte[]> cache = cm.getCache();
+            ConversionCache conversionCache = TestingUtil.extractComponent(cache, ConversionCache.class);
+            Cache<byte[], byte[]> utf16ValueCache = (Cache<byte[], byte[]>) cache.getAdvancedCache().withMediaType("text/plain; charset=ISO-8859-1", "text/plain; charset=UTF-16");
+
+            byte[] key = "key1".getBytes(ISO_8859_1);
+            cache.put(key, "v1".getBytes(UTF_8));
+            conversionCache.resetStatistics();
+
+            byte[] first = utf16ValueCache.get(key);
+            assertEquals(new String(first, UTF_16), "v1");
+            byte[] second = utf16ValueCache.get(key);
+            assertNotSame(second, first);
+            assertEquals(second, first);
+            assertEquals(conversionCache.getMisses(), 1);
+            assertEquals(conversionCache.getHits(), 1);
+
+            // Modifying a returned value doesn't affect the next reads
+            second[second.length - 1] = 0;
+            assertEquals(new String(utf16ValueCache.get(key), UTF_16), "v1");
+
+            // A write stores a new instance, so the old conversion is not used anymore
+            cache.put(key, "v2".getBytes(UTF_8));
+            assertEquals(new String(utf16ValueCache.get(key), UTF_16), "v2");
+            assertEquals(conversionCache.getMisses(), 2);
+
+            // Large values are not cached
+            char[] large = new char[8192];
+            Arrays.fill(large, 'a');
+            cache.put(key, new String(large).getBytes(UTF_8));
+            conversionCache.resetStatistics();
+            assertNotSame(utf16ValueCache.get(key), utf16ValueCache.get(key));
+            assertEquals(conversionCache.getMisses(), 0);
+            assertEquals(conversionCache.getHits(), 0);
+
+            conversionCache.setEnabled(false);
+            conversionCache.resetStatistics();
+            utf16ValueCache.get(key);
+            assertEquals(conversionCache.getMisses(), 0);
+            assertEquals(conversionCache.getHits(), 0);
+         }
+      });
+   }
+
+   public void testConversionCacheNotUsedOffHeap() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.memory().storageType(StorageType.OFF_HEAP);
+      cfg.encoding().key().mediaType("text/plain; charset=ISO-8859-1");
+      cfg.encoding().value().mediaType("text/plain; charset=UTF-8");
+
+      withCacheManager(new CacheManagerCallable(
+            createCacheManager(cfg)) {
+         @Override
+         public void call() {
+            Cache<byte[], byte[]> cache = cm.getCache();
+            ConversionCache conversionCache = TestingUtil.extractComponent(cache, ConversionCache.class);
+            Cache<byte[], byte[]> utf16ValueCache = (Cache<byte[], byte[]>) cache.getAdvancedCache().withMediaType("text/plain; charset=ISO-8859-1", "text/plain; charset=UTF-16");
+
+            byte[] key = "key1".getBytes(ISO_8859_1);
+            cache.put(key, "v1".getBytes(UTF_8));
+            conversionCache.resetStatistics();
+
+            assertEquals(new String(utf16ValueCache.get(key), UTF_16), "v1");
+            assertEquals(new String(utf16ValueCache.get(key), UTF_16), "v1");
+            assertEquals(conversionCache.getMisses(), 0);
+            assertEquals(conversionCache.getHits(), 0);
+         }
+      });
+   }
+
    public void testWithCustomEncoder() {
       withCacheManager(new CacheManagerCallable(
             createCacheManager(new ConfigurationBuilder())) {
@@ -0,0 +1,96 @@
+package org.infinispan.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the bundling of the backup writes sent to the same backup owner.
+ *
+ * @since 10.0
+ */
+@Test(groups = "functional", testName = "distribution.BackupWriteBundlingTest")
+public class BackupWriteBundlingTest extends MultipleCacheManagersTest {
+   private static final int THREADS = 8;
+   private static final int WRITES = 50;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(2);
+      builder.clustering().backupBundlingWindow(TimeUnit.MILLISECONDS.toMicros(2)).backupBundlingSize(16);
+      createCluster(builder, 3);
+      waitForClusterToForm();
+   }
+
+   public void testConcurrentWritesAreBundled() throws Exception {
+      CyclicBarrier barrier = new CyclicBarrier(THREADS);
+      List<Future<Void>> futures = new ArrayList<>(THREADS);
+      for (int i = 0; i < THREADS; i++) {
+         int thread = i;
+         futures.add(fork(() -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            Cache<Object, Object> cache = cache(thread % 3);
+            for (int j = 0; j < WRITES; j++) {
+               cache.put("k-" + thread + "-" + j, j);
+               cache.put("k-" + thread, j);
+            }
+            Map<Object, Object> map = new HashMap<>();
+            for (int j = 0; j < WRITES; j++) {
+               map.put("m-" + thread + "-" + j, j);
+            }
+            cache.putAll(map);
+            return null;
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(60, TimeUnit.SECONDS);
+      }
+
+      for (int thread = 0; thread < THREADS; thread++) {
+         assertInAllOwners("k-" + thread, WRITES - 1);
+         for (int j = 0; j < WRITES; j++) {
+            assertInAllOwners("k-" + thread + "-" + j, j);
+            assertInAllOwners("m-" + thread + "-" + j, j);
+         }
+      }
+      long batches = 0;
+      for (Cache<Object, Object> cache : caches()) {
+         batches += TestingUtil.extractComponent(cache, BackupWriteBundler.class).getBatches();
+      }
+      assertTrue(batches > 0);
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testNegativeWindow() {
+      new ConfigurationBuilder().clustering().backupBundlingWindow(-1).build();
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testZeroSize() {
+      new ConfigurationBuilder().clustering().backupBundlingSize(0).build();
+   }
+
+   private void assertInAllOwners(Object key, Object value) {
+      for (Cache<Object, Object> cache : caches()) {
+         if (cache.getAdvancedCache().getDistributionManager().getCacheTopology().isWriteOwner(key)) {
+            assertEquals(value, cache.getAdvancedCache().getDataContainer().peek(key).getValue());
+         }
+      }
+   }
+}
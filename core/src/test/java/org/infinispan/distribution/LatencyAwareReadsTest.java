@@ -0,0 +1,118 @@
+package org.infinispan.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commands.remote.ClusteredGetCommand;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.remoting.inboundhandler.AbstractDelegatingHandler;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.inboundhandler.PerCacheInboundInvocationHandler;
+import org.infinispan.remoting.inboundhandler.Reply;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.impl.RpcLatencyTracker;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that remote reads prefer the owner with the lowest response time.
+ *
+ * @since 10.0
+ */
+@Test(groups = "functional", testName = "distribution.LatencyAwareReadsTest")
+public class LatencyAwareReadsTest extends MultipleCacheManagersTest {
+   private static final int READS = 20;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(2).l1().disable();
+      builder.clustering().latencyAwareReads(true);
+      createCluster(builder, 3);
+      waitForClusterToForm();
+   }
+
+   public void testReadsAvoidSlowOwner() {
+      MagicKey key = getKeyForCache(cache(0), cache(1));
+      cache(0).put(key, "value");
+      SlowGetHandler slowHandler =
+            TestingUtil.wrapInboundInvocationHandler(cache(0), delegate -> new SlowGetHandler(delegate));
+
+      for (int i = 0; i < READS; i++) {
+         assertEquals("value", cache(2).get(key));
+      }
+
+      RpcLatencyTracker latencyTracker = TestingUtil.extractGlobalComponent(manager(2), RpcLatencyTracker.class);
+      assertTrue(latencyTracker.getAverageLatency(address(1)) < latencyTracker.getAverageLatency(address(0)));
+      assertEquals(address(1), latencyTracker.sortByLatency(Arrays.asList(address(0), address(1))).get(0));
+      assertTrue(slowHandler.slowGets.get() < READS / 2);
+      assertTrue(latencyTracker.getAverageLatencies().containsKey(address(0).toString()));
+   }
+
+   public void testWritesAreNotTracked() {
+      RpcLatencyTracker latencyTracker = TestingUtil.extractGlobalComponent(manager(2), RpcLatencyTracker.class);
+      latencyTracker.resetStatistics();
+      MagicKey key = getKeyForCache(cache(0), cache(1));
+      for (int i = 0; i < READS; i++) {
+         cache(2).put(key, "value" + i);
+      }
+      assertTrue(latencyTracker.getAverageLatencies().isEmpty());
+
+      assertEquals("value" + (READS - 1), cache(2).get(key));
+      assertFalse(latencyTracker.getAverageLatencies().isEmpty());
+   }
+
+   public void testStaleLatencyIsUnknown() {
+      ControlledTimeService timeService = new ControlledTimeService();
+      RpcLatencyTracker latencyTracker = new RpcLatencyTracker();
+      TestingUtil.inject(latencyTracker, timeService);
+      Address slow = new TestAddress(0);
+      Address fast = new TestAddress(1);
+
+      for (int i = 0; i < 16; i++) {
+         long start = latencyTracker.startTime();
+         timeService.advance(10);
+         latencyTracker.recordResponse(slow, start);
+         start = latencyTracker.startTime();
+         timeService.advance(1);
+         latencyTracker.recordResponse(fast, start);
+      }
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(10), latencyTracker.getAverageLatency(slow));
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(10), latencyTracker.getStaggerDelay(slow));
+      assertEquals(fast, latencyTracker.sortByLatency(Arrays.asList(slow, fast)).get(0));
+
+      // Without recent responses, the slow owner is tried again
+      timeService.advance(TimeUnit.SECONDS.toMillis(2));
+      assertEquals(-1, latencyTracker.getAverageLatency(slow));
+      assertEquals(slow, latencyTracker.sortByLatency(Arrays.asList(slow, fast)).get(0));
+
+      latencyTracker.retainAll(Arrays.asList(fast));
+      assertEquals(0, latencyTracker.getStaggerDelay(slow));
+   }
+
+   private static class SlowGetHandler extends AbstractDelegatingHandler {
+      final AtomicInteger slowGets = new AtomicInteger();
+
+      SlowGetHandler(PerCacheInboundInvocationHandler delegate) {
+         super(delegate);
+      }
+
+      @Override
+      protected boolean beforeHandle(CacheRpcCommand command, Reply reply, DeliverOrder order) {
+         if (command instanceof ClusteredGetCommand) {
+            slowGets.incrementAndGet();
+            TestingUtil.sleepThread(100);
+         }
+         return super.beforeHandle(command, reply, order);
+      }
+   }
+}
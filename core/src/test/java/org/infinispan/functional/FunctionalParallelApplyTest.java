@@ -0,0 +1,113 @@
+package org.infinispan.functional;
+
+import static org.infinispan.functional.FunctionalTestUtils.await;
+import static org.infinispan.marshall.core.MarshallableFunctions.returnReadOnlyFindOrNull;
+import static org.infinispan.marshall.core.MarshallableFunctions.setValueConsumer;
+import static org.infinispan.marshall.core.MarshallableFunctions.setValueReturnPrevOrNull;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.infinispan.functional.FunctionalMap.ReadOnlyMap;
+import org.infinispan.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.functional.FunctionalMap.WriteOnlyMap;
+import org.infinispan.functional.impl.ReadOnlyMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.functional.impl.WriteOnlyMapImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Tests many-key commands with {@link Param.ApplyMode#PARALLEL}.
+ */
+@Test(groups = "functional", testName = "functional.FunctionalParallelApplyTest")
+public class FunctionalParallelApplyTest extends AbstractFunctionalTest {
+   private static final int NUM_KEYS = 500;
+
+   public FunctionalParallelApplyTest() {
+      persistence = false;
+   }
+
+   public void testResultsKeepKeyOrder() {
+      ReadWriteMap<Integer, String> rw = ReadWriteMapImpl.create(fmapL1).withParams(Param.ApplyMode.PARALLEL);
+      Set<Integer> keys = new LinkedHashSet<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         keys.add(i);
+      }
+
+      List<String> results = rw.evalMany(keys, view -> {
+         view.set("v" + view.key());
+         return "r" + view.key();
+      }).collect(Collectors.toList());
+
+      assertEquals(keys.stream().map(k -> "r" + k).collect(Collectors.toList()), results);
+      for (int i = 0; i < NUM_KEYS; i++) {
+         assertEquals("v" + i, cache(0).get(i));
+      }
+   }
+
+   public void testEntriesResultsKeepKeyOrder() {
+      ReadWriteMap<Integer, String> rw = ReadWriteMapImpl.create(fmapL1).withParams(Param.ApplyMode.PARALLEL);
+      Map<Integer, String> entries = new LinkedHashMap<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         entries.put(i, "v" + i);
+         if (i % 2 == 0) {
+            cache(0).put(i, "old" + i);
+         }
+      }
+
+      List<String> previous = rw.evalMany(entries, setValueReturnPrevOrNull()).collect(Collectors.toList());
+
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         expected.add(i % 2 == 0 ? "old" + i : null);
+         assertEquals("v" + i, cache(0).get(i));
+      }
+      assertEquals(expected, previous);
+   }
+
+   public void testFailureIsPropagated() {
+      ReadWriteMap<Integer, String> rw = ReadWriteMapImpl.create(fmapL1).withParams(Param.ApplyMode.PARALLEL);
+      Set<Integer> keys = new LinkedHashSet<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         keys.add(i);
+      }
+      try {
+         rw.evalMany(keys, view -> {
+            if (view.key() == NUM_KEYS / 2) {
+               throw new IllegalStateException("expected");
+            }
+            return view.set("v");
+         }).collect(Collectors.toList());
+         throw new AssertionError("The function failure should have been propagated");
+      } catch (Exception e) {
+         Throwable cause = e;
+         while (cause != null && !(cause instanceof IllegalStateException)) {
+            cause = cause.getCause();
+         }
+         assertEquals("expected", cause.getMessage());
+      }
+      assertNull(cache(0).get(NUM_KEYS / 2));
+   }
+
+   public void testDistributedWriteOnly() {
+      WriteOnlyMap<Object, String> wo = WriteOnlyMapImpl.create(fmapD1).withParams(Param.ApplyMode.PARALLEL);
+      ReadOnlyMap<Object, String> ro = ReadOnlyMapImpl.create(fmapD2);
+      Map<Object, String> entries = new LinkedHashMap<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         entries.put("k" + i, "v" + i);
+      }
+
+      await(wo.evalMany(entries, setValueConsumer()));
+
+      List<String> values = ro.evalMany(entries.keySet(), returnReadOnlyFindOrNull()).collect(Collectors.toList());
+      assertEquals(NUM_KEYS, values.size());
+      assertEquals(new LinkedHashSet<>(entries.values()), new LinkedHashSet<>(values));
+   }
+}
@@ -0,0 +1,73 @@
+package org.infinispan.functional.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.infinispan.functional.Param.ApplyMode;
+import org.infinispan.functional.Param.ExecutionMode;
+import org.infinispan.functional.Param.LockingMode;
+import org.infinispan.functional.Param.PersistenceMode;
+import org.infinispan.functional.Param.ReplicationMode;
+import org.infinispan.functional.Param.StatisticsMode;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the marshalling of {@link Params}.
+ */
+@Test(groups = "unit", testName = "functional.impl.ParamsTest")
+public class ParamsTest {
+
+   public void testDefaultApplyModeUsesSingleByte() throws IOException {
+      Params params = Params.from(PersistenceMode.SKIP, LockingMode.SKIP, ExecutionMode.LOCAL_SITE,
+            StatisticsMode.SKIP, ReplicationMode.ASYNC);
+      byte[] bytes = marshall(params);
+      assertEquals(1, bytes.length);
+      assertParams(params, unmarshall(bytes));
+
+      assertEquals(1, marshall(Params.create()).length);
+      assertParams(Params.create(), unmarshall(marshall(Params.create())));
+   }
+
+   public void testParallelApplyMode() throws IOException {
+      Params params = Params.from(ApplyMode.PARALLEL, ExecutionMode.LOCAL, LockingMode.TRY_LOCK);
+      byte[] bytes = marshall(params);
+      assertEquals(2, bytes.length);
+      assertParams(params, unmarshall(bytes));
+   }
+
+   private static byte[] marshall(Params params) throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+         output.flush();
+         int header = bytes.size();
+         Params.writeObject(output, params);
+         output.flush();
+         // Skip the stream header and the 2 byte block data header
+         byte[] all = bytes.toByteArray();
+         return Arrays.copyOfRange(all, header + 2, all.length);
+      }
+   }
+
+   private static Params unmarshall(byte[] bytes) throws IOException {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      try (ObjectOutputStream output = new ObjectOutputStream(stream)) {
+         output.write(bytes);
+      }
+      try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+         return Params.readObject(input);
+      }
+   }
+
+   private static void assertParams(Params expected, Params actual) {
+      for (int id : new int[]{PersistenceMode.ID, LockingMode.ID, ExecutionMode.ID, StatisticsMode.ID,
+            ReplicationMode.ID, ApplyMode.ID}) {
+         assertEquals(expected.get(id).get(), actual.get(id).get());
+      }
+   }
+}
@@ -12,16 +12,20 @@
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.control.LockControlCommand;
 import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.read.SizeCommand;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.SingleKeyNonTxInvocationContext;
+import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.factories.components.ComponentMetadataRepo;
 import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.interceptors.BaseAsyncInterceptor;
+import org.infinispan.interceptors.DDAsyncInterceptor;
 import org.infinispan.interceptors.InterceptorChainTest;
 import org.infinispan.interceptors.InvocationSuccessFunction;
 import org.infinispan.test.AbstractInfinispanTest;
@@ -376,6 +380,47 @@ private Object awaitFuture(CompletableFuture<Object> f2) {
    }
 
 
+   public void testPassThroughInterceptorsAreSkipped() {
+      AtomicReference<String> visits = new AtomicReference<>("");
+      AtomicReference<StackTraceElement[]> stackTrace = new AtomicReference<>();
+      AsyncInterceptorChain chain = newInterceptorChain(new DDAsyncInterceptor() {
+         @Override
+         public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) {
+            visits.set(visits.get() + " get");
+            return invokeNext(ctx, command);
+         }
+      }, new DDAsyncInterceptor() {
+         @Override
+         public Object visitLockControlCommand(TxInvocationContext ctx, LockControlCommand command) {
+            visits.set(visits.get() + " lock");
+            return invokeNext(ctx, command);
+         }
+      }, new DDAsyncInterceptor() {
+      }, new BaseAsyncInterceptor() {
+         @Override
+         public Object visitCommand(InvocationContext ctx, VisitableCommand command) {
+            stackTrace.set(Thread.currentThread().getStackTrace());
+            return "v1";
+         }
+      });
+      InvocationContext context = newInvocationContext();
+
+      assertEquals("v1", chain.invoke(context, testCommand));
+      assertEquals(" get", visits.get());
+      // The last two DDAsyncInterceptors were skipped
+      assertEquals(0, Stream.of(stackTrace.get())
+            .filter(e -> e.getClassName().equals(DDAsyncInterceptor.class.getName()))
+            .filter(e -> e.getMethodName().equals("handleDefault"))
+            .count());
+
+      // Local commands always go through all the interceptors
+      assertEquals("v1", chain.invoke(context, new SizeCommand(0)));
+      assertEquals(3, Stream.of(stackTrace.get())
+            .filter(e -> e.getClassName().equals(DDAsyncInterceptor.class.getName()))
+            .filter(e -> e.getMethodName().equals("handleDefault"))
+            .count());
+   }
+
    private SingleKeyNonTxInvocationContext newInvocationContext() {
       // Actual implementation doesn't matter, we are only testing the BaseAsyncInvocationContext methods
       return new SingleKeyNonTxInvocationContext(null);
@@ -6,7 +6,9 @@
 import static org.testng.AssertJUnit.assertNull;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.read.GetAllCommand;
@@ -21,6 +23,7 @@
 import org.infinispan.context.SingleKeyNonTxInvocationContext;
 import org.infinispan.interceptors.BaseAsyncInterceptor;
 import org.infinispan.interceptors.InvocationStage;
+import org.infinispan.stats.impl.HotKeyTracker;
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.test.Exceptions;
 import org.infinispan.test.TestException;
@@ -47,7 +50,7 @@ public void setup() {
 
       interceptor = new CacheMgmtInterceptor();
       interceptor.setNextInterceptor(nextInterceptor);
-      TestingUtil.inject(interceptor, timeService);
+      TestingUtil.inject(interceptor, timeService, new HotKeyTracker());
       interceptor.start();
       interceptor.setStatisticsEnabled(true);
    }
@@ -160,6 +163,29 @@ public void testVisitPutMapCommand() throws Throwable {
       assertEquals(1, interceptor.getAverageWriteTime());
    }
 
+   public void testLatencyPercentiles() throws Throwable {
+      for (int i = 1; i <= 100; i++) {
+         GetKeyValueCommand command = new GetKeyValueCommand(KEY, 0, 0);
+         InvocationStage stage = makeStage(interceptor.visitGetKeyValueCommand(ctx, command));
+         timeService.advance(i);
+         nextInterceptor.completeLastInvocation(VALUE);
+         assertEquals(VALUE, stage.get());
+      }
+
+      // The times are recorded with a relative error of at most 1/32
+      Map<String, Long> percentiles = interceptor.getHitTimePercentiles();
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(50), percentiles.get("p50"), TimeUnit.MILLISECONDS.toNanos(50) / 32);
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(90), percentiles.get("p90"), TimeUnit.MILLISECONDS.toNanos(90) / 32);
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(99), percentiles.get("p99"), TimeUnit.MILLISECONDS.toNanos(99) / 32);
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(100), percentiles.get("p99.9").longValue());
+      assertEquals(TimeUnit.MILLISECONDS.toNanos(100), percentiles.get("max").longValue());
+      assertEquals(0, interceptor.getMissTimePercentiles().get("max").longValue());
+
+      interceptor.resetStatistics();
+      assertEquals(0, interceptor.getHitTimePercentiles().get("p50").longValue());
+      assertEquals(0, interceptor.getHitTimePercentiles().get("max").longValue());
+   }
+
    public void testVisitPutMapCommandException() throws Throwable {
       PutMapCommand command = new PutMapCommand(Collections.singletonMap(KEY, VALUE), null, 0, null);
       InvocationStage stage = makeStage(interceptor.visitPutMapCommand(ctx, command));
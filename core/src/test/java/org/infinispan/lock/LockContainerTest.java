@@ -17,6 +17,7 @@
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.concurrent.locks.LockPromise;
+import org.infinispan.util.concurrent.locks.impl.AdaptiveLockContainer;
 import org.infinispan.util.concurrent.locks.impl.LockContainer;
 import org.infinispan.util.concurrent.locks.impl.PerKeyLockContainer;
 import org.infinispan.util.concurrent.locks.impl.StripedLockContainer;
@@ -56,6 +57,81 @@ public void testSingleCounterWithStriped() throws ExecutionException, Interrupte
       doSingleCounterTest(lockContainer, 16);
    }
 
+   public void testSingleLockWithAdaptive() throws InterruptedException {
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+      doSingleLockTest(lockContainer, -1);
+   }
+
+   public void testAdaptiveReusesReleasedLocks() throws InterruptedException {
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+
+      lockContainer.acquire("key1", "LO1", 0, TimeUnit.MILLISECONDS).lock();
+      lockContainer.release("key1", "LO1");
+      lockContainer.acquire("key2", "LO2", 0, TimeUnit.MILLISECONDS).lock();
+
+      AssertJUnit.assertEquals(1, lockContainer.getCreatedLocks());
+      AssertJUnit.assertEquals(1, lockContainer.getReusedLocks());
+      AssertJUnit.assertNull(lockContainer.getOwner("key1"));
+      AssertJUnit.assertEquals("LO2", lockContainer.getOwner("key2"));
+      AssertJUnit.assertEquals(0, lockContainer.getContendedLockAcquisitions());
+      AssertJUnit.assertEquals(0L, (long) lockContainer.getLockWaitTimePercentiles().get("max"));
+
+      lockContainer.release("key2", "LO2");
+      AssertJUnit.assertEquals(0, lockContainer.size());
+   }
+
+   public void testAdaptivePoolIsSharedByThreads() throws Exception {
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+
+      lockContainer.acquire("key1", "LO1", 0, TimeUnit.MILLISECONDS).lock();
+      lockContainer.release("key1", "LO1");
+      fork(() -> {
+         lockContainer.acquire("key2", "LO2", 0, TimeUnit.MILLISECONDS).lock();
+         lockContainer.release("key2", "LO2");
+         return null;
+      }).get(10, TimeUnit.SECONDS);
+
+      AssertJUnit.assertEquals(1, lockContainer.getCreatedLocks());
+      AssertJUnit.assertEquals(1, lockContainer.getReusedLocks());
+
+      // Injecting the dependencies again discards the pooled locks
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+      lockContainer.acquire("key3", "LO3", 0, TimeUnit.MILLISECONDS).lock();
+      AssertJUnit.assertEquals(2, lockContainer.getCreatedLocks());
+   }
+
+   public void testAdaptiveKeepsContendedLocks() throws InterruptedException {
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+
+      lockContainer.acquire("key", "owner", 0, TimeUnit.MILLISECONDS).lock();
+      for (int i = 0; i < AdaptiveLockContainer.PROMOTION_THRESHOLD; i++) {
+         acquireLock(lockContainer.acquire("key", "waiter" + i, 0, TimeUnit.MILLISECONDS), true);
+      }
+      LockPromise waiter = lockContainer.acquire("key", "waiter", 1, TimeUnit.MINUTES);
+      lockContainer.release("key", "owner");
+      acquireLock(waiter, false);
+      lockContainer.release("key", "waiter");
+
+      // The lock stays while the key is contended
+      AssertJUnit.assertEquals(1, lockContainer.getNumberOfDedicatedLocks());
+      AssertJUnit.assertEquals(1, lockContainer.size());
+      AssertJUnit.assertEquals(0, lockContainer.getNumLocksHeld());
+      AssertJUnit.assertEquals(1, lockContainer.getContendedLockAcquisitions());
+      AssertJUnit.assertTrue(lockContainer.getLockWaitTimePercentiles().get("max") > 0);
+
+      // Uncontended acquisitions lower the contention until the lock is released
+      for (int i = 0; i <= AdaptiveLockContainer.MAX_CONTENTION && lockContainer.size() > 0; i++) {
+         lockContainer.acquire("key", "owner", 0, TimeUnit.MILLISECONDS).lock();
+         lockContainer.release("key", "owner");
+      }
+      AssertJUnit.assertEquals(0, lockContainer.getNumberOfDedicatedLocks());
+      AssertJUnit.assertEquals(0, lockContainer.size());
+   }
+
    private void doSingleCounterTest(LockContainer lockContainer, int poolSize) throws InterruptedException, ExecutionException {
       final NotThreadSafeCounter counter = new NotThreadSafeCounter();
       final String key = "key";
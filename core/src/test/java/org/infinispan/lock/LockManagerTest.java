@@ -23,12 +23,14 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.infinispan.stats.impl.HotKeyTracker;
 import org.infinispan.test.AbstractCacheTest;
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.test.TestingUtil;
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.concurrent.locks.LockManager;
 import org.infinispan.util.concurrent.locks.LockPromise;
+import org.infinispan.util.concurrent.locks.impl.AdaptiveLockContainer;
 import org.infinispan.util.concurrent.locks.impl.DefaultLockManager;
 import org.infinispan.util.concurrent.locks.impl.PerKeyLockContainer;
 import org.infinispan.util.concurrent.locks.impl.StripedLockContainer;
@@ -60,7 +62,7 @@ public void testSingleCounterPerKey() throws ExecutionException, InterruptedExce
       DefaultLockManager lockManager = new DefaultLockManager();
       PerKeyLockContainer lockContainer = new PerKeyLockContainer();
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doSingleCounterTest(lockManager);
    }
 
@@ -68,7 +70,7 @@ public void testSingleCounterStripped() throws ExecutionException, InterruptedEx
       DefaultLockManager lockManager = new DefaultLockManager();
       StripedLockContainer lockContainer = new StripedLockContainer(16);
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doSingleCounterTest(lockManager);
    }
 
@@ -76,7 +78,7 @@ public void testMultipleCounterPerKey() throws ExecutionException, InterruptedEx
       DefaultLockManager lockManager = new DefaultLockManager();
       PerKeyLockContainer lockContainer = new PerKeyLockContainer();
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doMultipleCounterTest(lockManager);
    }
 
@@ -84,15 +86,31 @@ public void testMultipleCounterStripped() throws ExecutionException, Interrupted
       DefaultLockManager lockManager = new DefaultLockManager();
       StripedLockContainer lockContainer = new StripedLockContainer(16);
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doMultipleCounterTest(lockManager);
    }
 
+   public void testMultipleCounterAdaptive() throws ExecutionException, InterruptedException {
+      DefaultLockManager lockManager = new DefaultLockManager();
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
+      doMultipleCounterTest(lockManager);
+   }
+
+   public void testTimeoutAdaptive() throws ExecutionException, InterruptedException {
+      DefaultLockManager lockManager = new DefaultLockManager();
+      AdaptiveLockContainer lockContainer = new AdaptiveLockContainer(16);
+      lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
+      doTestWithFailAcquisition(lockManager);
+   }
+
    public void testTimeoutPerKey() throws ExecutionException, InterruptedException {
       DefaultLockManager lockManager = new DefaultLockManager();
       PerKeyLockContainer lockContainer = new PerKeyLockContainer();
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doTestWithFailAcquisition(lockManager);
    }
 
@@ -100,7 +118,7 @@ public void testTimeoutStripped() throws ExecutionException, InterruptedExceptio
       DefaultLockManager lockManager = new DefaultLockManager();
       StripedLockContainer lockContainer = new StripedLockContainer(16);
       lockContainer.inject(commonPool(), AbstractCacheTest.TIME_SERVICE);
-      TestingUtil.inject(lockManager, lockContainer, mockExecutor);
+      TestingUtil.inject(lockManager, lockContainer, mockExecutor, new HotKeyTracker());
       doTestWithFailAcquisition(lockManager);
    }
 
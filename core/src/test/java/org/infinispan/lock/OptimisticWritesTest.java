@@ -0,0 +1,155 @@
+package org.infinispan.lock;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.util.concurrent.locks.LockManager;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the single-key writes without locks enabled with
+ * {@link org.infinispan.configuration.cache.LockingConfigurationBuilder#optimisticWrites(boolean)}.
+ *
+ * @since 10.0
+ */
+@Test(groups = "functional", testName = "lock.OptimisticWritesTest")
+public class OptimisticWritesTest extends SingleCacheManagerTest {
+   private static final int THREADS = 8;
+   private static final int INCREMENTS = 500;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.locking().optimisticWrites(true).lockAcquisitionTimeout(10, TimeUnit.SECONDS);
+      return TestCacheManagerFactory.createCacheManager(builder);
+   }
+
+   public void testWriteDoesNotLock() {
+      LockManager lockManager = TestingUtil.extractLockManager(cache);
+      LockCheckingListener listener = new LockCheckingListener(lockManager);
+      cache.addListener(listener);
+      try {
+         assertNull(cache.put("k", "v1"));
+         assertEquals("v1", cache.put("k", "v2"));
+         assertEquals("v2", cache.get("k"));
+         assertFalse(listener.locked);
+      } finally {
+         cache.removeListener(listener);
+      }
+   }
+
+   public void testConcurrentReplace() throws Exception {
+      cache.put("replace", 0);
+      runConcurrently(() -> {
+         for (int i = 0; i < INCREMENTS; i++) {
+            Integer value;
+            do {
+               value = (Integer) cache.get("replace");
+            } while (!cache.replace("replace", value, value + 1));
+         }
+      });
+      assertEquals(THREADS * INCREMENTS, cache.get("replace"));
+   }
+
+   public void testConcurrentCompute() throws Exception {
+      runConcurrently(() -> {
+         for (int i = 0; i < INCREMENTS; i++) {
+            cache.compute("compute", (k, v) -> v == null ? 1 : (Integer) v + 1);
+         }
+      });
+      assertEquals(THREADS * INCREMENTS, cache.get("compute"));
+   }
+
+   public void testConcurrentComputeAndLockedWrites() throws Exception {
+      ReadWriteMap<Object, Object> rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(cache.getAdvancedCache()));
+      Set<Object> keys = new HashSet<>(Arrays.asList("mixed", "other"));
+      runConcurrently(() -> {
+         for (int i = 0; i < INCREMENTS; i++) {
+            cache.compute("mixed", (k, v) -> v == null ? 1 : (Integer) v + 1);
+            // Multi-key writes always acquire the locks
+            rw.evalMany(keys, view -> view.set(view.find().map(v -> (Integer) v + 1).orElse(1)))
+              .forEach(ignored -> {});
+         }
+      });
+      assertEquals(2 * THREADS * INCREMENTS, cache.get("mixed"));
+      assertEquals(THREADS * INCREMENTS, cache.get("other"));
+   }
+
+   public void testConflictWithLockedKeyWaitsForLock() throws Exception {
+      LockManager lockManager = TestingUtil.extractLockManager(cache);
+      Object lockOwner = new Object();
+      lockManager.lock("locked", lockOwner, 10, TimeUnit.SECONDS).lock();
+      Future<Object> put;
+      try {
+         put = fork(() -> cache.put("locked", "v"));
+         Thread.sleep(100);
+         assertFalse(put.isDone());
+         assertNull(cache.get("locked"));
+      } finally {
+         lockManager.unlock("locked", lockOwner);
+      }
+      assertNull(put.get(10, TimeUnit.SECONDS));
+      assertEquals("v", cache.get("locked"));
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testClusteredCacheNotSupported() {
+      new ConfigurationBuilder().clustering().cacheMode(CacheMode.DIST_SYNC).locking().optimisticWrites(true).build();
+   }
+
+   private void runConcurrently(Runnable task) throws Exception {
+      CyclicBarrier barrier = new CyclicBarrier(THREADS);
+      List<Future<Void>> futures = new ArrayList<>(THREADS);
+      for (int i = 0; i < THREADS; i++) {
+         futures.add(fork(() -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            task.run();
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(30, TimeUnit.SECONDS);
+      }
+   }
+
+   @Listener
+   public static class LockCheckingListener {
+      private final LockManager lockManager;
+      volatile boolean locked;
+
+      LockCheckingListener(LockManager lockManager) {
+         this.lockManager = lockManager;
+      }
+
+      @CacheEntryCreated
+      @CacheEntryModified
+      public void entryWritten(CacheEntryEvent<Object, Object> event) {
+         if (event.isPre() && lockManager.isLocked(event.getKey())) {
+            locked = true;
+         }
+      }
+   }
+}
@@ -50,6 +50,7 @@
 import org.infinispan.commands.write.RemoveCommand;
 import org.infinispan.commands.write.ReplaceCommand;
 import org.infinispan.commons.hash.MurmurHash3;
+import org.infinispan.commons.io.ByteBuffer;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
 import org.infinispan.commons.marshall.NotSerializableException;
 import org.infinispan.commons.marshall.PojoWithJBossExternalize;
@@ -358,6 +359,19 @@ public void testLongPutKeyValueCommand() throws Exception {
       marshallAndAssertEquality(c);
    }
 
+   public void testLargeValuePutKeyValueCommand() throws Exception {
+      byte[] value = new byte[1024 * 1024];
+      Arrays.fill(value, (byte) 7);
+      PutKeyValueCommand c = new PutKeyValueCommand("k", value, false, new EmbeddedMetadata.Builder().build(), 0,
+            EnumUtil.EMPTY_BIT_SET, CommandInvocationId.generateId(null));
+      ByteBuffer buffer = marshaller.objectToBuffer(c);
+      // The buffer is sent as is, it should not be much larger than the payload
+      assertTrue(buffer.getBuf().length - buffer.getLength() < 64 * 1024);
+      PutKeyValueCommand readCommand =
+            (PutKeyValueCommand) marshaller.objectFromByteBuffer(buffer.getBuf(), buffer.getOffset(), buffer.getLength());
+      assertArrayEquals(value, (byte[]) readCommand.getValue());
+   }
+
    public void testExceptionResponse() throws Exception {
       ExceptionResponse er = new ExceptionResponse(new TimeoutException());
       byte[] bytes = marshaller.objectToByteBuffer(er);
@@ -8,6 +8,7 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
 import java.util.Collections;
@@ -55,6 +56,7 @@ public void setUp() throws Exception {
       cm = TestCacheManagerFactory.createCacheManager(c);
       cache = getCache();
       CacheNotifier mockNotifier = mock(CacheNotifier.class);
+      when(mockNotifier.hasListener(any())).thenReturn(true);
       TestingUtil.replaceComponent(cache, CacheNotifier.class, mockNotifier, true);
    }
 
@@ -35,6 +35,7 @@
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.persistence.manager.PersistenceManagerStub;
+import org.infinispan.persistence.manager.PreloadManager;
 import org.infinispan.persistence.spi.CacheLoader;
 import org.infinispan.persistence.spi.PersistenceException;
 import org.infinispan.test.SingleCacheManagerTest;
@@ -127,6 +128,75 @@ public void testPreloadAndExpiry() {
       assertCacheEntry(cache, "k4", "v", 333333, 444444);
    }
 
+   public void testParallelPreload() {
+      ConfigurationBuilder cb = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      createCacheStoreConfig(cb.persistence(), true).preloadThreads(4);
+      cacheManager.defineConfiguration("testParallelPreload", cb.build());
+      Cache<String, Object> cache = cacheManager.getCache("testParallelPreload");
+      cache.start();
+
+      int numEntries = 100;
+      for (int i = 0; i < numEntries; i++) {
+         cache.put("k" + i, wrap("k" + i, "v" + i));
+      }
+      cache.put("mortal", wrap("mortal", "v"), 111111, TimeUnit.MILLISECONDS);
+      cache.stop();
+
+      cache.start();
+
+      assertEquals(numEntries + 1, cache.getAdvancedCache().getDataContainer().size());
+      for (int i = 0; i < numEntries; i++) {
+         assertEquals("v" + i, unwrap(cache.get("k" + i)));
+      }
+      assertCacheEntry(cache, "mortal", "v", 111111, -1);
+      PreloadManager preloadManager = TestingUtil.extractComponent(cache, PreloadManager.class);
+      assertEquals(numEntries + 1, preloadManager.getPreloadedEntries());
+      assertFalse(preloadManager.isPreloadInProgress());
+   }
+
+   public void testParallelPreloadStoredAsBinary() {
+      ConfigurationBuilder cb = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      createCacheStoreConfig(cb.persistence(), true).preloadThreads(4).memory().storageType(StorageType.BINARY);
+      cacheManager.defineConfiguration("testParallelPreloadStoredAsBinary", cb.build());
+      Cache<String, Pojo> cache = cacheManager.getCache("testParallelPreloadStoredAsBinary");
+      cache.start();
+
+      int numEntries = 20;
+      for (int i = 0; i < numEntries; i++) {
+         cache.put("k" + i, new Pojo(i));
+      }
+      cache.stop();
+
+      cache.start();
+
+      assertEquals(numEntries, cache.getAdvancedCache().getDataContainer().size());
+      for (int i = 0; i < numEntries; i++) {
+         assertEquals(new Pojo(i), cache.get("k" + i));
+      }
+   }
+
+   public void testParallelPreloadWithMaxEntries() {
+      int maxEntries = 10;
+      ConfigurationBuilder cb = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      createCacheStoreConfig(cb.persistence(), true).preloadThreads(4)
+            .memory().size(maxEntries).evictionType(EvictionType.COUNT);
+      cacheManager.defineConfiguration("testParallelPreloadWithMaxEntries", cb.build());
+      Cache<String, Object> cache = cacheManager.getCache("testParallelPreloadWithMaxEntries");
+      cache.start();
+
+      for (int i = 0; i < 100; i++) {
+         cache.put("k" + i, wrap("k" + i, "v" + i));
+      }
+      cache.stop();
+
+      cache.start();
+
+      PreloadManager preloadManager = TestingUtil.extractComponent(cache, PreloadManager.class);
+      assertEquals(maxEntries, preloadManager.getPreloadedEntries());
+      assertEquals(0, preloadManager.getEstimatedTimeRemaining());
+      assertFalse(TestingUtil.extractComponent(cache, PersistenceManager.class).isPreloaded());
+   }
+
    public void testPreloadStoredAsBinary() {
       ConfigurationBuilder cb = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
       createCacheStoreConfig(cb.persistence(), true).memory().storageType(StorageType.BINARY);
@@ -0,0 +1,107 @@
+package org.infinispan.persistence;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.persistence.manager.PersistenceManager;
+import org.infinispan.persistence.manager.PersistenceManagerImpl;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the Bloom filter that skips the store lookups for keys that are not stored.
+ */
+@Test(groups = "functional", testName = "persistence.BloomFilterStoreTest")
+public class BloomFilterStoreTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      return TestCacheManagerFactory.createCacheManager(false);
+   }
+
+   private Cache<String, String> createCache(String name, boolean shared) {
+      ConfigurationBuilder cfg = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      cfg.persistence()
+            .bloomFilterSize(1000)
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class)
+               .storeName(name)
+               .shared(shared);
+      cacheManager.defineConfiguration(name, cfg.build());
+      return cacheManager.getCache(name);
+   }
+
+   private PersistenceManagerImpl persistenceManager(Cache<?, ?> cache) {
+      return (PersistenceManagerImpl) TestingUtil.extractComponent(cache, PersistenceManager.class);
+   }
+
+   public void testAbsentKeysSkipStore() {
+      Cache<String, String> cache = createCache("absent", false);
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      PersistenceManagerImpl persistenceManager = persistenceManager(cache);
+      assertTrue(persistenceManager.isBloomFilterEnabled());
+
+      cache.put("k1", "v1");
+      cache.evict("k1");
+      assertEquals("v1", cache.get("k1"));
+
+      persistenceManager.resetBloomFilterStatistics();
+      int loads = store.stats().get("load");
+      for (int i = 0; i < 100; i++) {
+         assertNull(cache.get("absent" + i));
+      }
+      long negatives = persistenceManager.getBloomFilterNegatives();
+      long falsePositives = persistenceManager.getBloomFilterFalsePositives();
+      assertEquals(100, negatives + falsePositives);
+      assertTrue(falsePositives < 10);
+      assertEquals(loads + falsePositives, (long) store.stats().get("load"));
+   }
+
+   public void testFilterIsRebuiltOnStart() {
+      Cache<String, String> cache = createCache("restart", false);
+      for (int i = 0; i < 10; i++) {
+         cache.put("k" + i, "v" + i);
+      }
+      cache.stop();
+      cache.start();
+
+      PersistenceManagerImpl persistenceManager = persistenceManager(cache);
+      persistenceManager.resetBloomFilterStatistics();
+      assertTrue(persistenceManager.isBloomFilterEnabled());
+      for (int i = 0; i < 10; i++) {
+         assertEquals("v" + i, cache.get("k" + i));
+      }
+      assertEquals(0, persistenceManager.getBloomFilterNegatives());
+   }
+
+   public void testFalsePositiveNeedsALoader() {
+      Cache<String, String> cache = createCache("loaders", false);
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      PersistenceManagerImpl persistenceManager = persistenceManager(cache);
+      cache.put("k1", "v1");
+      // The key stays in the Bloom filter
+      store.delete("k1");
+      persistenceManager.resetBloomFilterStatistics();
+
+      // The store is a writer, it is not asked for the key without the stores
+      assertNull(persistenceManager.loadFromAllStores("k1", true, false));
+      assertNull(persistenceManager.loadFromAllStores("k1", 0, true, false));
+      assertEquals(0, persistenceManager.getBloomFilterFalsePositives());
+
+      assertNull(persistenceManager.loadFromAllStores("k1", true, true));
+      assertEquals(1, persistenceManager.getBloomFilterFalsePositives());
+   }
+
+   public void testSharedStoreDisablesFilter() {
+      Cache<String, String> cache = createCache("shared", true);
+      assertFalse(persistenceManager(cache).isBloomFilterEnabled());
+   }
+}
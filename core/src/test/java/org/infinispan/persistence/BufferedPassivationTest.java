@@ -0,0 +1,132 @@
+package org.infinispan.persistence;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.eviction.PassivationManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests passivation with a {@link org.infinispan.configuration.cache.PersistenceConfiguration#passivationBufferSize()}.
+ */
+@Test(groups = "functional", testName = "persistence.BufferedPassivationTest")
+public class BufferedPassivationTest extends SingleCacheManagerTest {
+   private static final int BUFFER_SIZE = 1000;
+
+   private Cache<String, String> cache;
+   private DummyInMemoryStore store;
+   private PassivationManager passivationManager;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      cfg.persistence()
+            .passivation(true)
+            .passivationBufferSize(BUFFER_SIZE)
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class);
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   @Override
+   protected void setup() throws Exception {
+      super.setup();
+      cache = cacheManager.getCache();
+      store = TestingUtil.getFirstLoader(cache);
+      passivationManager = TestingUtil.extractComponent(cache, PassivationManager.class);
+   }
+
+   @AfterMethod
+   public void afterMethod() {
+      cache.clear();
+   }
+
+   public void testPassivatedEntryIsBuffered() {
+      cache.put("k1", "v1");
+      cache.evict("k1");
+
+      assertEquals(1, passivationManager.getPendingPassivations());
+      assertFalse(store.contains("k1"));
+      assertFalse(cache.getAdvancedCache().getDataContainer().containsKey("k1"));
+
+      // Reads are served from the buffer
+      assertEquals("v1", cache.get("k1"));
+      assertEquals(0, passivationManager.getPendingPassivations());
+      assertFalse(store.contains("k1"));
+   }
+
+   public void testFlushWritesToStore() {
+      for (int i = 0; i < 10; i++) {
+         cache.put("k" + i, "v" + i);
+      }
+      for (int i = 0; i < 10; i++) {
+         cache.evict("k" + i);
+      }
+      assertEquals(10, passivationManager.getPendingPassivations());
+
+      passivationManager.flushPendingPassivations();
+      assertEquals(0, passivationManager.getPendingPassivations());
+      for (int i = 0; i < 10; i++) {
+         assertTrue(store.contains("k" + i));
+      }
+   }
+
+   public void testRemoveDiscardsBufferedEntry() {
+      cache.put("k1", "v1");
+      cache.evict("k1");
+      assertEquals(1, passivationManager.getPendingPassivations());
+
+      // Skip the load, so the buffered entry is not activated
+      cache.getAdvancedCache().withFlags(Flag.SKIP_CACHE_LOAD).remove("k1");
+      assertEquals(0, passivationManager.getPendingPassivations());
+
+      passivationManager.flushPendingPassivations();
+      assertFalse(store.contains("k1"));
+      assertNull(cache.get("k1"));
+   }
+
+   public void testClearDiscardsBufferedEntries() {
+      for (int i = 0; i < 10; i++) {
+         cache.put("k" + i, "v" + i);
+         cache.evict("k" + i);
+      }
+      assertEquals(10, passivationManager.getPendingPassivations());
+      store.clearStats();
+
+      cache.clear();
+      assertEquals(0, passivationManager.getPendingPassivations());
+      assertEquals(0, store.stats().get("write").intValue());
+      assertNull(cache.get("k0"));
+   }
+
+   public void testSizeIncludesBufferedEntries() {
+      cache.put("k1", "v1");
+      cache.put("k2", "v2");
+      cache.evict("k1");
+
+      assertEquals(2, cache.size());
+      assertEquals(0, passivationManager.getPendingPassivations());
+   }
+
+   public void testBufferFullIsFlushed() {
+      for (int i = 0; i < BUFFER_SIZE; i++) {
+         cache.put("k" + i, "v" + i);
+         cache.evict("k" + i);
+      }
+      eventually(() -> passivationManager.getPendingPassivations() == 0);
+      for (int i = 0; i < BUFFER_SIZE; i++) {
+         assertTrue(store.contains("k" + i));
+      }
+   }
+}
@@ -0,0 +1,101 @@
+package org.infinispan.persistence;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.persistence.manager.PersistenceManager;
+import org.infinispan.test.Mocks;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.CheckPoint;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that concurrent reads of the same key share a single cache store load.
+ */
+@Test(groups = "functional", testName = "persistence.CacheLoaderCoalescingTest")
+public class CacheLoaderCoalescingTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      cfg.jmxStatistics().enable();
+      cfg.persistence().addStore(DummyInMemoryStoreConfigurationBuilder.class);
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   @AfterMethod
+   public void resetStatistics() {
+      cache.clear();
+      TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class).resetStatistics();
+   }
+
+   public void testConcurrentReadsShareLoad() throws Exception {
+      testConcurrentReads("k1", "v1");
+   }
+
+   public void testConcurrentMissesShareLoad() throws Exception {
+      testConcurrentReads("k2", null);
+   }
+
+   private void testConcurrentReads(String key, String value) throws Exception {
+      Cache<String, String> cache = cache();
+      if (value != null) {
+         cache.put(key, value);
+         cache.evict(key);
+      }
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      int storeLoads = store.stats().get("load");
+      CacheLoaderInterceptor interceptor = TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class);
+      interceptor.resetStatistics();
+
+      CheckPoint checkPoint = new CheckPoint();
+      checkPoint.triggerForever(Mocks.AFTER_RELEASE);
+      PersistenceManager original = Mocks.blockingMock(checkPoint, PersistenceManager.class, cache,
+            (stubber, mock) -> stubber.when(mock).loadFromAllStores(any(), anyInt(), anyBoolean(), anyBoolean()));
+      try {
+         Future<String> first = fork(() -> cache.get(key));
+         checkPoint.awaitStrict(Mocks.BEFORE_INVOCATION, 10, TimeUnit.SECONDS);
+
+         Future<String> second = fork(() -> cache.get(key));
+         Future<String> third = fork(() -> cache.get(key));
+         eventuallyEquals(2L, interceptor::getCacheLoaderCoalescedLoads);
+
+         checkPoint.trigger(Mocks.BEFORE_RELEASE);
+         assertEquals(value, first.get(10, TimeUnit.SECONDS));
+         assertEquals(value, second.get(10, TimeUnit.SECONDS));
+         assertEquals(value, third.get(10, TimeUnit.SECONDS));
+      } finally {
+         TestingUtil.replaceComponent(cache, PersistenceManager.class, original, true);
+      }
+
+      assertEquals(storeLoads + 1, store.stats().get("load").intValue());
+      assertEquals(value != null ? 1 : 0, interceptor.getCacheLoaderLoads());
+      assertEquals(value != null ? 0 : 1, interceptor.getCacheLoaderMisses());
+      assertEquals(2, interceptor.getCacheLoaderCoalescedLoads());
+   }
+
+   public void testSequentialReadsDoNotShareLoad() {
+      Cache<String, String> cache = cache();
+      assertNull(cache.get("k3"));
+      assertNull(cache.get("k3"));
+
+      CacheLoaderInterceptor interceptor = TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class);
+      assertEquals(2, interceptor.getCacheLoaderMisses());
+      assertEquals(0, interceptor.getCacheLoaderCoalescedLoads());
+   }
+}
@@ -0,0 +1,96 @@
+package org.infinispan.persistence;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.persistence.spi.MarshallableEntryFactory;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that mortal entries are reloaded from the store when read close to their expiration.
+ */
+@Test(groups = "functional", testName = "persistence.RefreshAheadTest")
+public class RefreshAheadTest extends SingleCacheManagerTest {
+   private static final long LIFESPAN = TimeUnit.SECONDS.toMillis(10);
+
+   private final ControlledTimeService timeService = new ControlledTimeService();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      cfg.jmxStatistics().enable();
+      cfg.persistence()
+            .refreshAheadFactor(0.5f)
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      TestingUtil.replaceComponent(cm, TimeService.class, timeService, true);
+      return cm;
+   }
+
+   public void testEntryIsRefreshed() {
+      cache.put("k1", "v1", LIFESPAN, TimeUnit.MILLISECONDS);
+      CacheLoaderInterceptor interceptor = TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class);
+
+      // Not yet half of the lifespan
+      timeService.advance(LIFESPAN / 4);
+      assertEquals("v1", cache.get("k1"));
+      assertEquals(0, interceptor.getCacheLoaderRefreshes());
+
+      // Somebody else updates the store
+      timeService.advance(LIFESPAN / 2);
+      writeToStore("k1", "v2");
+
+      // The current value is returned and the new one is loaded in the background
+      assertEquals("v1", cache.get("k1"));
+      eventuallyEquals("v2", () -> cache.getAdvancedCache().getDataContainer().get("k1").getValue());
+      assertEquals(1, interceptor.getCacheLoaderRefreshes());
+
+      // The refreshed entry expires later
+      timeService.advance(LIFESPAN / 2);
+      assertEquals("v2", cache.get("k1"));
+   }
+
+   public void testEntryNotReplacedIfNotNewer() {
+      cache.put("k2", "v1", LIFESPAN, TimeUnit.MILLISECONDS);
+      CacheLoaderInterceptor interceptor = TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class);
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      long refreshes = interceptor.getCacheLoaderRefreshes();
+      store.clearStats();
+
+      // The store has the same entry as the data container
+      timeService.advance(LIFESPAN * 3 / 4);
+      assertEquals("v1", cache.get("k2"));
+      eventuallyEquals(1, () -> store.stats().get("load"));
+      assertEquals(refreshes, interceptor.getCacheLoaderRefreshes());
+      assertEquals("v1", cache.getAdvancedCache().getDataContainer().get("k2").getValue());
+
+      // The same version is not reloaded again
+      assertEquals("v1", cache.get("k2"));
+      assertEquals("v1", cache.get("k2"));
+      TestingUtil.sleepThread(100);
+      assertEquals(1, store.stats().get("load").intValue());
+      assertEquals(refreshes, interceptor.getCacheLoaderRefreshes());
+   }
+
+   private void writeToStore(Object key, Object value) {
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      MarshallableEntryFactory<Object, Object> entryFactory =
+            TestingUtil.extractComponent(cache, MarshallableEntryFactory.class);
+      Metadata metadata = new EmbeddedMetadata.Builder().lifespan(LIFESPAN).build();
+      long now = timeService.wallClockTime();
+      store.write(entryFactory.create(key, value, metadata, now, now));
+   }
+}
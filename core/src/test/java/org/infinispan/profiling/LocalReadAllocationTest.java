@@ -0,0 +1,62 @@
+package org.infinispan.profiling;
+
+import java.lang.management.ManagementFactory;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the bytes allocated by plain local reads, which only look up the data container, with reads that go
+ * through the interceptor chain because they have a flag.
+ */
+@Test(groups = "profiling", testName = "profiling.LocalReadAllocationTest")
+public class LocalReadAllocationTest extends AbstractInfinispanTest {
+   private static final int NUM_KEYS = 1000;
+   private static final int WARMUP_READS = 1_000_000;
+   private static final int READS = 10_000_000;
+
+   public void testAllocationRate() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.jmxStatistics().enable();
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      try {
+         Cache<Object, Object> cache = cm.getCache();
+         String[] keys = new String[NUM_KEYS];
+         for (int i = 0; i < NUM_KEYS; i++) {
+            keys[i] = "key" + i;
+            cache.put(keys[i], "value" + i);
+         }
+         // The flag doesn't change the result, but it forces the read through the interceptor chain
+         AdvancedCache<Object, Object> chainCache = cache.getAdvancedCache().withFlags(Flag.SKIP_LISTENER_NOTIFICATION);
+
+         read(cache, keys, WARMUP_READS);
+         read(chainCache, keys, WARMUP_READS);
+         log.infof("Interceptor chain: %d bytes per read", read(chainCache, keys, READS) / READS);
+         log.infof("Data container: %d bytes per read", read(cache, keys, READS) / READS);
+      } finally {
+         TestingUtil.killCacheManagers(cm);
+      }
+   }
+
+   private long read(Cache<Object, Object> cache, String[] keys, int reads) {
+      com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long threadId = Thread.currentThread().getId();
+      long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+      long startNanos = System.nanoTime();
+      for (int i = 0; i < reads; i++) {
+         cache.get(keys[i % keys.length]);
+      }
+      long durationNanos = System.nanoTime() - startNanos;
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+      log.infof("%d reads in %d ms", reads, durationNanos / 1_000_000);
+      return allocatedBytes;
+   }
+}
@@ -10,6 +10,7 @@
 import javax.transaction.NotSupportedException;
 import javax.transaction.SystemException;
 
+import org.infinispan.WriteBatch;
 import org.infinispan.atomic.Delta;
 import org.infinispan.atomic.DeltaAware;
 import org.infinispan.commons.dataconversion.ByteArrayWrapper;
@@ -613,6 +614,16 @@ public void testPutAllAsync_Map_Metadata(SecureCache<String, String> cache) {
       cache.putAllAsync(Collections.singletonMap("a", "a"), new EmbeddedMetadata.Builder().build());
    }
 
+   @TestCachePermission(AuthorizationPermission.WRITE)
+   public void testExecuteBatch_WriteBatch(SecureCache<String, String> cache) {
+      cache.executeBatch(new WriteBatch<String, String>().put("a", "a"));
+   }
+
+   @TestCachePermission(AuthorizationPermission.WRITE)
+   public void testExecuteBatchAsync_WriteBatch(SecureCache<String, String> cache) {
+      cache.executeBatchAsync(new WriteBatch<String, String>().put("a", "a"));
+   }
+
    @TestCachePermission(AuthorizationPermission.READ)
    public void testGet_Object(SecureCache<String, String> cache) {
       cache.get("a");
@@ -700,6 +711,11 @@ public void testGetAllAsync_Set(SecureCache<String, String> cache) {
       cache.getAllAsync(Collections.emptySet());
    }
 
+   @TestCachePermission(AuthorizationPermission.BULK_READ)
+   public void testGetAllPublisher_Set(SecureCache<String, String> cache) {
+      cache.getAllPublisher(Collections.emptySet());
+   }
+
    @TestCachePermission(AuthorizationPermission.BULK_WRITE)
    public void testGetAndPutAll_Map(SecureCache<String, String> cache) {
       cache.getAndPutAll(Collections.emptyMap());
@@ -0,0 +1,107 @@
+package org.infinispan.stats;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.stats.impl.ClusterCacheStatsImpl;
+import org.infinispan.stats.impl.HotKeyTracker;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.concurrent.locks.KeyAwareLockPromise;
+import org.infinispan.util.concurrent.locks.LockManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the sampling of the most accessed keys on each node and the aggregation in {@link ClusterCacheStatsImpl}.
+ */
+@Test(groups = "functional", testName = "stats.HotKeysTest")
+public class HotKeysTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.jmxStatistics().enable().hotKeySampleRate(1);
+      createCluster(cfg, 2);
+      waitForClusterToForm();
+   }
+
+   @BeforeMethod(alwaysRun = true)
+   public void resetHotKeys() {
+      for (Cache<Object, Object> cache : caches()) {
+         hotKeyTracker(cache).setSampleRate(1);
+      }
+   }
+
+   public void testReadsAndWrites() {
+      for (int i = 0; i < 20; i++) {
+         cache(0).get("hot");
+      }
+      for (int i = 0; i < 5; i++) {
+         cache(0).get("cold" + i);
+         cache(0).put("w", "v" + i);
+      }
+      for (int i = 0; i < 3; i++) {
+         cache(1).put("w", "v" + i);
+         cache(1).getAdvancedCache().getAll(Collections.singleton("hot"));
+      }
+
+      assertEquals(Collections.singletonMap("hot", 20L), hotKeyTracker(cache(0)).getTopKeys(HotKeyTracker.Type.READ, 1));
+      assertEquals(Collections.singletonMap("w", 5L), hotKeyTracker(cache(0)).getTopKeys(HotKeyTracker.Type.WRITE, 1));
+      assertEquals(Collections.singletonMap("w", 3L), hotKeyTracker(cache(1)).getTopKeys(HotKeyTracker.Type.WRITE, 1));
+
+      ClusterCacheStatsImpl clusterStats = clusterStats(cache(1));
+      assertEquals(Collections.singletonMap("hot", 23L), clusterStats.getTopKeys(HotKeyTracker.Type.READ, 1));
+      assertEquals(Collections.singletonMap("w", 8L), clusterStats.getTopKeys(HotKeyTracker.Type.WRITE, 1));
+      assertEquals("w", clusterStats.getTopLockedKeys().keySet().iterator().next());
+      assertEquals(6, clusterStats.getTopReadKeys().size());
+   }
+
+   public void testContendedLocks() throws Exception {
+      LockManager lockManager = TestingUtil.extractLockManager(cache(0));
+      lockManager.lock("contended", "owner1", 10, TimeUnit.SECONDS).lock();
+      try {
+         KeyAwareLockPromise promise = lockManager.lock("contended", "owner2", 0, TimeUnit.SECONDS);
+         promise.toInvocationStage().toCompletableFuture().handle((v, t) -> null).get(10, TimeUnit.SECONDS);
+      } finally {
+         lockManager.unlock("contended", "owner1");
+      }
+      lockManager.lock("free", "owner1", 10, TimeUnit.SECONDS).lock();
+      lockManager.unlock("free", "owner1");
+
+      Map<String, Long> contended = clusterStats(cache(0)).getTopContendedKeys();
+      assertEquals(Collections.singletonMap("contended", 1L), contended);
+      assertEquals(2L, (long) clusterStats(cache(0)).getTopLockedKeys().get("contended"));
+   }
+
+   public void testSampleRate() {
+      HotKeyTracker hotKeyTracker = hotKeyTracker(cache(0));
+      hotKeyTracker.setSampleRate(4);
+      for (int i = 0; i < 4000; i++) {
+         cache(0).get("sampled");
+      }
+
+      long estimate = hotKeyTracker.getTopKeys(HotKeyTracker.Type.READ, 1).get("sampled");
+      assertEquals(0, estimate % 4);
+      assertTrue("Estimate was " + estimate, estimate > 3000 && estimate < 5000);
+
+      hotKeyTracker.setSampleRate(0);
+      cache(0).get("ignored");
+      assertTrue(hotKeyTracker.getTopKeys(HotKeyTracker.Type.READ, 1).isEmpty());
+   }
+
+   private static HotKeyTracker hotKeyTracker(Cache<?, ?> cache) {
+      return TestingUtil.extractComponent(cache, HotKeyTracker.class);
+   }
+
+   private static ClusterCacheStatsImpl clusterStats(Cache<?, ?> cache) {
+      return (ClusterCacheStatsImpl) TestingUtil.extractComponent(cache, ClusterCacheStats.class);
+   }
+}
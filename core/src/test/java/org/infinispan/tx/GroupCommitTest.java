@@ -0,0 +1,117 @@
+package org.infinispan.tx;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.RollbackException;
+import javax.transaction.TransactionManager;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.transaction.LockingMode;
+import org.infinispan.transaction.impl.GroupCommitter;
+import org.infinispan.util.concurrent.IsolationLevel;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the grouping of the prepare and commit commands of concurrent transactions.
+ *
+ * @since 10.0
+ */
+@Test(groups = "functional", testName = "tx.GroupCommitTest")
+public class GroupCommitTest extends MultipleCacheManagersTest {
+   private static final int THREADS = 8;
+   private static final int TRANSACTIONS = 50;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, true);
+      builder.clustering().hash().numOwners(2);
+      builder.transaction().lockingMode(LockingMode.OPTIMISTIC).groupCommitWindow(TimeUnit.MILLISECONDS.toMicros(2))
+            .locking().isolationLevel(IsolationLevel.REPEATABLE_READ);
+      createCluster(builder, 3);
+      waitForClusterToForm();
+   }
+
+   public void testConcurrentTransactionsAreGrouped() throws Exception {
+      runConcurrently(thread -> {
+         Cache<Object, Object> cache = cache(thread % 3);
+         TransactionManager tm = cache.getAdvancedCache().getTransactionManager();
+         for (int i = 0; i < TRANSACTIONS; i++) {
+            tm.begin();
+            cache.put("k-" + thread + "-" + i, i);
+            cache.put("k-" + thread, i);
+            tm.commit();
+         }
+      });
+      for (int thread = 0; thread < THREADS; thread++) {
+         for (Cache<Object, Object> cache : caches()) {
+            assertEquals(TRANSACTIONS - 1, cache.get("k-" + thread));
+            assertEquals(0, cache.get("k-" + thread + "-0"));
+         }
+      }
+      long groupCommits = 0;
+      for (Cache<Object, Object> cache : caches()) {
+         groupCommits += TestingUtil.extractComponent(cache, GroupCommitter.class).getGroupCommits();
+      }
+      assertTrue(groupCommits > 0);
+   }
+
+   public void testConflictingTransactionsKeepTheirOutcome() throws Exception {
+      AtomicInteger committed = new AtomicInteger();
+      cache(0).put("counter", 0);
+      runConcurrently(thread -> {
+         Cache<Object, Object> cache = cache(thread % 3);
+         TransactionManager tm = cache.getAdvancedCache().getTransactionManager();
+         for (int i = 0; i < TRANSACTIONS; i++) {
+            tm.begin();
+            cache.put("counter", (Integer) cache.get("counter") + 1);
+            try {
+               tm.commit();
+               committed.incrementAndGet();
+            } catch (RollbackException e) {
+               // Write skew with a concurrent transaction
+            }
+         }
+      });
+      for (Cache<Object, Object> cache : caches()) {
+         assertEquals(committed.get(), cache.get("counter"));
+      }
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testNegativeWindow() {
+      new ConfigurationBuilder().transaction().groupCommitWindow(-1).build();
+   }
+
+   private void runConcurrently(ThreadTask task) throws Exception {
+      CyclicBarrier barrier = new CyclicBarrier(THREADS);
+      List<Future<Void>> futures = new ArrayList<>(THREADS);
+      for (int i = 0; i < THREADS; i++) {
+         int thread = i;
+         futures.add(fork(() -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            task.run(thread);
+            return null;
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(60, TimeUnit.SECONDS);
+      }
+   }
+
+   private interface ThreadTask {
+      void run(int thread) throws Exception;
+   }
+}
@@ -28,10 +28,4 @@ protected void configure(ConfigurationBuilder builder) {
       super.configure(builder);
       builder.transaction().lockingMode(LockingMode.OPTIMISTIC);
    }
-
-   @Override
-   protected int numberCommitCommand() {
-      //with optimistic locking, the transactions are committed in 2 phases. So 1 CommitCommand is expected
-      return 1;
-   }
 }
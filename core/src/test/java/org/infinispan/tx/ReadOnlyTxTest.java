@@ -5,12 +5,16 @@
 import javax.transaction.Transaction;
 
 import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.context.Flag;
 import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.interceptors.base.BaseCustomInterceptor;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.TransactionCompleted;
+import org.infinispan.notifications.cachelistener.event.TransactionCompletedEvent;
 import org.infinispan.test.SingleCacheManagerTest;
 import org.infinispan.test.TestingUtil;
 import org.infinispan.test.fwk.CleanupAfterMethod;
@@ -18,6 +22,7 @@
 import org.infinispan.transaction.LockingMode;
 import org.infinispan.transaction.impl.TransactionTable;
 import org.infinispan.transaction.xa.LocalXaTransaction;
+import org.infinispan.util.concurrent.IsolationLevel;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
@@ -74,9 +79,9 @@ public void testROWhenHasOnlyLocksAndReleasedProperly() throws Exception {
       assert !TestingUtil.extractLockManager(cache).isLocked("k");
    }
 
-   public void testSingleCommitCommand() throws Exception {
+   public void testNoPrepareOrCommitCommand() throws Exception {
       cache.put("k", "v");
-      CommitCommandCounterInterceptor counterInterceptor = new CommitCommandCounterInterceptor();
+      CommandCounterInterceptor counterInterceptor = new CommandCounterInterceptor();
       cache.getAdvancedCache().addInterceptor(counterInterceptor, 0);
       try {
          tm().begin();
@@ -85,26 +90,75 @@ public void testSingleCommitCommand() throws Exception {
       } finally {
          cache.getAdvancedCache().getAdvancedCache().removeInterceptor(counterInterceptor.getClass());
       }
-      AssertJUnit.assertEquals("Wrong number of CommitCommand.", numberCommitCommand(), counterInterceptor.counter.get());
+      //read-only transactions are completed without going through the interceptor chain
+      AssertJUnit.assertEquals("Wrong number of PrepareCommand.", 0, counterInterceptor.prepares.get());
+      AssertJUnit.assertEquals("Wrong number of CommitCommand.", 0, counterInterceptor.commits.get());
+      AssertJUnit.assertEquals(0, txTable().getLocalTxCount());
    }
 
-   protected int numberCommitCommand() {
-      //in this case, the transactions are committed in 1 phase due to pessimistic locking.
-      return 0;
+   public void testRepeatableReadWithinReadOnlyTx() throws Exception {
+      cache.put("k", "v");
+      tm().begin();
+      AssertJUnit.assertEquals("v", cache.get("k"));
+      Transaction transaction = tm().suspend();
+      cache.put("k", "v2");
+      tm().resume(transaction);
+      AssertJUnit.assertEquals(expectedRepeatableRead("v", "v2"), cache.get("k"));
+      tm().commit();
+      AssertJUnit.assertEquals("v2", cache.get("k"));
+      AssertJUnit.assertEquals(0, txTable().getLocalTxCount());
+   }
+
+   public void testReadOnlyTxCompletionIsNotified() throws Exception {
+      TxCompletedListener listener = new TxCompletedListener();
+      cache.addListener(listener);
+      try {
+         tm().begin();
+         cache.get("k");
+         tm().commit();
+      } finally {
+         cache.removeListener(listener);
+      }
+      AssertJUnit.assertEquals(1, listener.completed.get());
+   }
+
+   protected Object expectedRepeatableRead(Object firstRead, Object committed) {
+      return cache.getCacheConfiguration().locking().isolationLevel() == IsolationLevel.REPEATABLE_READ ?
+            firstRead : committed;
    }
 
    private TransactionTable txTable() {
       return TestingUtil.getTransactionTable(cache);
    }
 
-   private class CommitCommandCounterInterceptor extends BaseCustomInterceptor {
+   private class CommandCounterInterceptor extends BaseCustomInterceptor {
+
+      public final AtomicInteger prepares = new AtomicInteger(0);
+      public final AtomicInteger commits = new AtomicInteger(0);
 
-      public final AtomicInteger counter = new AtomicInteger(0);
+      @Override
+      public Object visitPrepareCommand(TxInvocationContext ctx, PrepareCommand command) throws Throwable {
+         prepares.incrementAndGet();
+         return invokeNextInterceptor(ctx, command);
+      }
 
       @Override
       public Object visitCommitCommand(TxInvocationContext ctx, CommitCommand command) throws Throwable {
-         counter.incrementAndGet();
+         commits.incrementAndGet();
          return invokeNextInterceptor(ctx, command);
       }
    }
+
+   @Listener
+   public static class TxCompletedListener {
+
+      final AtomicInteger completed = new AtomicInteger(0);
+
+      @TransactionCompleted
+      public void onTransactionCompleted(TransactionCompletedEvent<?, ?> event) {
+         if (event.isTransactionSuccessful()) {
+            completed.incrementAndGet();
+         }
+      }
+   }
 }
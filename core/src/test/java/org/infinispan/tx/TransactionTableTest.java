@@ -0,0 +1,101 @@
+package org.infinispan.tx;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import javax.transaction.TransactionManager;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.transaction.impl.LocalTransaction;
+import org.infinispan.transaction.impl.TransactionTable;
+import org.infinispan.transaction.impl.TransactionTable.CompletedTransactionStatus;
+import org.infinispan.transaction.xa.GlobalTransaction;
+import org.infinispan.transaction.xa.TransactionFactory;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the lazy registration of local transactions and the pruning of completed transactions.
+ *
+ * @since 10.0
+ */
+@Test(groups = "functional", testName = "tx.TransactionTableTest")
+public class TransactionTableTest extends MultipleCacheManagersTest {
+   private static final String CACHE_NAME = "txTable";
+   private static final long REAPER_INTERVAL = 100;
+   private static final long COMPLETED_TX_TIMEOUT = 1000;
+
+   private ControlledTimeService timeService;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      createCluster(new ConfigurationBuilder(), 2);
+
+      timeService = new ControlledTimeService();
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.REPL_SYNC, true);
+      builder.transaction().reaperWakeUpInterval(REAPER_INTERVAL).completedTxTimeout(COMPLETED_TX_TIMEOUT);
+      for (EmbeddedCacheManager manager : managers()) {
+         TestingUtil.replaceComponent(manager, TimeService.class, timeService, true);
+         manager.defineConfiguration(CACHE_NAME, builder.build());
+      }
+      waitForClusterToForm(CACHE_NAME);
+   }
+
+   public void testReadOnlyTransactionIsNotRegistered() throws Exception {
+      Cache<Object, Object> cache = cache(0, CACHE_NAME);
+      TransactionManager tm = cache.getAdvancedCache().getTransactionManager();
+      TransactionTable txTable = TestingUtil.getTransactionTable(cache);
+
+      tm.begin();
+      cache.get("k");
+      LocalTransaction localTransaction = txTable.getLocalTransaction(tm.getTransaction());
+      assertNotNull(localTransaction);
+      assertFalse(txTable.containsLocalTx(localTransaction.getGlobalTransaction()));
+
+      cache.put("k", "v");
+      assertTrue(txTable.containsLocalTx(localTransaction.getGlobalTransaction()));
+      tm.commit();
+
+      assertFalse(txTable.containsLocalTx(localTransaction.getGlobalTransaction()));
+      assertEquals(0, txTable.getLocalTxCount());
+   }
+
+   public void testCompletedTransactionsArePruned() {
+      TransactionTable txTable = TestingUtil.getTransactionTable(cache(1, CACHE_NAME));
+      GlobalTransaction gtx = newGlobalTransaction();
+      txTable.markTransactionCompleted(gtx, true);
+      assertEquals(CompletedTransactionStatus.COMMITTED, txTable.getCompletedTransactionStatus(gtx));
+
+      timeService.advance(COMPLETED_TX_TIMEOUT + 2 * REAPER_INTERVAL);
+      eventuallyEquals(CompletedTransactionStatus.EXPIRED, () -> txTable.getCompletedTransactionStatus(gtx));
+      assertTrue(txTable.isTransactionCompleted(gtx));
+   }
+
+   public void testTransactionCompletedAgainIsKept() {
+      TransactionTable txTable = TestingUtil.getTransactionTable(cache(1, CACHE_NAME));
+      GlobalTransaction gtx = newGlobalTransaction();
+      GlobalTransaction expired = newGlobalTransaction();
+      txTable.markTransactionCompleted(gtx, false);
+      txTable.markTransactionCompleted(expired, true);
+
+      timeService.advance(COMPLETED_TX_TIMEOUT - REAPER_INTERVAL);
+      txTable.markTransactionCompleted(gtx, false);
+
+      timeService.advance(4 * REAPER_INTERVAL);
+      eventuallyEquals(CompletedTransactionStatus.EXPIRED, () -> txTable.getCompletedTransactionStatus(expired));
+      assertEquals(CompletedTransactionStatus.ABORTED, txTable.getCompletedTransactionStatus(gtx));
+   }
+
+   private GlobalTransaction newGlobalTransaction() {
+      return TestingUtil.extractComponent(cache(0, CACHE_NAME), TransactionFactory.class)
+            .newGlobalTransaction(address(0), false);
+   }
+}
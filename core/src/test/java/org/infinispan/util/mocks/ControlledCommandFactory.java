@@ -42,6 +42,7 @@
 import org.infinispan.commands.read.GetKeyValueCommand;
 import org.infinispan.commands.read.KeySetCommand;
 import org.infinispan.commands.read.SizeCommand;
+import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commands.remote.ClusteredGetAllCommand;
 import org.infinispan.commands.remote.ClusteredGetCommand;
 import org.infinispan.commands.remote.GetKeysInGroupCommand;
@@ -54,12 +55,16 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.triangle.BackupWriteBatchCommand;
+import org.infinispan.commands.triangle.BackupWriteCommand;
 import org.infinispan.commands.triangle.MultiEntriesFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.MultiKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.triangle.PutMapBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyBackupWriteCommand;
 import org.infinispan.commands.triangle.SingleKeyFunctionalBackupWriteCommand;
 import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.GroupCommitCommand;
+import org.infinispan.commands.tx.GroupCommitCompletionCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
 import org.infinispan.commands.tx.VersionedCommitCommand;
@@ -535,6 +540,21 @@ public RenewBiasCommand buildRenewBiasCommand(Object[] keys) {
       return actual.buildRenewBiasCommand(keys);
    }
 
+   @Override
+   public GroupCommitCommand buildGroupCommitCommand(long groupId, List<CacheRpcCommand> commands) {
+      return actual.buildGroupCommitCommand(groupId, commands);
+   }
+
+   @Override
+   public GroupCommitCompletionCommand buildGroupCommitCompletionCommand(long groupId, int index) {
+      return actual.buildGroupCommitCompletionCommand(groupId, index);
+   }
+
+   @Override
+   public BackupWriteBatchCommand buildBackupWriteBatchCommand(List<BackupWriteCommand> commands) {
+      return actual.buildBackupWriteBatchCommand(commands);
+   }
+
 
    @Override
    public SingleKeyBackupWriteCommand buildSingleKeyBackupWriteCommand() {
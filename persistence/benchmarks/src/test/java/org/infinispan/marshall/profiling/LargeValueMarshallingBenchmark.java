@@ -0,0 +1,110 @@
+package org.infinispan.marshall.profiling;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commands.CommandInvocationId;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commons.io.ByteBuffer;
+import org.infinispan.commons.util.EnumUtil;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.core.GlobalMarshaller;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.test.TestingUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+/**
+ * Measures the marshalling of a put command with a large {@code byte[]} value, the way it is replicated to the other
+ * nodes.
+ * <p>
+ * The GC profiler reports the bytes allocated per operation ({@code gc.alloc.rate.norm}), which shows the copies made
+ * while the marshalling buffer grows. The results are also written as JSON to
+ * {@code target/large-value-marshalling-benchmark.json}. The value sizes can be narrowed with the
+ * {@code infinispan.benchmark.valueSizes} system property, e.g.
+ * <pre>
+ * mvn test -Dtest=LargeValueMarshallingBenchmark -DdefaultTestNGGroups=profiling \
+ *          -Dinfinispan.benchmark.valueSizes=1048576
+ * </pre>
+ *
+ * @since 10.0
+ */
+public class LargeValueMarshallingBenchmark {
+
+   private static final int MEASUREMENT_ITERATIONS_COUNT = 10;
+   private static final int WARMUP_ITERATIONS_COUNT = 5;
+
+   @Test(groups = "profiling")
+   public void performLargeValueMarshallingBenchmark() throws Exception {
+      ChainedOptionsBuilder opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupIterations(WARMUP_ITERATIONS_COUNT)
+            .measurementIterations(MEASUREMENT_ITERATIONS_COUNT)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/large-value-marshalling-benchmark.json");
+
+      String valueSizes = System.getProperty("infinispan.benchmark.valueSizes");
+      if (valueSizes != null) {
+         opt.param("valueSize", valueSizes.split(","));
+      }
+
+      new Runner(opt.build()).run();
+   }
+
+   @State(Scope.Benchmark)
+   public static class MarshallerState {
+
+      @Param({"65536", "1048576", "8388608"})
+      public int valueSize;
+
+      EmbeddedCacheManager cacheManager;
+      GlobalMarshaller marshaller;
+      PutKeyValueCommand command;
+
+      @Setup
+      public void setup() {
+         cacheManager = new DefaultCacheManager();
+         marshaller = TestingUtil.extractGlobalMarshaller(cacheManager);
+
+         byte[] value = new byte[valueSize];
+         ThreadLocalRandom.current().nextBytes(value);
+         command = new PutKeyValueCommand("key", value, false, new EmbeddedMetadata.Builder().build(), 0,
+               EnumUtil.EMPTY_BIT_SET, CommandInvocationId.generateId(null));
+      }
+
+      @TearDown
+      public void tearDown() {
+         cacheManager.stop();
+      }
+   }
+
+   @Benchmark
+   public ByteBuffer marshallPutCommand(MarshallerState state) throws Exception {
+      return state.marshaller.objectToBuffer(state.command);
+   }
+
+   @Benchmark
+   public Object roundTripPutCommand(MarshallerState state) throws Exception {
+      ByteBuffer buffer = state.marshaller.objectToBuffer(state.command);
+      return state.marshaller.objectFromByteBuffer(buffer.getBuf(), buffer.getOffset(), buffer.getLength());
+   }
+}
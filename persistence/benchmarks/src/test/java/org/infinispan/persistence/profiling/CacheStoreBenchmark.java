@@ -0,0 +1,255 @@
+package org.infinispan.persistence.profiling;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.util.Util;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.persistence.jdbc.DatabaseType;
+import org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfigurationBuilder;
+import org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfigurationBuilder;
+import org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfigurationBuilder;
+import org.infinispan.persistence.spi.AdvancedLoadWriteStore;
+import org.infinispan.persistence.spi.MarshallableEntry;
+import org.infinispan.persistence.spi.MarshallableEntryFactory;
+import org.infinispan.test.TestingUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import io.reactivex.Flowable;
+
+/**
+ * Runs the same workloads against the file based, RocksDB and JDBC (on an embedded H2) cache stores.
+ * <p>
+ * Every workload is measured both as throughput and as sampled time, so the results include the operations per second
+ * and the latency percentiles. The results are also written as JSON to {@code target/cache-store-benchmark.json}.
+ * The stores and the value sizes can be narrowed with the {@code infinispan.benchmark.stores} and
+ * {@code infinispan.benchmark.valueSizes} system properties, e.g.
+ * <pre>
+ * mvn test -Dtest=CacheStoreBenchmark -DdefaultTestNGGroups=profiling \
+ *          -Dinfinispan.benchmark.stores=SOFT_INDEX -Dinfinispan.benchmark.valueSizes=4096
+ * </pre>
+ *
+ * @since 10.0
+ */
+public class CacheStoreBenchmark {
+
+   private static final int MEASUREMENT_ITERATIONS_COUNT = 10;
+   private static final int WARMUP_ITERATIONS_COUNT = 5;
+   private static final int BULK_UPDATE_SIZE = 100;
+   private static final int PURGE_SIZE = 100;
+
+   @Test(groups = "profiling")
+   public void performCacheStoreBenchmark() throws Exception {
+      ChainedOptionsBuilder opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .mode(Mode.SampleTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupIterations(WARMUP_ITERATIONS_COUNT)
+            .measurementIterations(MEASUREMENT_ITERATIONS_COUNT)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/cache-store-benchmark.json");
+
+      String stores = System.getProperty("infinispan.benchmark.stores");
+      if (stores != null) {
+         opt.param("store", stores.split(","));
+      }
+      String valueSizes = System.getProperty("infinispan.benchmark.valueSizes");
+      if (valueSizes != null) {
+         opt.param("valueSize", valueSizes.split(","));
+      }
+
+      new Runner(opt.build()).run();
+   }
+
+   public enum StoreType {
+      SINGLE_FILE {
+         @Override
+         void configure(PersistenceConfigurationBuilder persistence, String location) {
+            persistence.addSingleFileStore().location(location);
+         }
+      },
+      SOFT_INDEX {
+         @Override
+         void configure(PersistenceConfigurationBuilder persistence, String location) {
+            persistence.addStore(SoftIndexFileStoreConfigurationBuilder.class)
+                  .dataLocation(location + File.separator + "data")
+                  .indexLocation(location + File.separator + "index");
+         }
+      },
+      ROCKSDB {
+         @Override
+         void configure(PersistenceConfigurationBuilder persistence, String location) {
+            persistence.addStore(RocksDBStoreConfigurationBuilder.class)
+                  .location(location + File.separator + "data")
+                  .expiredLocation(location + File.separator + "expired");
+         }
+      },
+      JDBC {
+         @Override
+         void configure(PersistenceConfigurationBuilder persistence, String location) {
+            JdbcStringBasedStoreConfigurationBuilder store =
+                  persistence.addStore(JdbcStringBasedStoreConfigurationBuilder.class).dialect(DatabaseType.H2);
+            store.table()
+                  .tableNamePrefix("ISPN_STRING")
+                  .idColumnName("ID_COLUMN").idColumnType("VARCHAR(255)")
+                  .dataColumnName("DATA_COLUMN").dataColumnType("BLOB")
+                  .timestampColumnName("TIMESTAMP_COLUMN").timestampColumnType("BIGINT");
+            store.connectionPool()
+                  .driverClass(org.h2.Driver.class)
+                  .connectionUrl("jdbc:h2:mem:" + CacheStoreBenchmark.class.getSimpleName() + ";DB_CLOSE_DELAY=-1")
+                  .username("sa");
+         }
+      };
+
+      abstract void configure(PersistenceConfigurationBuilder persistence, String location);
+   }
+
+   @State(Scope.Benchmark)
+   public static class StoreState {
+
+      @Param({"SINGLE_FILE", "SOFT_INDEX", "ROCKSDB", "JDBC"})
+      public StoreType store;
+
+      @Param({"128", "4096"})
+      public int valueSize;
+
+      @Param({"10000"})
+      public int numEntries;
+
+      String location;
+      EmbeddedCacheManager cacheManager;
+      AdvancedLoadWriteStore<Object, Object> cacheStore;
+      MarshallableEntryFactory<Object, Object> entryFactory;
+      byte[] value;
+
+      @Setup
+      public void setup() {
+         location = TestingUtil.tmpDirectory(CacheStoreBenchmark.class) + File.separator + store;
+         Util.recursiveFileRemove(location);
+
+         GlobalConfigurationBuilder global = new GlobalConfigurationBuilder();
+         global.globalState().persistentLocation(location);
+         ConfigurationBuilder builder = new ConfigurationBuilder();
+         store.configure(builder.persistence(), location);
+         builder.persistence().stores().get(0).segmented(false);
+         cacheManager = new DefaultCacheManager(global.build(), builder.build());
+         cacheStore = TestingUtil.getFirstWriter(cacheManager.getCache());
+         entryFactory = TestingUtil.extractComponent(cacheManager.getCache(), MarshallableEntryFactory.class);
+
+         value = new byte[valueSize];
+         ThreadLocalRandom.current().nextBytes(value);
+         for (int i = 0; i < numEntries; i++) {
+            cacheStore.write(entryFactory.create(key(i), value));
+         }
+      }
+
+      @TearDown
+      public void tearDown() {
+         cacheStore.clear();
+         cacheManager.stop();
+         Util.recursiveFileRemove(location);
+      }
+
+      String key(int i) {
+         return "key-" + i;
+      }
+
+      MarshallableEntry<Object, Object> entry(Object key) {
+         return entryFactory.create(key, value);
+      }
+   }
+
+   @State(Scope.Thread)
+   public static class WriteState {
+      private int nextKey;
+
+      String nextKey(StoreState state) {
+         // Keep the store size stable, the keys after the preloaded ones are written over and over
+         String key = state.key(state.numEntries + nextKey);
+         nextKey = (nextKey + 1) % state.numEntries;
+         return key;
+      }
+   }
+
+   @State(Scope.Benchmark)
+   public static class PurgeState extends StoreState {
+      private int round;
+
+      @Setup(Level.Invocation)
+      public void writeExpiredEntries() {
+         // Entries created at the epoch with a 1 ms lifespan are expired right away
+         Metadata metadata = new EmbeddedMetadata.Builder().lifespan(1).build();
+         for (int i = 0; i < PURGE_SIZE; i++) {
+            String key = "expired-" + round + "-" + i;
+            cacheStore.write(entryFactory.create(key, value, metadata, 0, 0));
+         }
+         round++;
+      }
+   }
+
+   @Benchmark
+   public MarshallableEntry<Object, Object> randomLoad(StoreState state) {
+      return state.cacheStore.loadEntry(state.key(ThreadLocalRandom.current().nextInt(state.numEntries)));
+   }
+
+   @Benchmark
+   public void sequentialWrite(StoreState state, WriteState writeState) {
+      state.cacheStore.write(state.entry(writeState.nextKey(state)));
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(BULK_UPDATE_SIZE)
+   public void bulkUpdate(StoreState state, WriteState writeState) {
+      List<MarshallableEntry<Object, Object>> entries = new ArrayList<>(BULK_UPDATE_SIZE);
+      for (int i = 0; i < BULK_UPDATE_SIZE; i++) {
+         entries.add(state.entry(writeState.nextKey(state)));
+      }
+      state.cacheStore.bulkUpdate(Flowable.fromIterable(entries)).toCompletableFuture().join();
+   }
+
+   @Benchmark
+   public void publishEntries(StoreState state, Blackhole blackhole) {
+      Flowable.fromPublisher(state.cacheStore.entryPublisher(null, true, true))
+            .blockingForEach(blackhole::consume);
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(PURGE_SIZE)
+   public void purge(PurgeState state, Blackhole blackhole) {
+      state.cacheStore.purge(Runnable::run, key -> blackhole.consume(key));
+   }
+
+   @Benchmark
+   public void startup(StoreState state) {
+      state.cacheStore.stop();
+      state.cacheStore.start();
+   }
+}
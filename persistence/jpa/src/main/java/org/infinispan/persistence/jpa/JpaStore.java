@@ -7,7 +7,6 @@
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -82,6 +81,7 @@
    private Scheduler scheduler;
    private Stats stats = new Stats();
    private boolean setFetchSizeMinInteger = false;
+   private boolean bulkDeleteSupported;
 
    @Override
    public void init(InitializationContext ctx) {
@@ -114,6 +114,9 @@ public void start() {
                "Entity class has more than one identifier.  It must have only one identifier.");
       }
 
+      // Bulk deletes do not cascade, so they can only be used when the entity owns no other rows
+      bulkDeleteSupported = mt.getAttributes().stream().noneMatch(a -> a.isCollection() || a.isAssociation());
+
       Type<?> idType = it.getIdType();
       Class<?> idJavaType = idType.getJavaType();
 
@@ -337,20 +340,18 @@ public void deleteBatch(Iterable<Object> keys) {
          try {
             txn.begin();
 
-            CriteriaBuilder cb = em.getCriteriaBuilder();
-            CriteriaDelete query = cb.createCriteriaDelete(configuration.entityClass());
-            Root root = query.from(configuration.entityClass());
-            SingularAttribute id = getEntityId(em, configuration.entityClass());
-            query.where(root.get(id).in(keys));
-            em.createQuery(query).executeUpdate();
-
-            if (configuration.storeMetadata()) {
-               List<MetadataEntityKey> metaKeys = StreamSupport.stream(keys.spliterator(), false).map(this::getMetadataKey).collect(Collectors.toList());
-               CriteriaDelete<MetadataEntity> metaQuery = cb.createCriteriaDelete(MetadataEntity.class);
-               Root<MetadataEntity> metaRoot = metaQuery.from(MetadataEntity.class);
-               id = getEntityId(em, MetadataEntity.class);
-               query.where(metaRoot.get(id).in(metaKeys));
-               em.createQuery(metaQuery).executeUpdate();
+            // Split the keys so that the IN clauses stay within the limits of the database
+            int batchSize = configuration.maxBatchSize();
+            List<Object> batch = batchSize > 0 ? new ArrayList<>(batchSize) : new ArrayList<>();
+            for (Object key : keys) {
+               batch.add(key);
+               if (batch.size() == batchSize) {
+                  deleteBatch(em, batch);
+                  batch.clear();
+               }
+            }
+            if (!batch.isEmpty()) {
+               deleteBatch(em, batch);
             }
             txn.commit();
             stats.addBatchRemoveTxCommitted(timeService.time() - txnBegin);
@@ -368,6 +369,38 @@ public void deleteBatch(Iterable<Object> keys) {
       }
    }
 
+   private void deleteBatch(EntityManager em, List<Object> keys) {
+      CriteriaBuilder cb = em.getCriteriaBuilder();
+      if (bulkDeleteSupported) {
+         CriteriaDelete query = cb.createCriteriaDelete(configuration.entityClass());
+         Root root = query.from(configuration.entityClass());
+         SingularAttribute id = getEntityId(em, configuration.entityClass());
+         query.where(root.get(id).in(keys));
+         em.createQuery(query).executeUpdate();
+      } else {
+         // Remove the entities one by one so that the collections and associations are removed as well,
+         // the removals are still sent to the database as a single JDBC batch
+         em.unwrap(Session.class).setJdbcBatchSize(keys.size());
+         for (Object key : keys) {
+            Object entity = findEntity(em, key);
+            if (entity != null) {
+               removeEntity(em, entity);
+            }
+         }
+         em.flush();
+         em.clear();
+      }
+
+      if (configuration.storeMetadata()) {
+         List<MetadataEntityKey> metaKeys = keys.stream().map(this::getMetadataKey).collect(Collectors.toList());
+         CriteriaDelete<MetadataEntity> metaQuery = cb.createCriteriaDelete(MetadataEntity.class);
+         Root<MetadataEntity> metaRoot = metaQuery.from(MetadataEntity.class);
+         SingularAttribute metaId = getEntityId(em, MetadataEntity.class);
+         metaQuery.where(metaRoot.get(metaId).in(metaKeys));
+         em.createQuery(metaQuery).executeUpdate();
+      }
+   }
+
    private SingularAttribute getEntityId(EntityManager em, Class clazz) {
       Metamodel meta = em.getMetamodel();
       IdentifiableType identifiableType = (IdentifiableType) meta.managedType(clazz);
@@ -449,6 +482,12 @@ public CompletionStage<Void> bulkUpdate(Publisher<MarshallableEntry<? extends K,
 
    private Flowable<MarshallableEntry<? extends K, ? extends V>> createBatchFlowable(EntityManager em, EntityTransaction txn, Publisher<MarshallableEntry<? extends K, ? extends V>> publisher) {
       final long txnBegin = timeService.time();
+      final int batchSize = configuration.maxBatchSize();
+      if (batchSize > 0) {
+         // Send the merges to the database as JDBC batches
+         em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+      }
+      final int[] pending = new int[1];
       txn.begin();
       return Flowable.fromPublisher(publisher)
             .doOnNext(entry -> {
@@ -460,6 +499,13 @@ public CompletionStage<Void> bulkUpdate(Publisher<MarshallableEntry<? extends K,
                mergeEntity(em, entity);
                if (metadata != null && metadata.hasBytes())
                   mergeMetadata(em, metadata);
+               // Flush every batch and detach the merged entities, so that the persistence context does not grow
+               // with the number of entries written in the transaction
+               if (++pending[0] == batchSize) {
+                  em.flush();
+                  em.clear();
+                  pending[0] = 0;
+               }
             })
             .doOnComplete(() -> {
                stats.addBatchWriteTxCommitted(timeService.time() - txnBegin);
@@ -630,11 +676,13 @@ public Flowable<MarshallableEntry<K, V>> entryPublisher(Predicate<? super K> fil
       Flowable<K> keyPublisher = publishKeys(filter);
 
       if (fetchValue || innerFetchMetadata) {
+         int batchSize = configuration.maxBatchSize() > 0 ? configuration.maxBatchSize() : 1;
          return keyPublisher
+               .buffer(batchSize)
                // Run the loading in parallel using executor since it will be blocking
                .parallel()
                .runOn(scheduler)
-               .map(k -> loadEntry(k, fetchValue, innerFetchMetadata))
+               .flatMap(keys -> Flowable.fromIterable(loadEntries(keys, fetchValue, innerFetchMetadata)))
                .sequential();
       } else {
          return keyPublisher.map(k -> marshallerEntryFactory.create(k));
@@ -786,36 +834,48 @@ private String toString(MetadataEntity metadata) {
       }
    }
 
-   private MarshallableEntry<K, V> loadEntry(Object key, boolean fetchValue, boolean fetchMetadata) {
-      Object entity;
-      Metadata metadata;
-      MetadataEntity metaEntity;
-
+   private List<MarshallableEntry<K, V>> loadEntries(List<K> keys, boolean fetchValue, boolean fetchMetadata) {
+      List<MarshallableEntry<K, V>> entries = new ArrayList<>(keys.size());
       // The loading of entries and metadata is offloaded to another thread.
       // We need second entity manager anyway because with MySQL we can't do streaming
-      // in parallel with other queries using single connection
+      // in parallel with other queries using single connection.
+      // The entity manager is shared by the whole batch, the loaded entities are read-only
+      // so they can be detached right away.
       EntityManager emExec = emf.createEntityManager();
       try {
-         metaEntity = fetchMetadata ? getMetadataEntity(key, emExec) : null;
-         metadata = getMetadata(metaEntity);
-         if (trace) {
-            log.tracef("Fetched metadata (fetching? %s) %s", fetchMetadata, metadata);
-         }
-         if (metaEntity != null && isExpired(metaEntity)) {
-            return null;
-         }
-         if (fetchValue) {
-            entity = findEntity(emExec, key);
-            if (trace) {
-               log.tracef("Fetched value %s", entity);
+         for (K key : keys) {
+            MarshallableEntry<K, V> entry = loadEntry(emExec, key, fetchValue, fetchMetadata);
+            if (entry != null) {
+               entries.add(entry);
             }
-         } else {
-            entity = null;
+            emExec.clear();
          }
       } finally {
-         if (emExec != null) {
-            emExec.close();
+         emExec.close();
+      }
+      return entries;
+   }
+
+   private MarshallableEntry<K, V> loadEntry(EntityManager emExec, Object key, boolean fetchValue, boolean fetchMetadata) {
+      Object entity;
+      Metadata metadata;
+      MetadataEntity metaEntity;
+
+      metaEntity = fetchMetadata ? getMetadataEntity(key, emExec) : null;
+      metadata = getMetadata(metaEntity);
+      if (trace) {
+         log.tracef("Fetched metadata (fetching? %s) %s", fetchMetadata, metadata);
+      }
+      if (metaEntity != null && isExpired(metaEntity)) {
+         return null;
+      }
+      if (fetchValue) {
+         entity = findEntity(emExec, key);
+         if (trace) {
+            log.tracef("Fetched value %s", entity);
          }
+      } else {
+         entity = null;
       }
       try {
          return metaEntity == null ?
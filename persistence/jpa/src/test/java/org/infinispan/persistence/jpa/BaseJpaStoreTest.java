@@ -5,7 +5,9 @@
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,6 +20,7 @@
 import org.infinispan.persistence.spi.PersistenceException;
 import org.testng.annotations.Test;
 
+import io.reactivex.Flowable;
 import io.reactivex.functions.Consumer;
 
 /**
@@ -132,6 +135,31 @@ public void testStoreAndRemoveAll() {
       assertFalse(cs.contains(obj4.getKey()));
    }
 
+   public void testBulkUpdateAndDeleteBatch() {
+      // More entries than the default max batch size, so that several batches are flushed
+      int numEntries = 250;
+      List<MarshallableEntry<Object, Object>> entries = new ArrayList<>(numEntries);
+      List<Object> keys = new ArrayList<>(numEntries);
+      for (int i = 0; i < numEntries; i++) {
+         TestObject obj = createTestObject("testBulkUpdateAndDeleteBatch" + i);
+         entries.add(createEntry(obj));
+         keys.add(obj.getKey());
+      }
+      cs.bulkUpdate(Flowable.fromIterable(entries)).toCompletableFuture().join();
+      assertEquals(cs.size(), numEntries);
+
+      Set loadedKeys = ConcurrentHashMap.newKeySet();
+      cs.entryPublisher(null, true, false).blockingSubscribe(me -> {
+         assertTrue(loadedKeys.add(me.getKey()));
+         assertEquals(me.getValue(), cs.loadEntry(me.getKey()).getValue());
+      });
+      assertEquals(loadedKeys.size(), numEntries);
+
+      cs.deleteBatch(keys.subList(0, numEntries - 1));
+      assertEquals(cs.size(), 1);
+      assertTrue(cs.contains(keys.get(numEntries - 1)));
+   }
+
    public void testStoreValuesViaNonJpaCacheStore() {
       TestObject obj1 = createTestObject("testStoreViaNonJpaCacheStore1");
       TestObject obj2 = createTestObject("testStoreViaNonJpaCacheStore2");
@@ -1,12 +1,19 @@
 package org.infinispan.persistence.remote;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.MetadataValue;
@@ -51,6 +58,7 @@
 import org.infinispan.util.logging.LogFactory;
 import org.reactivestreams.Publisher;
 
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.internal.functions.Functions;
 import net.jcip.annotations.ThreadSafe;
@@ -146,21 +154,7 @@ public MarshallableEntry<K, V> loadEntry(Object key) throws PersistenceException
             unwrappedKey = key;
          }
          MetadataValue<?> value = remoteCache.getWithMetadata(unwrappedKey);
-         if (value != null) {
-            Metadata metadata = new EmbeddedMetadata.Builder()
-                  .version(new NumericVersion(value.getVersion()))
-                  .lifespan(value.getLifespan(), TimeUnit.SECONDS)
-                  .maxIdle(value.getMaxIdle(), TimeUnit.SECONDS).build();
-            long created = value.getCreated();
-            long lastUsed = value.getLastUsed();
-            Object realValue = value.getValue();
-            if (realValue instanceof byte[]) {
-               realValue = new WrappedByteArray((byte[]) realValue);
-            }
-            return entryFactory.create(key, realValue, metadata, created, lastUsed);
-         } else {
-            return null;
-         }
+         return value == null ? null : createEntry(key, value);
       } else {
          if (key instanceof WrappedByteArray) {
             key = ((WrappedByteArray) key).getBytes();
@@ -170,6 +164,66 @@ public MarshallableEntry<K, V> loadEntry(Object key) throws PersistenceException
       }
    }
 
+   /**
+    * Loads all the given keys from the remote cache with a single round of requests, instead of one round trip per key.
+    * Without {@code rawValues} the keys are read with a single getAll, which the Hot Rod client splits by owner. With
+    * {@code rawValues} the metadata of every entry is needed, so the entries are read with concurrent getWithMetadata
+    * requests. Keys that are not present in the remote cache are not included in the returned map.
+    *
+    * @param keys the keys to load
+    * @return the loaded entries, mapped by their key, with byte array keys wrapped in {@link WrappedByteArray}
+    * @throws PersistenceException in case of an error communicating with the remote cache
+    */
+   public Map<Object, MarshallableEntry<K, V>> loadAll(Set<?> keys) throws PersistenceException {
+      if (keys.isEmpty()) {
+         return Collections.emptyMap();
+      }
+      Set<Object> unwrappedKeys = new HashSet<>(keys.size());
+      for (Object key : keys) {
+         unwrappedKeys.add(key instanceof WrappedByteArray ? ((WrappedByteArray) key).getBytes() : key);
+      }
+      Map<Object, MarshallableEntry<K, V>> result = new HashMap<>(keys.size());
+      if (configuration.rawValues()) {
+         Map<Object, CompletableFuture<MetadataValue<Object>>> futures = new HashMap<>(keys.size());
+         for (Object unwrappedKey : unwrappedKeys) {
+            futures.put(wrap(unwrappedKey), remoteCache.getWithMetadataAsync(unwrappedKey));
+         }
+         try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                  .get(configuration.socketTimeout(), TimeUnit.MILLISECONDS);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException(e);
+         } catch (ExecutionException | TimeoutException e) {
+            throw new PersistenceException(e);
+         }
+         futures.forEach((key, future) -> {
+            MetadataValue<Object> value = future.join();
+            if (value != null) {
+               result.put(key, createEntry(key, value));
+            }
+         });
+      } else {
+         remoteCache.getAll(unwrappedKeys).forEach((unwrappedKey, value) -> {
+            if (value != null) {
+               result.put(wrap(unwrappedKey), entryFactory.create(unwrappedKey, (MarshalledValue) value));
+            }
+         });
+      }
+      return result;
+   }
+
+   private MarshallableEntry<K, V> createEntry(Object key, MetadataValue<?> value) {
+      Metadata metadata = new EmbeddedMetadata.Builder()
+            .version(new NumericVersion(value.getVersion()))
+            .lifespan(value.getLifespan(), TimeUnit.SECONDS)
+            .maxIdle(value.getMaxIdle(), TimeUnit.SECONDS).build();
+      long created = value.getCreated();
+      long lastUsed = value.getLastUsed();
+      // Raw values are passed through as they are, without unmarshalling them
+      return entryFactory.create(key, wrap(value.getValue()), metadata, created, lastUsed);
+   }
+
    @Override
    public boolean contains(Object key) throws PersistenceException {
       if (key instanceof WrappedByteArray) {
@@ -305,14 +359,47 @@ private Object getValue(MarshallableEntry entry) {
    @Override
    public CompletionStage<Void> bulkUpdate(Publisher<MarshallableEntry<? extends K, ? extends V>> publisher) {
       CompletableFuture<Void> future = new CompletableFuture<>();
+      // Each batch is split by expiration, since putAll only accepts a single lifespan/maxIdle pair, and the resulting
+      // putAll operations are sent concurrently. The Hot Rod client then further splits every putAll by owner.
       Flowable.fromPublisher(publisher)
             .buffer(configuration.maxBatchSize())
-            .doOnNext(entries -> remoteCache.putAll(entries.stream().collect(Collectors.toMap(this::getKey, this::getValue))))
-            .doOnError(PersistenceException::new)
-            .subscribe(Functions.emptyConsumer(), future::completeExceptionally, () -> future.complete(null));
+            .concatMapCompletable(entries -> toCompletable(putAllAsync(entries)))
+            .subscribe(() -> future.complete(null), t -> future.completeExceptionally(new PersistenceException(t)));
       return future;
    }
 
+   private CompletableFuture<Void> putAllAsync(List<MarshallableEntry<? extends K, ? extends V>> entries) {
+      Map<ExpirationKey, Map<Object, Object>> batches = new HashMap<>();
+      for (MarshallableEntry<? extends K, ? extends V> entry : entries) {
+         Metadata metadata = entry.getMetadata();
+         long lifespan = toSeconds(metadata != null ? metadata.lifespan() : -1, entry.getKey(), LIFESPAN);
+         long maxIdle = toSeconds(metadata != null ? metadata.maxIdle() : -1, entry.getKey(), MAXIDLE);
+         batches.computeIfAbsent(new ExpirationKey(lifespan, maxIdle), k -> new HashMap<>())
+               .put(getKey(entry), getValue(entry));
+      }
+      if (trace) {
+         log.tracef("Writing batch of %d entries in %d putAll operations", entries.size(), batches.size());
+      }
+      CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
+      int i = 0;
+      for (Map.Entry<ExpirationKey, Map<Object, Object>> batch : batches.entrySet()) {
+         ExpirationKey expiration = batch.getKey();
+         futures[i++] = remoteCache.putAllAsync(batch.getValue(), expiration.lifespan, TimeUnit.SECONDS,
+               expiration.maxIdle, TimeUnit.SECONDS);
+      }
+      return CompletableFuture.allOf(futures);
+   }
+
+   private static Completable toCompletable(CompletableFuture<?> future) {
+      return Completable.create(emitter -> future.whenComplete((ignore, t) -> {
+         if (t != null) {
+            emitter.onError(t);
+         } else {
+            emitter.onComplete();
+         }
+      }));
+   }
+
    @Override
    public void clear() throws PersistenceException {
       remoteCache.clear();
@@ -334,6 +421,23 @@ public boolean delete(Object key) throws PersistenceException {
       return remoteCache.withFlags(Flag.FORCE_RETURN_VALUE).remove(key) != null;
    }
 
+   @Override
+   public void deleteBatch(Iterable<Object> keys) {
+      List<CompletableFuture<Object>> futures = new ArrayList<>();
+      for (Object key : keys) {
+         futures.add(remoteCache.removeAsync(key instanceof WrappedByteArray ? ((WrappedByteArray) key).getBytes() : key));
+      }
+      try {
+         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+               .get(configuration.socketTimeout(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new PersistenceException(e);
+      } catch (ExecutionException | TimeoutException e) {
+         throw new PersistenceException(e);
+      }
+   }
+
    private long toSeconds(long millis, Object key, String desc) {
       if (millis > 0 && millis < 1000) {
          if (trace) {
@@ -436,4 +540,27 @@ public RemoteStoreConfiguration getConfiguration() {
    public boolean shouldWrite(long commandFlags) {
       return !EnumUtil.containsAny(FlagBitSets.ROLLING_UPGRADE, commandFlags);
    }
+
+   private static final class ExpirationKey {
+      final long lifespan;
+      final long maxIdle;
+
+      ExpirationKey(long lifespan, long maxIdle) {
+         this.lifespan = lifespan;
+         this.maxIdle = maxIdle;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         ExpirationKey that = (ExpirationKey) o;
+         return lifespan == that.lifespan && maxIdle == that.maxIdle;
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * Long.hashCode(lifespan) + Long.hashCode(maxIdle);
+      }
+   }
 }
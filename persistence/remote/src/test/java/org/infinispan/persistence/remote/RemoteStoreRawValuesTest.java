@@ -1,12 +1,16 @@
 package org.infinispan.persistence.remote;
 
 import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.util.Map;
+
 import org.infinispan.client.hotrod.test.HotRodClientTestingUtil;
 import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
 import org.infinispan.eviction.EvictionType;
@@ -14,6 +18,7 @@
 import org.infinispan.persistence.BaseStoreTest;
 import org.infinispan.persistence.remote.configuration.RemoteStoreConfigurationBuilder;
 import org.infinispan.persistence.spi.AdvancedLoadWriteStore;
+import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.server.hotrod.HotRodServer;
 import org.infinispan.test.TestingUtil;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
@@ -94,4 +99,16 @@ public void testReplaceExpiredEntry() throws Exception {
       cl.write(marshalledEntry(internalCacheEntry("k1", "v2", 100l)));
       assertTrue(cl.loadEntry("k1").getValue().equals("v2") || TestingUtil.moreThanDurationElapsed(start, 100));
    }
+
+   public void testLoadAllKeys() {
+      cl.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+      Map<Object, MarshallableEntry> entries = ((RemoteStore) cl).loadAll(Util.asSet("k1", "k2"));
+      assertEquals(1, entries.size());
+      assertEquals("v1", unwrap(entries.get("k1").getValue()));
+   }
+
+   @Override
+   public void testWriteAndDeleteBatch() {
+      RemoteStoreTest.testWriteAndDeleteBatch(cl, i -> marshalledEntry(internalCacheEntry(Integer.toString(i), "Val" + i, -1)));
+   }
 }
@@ -123,4 +123,9 @@ public void testReplaceExpiredEntry() throws Exception {
       cl.write(marshalledEntry(internalCacheEntry("k1", "v2", 100l)));
       assertTrue(cl.loadEntry("k1").getValue().equals("v2") || TestingUtil.moreThanDurationElapsed(start, 100));
    }
+
+   @Override
+   public void testWriteAndDeleteBatch() {
+      RemoteStoreTest.testWriteAndDeleteBatch(cl, i -> marshalledEntry(internalCacheEntry(Integer.toString(i), "Val" + i, -1)));
+   }
 }
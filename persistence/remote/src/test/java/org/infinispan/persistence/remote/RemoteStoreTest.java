@@ -3,12 +3,19 @@
 import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertNull;
 import static org.testng.AssertJUnit.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.function.IntFunction;
 import java.util.function.ToIntBiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.infinispan.Cache;
 import org.infinispan.client.hotrod.test.HotRodClientTestingUtil;
@@ -16,6 +23,7 @@
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
+import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
@@ -25,6 +33,7 @@
 import org.infinispan.persistence.BaseStoreTest;
 import org.infinispan.persistence.remote.configuration.RemoteStoreConfigurationBuilder;
 import org.infinispan.persistence.spi.AdvancedLoadWriteStore;
+import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.SegmentedAdvancedLoadWriteStore;
 import org.infinispan.server.hotrod.HotRodServer;
 import org.infinispan.test.TestingUtil;
@@ -156,4 +165,57 @@ public void testPublishEntriesWithSegments() throws IOException, InterruptedExce
                   .blockingGet().intValue()
       );
    }
+
+   @Override
+   public void testWriteAndDeleteBatch() {
+      testWriteAndDeleteBatch(cl, i -> marshalledEntry(internalCacheEntry(Integer.toString(i), "Val" + i, -1)));
+   }
+
+   /**
+    * Same as {@link BaseStoreTest#testWriteAndDeleteBatch()}, but waits for the stage returned by
+    * {@link RemoteStore#bulkUpdate(org.reactivestreams.Publisher)}, as the remote store writes the batch asynchronously.
+    */
+   static void testWriteAndDeleteBatch(AdvancedLoadWriteStore store, IntFunction<MarshallableEntry> entryFactory) {
+      int numberOfEntries = WRITE_DELETE_BATCH_MAX_ENTRIES;
+      store.bulkUpdate(Flowable.range(0, numberOfEntries).map(entryFactory::apply)).toCompletableFuture().join();
+      assertEquals(numberOfEntries, TestingUtil.allEntries(store).size());
+      assertNotNull(store.loadEntry("56"));
+
+      int batchSize = numberOfEntries / 2;
+      store.deleteBatch(IntStream.range(0, batchSize).mapToObj(Integer::toString).collect(Collectors.toList()));
+      assertEquals(batchSize, TestingUtil.allEntries(store).size());
+      assertNull(store.loadEntry("20"));
+   }
+
+   public void testLoadAllKeys() {
+      RemoteStore rs = (RemoteStore) cl;
+      assertTrue(rs.loadAll(Collections.emptySet()).isEmpty());
+
+      cl.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+      cl.write(marshalledEntry(internalCacheEntry("k2", "v2", -1)));
+      Map<Object, MarshallableEntry> entries = rs.loadAll(Util.asSet("k1", "k2", "k3"));
+      assertEquals(2, entries.size());
+      assertEquals("v1", unwrap(entries.get("k1").getValue()));
+      assertEquals("v2", unwrap(entries.get("k2").getValue()));
+   }
+
+   public void testBulkUpdateWithExpiration() {
+      RemoteStore rs = (RemoteStore) cl;
+      rs.bulkUpdate(Flowable.just(
+            marshalledEntry(internalCacheEntry("k1", "v1", -1)),
+            marshalledEntry(internalCacheEntry("k2", "v2", 2000)),
+            marshalledEntry(internalCacheEntry("k3", "v3", 4000)))).toCompletableFuture().join();
+
+      assertEquals(3, rs.loadAll(Util.asSet("k1", "k2", "k3", "k4")).size());
+
+      timeService.advance(2001);
+      Map<Object, MarshallableEntry> entries = rs.loadAll(Util.asSet("k1", "k2", "k3"));
+      assertEquals(2, entries.size());
+      assertTrue(entries.containsKey("k1"));
+      assertTrue(entries.containsKey("k3"));
+
+      rs.deleteBatch(Arrays.asList("k1", "k3"));
+      assertNull(rs.loadEntry("k1"));
+      assertNull(rs.loadEntry("k3"));
+   }
 }
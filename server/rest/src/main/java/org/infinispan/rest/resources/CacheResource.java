@@ -10,19 +10,23 @@
 import static org.infinispan.rest.framework.Method.PUT;
 
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheSet;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.configuration.JsonWriter;
 import org.infinispan.commons.dataconversion.EncodingException;
 import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.hash.MurmurHash3;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.encoding.DataConversion;
+import org.infinispan.interceptors.impl.CacheMgmtInterceptor;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.rest.CacheControl;
 import org.infinispan.rest.NettyRestResponse;
@@ -55,6 +59,7 @@
 public class CacheResource implements ResourceHandler {
 
    private static final MurmurHash3 hashFunc = MurmurHash3.getInstance();
+   private static final JsonWriter JSON_WRITER = new JsonWriter();
    private final static Log logger = LogFactory.getLog(CacheResource.class, Log.class);
 
    private final RestCacheManager<Object> restCacheManager;
@@ -76,6 +81,8 @@ public Invocations getInvocations() {
             .invocation().method(DELETE).path("/{cacheName}").handleWith(this::clearEntireCache)
             .invocation().method(GET).path("/{cacheName}").handleWith(this::getCacheKeys)
             .invocation().methods(GET, POST).path("/{cacheName}").withAction("search").handleWith(queryAction::search)
+            .invocation().method(GET).path("/{cacheName}").withAction("stats").handleWith(this::getCacheStats)
+            .invocation().method(POST).path("/{cacheName}").withAction("resetStats").handleWith(this::resetCacheStats)
             .create();
    }
 
@@ -201,6 +208,63 @@ private RestResponse clearEntireCache(RestRequest request) throws RestResponseEx
    }
 
 
+   private RestResponse getCacheStats(RestRequest request) throws RestResponseException {
+      try {
+         String cacheName = request.variables().get("cacheName");
+         CacheMgmtInterceptor statistics = getStatistics(cacheName);
+
+         NettyRestResponse.Builder responseBuilder = new NettyRestResponse.Builder();
+         if (statistics == null || !statistics.getStatisticsEnabled()) {
+            return responseBuilder.status(HttpResponseStatus.NOT_FOUND.code()).entity("Statistics are not enabled").build();
+         }
+
+         // The latencies are in nanoseconds and cover the operations since the last reset
+         Map<String, Object> latencies = new LinkedHashMap<>();
+         latencies.put("readHit", statistics.getHitTimePercentiles());
+         latencies.put("readMiss", statistics.getMissTimePercentiles());
+         latencies.put("write", statistics.getWriteTimePercentiles());
+         latencies.put("remove", statistics.getRemoveTimePercentiles());
+         latencies.put("getAll", statistics.getGetAllTimePercentiles());
+         latencies.put("putAll", statistics.getPutAllTimePercentiles());
+
+         Map<String, Object> stats = new LinkedHashMap<>();
+         stats.put("timeSinceReset", statistics.getTimeSinceReset());
+         stats.put("hits", statistics.getHits());
+         stats.put("misses", statistics.getMisses());
+         stats.put("stores", statistics.getStores());
+         stats.put("removeHits", statistics.getRemoveHits());
+         stats.put("removeMisses", statistics.getRemoveMisses());
+         stats.put("latencies", latencies);
+
+         responseBuilder.contentType(APPLICATION_JSON);
+         responseBuilder.header(HttpHeaderNames.CACHE_CONTROL.toString(), CacheControl.noCache());
+         return responseBuilder.entity(JSON_WRITER.toJSON(stats)).build();
+      } catch (CacheException cacheException) {
+         throw createResponseException(cacheException);
+      }
+   }
+
+   private RestResponse resetCacheStats(RestRequest request) throws RestResponseException {
+      try {
+         String cacheName = request.variables().get("cacheName");
+         CacheMgmtInterceptor statistics = getStatistics(cacheName);
+
+         NettyRestResponse.Builder responseBuilder = new NettyRestResponse.Builder();
+         if (statistics == null) {
+            return responseBuilder.status(HttpResponseStatus.NOT_FOUND.code()).entity("Statistics are not available").build();
+         }
+         statistics.resetStatistics();
+         return responseBuilder.status(HttpResponseStatus.OK.code()).build();
+      } catch (CacheException cacheException) {
+         throw createResponseException(cacheException);
+      }
+   }
+
+   private CacheMgmtInterceptor getStatistics(String cacheName) {
+      AdvancedCache<Object, Object> cache = restCacheManager.getCache(cacheName);
+      return cache.getAsyncInterceptorChain().findInterceptorExtending(CacheMgmtInterceptor.class);
+   }
+
    private NettyRestResponse getCacheValue(RestRequest request) throws RestResponseException {
       try {
          String cacheName = request.variables().get("cacheName");
@@ -119,6 +119,9 @@ void defineCaches(EmbeddedCacheManager cm) {
       pojoCache.encoding().key().mediaType(APPLICATION_OBJECT_TYPE);
       pojoCache.encoding().value().mediaType(APPLICATION_OBJECT_TYPE);
 
+      ConfigurationBuilder statsCache = getDefaultCacheBuilder();
+      statsCache.jmxStatistics().enable();
+
       cm.defineConfiguration("default", getDefaultCacheBuilder().build());
       cm.defineConfiguration("expiration", expirationConfiguration.build());
       cm.defineConfiguration("xml", xmlCacheConfiguration.build());
@@ -128,6 +131,7 @@ void defineCaches(EmbeddedCacheManager cm) {
       cm.defineConfiguration("serialized", javaSerialized.build());
       cm.defineConfiguration("textCache", text.build());
       cm.defineConfiguration("pojoCache", pojoCache.build());
+      cm.defineConfiguration("statsCache", statsCache.build());
    }
 
    @AfterClass
@@ -1168,6 +1172,32 @@ public void shouldHandleInvalidPath() throws Exception {
       ResponseAssertion.assertThat(response).isNotFound();
    }
 
+   @Test
+   public void shouldReturnLatencyPercentiles() throws Exception {
+      putStringValueInCache("statsCache", "test", "test");
+      ResponseAssertion.assertThat(get("statsCache", "test", TEXT_PLAIN_TYPE)).isOk();
+
+      ContentResponse response = client.newRequest(String.format("http://localhost:%d/rest/%s?action=stats", restServer().getPort(), "statsCache"))
+            .method(HttpMethod.GET)
+            .send();
+      ResponseAssertion.assertThat(response).isOk();
+      ResponseAssertion.assertThat(response).hasContentType(APPLICATION_JSON_TYPE);
+      ResponseAssertion.assertThat(response).containsReturnedText("\"hits\":1");
+      ResponseAssertion.assertThat(response).containsReturnedText("\"readHit\":{\"p50\":");
+      ResponseAssertion.assertThat(response).containsReturnedText("\"putAll\":{\"p50\":0,\"p90\":0,\"p99\":0,\"p99.9\":0,\"max\":0}");
+
+      response = client.newRequest(String.format("http://localhost:%d/rest/%s?action=resetStats", restServer().getPort(), "statsCache"))
+            .method(HttpMethod.POST)
+            .send();
+      ResponseAssertion.assertThat(response).isOk();
+
+      response = client.newRequest(String.format("http://localhost:%d/rest/%s?action=stats", restServer().getPort(), "statsCache"))
+            .method(HttpMethod.GET)
+            .send();
+      ResponseAssertion.assertThat(response).containsReturnedText("\"hits\":0");
+      ResponseAssertion.assertThat(response).containsReturnedText("\"readHit\":{\"p50\":0,\"p90\":0,\"p99\":0,\"p99.9\":0,\"max\":0}");
+   }
+
    @Test
    public void shouldHandleIncompletePath() throws Exception {
       Request req = client.newRequest(String.format("http://localhost:%d/rest/%s?action", restServer().getPort(), "default"))